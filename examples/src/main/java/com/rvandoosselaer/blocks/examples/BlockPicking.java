@@ -91,7 +91,6 @@ public class BlockPicking extends SimpleApplication implements ActionListener {
                 chunk.addBlock(x, 0, z, getRandomBlock());
             }
         }
-        chunk.update();
 
         ChunkMeshGenerator chunkMeshGenerator = BlocksConfig.getInstance().getChunkMeshGenerator();
         chunk.createNode(chunkMeshGenerator);
@@ -0,0 +1,112 @@
+package com.rvandoosselaer.blocks.examples;
+
+import com.rvandoosselaer.blocks.ArrayBlockStorage;
+import com.rvandoosselaer.blocks.Block;
+import com.rvandoosselaer.blocks.BlockStorage;
+import com.rvandoosselaer.blocks.PaletteBlockStorage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.function.IntFunction;
+
+/**
+ * A command line application that prints the retained heap size of the {@link ArrayBlockStorage} and the
+ * {@link PaletteBlockStorage} for a number of typical chunk layouts. The amount of chunks equals the default grid
+ * size (9x5x9) and the chunk size is the default chunk size (32x32x32).
+ * Run with a fixed heap size (eg. -Xms2g -Xmx2g) for stable results.
+ *
+ * @author rvandoosselaer
+ */
+public class BlockStorageMemoryReport {
+
+    private static final int CHUNKS = 9 * 5 * 9;
+    private static final int SIZE = 32 * 32 * 32;
+
+    private static final Block[] BLOCKS = createBlocks(64);
+
+    public static void main(String[] args) {
+        System.out.println(String.format(Locale.ENGLISH, "%-22s %14s %14s %8s", "layout", "array (MB)", "palette (MB)", "ratio"));
+
+        report("empty", index -> null);
+        report("single block", index -> BLOCKS[0]);
+        report("terrain (4 blocks)", BlockStorageMemoryReport::terrain);
+        report("random (64 blocks)", index -> BLOCKS[new Random(index).nextInt(BLOCKS.length)]);
+    }
+
+    private static void report(String layout, IntFunction<Block> blockFunction) {
+        long arrayBytes = measure(ArrayBlockStorage::new, blockFunction);
+        long paletteBytes = measure(PaletteBlockStorage::new, blockFunction);
+
+        System.out.println(String.format(Locale.ENGLISH, "%-22s %14.2f %14.2f %7.1fx", layout, toMegaBytes(arrayBytes),
+                toMegaBytes(paletteBytes), (double) arrayBytes / Math.max(1, paletteBytes)));
+    }
+
+    private static long measure(IntFunction<BlockStorage> storageFactory, IntFunction<Block> blockFunction) {
+        long before = usedMemory();
+
+        List<BlockStorage> storages = new ArrayList<>(CHUNKS);
+        for (int i = 0; i < CHUNKS; i++) {
+            BlockStorage storage = storageFactory.apply(SIZE);
+            for (int index = 0; index < SIZE; index++) {
+                Block block = blockFunction.apply(index);
+                if (block != null) {
+                    storage.set(index, block);
+                }
+            }
+            storages.add(storage);
+        }
+
+        long after = usedMemory();
+        // keep the storages reachable until the memory is measured
+        if (storages.size() != CHUNKS) {
+            throw new IllegalStateException();
+        }
+        return after - before;
+    }
+
+    /**
+     * Layout of a chunk filled with stone at the bottom, dirt and a layer of grass. The top half of the chunk is air.
+     */
+    private static Block terrain(int index) {
+        // index = z + (y * size.z) + (x * size.y * size.z)
+        int y = (index / 32) % 32;
+        if (y < 10) {
+            return BLOCKS[0];
+        } else if (y < 14) {
+            return BLOCKS[1];
+        } else if (y == 14) {
+            return BLOCKS[2];
+        } else if (y == 15) {
+            return index % 7 == 0 ? BLOCKS[3] : null;
+        }
+        return null;
+    }
+
+    private static long usedMemory() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 5; i++) {
+            System.gc();
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    private static double toMegaBytes(long bytes) {
+        return bytes / (1024d * 1024d);
+    }
+
+    private static Block[] createBlocks(int count) {
+        Block[] blocks = new Block[count];
+        for (int i = 0; i < count; i++) {
+            blocks[i] = Block.create("block-" + i, "type-" + i);
+        }
+        return blocks;
+    }
+
+}
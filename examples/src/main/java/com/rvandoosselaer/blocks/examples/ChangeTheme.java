@@ -82,7 +82,6 @@ public class ChangeTheme extends SimpleApplication implements ActionListener {
                 }
             }
         }
-        chunk.update();
 
         ChunkMeshGenerator meshGenerator = BlocksConfig.getInstance().getChunkMeshGenerator();
         chunk.createNode(meshGenerator);
@@ -0,0 +1,174 @@
+package com.rvandoosselaer.blocks.examples;
+
+import com.jme3.asset.DesktopAssetManager;
+import com.jme3.math.Vector3f;
+import com.jme3.scene.Node;
+import com.rvandoosselaer.blocks.Block;
+import com.rvandoosselaer.blocks.BlockIds;
+import com.rvandoosselaer.blocks.BlockRegistry;
+import com.rvandoosselaer.blocks.BlocksConfig;
+import com.rvandoosselaer.blocks.Chunk;
+import com.rvandoosselaer.blocks.ChunkExecutorStrategy;
+import com.rvandoosselaer.blocks.ChunkExecutors;
+import com.rvandoosselaer.blocks.ChunkGenerator;
+import com.rvandoosselaer.blocks.ChunkManager;
+import com.rvandoosselaer.blocks.ChunkManagerListener;
+import com.rvandoosselaer.blocks.ChunkPager;
+import com.simsilica.mathd.Vec3i;
+
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A command line application that measures how long it takes a {@link ChunkPager} and the {@link ChunkManager} to fill
+ * a grid of chunks for different update time budgets, like after a teleport. The update methods of the pager and the
+ * chunk manager are called in a loop that simulates a frame rate of 60 frames per second, until all pages of the grid
+ * are attached. The pager requests all chunks of the grid at once and attaches one page per frame.
+ * The first run handles one item per stage in each update, like the chunk manager did before the update time budget
+ * was introduced. The last run uses one work-stealing pool for generating and meshing the chunks, instead of a fixed
+ * thread pool per stage.
+ * For each run the number of frames until all chunks are available and until all pages are attached, the total fill
+ * time and the average and maximum time spent in the update methods is printed.
+ *
+ * @author rvandoosselaer
+ */
+public class ChunkManagerFillBenchmark {
+
+    private static final int GRID_SIZE_XZ = 9;
+    private static final int GRID_SIZE_Y = 5;
+    private static final int POOL_SIZE = 4;
+    private static final long FRAME_TIME = TimeUnit.MICROSECONDS.toNanos(16667);
+
+    public static void main(String[] args) throws InterruptedException {
+        BlocksConfig.initialize(new DesktopAssetManager(true));
+
+        // warm up
+        fill(Integer.MAX_VALUE, 2f, ChunkExecutors.fixedThreadPools());
+
+        System.out.println(String.format(Locale.ENGLISH, "%-24s %18s %18s %16s %20s %20s", "run", "frames available", "frames attached", "fill time (ms)", "avg update (ms)", "max update (ms)"));
+        report("1 item per stage", 1, Float.MAX_VALUE);
+        report("0.5 ms budget", Integer.MAX_VALUE, 0.5f);
+        report("2 ms budget", Integer.MAX_VALUE, 2f);
+        report("8 ms budget", Integer.MAX_VALUE, 8f);
+        report("2 ms, work stealing", Integer.MAX_VALUE, 2f, ChunkExecutors.workStealing(POOL_SIZE));
+    }
+
+    private static void report(String run, int maxItemsPerStage, float updateTimeBudget) throws InterruptedException {
+        report(run, maxItemsPerStage, updateTimeBudget, ChunkExecutors.fixedThreadPools());
+    }
+
+    private static void report(String run, int maxItemsPerStage, float updateTimeBudget, ChunkExecutorStrategy executorStrategy) throws InterruptedException {
+        Result result = fill(maxItemsPerStage, updateTimeBudget, executorStrategy);
+        System.out.println(String.format(Locale.ENGLISH, "%-24s %18d %18d %16.2f %20.3f %20.3f", run, result.availableFrames, result.frames,
+                toMillis(result.fillTime), toMillis(result.updateTime) / result.frames, toMillis(result.maxUpdateTime)));
+    }
+
+    private static Result fill(int maxItemsPerStage, float updateTimeBudget, ChunkExecutorStrategy executorStrategy) throws InterruptedException {
+        ChunkManager chunkManager = ChunkManager.builder()
+                .generator(new TerrainGenerator())
+                .generatorPoolSize(POOL_SIZE)
+                .meshPoolSize(POOL_SIZE)
+                .maxItemsPerStage(maxItemsPerStage)
+                .updateTimeBudget(updateTimeBudget)
+                .executorStrategy(executorStrategy)
+                .build();
+        // a chunk is available when its mesh is generated for the first time
+        Set<Vec3i> available = new HashSet<>();
+        chunkManager.addListener(new ChunkManagerListener() {
+            @Override
+            public void onChunkUpdated(Chunk chunk) {
+            }
+
+            @Override
+            public void onChunkAvailable(Chunk chunk) {
+                available.add(chunk.getLocation());
+            }
+        });
+        chunkManager.initialize();
+
+        // the pager is centered on the grid of chunks (0, 0, 0) to (8, 4, 8)
+        ChunkPager pager = new ChunkPager(new Node("chunks"), chunkManager);
+        pager.setGridSize(new Vec3i(GRID_SIZE_XZ, GRID_SIZE_Y, GRID_SIZE_XZ));
+        Vec3i chunkSize = BlocksConfig.getInstance().getChunkSize();
+        pager.setLocation(new Vector3f((GRID_SIZE_XZ / 2 + 0.5f) * chunkSize.x, (GRID_SIZE_Y / 2 + 0.5f) * chunkSize.y,
+                (GRID_SIZE_XZ / 2 + 0.5f) * chunkSize.z).multLocal(BlocksConfig.getInstance().getBlockScale()));
+        pager.initialize();
+
+        int total = GRID_SIZE_XZ * GRID_SIZE_Y * GRID_SIZE_XZ;
+        Result result = new Result();
+        long start = System.nanoTime();
+        while (pager.getAttachedPages().size() < total) {
+            long frameStart = System.nanoTime();
+            pager.update();
+            chunkManager.update();
+            long updateTime = System.nanoTime() - frameStart;
+
+            result.frames++;
+            if (result.availableFrames == 0 && available.size() == total) {
+                result.availableFrames = result.frames;
+            }
+            result.updateTime += updateTime;
+            result.maxUpdateTime = Math.max(result.maxUpdateTime, updateTime);
+
+            // simulate the rest of the frame
+            long remaining = FRAME_TIME - (System.nanoTime() - frameStart);
+            if (remaining > 0) {
+                TimeUnit.NANOSECONDS.sleep(remaining);
+            }
+        }
+        result.fillTime = System.nanoTime() - start;
+
+        pager.cleanup();
+        chunkManager.cleanup();
+        return result;
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    private static class Result {
+
+        private int availableFrames;
+        private int frames;
+        private long fillTime;
+        private long updateTime;
+        private long maxUpdateTime;
+
+    }
+
+    /**
+     * A generator that creates a rolling heightmap of rock and dirt, spanning the vertical chunks of the grid.
+     */
+    private static class TerrainGenerator implements ChunkGenerator {
+
+        @Override
+        public Chunk generate(Vec3i location) {
+            BlockRegistry blockRegistry = BlocksConfig.getInstance().getBlockRegistry();
+            Block rock = blockRegistry.get(BlockIds.ROCK);
+            Block dirt = blockRegistry.get(BlockIds.DIRT);
+            Vec3i chunkSize = BlocksConfig.getInstance().getChunkSize();
+            int worldHeight = GRID_SIZE_Y * chunkSize.y;
+
+            Chunk chunk = Chunk.createAt(location);
+            for (int x = 0; x < chunkSize.x; x++) {
+                for (int z = 0; z < chunkSize.z; z++) {
+                    int worldX = location.x * chunkSize.x + x;
+                    int worldZ = location.z * chunkSize.z + z;
+                    int height = (int) (worldHeight / 2f + Math.sin(worldX / 16f) * 20 + Math.cos(worldZ / 20f) * 20);
+                    for (int y = 0; y < chunkSize.y; y++) {
+                        int worldY = location.y * chunkSize.y + y;
+                        if (worldY <= height) {
+                            chunk.addBlock(x, y, z, worldY < height - 3 ? rock : dirt);
+                        }
+                    }
+                }
+            }
+            return chunk;
+        }
+
+    }
+
+}
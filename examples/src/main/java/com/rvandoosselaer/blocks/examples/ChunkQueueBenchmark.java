@@ -0,0 +1,102 @@
+package com.rvandoosselaer.blocks.examples;
+
+import com.jme3.asset.DesktopAssetManager;
+import com.rvandoosselaer.blocks.BlocksConfig;
+import com.rvandoosselaer.blocks.Chunk;
+import com.rvandoosselaer.blocks.ChunkManager;
+import com.simsilica.mathd.Vec3i;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A command line application that measures the time the {@link ChunkManager} spends on the render thread to queue
+ * and cancel a large number of chunk requests, like it happens when the camera moves fast through the world.
+ * Each run:
+ * - requests 10k chunks and cancels all requests. The cancelled requests are dropped in the next update
+ * - requests a mesh update of 10k chunks in the cache and removes the chunks before the meshes are generated.
+ * The average time of each step is printed.
+ *
+ * @author rvandoosselaer
+ */
+public class ChunkQueueBenchmark {
+
+    private static final int SIZE = 10_000;
+    private static final int WARM_UP_RUNS = 3;
+    private static final int RUNS = 5;
+
+    public static void main(String[] args) {
+        BlocksConfig.initialize(new DesktopAssetManager(true));
+
+        List<Vec3i> locations = new ArrayList<>(SIZE);
+        for (int x = 0; x < 25; x++) {
+            for (int y = 0; y < 16; y++) {
+                for (int z = 0; z < 25; z++) {
+                    locations.add(new Vec3i(x, y, z));
+                }
+            }
+        }
+
+        for (int i = 0; i < WARM_UP_RUNS; i++) {
+            run(locations);
+        }
+
+        long[] total = new long[4];
+        for (int i = 0; i < RUNS; i++) {
+            long[] durations = run(locations);
+            for (int j = 0; j < total.length; j++) {
+                total[j] += durations[j];
+            }
+        }
+
+        System.out.println(String.format(Locale.ENGLISH, "%-32s %12s", "step (" + SIZE + " chunks)", "time (ms)"));
+        String[] steps = {"request chunk", "cancel chunk request + update", "request chunk mesh update", "remove chunk"};
+        for (int i = 0; i < steps.length; i++) {
+            System.out.println(String.format(Locale.ENGLISH, "%-32s %12.2f", steps[i], toMillis(total[i] / RUNS)));
+        }
+    }
+
+    private static long[] run(List<Vec3i> locations) {
+        ChunkManager chunkManager = ChunkManager.builder()
+                .cacheSize(SIZE * 2)
+                .build();
+        chunkManager.initialize();
+        chunkManager.setFocus(new Vec3i(12, 8, 12));
+
+        long[] durations = new long[4];
+
+        long start = System.nanoTime();
+        locations.forEach(chunkManager::requestChunk);
+        durations[0] = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        locations.forEach(chunkManager::cancelChunkRequest);
+        chunkManager.update();
+        durations[1] = System.nanoTime() - start;
+
+        List<Chunk> chunks = new ArrayList<>(locations.size());
+        for (Vec3i location : locations) {
+            Chunk chunk = Chunk.createAt(location);
+            chunkManager.setChunk(chunk);
+            chunks.add(chunk);
+        }
+
+        start = System.nanoTime();
+        chunks.forEach(chunkManager::requestChunkMeshUpdate);
+        durations[2] = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        chunks.forEach(chunkManager::removeChunk);
+        durations[3] = System.nanoTime() - start;
+
+        chunkManager.cleanup();
+        return durations;
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+}
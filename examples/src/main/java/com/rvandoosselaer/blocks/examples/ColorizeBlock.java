@@ -72,7 +72,6 @@ public class ColorizeBlock extends SimpleApplication implements ActionListener {
 
         Chunk chunk = Chunk.createAt(new Vec3i(0, 0, 0));
         chunk.addBlock(new Vec3i(0, 0, 0), blockRegistry.get(BlockIds.GRASS));
-        chunk.update();
 
         chunk.createNode(meshGenerator);
 
@@ -66,7 +66,6 @@ public class DefaultBlocks extends SimpleApplication {
             chunk.addBlock(blockLocation, block);
             blockLocation = blockLocation.add(2, 0, 0);
         }
-        chunk.update();
 
         ChunkMeshGenerator meshGenerator = BlocksConfig.getInstance().getChunkMeshGenerator();
         chunk.createNode(meshGenerator);
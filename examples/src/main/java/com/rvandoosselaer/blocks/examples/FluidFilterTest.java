@@ -102,7 +102,6 @@ public class FluidFilterTest extends SimpleApplication {
         BlocksConfig.initialize(assetManager);
 
         chunk = createChunk();
-        chunk.update();
 
         ChunkMeshGenerator chunkMeshGenerator = BlocksConfig.getInstance().getChunkMeshGenerator();
         chunk.createNode(chunkMeshGenerator);
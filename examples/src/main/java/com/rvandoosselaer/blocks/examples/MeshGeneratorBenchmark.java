@@ -0,0 +1,131 @@
+package com.rvandoosselaer.blocks.examples;
+
+import com.jme3.asset.DesktopAssetManager;
+import com.jme3.scene.Geometry;
+import com.jme3.scene.Spatial;
+import com.rvandoosselaer.blocks.Block;
+import com.rvandoosselaer.blocks.BlockIds;
+import com.rvandoosselaer.blocks.BlockRegistry;
+import com.rvandoosselaer.blocks.BlocksConfig;
+import com.rvandoosselaer.blocks.Chunk;
+import com.rvandoosselaer.blocks.ChunkMeshGenerator;
+import com.rvandoosselaer.blocks.ChunkMeshPool;
+import com.rvandoosselaer.blocks.FacesMeshGenerator;
+import com.rvandoosselaer.blocks.GreedyMeshGenerator;
+import com.simsilica.mathd.Vec3i;
+
+import java.lang.management.ManagementFactory;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A command line application that compares the {@link FacesMeshGenerator} and the {@link GreedyMeshGenerator} on
+ * generated terrain. The terrain is a heightmap of rock, dirt and sand, one time without and one time with a top layer
+ * of grass. The grass blocks use a different texture for the top face, and are not merged by the greedy mesh
+ * generator.
+ * For each mesh generator the total vertex and triangle count of the meshes, the average meshing time and the average
+ * amount of memory allocated while meshing the terrain is printed.
+ *
+ * @author rvandoosselaer
+ */
+public class MeshGeneratorBenchmark {
+
+    private static final int GRID_SIZE = 5;
+    private static final int WARM_UP_RUNS = 5;
+    private static final int RUNS = 10;
+
+    public static void main(String[] args) {
+        BlocksConfig.initialize(new DesktopAssetManager(true));
+
+        System.out.println(String.format(Locale.ENGLISH, "%-24s %-20s %12s %12s %12s %16s", "terrain", "generator", "vertices", "triangles", "time (ms)", "allocated (MB)"));
+
+        benchmark("rock, dirt, sand", createTerrain(false));
+        benchmark("rock, dirt, sand, grass", createTerrain(true));
+
+        System.out.println(ChunkMeshPool.getStatistics());
+    }
+
+    private static void benchmark(String terrain, Map<Vec3i, Chunk> chunks) {
+        report(terrain, new FacesMeshGenerator(), chunks);
+        report(terrain, new GreedyMeshGenerator(), chunks);
+    }
+
+    private static void report(String terrain, ChunkMeshGenerator meshGenerator, Map<Vec3i, Chunk> chunks) {
+        for (int i = 0; i < WARM_UP_RUNS; i++) {
+            chunks.values().forEach(meshGenerator::createAndSetNodeAndCollisionMesh);
+        }
+
+        long allocatedBefore = getAllocatedBytes();
+        long start = System.nanoTime();
+        for (int i = 0; i < RUNS; i++) {
+            chunks.values().forEach(meshGenerator::createAndSetNodeAndCollisionMesh);
+        }
+        long duration = (System.nanoTime() - start) / RUNS;
+        long allocated = (getAllocatedBytes() - allocatedBefore) / RUNS;
+
+        int vertices = 0;
+        int triangles = 0;
+        for (Chunk chunk : chunks.values()) {
+            for (Spatial child : chunk.getNode().getChildren()) {
+                vertices += ((Geometry) child).getMesh().getVertexCount();
+                triangles += ((Geometry) child).getMesh().getTriangleCount();
+            }
+        }
+
+        System.out.println(String.format(Locale.ENGLISH, "%-24s %-20s %12d %12d %12.2f %16.2f", terrain,
+                meshGenerator.getClass().getSimpleName(), vertices, triangles, duration / (double) TimeUnit.MILLISECONDS.toNanos(1),
+                allocated / (1024d * 1024d)));
+    }
+
+    /**
+     * @return the total amount of bytes allocated by the current thread, or 0 when this is not supported by the JVM
+     */
+    private static long getAllocatedBytes() {
+        if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean) {
+            return ((com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean()).getThreadAllocatedBytes(Thread.currentThread().getId());
+        }
+        return 0;
+    }
+
+    /**
+     * Creates a grid of chunks with a rolling heightmap. Rock at the bottom, followed by a few layers of dirt. Sand is
+     * used in the valleys.
+     */
+    private static Map<Vec3i, Chunk> createTerrain(boolean grass) {
+        BlockRegistry blockRegistry = BlocksConfig.getInstance().getBlockRegistry();
+        Block rock = blockRegistry.get(BlockIds.ROCK);
+        Block dirt = blockRegistry.get(BlockIds.DIRT);
+        Block sand = blockRegistry.get(BlockIds.SAND);
+        Block grassBlock = blockRegistry.get(BlockIds.GRASS);
+        Vec3i chunkSize = BlocksConfig.getInstance().getChunkSize();
+
+        Map<Vec3i, Chunk> chunks = new HashMap<>();
+        for (int x = 0; x < GRID_SIZE; x++) {
+            for (int z = 0; z < GRID_SIZE; z++) {
+                Vec3i location = new Vec3i(x, 0, z);
+                Chunk chunk = Chunk.createAt(location);
+                chunk.setChunkResolver(chunkLocation -> Optional.ofNullable(chunks.get(chunkLocation)));
+                for (int bx = 0; bx < chunkSize.x; bx++) {
+                    for (int bz = 0; bz < chunkSize.z; bz++) {
+                        int worldX = x * chunkSize.x + bx;
+                        int worldZ = z * chunkSize.z + bz;
+                        int height = (int) (chunkSize.y / 2f + Math.sin(worldX / 16f) * 5 + Math.cos(worldZ / 20f) * 5);
+                        for (int y = 0; y <= height && y < chunkSize.y; y++) {
+                            Block block = y < height - 3 ? rock : height < chunkSize.y / 2 - 4 ? sand : dirt;
+                            if (grass && y == height && block == dirt) {
+                                block = grassBlock;
+                            }
+                            chunk.addBlock(bx, y, bz, block);
+                        }
+                    }
+                }
+                chunks.put(location, chunk);
+            }
+        }
+        return chunks;
+    }
+
+}
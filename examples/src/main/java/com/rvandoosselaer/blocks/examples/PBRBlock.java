@@ -211,7 +211,6 @@ public class PBRBlock extends SimpleApplication {
 
         chunk.addBlock(16, 6, 16, blockRegistry.get(TypeIds.WATER));
 
-        chunk.update();
         return chunk;
     }
 
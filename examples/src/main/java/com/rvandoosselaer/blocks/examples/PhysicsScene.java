@@ -106,7 +106,6 @@ public class PhysicsScene extends SimpleApplication implements ActionListener {
                 }
             }
         }
-        chunk.update();
 
         ChunkMeshGenerator meshGenerator = BlocksConfig.getInstance().getChunkMeshGenerator();
         meshGenerator.createAndSetNodeAndCollisionMesh(chunk);
@@ -123,11 +123,11 @@ public class PrintMesh extends SimpleApplication {
 
     private void printPositions(Mesh mesh) {
         List<Vector3f> positions = getPositions(mesh, true);
-        System.out.println("int offset = chunkMesh.getPositions().size();");
+        System.out.println("int offset = chunkMesh.getVertexCount();");
         System.out.println("\t\t// # Positions:" + positions.size());
-        String line = "chunkMesh.getPositions().add(Shape.createVertex(new Vector3f(%.3ff, %.3ff, %.3ff), location, blockScale));";
+        String line = "chunkMesh.addPosition((%.3ff + location.x) * blockScale, (%.3ff + location.y) * blockScale, (%.3ff + location.z) * blockScale);";
         if (canRotate) {
-            line = "chunkMesh.getPositions().add(Shape.createVertex(rotation.mult(new Vector3f(%.3ff, %.3ff, %.3ff)), location, blockScale));";
+            line = "chunkMesh.addPosition(rotation, %.3ff, %.3ff, %.3ff, location, blockScale);";
         }
         for (Vector3f v : positions) {
             System.out.println(String.format(Locale.ROOT, line, v.x, v.y, v.z));
@@ -146,7 +146,7 @@ public class PrintMesh extends SimpleApplication {
             Vector3f vertex = allPositions.get(index);
             // find the corresponding vertex in the filtered list
             int newIndex = filteredPositions.indexOf(vertex);
-            String line = "chunkMesh.getIndices().add(offset + %d);";
+            String line = "chunkMesh.addIndex(offset + %d);";
             System.out.println(String.format(line, newIndex));
         }
     }
@@ -178,9 +178,9 @@ public class PrintMesh extends SimpleApplication {
         }
 
         System.out.println("\t\t// Normals:");
-        String line = "chunkMesh.getNormals().add(new Vector3f(%.3ff, %.3ff, %.3ff));";
+        String line = "chunkMesh.addNormal(%.3ff, %.3ff, %.3ff);";
         if (canRotate) {
-            line = "chunkMesh.getNormals().add(rotation.mult(new Vector3f(%.3ff, %.3ff, %.3ff)));";
+            line = "chunkMesh.addNormal(rotation, %.3ff, %.3ff, %.3ff);";
         }
         for (Vector3f n : normalsMap.values()) {
             System.out.println(String.format(Locale.ROOT, line, n.x, n.y, n.z));
@@ -216,10 +216,9 @@ public class PrintMesh extends SimpleApplication {
 
         }
         System.out.println("\t\t// Tangents:");
-        String line = "chunkMesh.getTangents().add(new Vector4f(%.3ff, %.3ff, %.3ff, %.3ff));";
+        String line = "chunkMesh.addTangent(%.3ff, %.3ff, %.3ff, %.3ff);";
         if (canRotate) {
-            System.out.println("Matrix4f rotationMatrix = rotation.toRotationMatrix(new Matrix4f());");
-            line = "chunkMesh.getTangents().add(rotationMatrix.mult(new Vector4f(%.3ff, %.3ff, %.3ff, %.3ff)));";
+            line = "chunkMesh.addTangent(rotation, %.3ff, %.3ff, %.3ff, %.3ff);";
         }
         for (Vector4f t : tangentsMap.values()) {
             System.out.println(String.format(Locale.ROOT, line, t.x, t.y, t.z, t.w));
@@ -260,7 +259,7 @@ public class PrintMesh extends SimpleApplication {
                 uvsMap.put(allPositions.get(i), uv);
             }
         }
-        String line = "chunkMesh.getUvs().add(new Vector2f(%.3ff, %.3ff));";
+        String line = "chunkMesh.addUv(%.3ff, %.3ff);";
         for (Vector2f uv : uvsMap.values()) {
             System.out.println(String.format(Locale.ROOT, line, uv.x, uv.y));
         }
@@ -302,7 +301,7 @@ public class PrintMesh extends SimpleApplication {
         }
 
         // top image
-        String line = "chunkMesh.getUvs().add(new Vector2f(%.3ff, %.3ff));";
+        String line = "chunkMesh.addUv(%.3ff, %.3ff);";
         for (Vector2f uv : uvsMap.values()) {
             System.out.println(String.format(Locale.ROOT, line, uv.x, uv.y));
         }
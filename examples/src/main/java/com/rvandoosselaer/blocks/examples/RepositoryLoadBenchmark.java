@@ -0,0 +1,158 @@
+package com.rvandoosselaer.blocks.examples;
+
+import com.jme3.asset.DesktopAssetManager;
+import com.rvandoosselaer.blocks.Block;
+import com.rvandoosselaer.blocks.BlockIds;
+import com.rvandoosselaer.blocks.BlockRegistry;
+import com.rvandoosselaer.blocks.BlocksConfig;
+import com.rvandoosselaer.blocks.Chunk;
+import com.rvandoosselaer.blocks.ChunkCompressions;
+import com.rvandoosselaer.blocks.ChunkRepository;
+import com.rvandoosselaer.blocks.FileRepository;
+import com.rvandoosselaer.blocks.RegionFileRepository;
+import com.simsilica.mathd.Vec3i;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * A command line application that measures the load throughput of the chunk repositories. A set of terrain chunks is
+ * saved in a {@link FileRepository}, a {@link RegionFileRepository}, a memory mapped {@link RegionFileRepository} and
+ * a Deflate compressed {@link RegionFileRepository}.
+ * The chunks are loaded with a new repository (cold) and loaded again with the same repository (warm).
+ * The files are in the page cache of the operating system for both runs, a cold run measures the cost of opening (and
+ * mapping) the files.
+ *
+ * @author rvandoosselaer
+ */
+public class RepositoryLoadBenchmark {
+
+    private static final Vec3i GRID_SIZE = new Vec3i(8, 2, 8);
+    private static final int ROUNDS = 5;
+
+    public static void main(String[] args) throws IOException {
+        BlocksConfig.initialize(new DesktopAssetManager(true));
+
+        Path directory = Files.createTempDirectory("blocks-benchmark");
+        try {
+            List<Chunk> chunks = createTerrain();
+            FileRepository fileRepository = new FileRepository(directory.resolve("chunks"));
+            chunks.forEach(fileRepository::save);
+            try (RegionFileRepository regionFileRepository = new RegionFileRepository(directory.resolve("regions"))) {
+                chunks.forEach(regionFileRepository::save);
+            }
+            try (RegionFileRepository regionFileRepository = RegionFileRepository.builder().path(directory.resolve("deflate")).compression(ChunkCompressions.deflate()).build()) {
+                chunks.forEach(regionFileRepository::save);
+            }
+
+            Supplier<ChunkRepository> file = () -> new FileRepository(directory.resolve("chunks"));
+            Supplier<ChunkRepository> region = () -> new RegionFileRepository(directory.resolve("regions"));
+            Supplier<ChunkRepository> mapped = () -> RegionFileRepository.builder().path(directory.resolve("regions")).memoryMapped(true).build();
+            Supplier<ChunkRepository> deflate = () -> RegionFileRepository.builder().path(directory.resolve("deflate")).build();
+
+            // warm up
+            for (int i = 0; i < ROUNDS; i++) {
+                measure(file, chunks);
+                measure(region, chunks);
+                measure(mapped, chunks);
+                measure(deflate, chunks);
+            }
+
+            System.out.println(String.format(Locale.ENGLISH, "%-24s %20s %20s %12s", "repository", "cold (chunks/s)", "warm (chunks/s)", "size (KB)"));
+            report("file (stream)", file, chunks, directory.resolve("chunks"));
+            report("region (heap)", region, chunks, directory.resolve("regions"));
+            report("region (mapped)", mapped, chunks, directory.resolve("regions"));
+            report("region (deflate)", deflate, chunks, directory.resolve("deflate"));
+        } finally {
+            try (Stream<Path> files = Files.walk(directory)) {
+                files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+            }
+        }
+    }
+
+    private static void report(String run, Supplier<ChunkRepository> repository, List<Chunk> chunks, Path path) throws IOException {
+        long cold = 0;
+        long warm = 0;
+        for (int i = 0; i < ROUNDS; i++) {
+            long[] durations = measure(repository, chunks);
+            cold += durations[0];
+            warm += durations[1];
+        }
+        System.out.println(String.format(Locale.ENGLISH, "%-24s %20.0f %20.0f %12d", run, throughput(chunks.size() * ROUNDS, cold), throughput(chunks.size() * ROUNDS, warm), getSize(path) / 1024));
+    }
+
+    /**
+     * @return the duration of the cold and the warm load of all chunks
+     */
+    private static long[] measure(Supplier<ChunkRepository> supplier, List<Chunk> chunks) {
+        ChunkRepository repository = supplier.get();
+        long[] durations = new long[2];
+        for (int i = 0; i < durations.length; i++) {
+            long start = System.nanoTime();
+            for (Chunk chunk : chunks) {
+                if (repository.load(chunk.getLocation()) == null) {
+                    throw new IllegalStateException("Chunk " + chunk.getLocation() + " not found");
+                }
+            }
+            durations[i] = System.nanoTime() - start;
+        }
+        if (repository instanceof RegionFileRepository) {
+            ((RegionFileRepository) repository).close();
+        }
+        return durations;
+    }
+
+    private static long getSize(Path path) throws IOException {
+        try (Stream<Path> files = Files.list(path)) {
+            return files.mapToLong(file -> file.toFile().length()).sum();
+        }
+    }
+
+    private static double throughput(int chunks, long nanos) {
+        return chunks / (nanos / (double) TimeUnit.SECONDS.toNanos(1));
+    }
+
+    /**
+     * @return the chunks of a grid with a rolling heightmap of rock, dirt and grass
+     */
+    private static List<Chunk> createTerrain() {
+        BlockRegistry blockRegistry = BlocksConfig.getInstance().getBlockRegistry();
+        Block rock = blockRegistry.get(BlockIds.ROCK);
+        Block dirt = blockRegistry.get(BlockIds.DIRT);
+        Block grass = blockRegistry.get(BlockIds.GRASS);
+        Vec3i chunkSize = BlocksConfig.getInstance().getChunkSize();
+
+        List<Chunk> chunks = new ArrayList<>();
+        for (int cx = 0; cx < GRID_SIZE.x; cx++) {
+            for (int cy = 0; cy < GRID_SIZE.y; cy++) {
+                for (int cz = 0; cz < GRID_SIZE.z; cz++) {
+                    Chunk chunk = Chunk.createAt(new Vec3i(cx, cy, cz));
+                    for (int x = 0; x < chunkSize.x; x++) {
+                        for (int z = 0; z < chunkSize.z; z++) {
+                            int height = getHeight(cx * chunkSize.x + x, cz * chunkSize.z + z) - cy * chunkSize.y;
+                            for (int y = 0; y <= Math.min(height, chunkSize.y - 1); y++) {
+                                chunk.addBlock(x, y, z, y == height ? grass : y < height - 3 ? rock : dirt);
+                            }
+                        }
+                    }
+                    chunks.add(chunk);
+                }
+            }
+        }
+        return chunks;
+    }
+
+    private static int getHeight(int x, int z) {
+        int chunkHeight = BlocksConfig.getInstance().getChunkSize().y;
+        return (int) (chunkHeight + Math.sin(x / 8f) * 12 + Math.cos(z / 10f) * 12);
+    }
+
+}
@@ -0,0 +1,135 @@
+package com.rvandoosselaer.blocks.examples;
+
+import com.jme3.asset.DesktopAssetManager;
+import com.jme3.math.Vector3f;
+import com.rvandoosselaer.blocks.Block;
+import com.rvandoosselaer.blocks.BlockIds;
+import com.rvandoosselaer.blocks.BlockRegistry;
+import com.rvandoosselaer.blocks.BlocksConfig;
+import com.rvandoosselaer.blocks.Chunk;
+import com.rvandoosselaer.blocks.ChunkManager;
+import com.rvandoosselaer.blocks.ChunkManagerListener;
+import com.simsilica.mathd.Vec3i;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A command line application that measures the time between a block edit and the updated mesh of the chunk, for
+ * different section sizes. A chunk of generated terrain is added to the {@link ChunkManager} and meshed. Then a block
+ * is added or removed on the surface of the terrain, and the update method of the chunk manager is called until the
+ * chunk is updated.
+ * For each section size the average and the 95th percentile of the edit to mesh time is printed.
+ *
+ * @author rvandoosselaer
+ */
+public class SectionedMeshBenchmark {
+
+    private static final int WARM_UP_EDITS = 50;
+    private static final int EDITS = 200;
+
+    public static void main(String[] args) {
+        BlocksConfig.initialize(new DesktopAssetManager(true));
+
+        // warm up
+        measure(null, WARM_UP_EDITS);
+
+        System.out.println(String.format(Locale.ENGLISH, "%-16s %16s %16s", "section size", "avg (ms)", "p95 (ms)"));
+        report("none", null);
+        report("16x16x16", new Vec3i(16, 16, 16));
+        report("8x8x8", new Vec3i(8, 8, 8));
+    }
+
+    private static void report(String run, Vec3i sectionSize) {
+        long[] durations = measure(sectionSize, EDITS);
+        Arrays.sort(durations);
+        double average = Arrays.stream(durations).average().orElse(0);
+        System.out.println(String.format(Locale.ENGLISH, "%-16s %16.3f %16.3f", run, average / TimeUnit.MILLISECONDS.toNanos(1),
+                toMillis(durations[(int) (durations.length * 0.95)])));
+    }
+
+    private static long[] measure(Vec3i sectionSize, int edits) {
+        BlocksConfig.getInstance().setSectionSize(sectionSize);
+        ChunkManager chunkManager = ChunkManager.builder().build();
+        int[] updates = new int[1];
+        chunkManager.addListener(new ChunkManagerListener() {
+            @Override
+            public void onChunkUpdated(Chunk chunk) {
+                updates[0]++;
+            }
+
+            @Override
+            public void onChunkAvailable(Chunk chunk) {
+            }
+        });
+        chunkManager.initialize();
+
+        Chunk chunk = createTerrain();
+        chunkManager.setChunk(chunk);
+        chunkManager.requestChunkMeshUpdate(chunk);
+        waitForUpdate(chunkManager, updates, 1);
+
+        Vec3i chunkSize = BlocksConfig.getInstance().getChunkSize();
+        Block grass = BlocksConfig.getInstance().getBlockRegistry().get(BlockIds.GRASS);
+        Random random = new Random(1);
+        long[] durations = new long[edits];
+        for (int i = 0; i < edits; i++) {
+            int x = random.nextInt(chunkSize.x);
+            int z = random.nextInt(chunkSize.z);
+            Vector3f location = new Vector3f(x + 0.5f, getHeight(x, z) + 1.5f, z + 0.5f);
+
+            long start = System.nanoTime();
+            if (chunk.getBlock(x, getHeight(x, z) + 1, z) == null) {
+                chunkManager.addBlock(location, grass);
+            } else {
+                chunkManager.removeBlock(location);
+            }
+            waitForUpdate(chunkManager, updates, i + 2);
+            durations[i] = System.nanoTime() - start;
+        }
+
+        chunkManager.cleanup();
+        BlocksConfig.getInstance().setSectionSize(null);
+        return durations;
+    }
+
+    private static void waitForUpdate(ChunkManager chunkManager, int[] updates, int expected) {
+        while (updates[0] < expected) {
+            chunkManager.update();
+            Thread.yield();
+        }
+    }
+
+    /**
+     * @return a chunk with a rolling heightmap of rock and dirt
+     */
+    private static Chunk createTerrain() {
+        BlockRegistry blockRegistry = BlocksConfig.getInstance().getBlockRegistry();
+        Block rock = blockRegistry.get(BlockIds.ROCK);
+        Block dirt = blockRegistry.get(BlockIds.DIRT);
+        Vec3i chunkSize = BlocksConfig.getInstance().getChunkSize();
+
+        Chunk chunk = Chunk.createAt(new Vec3i(0, 0, 0));
+        for (int x = 0; x < chunkSize.x; x++) {
+            for (int z = 0; z < chunkSize.z; z++) {
+                int height = getHeight(x, z);
+                for (int y = 0; y <= height; y++) {
+                    chunk.addBlock(x, y, z, y < height - 3 ? rock : dirt);
+                }
+            }
+        }
+        return chunk;
+    }
+
+    private static int getHeight(int x, int z) {
+        int chunkHeight = BlocksConfig.getInstance().getChunkSize().y;
+        return (int) (chunkHeight / 2f + Math.sin(x / 8f) * 6 + Math.cos(z / 10f) * 6);
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+}
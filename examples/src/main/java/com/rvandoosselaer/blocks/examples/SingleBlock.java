@@ -62,7 +62,6 @@ public class SingleBlock extends SimpleApplication {
 
         Chunk chunk = Chunk.createAt(new Vec3i(0, 0, 0));
         chunk.addBlock(new Vec3i(0, 0, 0), blockRegistry.get(BlockIds.GRASS));
-        chunk.update();
 
         chunk.createNode(meshGenerator);
 
@@ -0,0 +1,52 @@
+package com.rvandoosselaer.blocks;
+
+import lombok.NonNull;
+
+import java.util.Arrays;
+
+/**
+ * A {@link BlockStorage} implementation backed by a plain array of block references. Lookups are as fast as they get,
+ * but each block location costs a full object reference, regardless of the content of the chunk.
+ *
+ * @author rvandoosselaer
+ */
+public class ArrayBlockStorage implements BlockStorage {
+
+    private final Block[] blocks;
+
+    public ArrayBlockStorage(int size) {
+        this.blocks = new Block[size];
+    }
+
+    public ArrayBlockStorage(@NonNull Block[] blocks) {
+        this.blocks = Arrays.copyOf(blocks, blocks.length);
+    }
+
+    @Override
+    public Block get(int index) {
+        return blocks[index];
+    }
+
+    @Override
+    public Block set(int index, Block block) {
+        Block previous = blocks[index];
+        blocks[index] = block;
+        return previous;
+    }
+
+    @Override
+    public void fill(Block block) {
+        Arrays.fill(blocks, block);
+    }
+
+    @Override
+    public int size() {
+        return blocks.length;
+    }
+
+    @Override
+    public Block[] toArray() {
+        return Arrays.copyOf(blocks, blocks.length);
+    }
+
+}
@@ -0,0 +1,42 @@
+package com.rvandoosselaer.blocks;
+
+import com.simsilica.mathd.Vec3i;
+import lombok.AccessLevel;
+import lombok.Data;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Collection;
+
+/**
+ * A change of a single block, to apply a batch of changes with {@link ChunkManager#applyEdits(Collection)}. The
+ * location is the location of the block in the world, in block coordinates. An edit without a block removes the block
+ * at the location.
+ *
+ * @author rvandoosselaer
+ */
+@Data
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class BlockEdit {
+
+    private final Vec3i location;
+    private final Block block;
+
+    /**
+     * @param location of the block in the world, in block coordinates
+     * @param block    to add
+     * @return an edit that adds the block at the location
+     */
+    public static BlockEdit add(@NonNull Vec3i location, Block block) {
+        return new BlockEdit(new Vec3i(location), block);
+    }
+
+    /**
+     * @param location of the block in the world, in block coordinates
+     * @return an edit that removes the block at the location
+     */
+    public static BlockEdit remove(@NonNull Vec3i location) {
+        return new BlockEdit(new Vec3i(location), null);
+    }
+
+}
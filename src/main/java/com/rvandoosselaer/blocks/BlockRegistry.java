@@ -10,24 +10,43 @@ import lombok.extern.slf4j.Slf4j;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 
 /**
  * A thread safe register for blocks. The register is used so only one instance of a block is used throughout the Blocks
  * framework.
+ * Each registered block name is given a dense integer id. Id 0 is reserved for the empty block ({@link BlockIds#EMPTY}),
+ * the highest id is {@link #MAX_ID}.
+ * The id of a name stays the same for the lifetime of the registry, even when the block is removed and registered
+ * again. The id mapping can be saved with {@link #saveIds(OutputStream)} and restored with
+ * {@link #loadIds(InputStream)} so ids stay valid when the registration order changes.
  *
  * @author rvandoosselaer
  */
 @Slf4j
 public class BlockRegistry {
 
+    public static final int EMPTY_ID = 0;
+    public static final int UNKNOWN_ID = -1;
+    public static final int MAX_ID = Short.MAX_VALUE;
+
     private final ConcurrentMap<String, Block> registry = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Integer> ids = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Block, Integer> blockIds = new ConcurrentHashMap<>();
     private final ObjectMapper objectMapper = new ObjectMapper(new YAMLFactory());
+    // id lookup tables, guarded by 'this' for writes
+    private volatile Block[] blocksById = new Block[64];
+    private volatile String[] namesById = new String[64];
+    private int nextId = EMPTY_ID + 1;
 
     /**
      * Will register default blocks
@@ -51,9 +70,10 @@ public class BlockRegistry {
             throw new IllegalArgumentException("Invalid block name " + name + " specified.");
         }
 
+        int id = assignId(name, block);
         registry.put(name, block);
         if (log.isTraceEnabled()) {
-            log.trace("Registered block {} -> {}", name, block);
+            log.trace("Registered block {} ({}) -> {}", name, id, block);
         }
         return block;
     }
@@ -73,6 +93,7 @@ public class BlockRegistry {
     public boolean remove(@NonNull String name) {
         if (registry.containsKey(name)) {
             Block block = registry.remove(name);
+            unassignBlock(name, block);
             if (log.isTraceEnabled()) {
                 log.trace("Removed block {} -> {}", name, block);
             }
@@ -93,8 +114,146 @@ public class BlockRegistry {
         return b;
     }
 
+    /**
+     * Retrieve the block with the given id.
+     *
+     * @param id of the block
+     * @return block or null when the id is the empty id or no block is registered with the id
+     */
+    public Block get(int id) {
+        if (id == EMPTY_ID) {
+            return null;
+        }
+
+        Block[] blocks = blocksById;
+        Block b = id > 0 && id < blocks.length ? blocks[id] : null;
+        if (b == null) {
+            log.warn("No block registered with id {}", id);
+        }
+        return b;
+    }
+
+    /**
+     * Returns the id of the block.
+     *
+     * @param block the block, can be null
+     * @return the id of the block, {@link #EMPTY_ID} for a null block or {@link #UNKNOWN_ID} when the block isn't
+     * registered
+     */
+    public int getId(Block block) {
+        if (block == null) {
+            return EMPTY_ID;
+        }
+
+        Integer id = blockIds.get(block);
+        return id != null ? id : UNKNOWN_ID;
+    }
+
+    /**
+     * Returns the id of the block name. A name keeps its id after the block is removed from the registry.
+     *
+     * @param name of the block
+     * @return the id of the block, {@link #EMPTY_ID} for the empty block or {@link #UNKNOWN_ID} when the name was
+     * never registered
+     */
+    public int getId(@NonNull String name) {
+        if (BlockIds.EMPTY.equals(name)) {
+            return EMPTY_ID;
+        }
+
+        Integer id = ids.get(name);
+        return id != null ? id : UNKNOWN_ID;
+    }
+
+    /**
+     * @return the highest id in use. Arrays indexed by block id should have a length of at least {@code getMaxId() + 1}
+     */
+    public synchronized int getMaxId() {
+        return nextId - 1;
+    }
+
+    /**
+     * @return a sorted copy of the name to id mapping
+     */
+    public Map<String, Integer> getIds() {
+        return Collections.unmodifiableMap(new TreeMap<>(ids));
+    }
+
+    /**
+     * Writes the name to id mapping as yaml to the output stream.
+     *
+     * @param outputStream to write to
+     */
+    public void saveIds(OutputStream outputStream) {
+        try {
+            objectMapper.writeValue(outputStream, getIds());
+            if (log.isTraceEnabled()) {
+                log.trace("Saved {} block ids to outputstream.", ids.size());
+            }
+        } catch (IOException e) {
+            log.error("Unable to write outputstream. Error: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Reads a name to id mapping from the input stream and applies it on this registry. See {@link #setIds(Map)}.
+     *
+     * @param inputStream to read from
+     */
+    public void loadIds(InputStream inputStream) {
+        try {
+            Map<String, Integer> mapping = objectMapper.readValue(inputStream, objectMapper.getTypeFactory().constructMapType(TreeMap.class, String.class, Integer.class));
+            if (log.isTraceEnabled()) {
+                log.trace("Loaded {} block ids from inputstream.", mapping.size());
+            }
+            setIds(mapping);
+        } catch (IOException e) {
+            log.error("Unable to read inputstream. Error: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Applies the name to id mapping on this registry. Names in the mapping get the given id, whether they are
+     * registered already or registered afterwards. Registered names that aren't part of the mapping but hold an id of
+     * the mapping, are given a new id.
+     *
+     * @param mapping the name to id mapping
+     * @throws IllegalArgumentException when an id of the mapping is not between 1 and {@link #MAX_ID}
+     */
+    public synchronized void setIds(@NonNull Map<String, Integer> mapping) {
+        mapping.forEach((name, id) -> {
+            if (id == null || id <= EMPTY_ID || id > MAX_ID) {
+                throw new IllegalArgumentException("Invalid id " + id + " specified for block " + name + ".");
+            }
+        });
+
+        List<String> displaced = new ArrayList<>();
+        mapping.forEach((name, id) -> {
+            ensureCapacity(id);
+            String holder = namesById[id];
+            if (holder != null && !holder.equals(name)) {
+                clearId(holder, id);
+                displaced.add(holder);
+            }
+            Integer current = ids.get(name);
+            if (current != null && current != id.intValue()) {
+                clearId(name, current);
+            }
+            setId(name, id, registry.get(name));
+            nextId = Math.max(nextId, id + 1);
+        });
+
+        displaced.stream()
+                .filter(name -> !ids.containsKey(name) && registry.containsKey(name))
+                .forEach(name -> assignId(name, registry.get(name)));
+    }
+
     public void clear() {
         registry.clear();
+        blockIds.clear();
+        synchronized (this) {
+            Arrays.fill(blocksById, null);
+        }
     }
 
     public Collection<Block> getAll() {
@@ -131,6 +290,59 @@ public class BlockRegistry {
         }
     }
 
+    private synchronized int assignId(String name, Block block) {
+        Integer id = ids.get(name);
+        if (id == null) {
+            if (nextId > MAX_ID) {
+                throw new IllegalStateException("Unable to register block " + name + ", all " + MAX_ID + " block ids are in use.");
+            }
+            id = nextId++;
+            ensureCapacity(id);
+        } else {
+            // the name was registered before, remove the previous block
+            unassignBlock(name, blocksById[id]);
+        }
+        setId(name, id, block);
+        return id;
+    }
+
+    private synchronized void unassignBlock(String name, Block block) {
+        Integer id = ids.get(name);
+        if (id != null) {
+            blocksById[id] = null;
+        }
+        if (block != null) {
+            blockIds.remove(block, id);
+        }
+    }
+
+    private void setId(String name, int id, Block block) {
+        ids.put(name, id);
+        namesById[id] = name;
+        blocksById[id] = block;
+        if (block != null) {
+            blockIds.put(block, id);
+        }
+    }
+
+    private void clearId(String name, int id) {
+        Block block = blocksById[id];
+        if (block != null) {
+            blockIds.remove(block, id);
+        }
+        ids.remove(name, id);
+        namesById[id] = null;
+        blocksById[id] = null;
+    }
+
+    private void ensureCapacity(int id) {
+        if (id >= blocksById.length) {
+            int length = Math.max(id + 1, blocksById.length * 2);
+            namesById = Arrays.copyOf(namesById, length);
+            blocksById = Arrays.copyOf(blocksById, length);
+        }
+    }
+
     private void registerWindowBlocks() {
         BlockDefinition windowDef = new BlockDefinition(TypeIds.WINDOW, true, true, false)
                 .addShapes(ShapeIds.CUBE)
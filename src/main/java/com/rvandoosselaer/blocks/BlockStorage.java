@@ -0,0 +1,61 @@
+package com.rvandoosselaer.blocks;
+
+/**
+ * The contract of the data structure holding the {@link Block} elements of a {@link Chunk}. Blocks are addressed by
+ * their index in the chunk, see {@link Chunk} for the index calculation. A null value represents an empty location.
+ *
+ * @author rvandoosselaer
+ */
+public interface BlockStorage {
+
+    /**
+     * Retrieve the block at the given index.
+     *
+     * @param index of the block
+     * @return block or null
+     */
+    Block get(int index);
+
+    /**
+     * Set the block at the given index. If there was already a block at this index, it will be replaced.
+     *
+     * @param index of the block
+     * @param block the block to set, can be null
+     * @return the previous block at the index or null
+     */
+    Block set(int index, Block block);
+
+    /**
+     * Set the block at all indexes of this storage.
+     *
+     * @param block the block to set, can be null
+     */
+    default void fill(Block block) {
+        for (int i = 0; i < size(); i++) {
+            set(i, block);
+        }
+    }
+
+    /**
+     * @return the number of block locations in this storage
+     */
+    int size();
+
+    /**
+     * Returns a copy of the stored blocks as an array. Changes to the returned array are not reflected in the storage.
+     *
+     * @return array of blocks
+     */
+    Block[] toArray();
+
+    /**
+     * Returns a copy of this storage. Changes to the copy are not reflected in this storage and vice versa.
+     * Implementations should override this method with a copy that keeps the compact representation of the blocks.
+     *
+     * @return the copy of this storage
+     */
+    default BlockStorage copy() {
+        return new ArrayBlockStorage(toArray());
+    }
+
+}
@@ -7,6 +7,8 @@ import lombok.NonNull;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 
+import java.util.function.IntFunction;
+
 /**
  * The main configuration object of Blocks.
  *
@@ -29,6 +31,20 @@ public class BlocksConfig {
     private BlockRegistry blockRegistry;
     private TypeRegistry typeRegistry;
     private ChunkMeshGenerator chunkMeshGenerator;
+    /**
+     * Creates the block storage of a chunk for the given amount of block locations.
+     */
+    private IntFunction<BlockStorage> blockStorageFactory;
+    /**
+     * The maximum number of chunk meshes each meshing thread keeps for reuse, see {@link ChunkMeshPool}.
+     */
+    private int chunkMeshPoolSize;
+    /**
+     * The size of the sections the mesh of a chunk is split into, or null to construct the mesh of the whole chunk at
+     * once. When set, the {@link FacesMeshGenerator} creates a node for each section of the chunk holding the
+     * geometries of the section, and when a chunk changes only the sections with changed blocks are reconstructed.
+     */
+    private Vec3i sectionSize;
 
     private BlocksConfig(AssetManager assetManager) {
         this.assetManager = assetManager;
@@ -51,6 +67,8 @@ public class BlocksConfig {
         instance.setBlockRegistry(new BlockRegistry(registerDefaults));
         instance.setTypeRegistry(new TypeRegistry(assetManager, null, registerDefaults));
         instance.setChunkMeshGenerator(new FacesMeshGenerator());
+        instance.setBlockStorageFactory(PaletteBlockStorage::new);
+        instance.setChunkMeshPoolSize(16);
     }
 
     public static BlocksConfig getInstance() {
@@ -62,6 +80,24 @@ public class BlocksConfig {
         this.chunkSize = chunkSize;
     }
 
+    public void setBlockStorageFactory(@NonNull IntFunction<BlockStorage> blockStorageFactory) {
+        this.blockStorageFactory = blockStorageFactory;
+    }
+
+    public void setChunkMeshPoolSize(int chunkMeshPoolSize) {
+        if (chunkMeshPoolSize < 0) {
+            throw new IllegalArgumentException("Invalid chunk mesh pool size specified: " + chunkMeshPoolSize + ".");
+        }
+        this.chunkMeshPoolSize = chunkMeshPoolSize;
+    }
+
+    public void setSectionSize(Vec3i sectionSize) {
+        if (sectionSize != null && (sectionSize.x <= 0 || sectionSize.y <= 0 || sectionSize.z <= 0)) {
+            throw new IllegalArgumentException("Invalid section size specified: " + sectionSize + ".");
+        }
+        this.sectionSize = sectionSize;
+    }
+
     public void setBlockScale(float blockScale) {
         if (blockScale <= 0) {
             throw new IllegalArgumentException("Invalid block scale specified: " + blockScale + ".");
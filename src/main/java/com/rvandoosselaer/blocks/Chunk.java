@@ -3,24 +3,35 @@ package com.rvandoosselaer.blocks;
 import com.jme3.math.Vector3f;
 import com.jme3.scene.Mesh;
 import com.jme3.scene.Node;
+import com.jme3.scene.Spatial;
 import com.simsilica.mathd.Vec3i;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NonNull;
 import lombok.Setter;
 import lombok.ToString;
 import lombok.extern.slf4j.Slf4j;
 
-import java.time.Duration;
-import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Map;
 import java.util.Set;
 import java.util.function.BiFunction;
 
 /**
- * A chunk holds an array of {@link Block} elements. Blocks can be retrieved, added or removed using the appropriate
- * methods.
- * Each time the data structure of the chunk changes (when blocks are added or removed), the {@link #update()} method
- * should be called to reevaluate the {@code isFull()} and {@code isEmpty()} flags.
+ * A chunk holds the {@link Block} elements in a {@link BlockStorage}. Blocks can be retrieved, added or removed using
+ * the appropriate methods. The storage implementation is created using the block storage factory of the
+ * {@link BlocksConfig}.
+ * A new chunk, or a chunk that is filled with a single block, uses a {@link UniformBlockStorage} that only stores that
+ * block. The chunk switches to the configured block storage on the first write of a different block.
+ * The number of blocks, in total, per block and per type, is kept up to date on each write. {@code isFull()} and
+ * {@code isEmpty()} don't need to scan the blocks. When all locations of the chunk hold the same block again, the
+ * chunk switches back to a uniform storage.
+ * When the mesh of a chunk is constructed in sections (see {@link BlocksConfig#getSectionSize()}), the chunk keeps
+ * track of the sections with changed blocks so only those sections need to be reconstructed.
  * Make sure to call the {@link #cleanup()} method to properly dispose of the chunk.
  *
  * @author rvandoosselaer
@@ -30,38 +41,99 @@ import java.util.function.BiFunction;
 @ToString(onlyExplicitlyIncluded = true)
 public class Chunk {
 
-    // a one dimensional array is quicker to lookup blocks then a 3n array
-    @Setter
-    private Block[] blocks;
+    /**
+     * The user data key of a node that only holds the changed sections of a chunk, see {@link #applyMesh(ChunkSnapshot)}.
+     */
+    public static final String PARTIAL_NODE = "blocks.partialNode";
+
+    // a one dimensional storage is quicker to lookup blocks then a 3n array
+    private BlockStorage blockStorage;
     @ToString.Include
     private Vec3i location;
     private Vector3f worldLocation;
-    @ToString.Include
-    private boolean empty;
-    @ToString.Include
-    private boolean full;
+    /**
+     * The number of locations in this chunk holding a block.
+     */
+    private int blockCount;
+    @Getter(AccessLevel.NONE)
+    private final Map<Block, int[]> blockCounts = new IdentityHashMap<>();
+    @Getter(AccessLevel.NONE)
+    private final Map<String, int[]> typeCounts = new HashMap<>();
+    /**
+     * The version of the blocks of this chunk. The version is incremented each time the blocks of the chunk change.
+     */
+    private long version;
+    // the version of the chunk when the blocks on each border last changed, indexed by direction.ordinal()
+    @Getter(AccessLevel.NONE)
+    private final long[] borderVersions = new long[Direction.values().length];
+    // the border versions of the neighbouring chunks the mesh was constructed with, indexed by direction.ordinal()
+    @Getter(AccessLevel.NONE)
+    private long[] meshNeighbourVersions;
+    // the version of the chunk when a block in or next to each mesh section last changed, null when the mesh isn't
+    // constructed in sections
+    @Getter(AccessLevel.NONE)
+    private long[] sectionVersions;
+    // the section versions the mesh was constructed with
+    @Getter(AccessLevel.NONE)
+    private long[] meshSectionVersions;
+    // the sequence number of the last snapshot taken to construct the mesh, and of the snapshot the applied mesh was
+    // constructed with
+    @Getter(AccessLevel.NONE)
+    private long meshSequence;
+    @Getter(AccessLevel.NONE)
+    private long appliedMeshSequence;
     @Setter
     private Node node;
     @Setter
     private Mesh collisionMesh;
+    @Getter
     @Setter
     private static BiFunction<Block, Block, Boolean> faceVisibleFunction = new DefaultFaceVisibleFunction();
     @Setter
     private ChunkResolver chunkResolver;
 
     public Chunk(@NonNull Vec3i location) {
+        this(location, null);
+    }
+
+    public Chunk(@NonNull Vec3i location, Block block) {
         this.location = location;
-//        setLocation(location);
-        Vec3i chunkSize = BlocksConfig.getInstance().getChunkSize();
-//        setBlocks(new Block[chunkSize.x * chunkSize.y * chunkSize.z]);
-        this.blocks = new Block[chunkSize.x * chunkSize.y * chunkSize.z];
-        update();
+        fill(block);
+    }
+
+    /**
+     * Creates a copy of the chunk, with the same location and blocks. The node, collision mesh and chunk resolver are
+     * not copied.
+     *
+     * @param chunk to copy
+     */
+    protected Chunk(@NonNull Chunk chunk) {
+        this.location = new Vec3i(chunk.location);
+        // a uniform block storage can't be changed and is shared, other storages are copied in their own representation
+        this.blockStorage = chunk.blockStorage.copy();
+        this.blockCount = chunk.blockCount;
+        this.version = chunk.version;
+        System.arraycopy(chunk.borderVersions, 0, borderVersions, 0, borderVersions.length);
+        this.sectionVersions = chunk.sectionVersions != null ? chunk.sectionVersions.clone() : null;
+        chunk.blockCounts.forEach((block, count) -> blockCounts.put(block, new int[]{count[0]}));
+        chunk.typeCounts.forEach((type, count) -> typeCounts.put(type, new int[]{count[0]}));
     }
 
     public static Chunk createAt(@NonNull Vec3i location) {
         return new Chunk(location);
     }
 
+    /**
+     * Creates a chunk at the given location where every location holds the given block.
+     *
+     * @param location of the chunk
+     * @param block    the block to fill the chunk with, can be null
+     * @return the chunk
+     */
+    public static Chunk createAt(@NonNull Vec3i location, Block block) {
+        return new Chunk(location, block);
+    }
+
     /**
      * Add a block to this chunk. If there was already a block at this location, it will be overwritten.
      *
@@ -84,9 +156,7 @@ public class Chunk {
      */
     public Block addBlock(int x, int y, int z, Block block) {
         if (isInsideChunk(x, y, z)) {
-            int index = calculateIndex(x, y, z);
-            Block previous = blocks[index];
-            blocks[index] = block;
+            Block previous = setBlock(x, y, z, block);
             if (log.isTraceEnabled()) {
                 log.trace("Added {} at ({}, {}, {}) to {}", block, x, y, z, this);
             }
@@ -116,7 +186,7 @@ public class Chunk {
      */
     public Block getBlock(int x, int y, int z) {
         if (isInsideChunk(x, y, z)) {
-            return this.blocks[calculateIndex(x, y, z)];
+            return blockStorage.get(calculateIndex(x, y, z));
         }
 
         log.warn("Block location ({}, {}, {}) is outside of the chunk boundaries!", x, y, z);
@@ -143,9 +213,7 @@ public class Chunk {
      */
     public Block removeBlock(int x, int y, int z) {
         if (isInsideChunk(x, y, z)) {
-            int index = calculateIndex(x, y, z);
-            Block block = blocks[index];
-            blocks[index] = null;
+            Block block = setBlock(x, y, z, null);
             if (log.isTraceEnabled()) {
                 log.trace("Removed {} at ({}, {}, {}) from {}", block, x, y, z, this);
             }
@@ -156,6 +224,110 @@ public class Chunk {
         return null;
     }
 
+    /**
+     * Returns a copy of the blocks of this chunk as an array. Changes to the returned array are not reflected in the
+     * chunk, use {@link #addBlock(int, int, int, Block)} or {@link #setBlocks(Block[])} instead.
+     *
+     * @return array of blocks or null when the chunk is cleaned up
+     */
+    public Block[] getBlocks() {
+        return blockStorage != null ? blockStorage.toArray() : null;
+    }
+
+    /**
+     * Replaces all blocks of this chunk with the given blocks. The blocks are copied into a new block storage.
+     *
+     * @param blocks the blocks of the chunk
+     */
+    public void setBlocks(Block[] blocks) {
+        version++;
+        Arrays.fill(borderVersions, version);
+        resetSectionVersions();
+        clearCounts();
+        if (blocks == null) {
+            this.blockStorage = null;
+            return;
+        }
+
+        if (isUniform(blocks)) {
+            this.blockStorage = new UniformBlockStorage(blocks.length, blocks[0]);
+            addToCounts(blocks[0], blocks.length);
+            return;
+        }
+
+        BlockStorage storage = createBlockStorage(blocks.length);
+        for (int i = 0; i < blocks.length; i++) {
+            if (blocks[i] != null) {
+                storage.set(i, blocks[i]);
+                addToCounts(blocks[i], 1);
+            }
+        }
+        this.blockStorage = storage;
+    }
+
+    /**
+     * Sets the given block at every location of this chunk. This is a lot cheaper then adding the block at each
+     * location, the chunk only stores the block once.
+     *
+     * @param block the block to fill the chunk with, can be null
+     */
+    public void fill(Block block) {
+        Vec3i chunkSize = BlocksConfig.getInstance().getChunkSize();
+        int size = chunkSize.x * chunkSize.y * chunkSize.z;
+        this.blockStorage = new UniformBlockStorage(size, block);
+        version++;
+        Arrays.fill(borderVersions, version);
+        resetSectionVersions();
+        clearCounts();
+        addToCounts(block, size);
+    }
+
+    /**
+     * @return true when every location of this chunk holds the same block
+     */
+    public boolean isUniform() {
+        return blockStorage instanceof UniformBlockStorage;
+    }
+
+    /**
+     * @return true when this chunk doesn't contain any blocks
+     */
+    @ToString.Include(name = "empty")
+    public boolean isEmpty() {
+        return blockCount == 0;
+    }
+
+    /**
+     * @return true when every location of this chunk holds a block
+     */
+    @ToString.Include(name = "full")
+    public boolean isFull() {
+        BlockStorage storage = blockStorage;
+        return storage != null && blockCount == storage.size();
+    }
+
+    /**
+     * @param block the block to count
+     * @return the number of locations in this chunk holding the block
+     */
+    public int getBlockCount(Block block) {
+        if (block == null) {
+            BlockStorage storage = blockStorage;
+            return storage != null ? storage.size() - blockCount : 0;
+        }
+        int[] count = blockCounts.get(block);
+        return count != null ? count[0] : 0;
+    }
+
+    /**
+     * @param type the type to count
+     * @return the number of locations in this chunk holding a block of the type
+     */
+    public int getTypeCount(String type) {
+        int[] count = typeCounts.get(type);
+        return count != null ? count[0] : 0;
+    }
+
     /**
      * Creates and returns the node of the chunk with the given {@link ChunkMeshGenerator}.
      *
@@ -179,43 +351,23 @@ public class Chunk {
     }
 
     /**
-     * Updates the {@code isEmpty()} and {@code isFull()} values. This should be called whenever the block data has
-     * changed.
+     * The {@code isEmpty()} and {@code isFull()} values are kept up to date on each write, calling this method is no
+     * longer needed.
+     *
+     * @deprecated the block counts of the chunk are updated when blocks are added or removed
      */
+    @Deprecated
     public void update() {
-//        long start = System.nanoTime();
-        Instant start = Instant.now();
-        boolean empty = true;
-        boolean full = true;
-
-        for (Block block : blocks) {
-            if (block == null && full) {
-                full = false;
-            }
-            if (block != null && empty) {
-                empty = false;
-            }
-
-            if (!empty && !full) {
-                // break out of the loop
-                break;
-            }
-        }
-
-        this.empty = empty;
-        this.full = full;
-
-        if (log.isTraceEnabled()) {
-//            log.trace("Updating {} values took {}ms", this, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
-            log.trace("Updating {} values took {}ms", this, Duration.between(start, Instant.now()).toMillis());
-        }
-
     }
 
     public void cleanup() {
-        this.blocks = null;
+        this.blockStorage = null;
+        clearCounts();
         this.node = null;
         this.collisionMesh = null;
+        this.meshNeighbourVersions = null;
+        this.sectionVersions = null;
+        this.meshSectionVersions = null;
         this.location = null;
         this.worldLocation = null;
         this.chunkResolver = null;
@@ -280,13 +432,18 @@ public class Chunk {
      * @return the neighbouring block or null
      */
     public Block getNeighbour(@NonNull Vec3i location, @NonNull Direction direction) {
-        Vec3i blockLocation = location.add(direction.getVector());
+        Vec3i offset = direction.getVector();
+        int x = location.x + offset.x;
+        int y = location.y + offset.y;
+        int z = location.z + offset.z;
 
-        if (isInsideChunk(blockLocation.x, blockLocation.y, blockLocation.z)) {
-            return getBlock(blockLocation.x, blockLocation.y, blockLocation.z);
+        // neighbours inside the chunk are looked up without creating any objects, this is called for each face
+        if (isInsideChunk(x, y, z)) {
+            return getBlock(x, y, z);
         }
 
         if (hasChunkResolver()) {
+            Vec3i blockLocation = new Vec3i(x, y, z);
             Vec3i chunkLocation = calculateNeighbourChunkLocation(blockLocation);
             Vec3i neighbourBlockLocation = calculateNeighbourChunkBlockLocation(blockLocation);
 
@@ -312,6 +469,355 @@ public class Chunk {
         return faceVisibleFunction.apply(block, neighbour);
     }
 
+    /**
+     * Calculates the visible faces of all blocks in the chunk in one pass. The result holds a mask for each block, at
+     * the same index as the block in the block storage. Bit {@code direction.ordinal()} of the mask is set when the
+     * face of the block in that direction is visible, see {@link #isFaceVisible(Vec3i, Direction)}. Locations without
+     * a block have an empty mask.
+     * The neighbouring chunks are retrieved once with the {@link ChunkResolver}, instead of once for each face on the
+     * border of the chunk.
+     *
+     * @param store the array to store the masks in, a new array is created when it is null or too small
+     * @return the visible faces of each block
+     */
+    public byte[] calculateVisibleFaces(byte[] store) {
+        Vec3i chunkSize = BlocksConfig.getInstance().getChunkSize();
+        int size = chunkSize.x * chunkSize.y * chunkSize.z;
+        byte[] visibleFaces = store != null && store.length >= size ? store : new byte[size];
+        if (isEmpty()) {
+            Arrays.fill(visibleFaces, 0, size, (byte) 0);
+            return visibleFaces;
+        }
+
+        // the borders of the neighbouring chunks and the offset of the neighbouring block in the block storage, per
+        // direction
+        Direction[] directions = Direction.values();
+        Block[][] borders = getNeighbourBorders();
+        int[] offsets = new int[directions.length];
+        for (Direction direction : directions) {
+            Vec3i vector = direction.getVector();
+            offsets[direction.ordinal()] = vector.z + vector.y * chunkSize.z + vector.x * chunkSize.y * chunkSize.z;
+        }
+
+        int index = 0;
+        for (int x = 0; x < chunkSize.x; x++) {
+            for (int y = 0; y < chunkSize.y; y++) {
+                for (int z = 0; z < chunkSize.z; z++, index++) {
+                    Block block = blockStorage.get(index);
+                    if (block == null) {
+                        visibleFaces[index] = 0;
+                        continue;
+                    }
+
+                    int mask = 0;
+                    for (Direction direction : directions) {
+                        Vec3i vector = direction.getVector();
+                        int nx = x + vector.x;
+                        int ny = y + vector.y;
+                        int nz = z + vector.z;
+                        Block neighbour;
+                        if (isInsideChunk(nx, ny, nz)) {
+                            neighbour = blockStorage.get(index + offsets[direction.ordinal()]);
+                        } else {
+                            Block[] border = borders[direction.ordinal()];
+                            neighbour = border == null ? null : border[getBorderIndex(direction, x, y, z)];
+                        }
+                        if (faceVisibleFunction.apply(block, neighbour)) {
+                            mask |= 1 << direction.ordinal();
+                        }
+                    }
+                    visibleFaces[index] = (byte) mask;
+                }
+            }
+        }
+        return visibleFaces;
+    }
+
+    /**
+     * Retrieve the blocks on the borders of the neighbouring chunks that touch this chunk. The result holds an array
+     * of blocks for each direction, indexed by {@code direction.ordinal()}. The location of a block in the array is
+     * calculated with {@link #getBorderIndex(Direction, int, int, int)}. The array of a direction is null when there
+     * is no neighbouring chunk in that direction.
+     *
+     * @return the blocks on the borders of the neighbouring chunks
+     */
+    Block[][] getNeighbourBorders() {
+        Block[][] borders = new Block[Direction.values().length][];
+        if (!hasChunkResolver()) {
+            return borders;
+        }
+
+        Vec3i chunkSize = BlocksConfig.getInstance().getChunkSize();
+        for (Direction direction : Direction.values()) {
+            Vec3i vector = direction.getVector();
+            Chunk neighbour = chunkResolver.get(location.add(vector)).orElse(null);
+            if (neighbour == null || neighbour.getBlockStorage() == null) {
+                continue;
+            }
+
+            // the border of the neighbour is the layer on the opposite side of the neighbouring chunk
+            int fromX = vector.x < 0 ? chunkSize.x - 1 : 0;
+            int toX = vector.x != 0 ? fromX : chunkSize.x - 1;
+            int fromY = vector.y < 0 ? chunkSize.y - 1 : 0;
+            int toY = vector.y != 0 ? fromY : chunkSize.y - 1;
+            int fromZ = vector.z < 0 ? chunkSize.z - 1 : 0;
+            int toZ = vector.z != 0 ? fromZ : chunkSize.z - 1;
+            Block[] border = new Block[(toX - fromX + 1) * (toY - fromY + 1) * (toZ - fromZ + 1)];
+            for (int x = fromX; x <= toX; x++) {
+                for (int y = fromY; y <= toY; y++) {
+                    for (int z = fromZ; z <= toZ; z++) {
+                        border[getBorderIndex(direction, x, y, z)] = neighbour.getBlock(x, y, z);
+                    }
+                }
+            }
+            borders[direction.ordinal()] = border;
+        }
+        return borders;
+    }
+
+    /**
+     * Retrieve the version of the blocks on the border of this chunk in the given direction. The border version is
+     * the version of the chunk when a block on the border last changed. A change of a block that isn't on the border
+     * doesn't change the border version, and doesn't change the visible faces of the neighbouring chunk in that
+     * direction.
+     *
+     * @param direction of the border
+     * @return the version of the border
+     */
+    public long getBorderVersion(@NonNull Direction direction) {
+        return borderVersions[direction.ordinal()];
+    }
+
+    /**
+     * Retrieve the versions of the borders of the neighbouring chunks that touch this chunk, indexed by
+     * {@code direction.ordinal()}. The version of a direction is -1 when there is no neighbouring chunk in that
+     * direction.
+     *
+     * @return the border versions of the neighbouring chunks
+     * @see #getBorderVersion(Direction)
+     */
+    long[] getNeighbourVersions() {
+        long[] versions = new long[Direction.values().length];
+        Arrays.fill(versions, -1);
+        if (!hasChunkResolver()) {
+            return versions;
+        }
+
+        for (Direction direction : Direction.values()) {
+            chunkResolver.get(location.add(direction.getVector()))
+                    .filter(neighbour -> neighbour.getBlockStorage() != null)
+                    .ifPresent(neighbour -> versions[direction.ordinal()] = neighbour.getBorderVersion(direction.opposite()));
+        }
+        return versions;
+    }
+
+    /**
+     * Retrieve the border version of the neighbouring chunk the mesh of this chunk was constructed with.
+     *
+     * @param direction of the neighbouring chunk
+     * @return the border version of the neighbouring chunk, or -1 when the mesh was constructed without the neighbouring
+     * chunk or when there is no mesh
+     */
+    long getMeshNeighbourVersion(@NonNull Direction direction) {
+        return meshNeighbourVersions != null ? meshNeighbourVersions[direction.ordinal()] : -1;
+    }
+
+    /**
+     * Set the border versions of the neighbouring chunks the mesh of this chunk was constructed with.
+     *
+     * @param meshNeighbourVersions the border versions of the neighbouring chunks, indexed by {@code direction.ordinal()}
+     * @see #getNeighbourVersions()
+     */
+    void setMeshNeighbourVersions(long[] meshNeighbourVersions) {
+        this.meshNeighbourVersions = meshNeighbourVersions;
+    }
+
+    /**
+     * @return the sequence number of a new snapshot of this chunk
+     */
+    long nextMeshSequence() {
+        return ++meshSequence;
+    }
+
+    /**
+     * Sets the node, collision mesh and versions the mesh was constructed with from the snapshot of this chunk. When
+     * the snapshot holds a node with only the changed sections of the chunk (see {@link #PARTIAL_NODE}), the sections
+     * replace the sections with the same name in the node of this chunk. The node of this chunk is changed, so this
+     * method should be called on the thread that manages the scene graph the node is attached to.
+     * <p>
+     * Meshes can be constructed concurrently and finish out of order. The mesh of a snapshot that was taken before the
+     * snapshot of the applied mesh is outdated and isn't applied.
+     *
+     * @param snapshot the snapshot of this chunk the mesh was constructed with
+     * @return true if the mesh is applied, false if the mesh is outdated
+     */
+    boolean applyMesh(@NonNull ChunkSnapshot snapshot) {
+        if (snapshot.getMeshSequence() <= appliedMeshSequence) {
+            if (log.isDebugEnabled()) {
+                log.debug("Not applying an outdated mesh of {}", this);
+            }
+            return false;
+        }
+        this.appliedMeshSequence = snapshot.getMeshSequence();
+
+        Node snapshotNode = snapshot.getNode();
+        if (node != null && snapshotNode != null && Boolean.TRUE.equals(snapshotNode.getUserData(PARTIAL_NODE))) {
+            for (Spatial section : new ArrayList<>(snapshotNode.getChildren())) {
+                node.detachChildNamed(section.getName());
+                node.attachChild(section);
+            }
+            if (log.isTraceEnabled()) {
+                log.trace("Replaced {} sections of {}", snapshotNode.getQuantity(), this);
+            }
+        } else {
+            this.node = snapshotNode;
+        }
+        this.collisionMesh = snapshot.getCollisionMesh();
+        this.meshNeighbourVersions = snapshot.getNeighbourVersions();
+        this.meshSectionVersions = snapshot.getSectionVersions();
+        return true;
+    }
+
+    /**
+     * Retrieve the versions of the mesh sections of this chunk, indexed by the section index. The version of a section
+     * is the version of the chunk when a block in the section, or a block next to the section, last changed.
+     *
+     * @return the section versions or null when the mesh isn't constructed in sections
+     * @see BlocksConfig#getSectionSize()
+     */
+    long[] getSectionVersions() {
+        return sectionVersions != null ? sectionVersions.clone() : null;
+    }
+
+    /**
+     * Retrieve the mesh sections of this chunk that changed since the mesh was constructed. A section changed when a
+     * block in or next to the section changed, or when the border of a neighbouring chunk the section touches changed.
+     * A chunk doesn't keep track of a node that is being constructed, the changed sections are only known to a
+     * {@link ChunkSnapshot}.
+     *
+     * @return the changed sections indexed by the section index, or null when all sections should be constructed
+     */
+    boolean[] getChangedSections() {
+        return null;
+    }
+
+    /**
+     * Calculates the mesh sections of this chunk that changed since the mesh was constructed, see
+     * {@link #getChangedSections()}.
+     *
+     * @param neighbourVersions the current border versions of the neighbouring chunks
+     * @return the changed sections indexed by the section index, or null when all sections should be constructed
+     */
+    boolean[] calculateChangedSections(long[] neighbourVersions) {
+        Vec3i sectionCount = getSectionCount();
+        if (sectionCount == null || node == null || sectionVersions == null || meshSectionVersions == null
+                || meshSectionVersions.length != sectionVersions.length || meshNeighbourVersions == null) {
+            return null;
+        }
+
+        boolean[] changed = new boolean[sectionVersions.length];
+        for (int i = 0; i < changed.length; i++) {
+            changed[i] = sectionVersions[i] != meshSectionVersions[i];
+        }
+
+        // the faces on the border of the chunk depend on the border of the neighbouring chunk
+        for (Direction direction : Direction.values()) {
+            if (neighbourVersions[direction.ordinal()] == meshNeighbourVersions[direction.ordinal()]) {
+                continue;
+            }
+            for (int x = 0; x < sectionCount.x; x++) {
+                for (int y = 0; y < sectionCount.y; y++) {
+                    for (int z = 0; z < sectionCount.z; z++) {
+                        if (isOnBorder(x, y, z, direction, sectionCount)) {
+                            changed[getSectionIndex(x, y, z, sectionCount)] = true;
+                        }
+                    }
+                }
+            }
+        }
+        return changed;
+    }
+
+    /**
+     * Calculates the number of mesh sections of a chunk along each axis. The sections on the far side of the chunk are
+     * smaller when the chunk size isn't a multiple of the section size.
+     *
+     * @return the number of sections or null when the mesh isn't constructed in sections
+     * @see BlocksConfig#getSectionSize()
+     */
+    static Vec3i getSectionCount() {
+        Vec3i sectionSize = BlocksConfig.getInstance().getSectionSize();
+        if (sectionSize == null) {
+            return null;
+        }
+
+        Vec3i chunkSize = BlocksConfig.getInstance().getChunkSize();
+        return new Vec3i((chunkSize.x + sectionSize.x - 1) / sectionSize.x, (chunkSize.y + sectionSize.y - 1) / sectionSize.y,
+                (chunkSize.z + sectionSize.z - 1) / sectionSize.z);
+    }
+
+    /**
+     * Calculate the index of a mesh section, the sections are ordered like the blocks of a chunk.
+     *
+     * @param x            section coordinate
+     * @param y            section coordinate
+     * @param z            section coordinate
+     * @param sectionCount the number of sections along each axis
+     * @return the index of the section
+     */
+    static int getSectionIndex(int x, int y, int z, Vec3i sectionCount) {
+        return z + y * sectionCount.z + x * sectionCount.y * sectionCount.z;
+    }
+
+    /**
+     * Calculate the index of a block in the border of a neighbouring chunk. Only the coordinates perpendicular to the
+     * direction are used, so both the location of the block in this chunk and in the neighbouring chunk can be given.
+     *
+     * @param direction of the neighbouring chunk
+     * @param x         block coordinate
+     * @param y         block coordinate
+     * @param z         block coordinate
+     * @return the index in the border array
+     */
+    static int getBorderIndex(Direction direction, int x, int y, int z) {
+        Vec3i chunkSize = BlocksConfig.getInstance().getChunkSize();
+        Vec3i vector = direction.getVector();
+        if (vector.x != 0) {
+            return z + y * chunkSize.z;
+        }
+        if (vector.y != 0) {
+            return z + x * chunkSize.z;
+        }
+        return y + x * chunkSize.y;
+    }
+
+    /**
+     * Checks if the block coordinate is on the border of the chunk in the given direction.
+     *
+     * @param x         block coordinate
+     * @param y         block coordinate
+     * @param z         block coordinate
+     * @param direction of the border
+     * @param chunkSize the size of the chunk
+     * @return true if the block is on the border
+     */
+    static boolean isOnBorder(int x, int y, int z, Direction direction, Vec3i chunkSize) {
+        switch (direction) {
+            case WEST:
+                return x == 0;
+            case EAST:
+                return x == chunkSize.x - 1;
+            case DOWN:
+                return y == 0;
+            case UP:
+                return y == chunkSize.y - 1;
+            case NORTH:
+                return z == 0;
+            default:
+                return z == chunkSize.z - 1;
+        }
+    }
+
     private boolean hasChunkResolver() {
         return chunkResolver != null;
     }
@@ -365,6 +871,131 @@ public class Chunk {
         return toReturn;
     }
 
+    /**
+     * Sets the block in the block storage. When the storage is uniform and the block is different, the storage is
+     * first replaced by a storage created with the configured block storage factory. The block counts are updated, and
+     * when a single block remains, the storage is replaced by a uniform storage again. The version of the chunk and
+     * of the borders the block is on are updated when the block changes.
+     */
+    private Block setBlock(int x, int y, int z, Block block) {
+        BlockStorage storage = blockStorage;
+        if (storage instanceof UniformBlockStorage) {
+            Block uniformBlock = ((UniformBlockStorage) storage).getBlock();
+            if (uniformBlock == block) {
+                return block;
+            }
+
+            storage = createBlockStorage(storage.size());
+            if (uniformBlock != null) {
+                storage.fill(uniformBlock);
+            }
+            if (log.isTraceEnabled()) {
+                log.trace("Inflated uniform storage of {} holding {} to {}", this, uniformBlock, storage.getClass().getSimpleName());
+            }
+            this.blockStorage = storage;
+        }
+
+        Block previous = storage.set(calculateIndex(x, y, z), block);
+        if (previous != block) {
+            version++;
+            updateBorderVersions(x, y, z);
+            updateSectionVersions(x, y, z);
+            addToCounts(previous, -1);
+            addToCounts(block, 1);
+            if (blockCount == 0) {
+                this.blockStorage = new UniformBlockStorage(storage.size(), null);
+            } else if (block != null && blockCounts.get(block)[0] == storage.size()) {
+                this.blockStorage = new UniformBlockStorage(storage.size(), block);
+            }
+        }
+        return previous;
+    }
+
+    private void updateBorderVersions(int x, int y, int z) {
+        Vec3i chunkSize = BlocksConfig.getInstance().getChunkSize();
+        for (Direction direction : Direction.values()) {
+            if (isOnBorder(x, y, z, direction, chunkSize)) {
+                borderVersions[direction.ordinal()] = version;
+            }
+        }
+    }
+
+    /**
+     * Updates the version of the section of the block and of the sections of the neighbouring blocks, the visible faces
+     * of the neighbouring blocks can change as well.
+     */
+    private void updateSectionVersions(int x, int y, int z) {
+        Vec3i sectionCount = getSectionCount();
+        if (sectionCount == null) {
+            sectionVersions = null;
+            return;
+        }
+        if (sectionVersions == null || sectionVersions.length != sectionCount.x * sectionCount.y * sectionCount.z) {
+            resetSectionVersions();
+            return;
+        }
+
+        Vec3i sectionSize = BlocksConfig.getInstance().getSectionSize();
+        sectionVersions[getSectionIndex(x / sectionSize.x, y / sectionSize.y, z / sectionSize.z, sectionCount)] = version;
+        for (Direction direction : Direction.values()) {
+            Vec3i vector = direction.getVector();
+            int nx = x + vector.x;
+            int ny = y + vector.y;
+            int nz = z + vector.z;
+            if (isInsideChunk(nx, ny, nz)) {
+                sectionVersions[getSectionIndex(nx / sectionSize.x, ny / sectionSize.y, nz / sectionSize.z, sectionCount)] = version;
+            }
+        }
+    }
+
+    private void resetSectionVersions() {
+        Vec3i sectionCount = getSectionCount();
+        if (sectionCount == null) {
+            sectionVersions = null;
+            return;
+        }
+
+        sectionVersions = new long[sectionCount.x * sectionCount.y * sectionCount.z];
+        Arrays.fill(sectionVersions, version);
+    }
+
+    private void addToCounts(Block block, int delta) {
+        if (block == null) {
+            return;
+        }
+
+        blockCount += delta;
+        addToCount(blockCounts, block, delta);
+        addToCount(typeCounts, block.getType(), delta);
+    }
+
+    private static <T> void addToCount(Map<T, int[]> counts, T key, int delta) {
+        int[] count = counts.computeIfAbsent(key, k -> new int[1]);
+        count[0] += delta;
+        if (count[0] == 0) {
+            counts.remove(key);
+        }
+    }
+
+    private void clearCounts() {
+        blockCount = 0;
+        blockCounts.clear();
+        typeCounts.clear();
+    }
+
+    private static boolean isUniform(Block[] blocks) {
+        for (int i = 1; i < blocks.length; i++) {
+            if (blocks[i] != blocks[0]) {
+                return false;
+            }
+        }
+        return blocks.length > 0;
+    }
+
+    private static BlockStorage createBlockStorage(int size) {
+        return BlocksConfig.getInstance().getBlockStorageFactory().apply(size);
+    }
+
     /**
      * Checks if the given block coordinate is inside the chunk.
      *
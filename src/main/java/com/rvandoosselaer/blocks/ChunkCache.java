@@ -5,11 +5,14 @@ import com.github.benmanes.caffeine.cache.Caffeine;
 import com.github.benmanes.caffeine.cache.RemovalCause;
 import com.github.benmanes.caffeine.cache.RemovalListener;
 import com.simsilica.mathd.Vec3i;
+import lombok.Getter;
 import lombok.NonNull;
+import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
 import java.util.Optional;
+import java.util.function.Consumer;
 
 /**
  * An in memory threadsafe chunk cache implementation.
@@ -17,6 +20,9 @@ import java.util.Optional;
  * eviction means removal due to the policy
  * invalidation means manual removal by the caller
  * removal occurs as a consequence of invalidation or eviction
+ * <p>
+ * Removed chunks are handled on the thread that removes them, or on the thread that evicts them when writing to the
+ * cache. When a removal method returns, the removed chunks are cleaned up.
  *
  * @author rvandoosselaer
  */
@@ -24,13 +30,20 @@ import java.util.Optional;
 public class ChunkCache implements ChunkResolver {
 
     private final Cache<Vec3i, Chunk> cache;
+    /**
+     * Called with each chunk that is removed from the cache, before the chunk is cleaned up. The removal handler is
+     * called on the thread that removes the chunk.
+     */
+    @Getter
+    @Setter
+    private volatile Consumer<Chunk> removalHandler;
 
     public ChunkCache() {
         this(0);
     }
 
     public ChunkCache(int cacheSize) {
-        this.cache = createCache(cacheSize);
+        this.cache = createCache(cacheSize, new ChunkCacheRemovalListener());
     }
 
     @Override
@@ -67,7 +80,7 @@ public class ChunkCache implements ChunkResolver {
         cache.cleanUp();
     }
 
-    private static Cache<Vec3i, Chunk> createCache(int cacheSize) {
+    private static Cache<Vec3i, Chunk> createCache(int cacheSize, RemovalListener<Vec3i, Chunk> removalListener) {
         Vec3i gridSize = BlocksConfig.getInstance().getGrid();
         int minimumSize = gridSize.x * gridSize.y * gridSize.z;
 
@@ -78,11 +91,13 @@ public class ChunkCache implements ChunkResolver {
         return Caffeine.newBuilder()
                 .maximumSize(cacheSize > 0 ? cacheSize : minimumSize)
 //                .maximumSize(cacheSize)
-                .removalListener(new ChunkCacheRemovalListener())
+                .removalListener(removalListener)
+                // run the removal listener and the maintenance on the calling thread instead of the common pool
+                .executor(Runnable::run)
                 .build();
     }
 
-    private static class ChunkCacheRemovalListener implements RemovalListener<Vec3i, Chunk> {
+    private class ChunkCacheRemovalListener implements RemovalListener<Vec3i, Chunk> {
 
         @Override
         public void onRemoval(@Nullable Vec3i location, @Nullable Chunk chunk, @org.checkerframework.checker.nullness.qual.NonNull RemovalCause cause) {
@@ -95,6 +110,10 @@ public class ChunkCache implements ChunkResolver {
             }
 
             if (chunk != null) {
+                Consumer<Chunk> handler = removalHandler;
+                if (handler != null) {
+                    handler.accept(chunk);
+                }
                 chunk.cleanup();
             }
         }
@@ -0,0 +1,44 @@
+package com.rvandoosselaer.blocks;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * The contract of a codec that compresses the serialized chunks of a chunk repository. The id of the codec is stored
+ * in the header of each compressed chunk, so a chunk can be read regardless of the compression of the repository. A
+ * Deflate implementation is available in {@link ChunkCompressions}, other codecs can be added by registering them with
+ * {@link ChunkCompressions#register(ChunkCompression)}.
+ *
+ * @author rvandoosselaer
+ */
+public interface ChunkCompression {
+
+    /**
+     * The id of the codec that is stored in the header of a compressed chunk. Ids 0 to 15 are reserved for the codecs
+     * of the library, custom codecs should use an id from 16 to 255.
+     *
+     * @return the id of the codec
+     */
+    int getId();
+
+    /**
+     * Compresses the serialized chunk.
+     *
+     * @param data the serialized chunk
+     * @return the compressed data
+     */
+    byte[] compress(byte[] data);
+
+    /**
+     * Decompresses the serialized chunk. The compressed data is read from the position to the limit of the buffer.
+     * The length is read from the header of the compressed chunk and is checked against the maximum length of a
+     * serialized chunk before this method is called.
+     *
+     * @param data   the compressed data
+     * @param length the length of the serialized chunk
+     * @return the serialized chunk
+     * @throws IOException when the data can't be decompressed
+     */
+    byte[] decompress(ByteBuffer data, int length) throws IOException;
+
+}
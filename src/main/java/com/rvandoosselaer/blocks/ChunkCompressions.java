@@ -0,0 +1,147 @@
+package com.rvandoosselaer.blocks;
+
+import lombok.Getter;
+import lombok.NonNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Factory methods for the {@link ChunkCompression} implementations and the registry used to find the codec of a
+ * compressed chunk.
+ * <p>
+ * - {@link #deflate()}: Deflate compression with the default compression level.
+ * - {@link #deflate(int)}: Deflate compression with the given compression level, from {@link Deflater#BEST_SPEED} to
+ * {@link Deflater#BEST_COMPRESSION}. The level is only used when compressing, chunks of all levels can be read.
+ * <p>
+ * A custom codec should be registered before a chunk compressed with it is read.
+ *
+ * @author rvandoosselaer
+ */
+public final class ChunkCompressions {
+
+    public static final int DEFLATE_ID = 1;
+    private static final ChunkCompression[] CODECS = new ChunkCompression[256];
+
+    static {
+        register(deflate());
+    }
+
+    private ChunkCompressions() {
+    }
+
+    /**
+     * @return Deflate compression with the default compression level
+     */
+    public static ChunkCompression deflate() {
+        return deflate(Deflater.DEFAULT_COMPRESSION);
+    }
+
+    /**
+     * @param level the compression level, from 0 to 9 or -1 for the default level
+     * @return Deflate compression with the given compression level
+     */
+    public static ChunkCompression deflate(int level) {
+        if ((level < Deflater.NO_COMPRESSION || level > Deflater.BEST_COMPRESSION) && level != Deflater.DEFAULT_COMPRESSION) {
+            throw new IllegalArgumentException("Invalid compression level specified: " + level + ".");
+        }
+        return new DeflateCompression(level);
+    }
+
+    /**
+     * Registers the codec, so chunks compressed with the codec can be read. A codec that was registered with the same
+     * id is replaced.
+     *
+     * @param compression the codec to register
+     */
+    public static synchronized void register(@NonNull ChunkCompression compression) {
+        int id = compression.getId();
+        if (id < 0 || id >= CODECS.length) {
+            throw new IllegalArgumentException("Invalid codec id specified: " + id + ".");
+        }
+        CODECS[id] = compression;
+    }
+
+    /**
+     * @param id the id of the codec
+     * @return the registered codec or null when no codec is registered with the id
+     */
+    public static synchronized ChunkCompression get(int id) {
+        return id >= 0 && id < CODECS.length ? CODECS[id] : null;
+    }
+
+    @Getter
+    private static class DeflateCompression implements ChunkCompression {
+
+        private final int level;
+
+        DeflateCompression(int level) {
+            this.level = level;
+        }
+
+        @Override
+        public int getId() {
+            return DEFLATE_ID;
+        }
+
+        @Override
+        public byte[] compress(byte[] data) {
+            Deflater deflater = new Deflater(level);
+            try {
+                deflater.setInput(data);
+                deflater.finish();
+                byte[] buffer = new byte[Math.max(64, data.length / 4)];
+                int length = 0;
+                while (!deflater.finished()) {
+                    if (length == buffer.length) {
+                        buffer = Arrays.copyOf(buffer, buffer.length * 2);
+                    }
+                    length += deflater.deflate(buffer, length, buffer.length - length);
+                }
+                return Arrays.copyOf(buffer, length);
+            } finally {
+                deflater.end();
+            }
+        }
+
+        @Override
+        public byte[] decompress(ByteBuffer data, int length) throws IOException {
+            if (length < 0) {
+                throw new IOException("Invalid length " + length + " of compressed data");
+            }
+            Inflater inflater = new Inflater();
+            try {
+                if (data.hasArray()) {
+                    inflater.setInput(data.array(), data.arrayOffset() + data.position(), data.remaining());
+                } else {
+                    byte[] input = new byte[data.remaining()];
+                    data.duplicate().get(input);
+                    inflater.setInput(input);
+                }
+                byte[] result = new byte[length];
+                int inflated = 0;
+                while (inflated < length && !inflater.finished()) {
+                    int count = inflater.inflate(result, inflated, length - inflated);
+                    if (count == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                        break;
+                    }
+                    inflated += count;
+                }
+                if (inflated != length || !inflater.finished()) {
+                    throw new IOException("Invalid compressed data, expected " + length + " bytes but inflated " + inflated + " bytes");
+                }
+                return result;
+            } catch (DataFormatException e) {
+                throw new IOException("Invalid compressed data: " + e.getMessage(), e);
+            } finally {
+                inflater.end();
+            }
+        }
+
+    }
+
+}
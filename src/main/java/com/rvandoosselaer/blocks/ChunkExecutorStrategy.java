@@ -0,0 +1,47 @@
+package com.rvandoosselaer.blocks;
+
+import java.util.concurrent.Executor;
+
+/**
+ * The contract of a strategy that provides the executors the {@link ChunkManager} runs its tasks on. Implementations
+ * for fixed thread pools, a shared work-stealing pool, caller-supplied executors and virtual threads are available in
+ * {@link ChunkExecutors}.
+ *
+ * @author rvandoosselaer
+ */
+public interface ChunkExecutorStrategy {
+
+    /**
+     * Returns the executor to run the tasks of the stage on. This is called when the chunk manager is initialized.
+     *
+     * @param stage    the stage of the tasks
+     * @param poolSize the number of threads configured for the stage, strategies are free to ignore it
+     * @return the executor of the stage
+     */
+    Executor createExecutor(Stage stage, int poolSize);
+
+    /**
+     * Stops the executors that were created by this strategy. This is called when the chunk manager is cleaned up.
+     * Executors that are supplied by the caller should be left running.
+     */
+    void shutdown();
+
+    /**
+     * The stages of the chunk manager that run tasks on an executor.
+     */
+    enum Stage {
+        /**
+         * Loading chunks with the {@link ChunkRepository}, this is mostly blocking I/O.
+         */
+        LOADING,
+        /**
+         * Generating chunks with the {@link ChunkGenerator}.
+         */
+        GENERATION,
+        /**
+         * Constructing the meshes of chunks with the {@link ChunkMeshGenerator}.
+         */
+        MESH_GENERATION
+    }
+
+}
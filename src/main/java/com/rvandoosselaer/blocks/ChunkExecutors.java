@@ -0,0 +1,209 @@
+package com.rvandoosselaer.blocks;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+
+/**
+ * Factory methods for the {@link ChunkExecutorStrategy} implementations.
+ * <p>
+ * - {@link #fixedThreadPools()}: a fixed thread pool per stage, sized by the pool size of the stage. This is the default
+ * strategy of the {@link ChunkManager}.
+ * - {@link #workStealing(int)}: one work-stealing {@link ForkJoinPool} shared by all stages. The threads are not bound
+ * to a stage, when the load shifts between generating and meshing chunks, the threads move along.
+ * - {@link #of(Executor)}: an executor supplied by the caller, shared by all stages. The executor isn't stopped by the
+ * chunk manager.
+ * - {@link #virtualThreadLoading(ChunkExecutorStrategy)}: runs the blocking repository I/O on virtual threads, when the
+ * runtime supports them (JDK 21+).
+ * <p>
+ * A strategy that creates executors should only be used by one chunk manager at a time, the executors are stopped when
+ * the chunk manager is cleaned up.
+ *
+ * @author rvandoosselaer
+ */
+@Slf4j
+public final class ChunkExecutors {
+
+    private ChunkExecutors() {
+    }
+
+    /**
+     * @return a strategy that creates a fixed thread pool for each stage
+     */
+    public static ChunkExecutorStrategy fixedThreadPools() {
+        return new FixedThreadPoolStrategy();
+    }
+
+    /**
+     * @param parallelism the number of threads of the pool
+     * @return a strategy that runs the tasks of all stages on one work-stealing pool
+     */
+    public static ChunkExecutorStrategy workStealing(int parallelism) {
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("Invalid parallelism specified: " + parallelism + ".");
+        }
+        return new WorkStealingStrategy(parallelism);
+    }
+
+    /**
+     * @param executor the executor to run the tasks of all stages on
+     * @return a strategy that uses the executor of the caller
+     */
+    public static ChunkExecutorStrategy of(@NonNull Executor executor) {
+        return new SuppliedExecutorStrategy(executor);
+    }
+
+    /**
+     * Creates a strategy that runs the tasks of the loading stage on virtual threads, one thread per task. The other
+     * stages use the executors of the given strategy. When the runtime doesn't support virtual threads, all stages use
+     * the executors of the given strategy.
+     *
+     * @param strategy the strategy of the other stages
+     * @return a strategy that loads chunks on virtual threads
+     */
+    public static ChunkExecutorStrategy virtualThreadLoading(@NonNull ChunkExecutorStrategy strategy) {
+        return new VirtualThreadLoadingStrategy(strategy);
+    }
+
+    /**
+     * @return true when the runtime supports virtual threads
+     */
+    public static boolean isVirtualThreadsSupported() {
+        try {
+            Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return true;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+    private static String getThreadName(ChunkExecutorStrategy.Stage stage) {
+        switch (stage) {
+            case LOADING:
+                return "chunk-repository-%d";
+            case GENERATION:
+                return "chunk-generator-%d";
+            default:
+                return "chunk-mesh-%d";
+        }
+    }
+
+    private static class FixedThreadPoolStrategy implements ChunkExecutorStrategy {
+
+        private final List<ExecutorService> executors = new ArrayList<>();
+
+        @Override
+        public synchronized Executor createExecutor(Stage stage, int poolSize) {
+            ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, poolSize), new ThreadFactoryBuilder().setNameFormat(getThreadName(stage)).build());
+            executors.add(executor);
+            return executor;
+        }
+
+        @Override
+        public synchronized void shutdown() {
+            executors.forEach(ExecutorService::shutdownNow);
+            executors.clear();
+        }
+
+    }
+
+    @RequiredArgsConstructor
+    private static class WorkStealingStrategy implements ChunkExecutorStrategy {
+
+        private final int parallelism;
+        private ForkJoinPool pool;
+
+        @Override
+        public synchronized Executor createExecutor(Stage stage, int poolSize) {
+            if (pool == null) {
+                pool = new ForkJoinPool(parallelism, WorkStealingStrategy::createThread, null, true);
+            }
+            return pool;
+        }
+
+        @Override
+        public synchronized void shutdown() {
+            if (pool != null) {
+                pool.shutdownNow();
+                pool = null;
+            }
+        }
+
+        private static ForkJoinWorkerThread createThread(ForkJoinPool pool) {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            thread.setName("chunk-worker-" + thread.getPoolIndex());
+            return thread;
+        }
+
+    }
+
+    @RequiredArgsConstructor
+    private static class SuppliedExecutorStrategy implements ChunkExecutorStrategy {
+
+        private final Executor executor;
+
+        @Override
+        public Executor createExecutor(Stage stage, int poolSize) {
+            return executor;
+        }
+
+        @Override
+        public void shutdown() {
+        }
+
+    }
+
+    @RequiredArgsConstructor
+    private static class VirtualThreadLoadingStrategy implements ChunkExecutorStrategy {
+
+        private final ChunkExecutorStrategy strategy;
+        private ExecutorService loadingExecutor;
+
+        @Override
+        public synchronized Executor createExecutor(Stage stage, int poolSize) {
+            if (stage == Stage.LOADING) {
+                loadingExecutor = createVirtualThreadExecutor();
+                if (loadingExecutor != null) {
+                    return loadingExecutor;
+                }
+                log.info("Virtual threads are not supported, loading chunks with {}", strategy.getClass().getSimpleName());
+            }
+            return strategy.createExecutor(stage, poolSize);
+        }
+
+        @Override
+        public synchronized void shutdown() {
+            if (loadingExecutor != null) {
+                loadingExecutor.shutdownNow();
+                loadingExecutor = null;
+            }
+            strategy.shutdown();
+        }
+
+        /**
+         * The virtual thread executor is created using reflection, the library is compiled for older runtimes.
+         */
+        private static ExecutorService createVirtualThreadExecutor() {
+            if (!isVirtualThreadsSupported()) {
+                return null;
+            }
+            try {
+                return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+            } catch (ReflectiveOperationException e) {
+                log.warn("Unable to create a virtual thread executor: {}", e.getMessage(), e);
+                return null;
+            }
+        }
+
+    }
+
+}
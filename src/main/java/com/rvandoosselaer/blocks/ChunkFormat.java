@@ -0,0 +1,428 @@
+package com.rvandoosselaer.blocks;
+
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+import com.rvandoosselaer.blocks.protobuf.BlocksProtos;
+import com.simsilica.mathd.Vec3i;
+import lombok.NonNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Serializes and deserializes chunks for the chunk repositories.
+ * <p>
+ * Chunks are written in the palette format: a palette of the distinct block names in the chunk, followed by the
+ * palette index of each block location. The palette indexes are stored run-length encoded or bit-packed, whichever is
+ * smaller. Index 0 is the empty block and is not stored in the palette.
+ * <pre>
+ * 0x00 'B' 'L' 'K'          magic
+ * uint32                    format version
+ * sint32 x 3                location of the chunk
+ * uint32 x 3                size of the chunk
+ * uint32, string x n        the palette
+ * uint32                    the encoding of the indexes
+ * RLE:    uint32 n, (uint32 run length, uint32 index) x n
+ * PACKED: uint32 bits per index, bytes of indexes packed from the least significant bit on
+ * </pre>
+ * A serialized chunk can be compressed with a {@link ChunkCompression}. A compressed chunk starts with a header holding
+ * the id of the codec and the length of the serialized chunk:
+ * <pre>
+ * 0x00 'B' 'L' 'Z'          magic
+ * uint8                     codec id
+ * int32                     length of the serialized chunk
+ * </pre>
+ * Chunks in the legacy format, a {@link BlocksProtos.ChunkProto} with the name of every block, are still read. A
+ * legacy chunk never starts with a 0 byte, as that is an invalid protobuf tag.
+ *
+ * @author rvandoosselaer
+ */
+public final class ChunkFormat {
+
+    public static final int VERSION = 1;
+    private static final byte[] MAGIC = {0x00, 'B', 'L', 'K'};
+    private static final byte[] COMPRESSED_MAGIC = {0x00, 'B', 'L', 'Z'};
+    private static final int COMPRESSED_HEADER_SIZE = COMPRESSED_MAGIC.length + 1 + Integer.BYTES;
+    private static final int ENCODING_RLE = 0;
+    private static final int ENCODING_PACKED = 1;
+
+    private ChunkFormat() {
+    }
+
+    /**
+     * Serializes the chunk in the palette format and compresses it.
+     *
+     * @param chunk       the chunk to serialize
+     * @param compression the codec to compress the chunk with, null to store the chunk uncompressed
+     * @return the serialized chunk
+     */
+    public static byte[] write(@NonNull Chunk chunk, ChunkCompression compression) {
+        byte[] data = write(chunk);
+        if (compression == null) {
+            return data;
+        }
+
+        byte[] compressed = compression.compress(data);
+        return ByteBuffer.allocate(COMPRESSED_HEADER_SIZE + compressed.length)
+                .put(COMPRESSED_MAGIC)
+                .put((byte) compression.getId())
+                .putInt(data.length)
+                .put(compressed)
+                .array();
+    }
+
+    /**
+     * Serializes the chunk in the palette format.
+     *
+     * @param chunk the chunk to serialize
+     * @return the serialized chunk
+     */
+    public static byte[] write(@NonNull Chunk chunk) {
+        Block[] blocks = chunk.getBlocks();
+        if (blocks == null) {
+            throw new IllegalArgumentException("Unable to serialize " + chunk + ", the chunk is cleaned up.");
+        }
+        Vec3i size = BlocksConfig.getInstance().getChunkSize();
+
+        // build the palette and the palette indexes
+        Map<Block, Integer> paletteMap = new IdentityHashMap<>();
+        List<String> palette = new ArrayList<>();
+        int[] indexes = new int[blocks.length];
+        int runs = 0;
+        for (int i = 0; i < blocks.length; i++) {
+            if (blocks[i] != null) {
+                Integer index = paletteMap.get(blocks[i]);
+                if (index == null) {
+                    palette.add(blocks[i].getName());
+                    index = palette.size();
+                    paletteMap.put(blocks[i], index);
+                }
+                indexes[i] = index;
+            }
+            if (i == 0 || indexes[i] != indexes[i - 1]) {
+                runs++;
+            }
+        }
+
+        int bitsPerIndex = 32 - Integer.numberOfLeadingZeros(palette.size());
+        int packedSize = (int) (((long) blocks.length * bitsPerIndex + 7) >>> 3);
+        int rleSize = estimateRleSize(indexes, runs);
+        // an empty chunk has no bits per index and is always run-length encoded
+        int encoding = bitsPerIndex == 0 || rleSize <= packedSize ? ENCODING_RLE : ENCODING_PACKED;
+
+        try {
+            byte[] buffer = new byte[estimateSize(palette, encoding == ENCODING_RLE ? rleSize : packedSize)];
+            CodedOutputStream out = CodedOutputStream.newInstance(buffer);
+            out.writeRawBytes(MAGIC);
+            out.writeUInt32NoTag(VERSION);
+            out.writeSInt32NoTag(chunk.getLocation().x);
+            out.writeSInt32NoTag(chunk.getLocation().y);
+            out.writeSInt32NoTag(chunk.getLocation().z);
+            out.writeUInt32NoTag(size.x);
+            out.writeUInt32NoTag(size.y);
+            out.writeUInt32NoTag(size.z);
+            out.writeUInt32NoTag(palette.size());
+            for (String name : palette) {
+                out.writeStringNoTag(name);
+            }
+            out.writeUInt32NoTag(encoding);
+            if (encoding == ENCODING_RLE) {
+                writeRle(out, indexes, runs);
+            } else {
+                out.writeUInt32NoTag(bitsPerIndex);
+                out.writeByteArrayNoTag(pack(indexes, bitsPerIndex, packedSize));
+            }
+            return Arrays.copyOf(buffer, buffer.length - out.spaceLeft());
+        } catch (IOException e) {
+            throw new IllegalStateException("Unable to serialize " + chunk + ": " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Deserializes a compressed or uncompressed chunk in the palette or the legacy format.
+     *
+     * @param data the serialized chunk
+     * @return the chunk
+     * @throws IOException when the data is not a valid chunk
+     */
+    public static Chunk read(@NonNull byte[] data) throws IOException {
+        return read(ByteBuffer.wrap(data));
+    }
+
+    /**
+     * Deserializes a compressed or uncompressed chunk in the palette or the legacy format. The data is read from the
+     * position to the limit of the buffer, an uncompressed chunk is read without copying it.
+     *
+     * @param data the serialized chunk
+     * @return the chunk
+     * @throws IOException when the data is not a valid chunk or the codec of the chunk is not registered
+     */
+    public static Chunk read(@NonNull ByteBuffer data) throws IOException {
+        if (isCompressed(data)) {
+            if (data.remaining() < COMPRESSED_HEADER_SIZE) {
+                throw new IOException("Invalid header of compressed chunk");
+            }
+            int id = data.get(data.position() + COMPRESSED_MAGIC.length) & 0xFF;
+            int length = data.getInt(data.position() + COMPRESSED_MAGIC.length + 1);
+            ChunkCompression compression = ChunkCompressions.get(id);
+            if (compression == null) {
+                throw new IOException("No codec registered with id " + id);
+            }
+            // the length is checked before the codec allocates a buffer of that length
+            if (length <= 0 || length > getMaxSize()) {
+                throw new IOException("Invalid length " + length + " of compressed chunk");
+            }
+
+            ByteBuffer compressed = data.duplicate();
+            compressed.position(data.position() + COMPRESSED_HEADER_SIZE);
+            return readUncompressed(ByteBuffer.wrap(compression.decompress(compressed.slice(), length)));
+        }
+
+        return readUncompressed(data);
+    }
+
+    private static Chunk readUncompressed(ByteBuffer data) throws IOException {
+        if (!isPaletteFormat(data)) {
+            return chunkProtoToChunk(BlocksProtos.ChunkProto.parseFrom(CodedInputStream.newInstance(data)));
+        }
+
+        CodedInputStream in = CodedInputStream.newInstance(data);
+        in.skipRawBytes(MAGIC.length);
+        int version = in.readUInt32();
+        if (version != VERSION) {
+            throw new IOException("Unsupported chunk format version " + version);
+        }
+        Vec3i location = new Vec3i(in.readSInt32(), in.readSInt32(), in.readSInt32());
+        Vec3i size = new Vec3i(in.readUInt32(), in.readUInt32(), in.readUInt32());
+        int blockCount = size.x * size.y * size.z;
+        if (size.x <= 0 || size.y <= 0 || size.z <= 0 || !size.equals(BlocksConfig.getInstance().getChunkSize())) {
+            throw new IOException("Invalid size " + size + " of chunk " + location);
+        }
+
+        int paletteSize = in.readUInt32();
+        if (paletteSize < 0 || paletteSize > blockCount) {
+            throw new IOException("Invalid palette size " + paletteSize + " of chunk " + location);
+        }
+        BlockRegistry blockRegistry = BlocksConfig.getInstance().getBlockRegistry();
+        Block[] palette = new Block[paletteSize + 1];
+        for (int i = 1; i < palette.length; i++) {
+            palette[i] = blockRegistry.get(in.readStringRequireUtf8());
+        }
+
+        Block[] blocks = new Block[blockCount];
+        int encoding = in.readUInt32();
+        if (encoding == ENCODING_RLE) {
+            readRle(in, palette, blocks, location);
+        } else if (encoding == ENCODING_PACKED) {
+            readPacked(in, palette, blocks, location);
+        } else {
+            throw new IOException("Unsupported encoding " + encoding + " of chunk " + location);
+        }
+
+        Chunk chunk = Chunk.createAt(location);
+        chunk.setBlocks(blocks);
+        return chunk;
+    }
+
+    /**
+     * Calculates an upper bound of the length of a chunk serialized in the palette format, with the chunk size and the
+     * blocks of the {@link BlocksConfig}. The palette holds at most all registered blocks and the indexes take at most
+     * 10 bytes per block, when every block is a run of the run-length encoding.
+     *
+     * @return the maximum length of a serialized chunk
+     */
+    static int getMaxSize() {
+        Vec3i size = BlocksConfig.getInstance().getChunkSize();
+        long blockCount = (long) size.x * size.y * size.z;
+        // magic, version, location, size, palette size, encoding and the number of runs
+        long maxSize = MAGIC.length + 10 * CodedOutputStream.computeUInt32SizeNoTag(Integer.MAX_VALUE);
+        // a name takes at most 3 bytes for each char in UTF-8
+        for (Block block : BlocksConfig.getInstance().getBlockRegistry().getAll()) {
+            maxSize += CodedOutputStream.computeUInt32SizeNoTag(Integer.MAX_VALUE) + 3L * block.getName().length();
+        }
+        maxSize += blockCount * 2 * CodedOutputStream.computeUInt32SizeNoTag(Integer.MAX_VALUE);
+        return (int) Math.min(maxSize, Integer.MAX_VALUE - 8);
+    }
+
+    /**
+     * @return true when the data starts with the magic of the palette format
+     */
+    static boolean isPaletteFormat(ByteBuffer data) {
+        return startsWith(data, MAGIC);
+    }
+
+    /**
+     * @return true when the data is a compressed chunk
+     */
+    static boolean isCompressed(ByteBuffer data) {
+        return startsWith(data, COMPRESSED_MAGIC);
+    }
+
+    private static boolean startsWith(ByteBuffer data, byte[] magic) {
+        if (data.remaining() < magic.length) {
+            return false;
+        }
+        for (int i = 0; i < magic.length; i++) {
+            if (data.get(data.position() + i) != magic[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Serializes the chunk in the legacy format.
+     */
+    static byte[] writeLegacy(@NonNull Chunk chunk) {
+        Vec3i size = BlocksConfig.getInstance().getChunkSize();
+
+        return BlocksProtos.ChunkProto.newBuilder()
+                // location
+                .addLocation(chunk.getLocation().x)
+                .addLocation(chunk.getLocation().y)
+                .addLocation(chunk.getLocation().z)
+                // size
+                .addSize(size.x)
+                .addSize(size.y)
+                .addSize(size.z)
+                .addAllBlocks(Arrays.stream(chunk.getBlocks())
+                        .map(block -> block != null ? block.getName() : BlockIds.EMPTY)
+                        .collect(Collectors.toList()))
+                .build()
+                .toByteArray();
+    }
+
+    private static Chunk chunkProtoToChunk(BlocksProtos.ChunkProto chunkProto) {
+        Vec3i location = getVector(chunkProto.getLocationList());
+        Vec3i size = getVector(chunkProto.getSizeList());
+
+        int expectedSize = size.x * size.y * size.z;
+
+        if (expectedSize != chunkProto.getBlocksCount()) {
+            throw new IllegalStateException("Invalid block data specified! Expected " + expectedSize + " blocks, but found " + chunkProto.getBlocksCount() + " blocks.");
+        }
+
+        BlockRegistry blockRegistry = BlocksConfig.getInstance().getBlockRegistry();
+        Block[] blocks = chunkProto.getBlocksList().stream()
+                .map(blockRegistry::get)
+                .toArray(Block[]::new);
+
+        Chunk chunk = Chunk.createAt(location);
+        chunk.setBlocks(blocks);
+
+        return chunk;
+    }
+
+    private static Vec3i getVector(@NonNull List<Integer> integers) {
+        if (integers.size() != 3) {
+            throw new IllegalArgumentException("Invalid vector data specified! data: " + integers);
+        }
+
+        return new Vec3i(integers.get(0), integers.get(1), integers.get(2));
+    }
+
+    private static int estimateSize(List<String> palette, int indexesSize) {
+        // magic, version, location, size, palette size, encoding, bits per index and length of the packed indexes
+        int size = MAGIC.length + 13 * CodedOutputStream.computeUInt32SizeNoTag(Integer.MAX_VALUE);
+        for (String name : palette) {
+            size += CodedOutputStream.computeStringSizeNoTag(name);
+        }
+        return size + indexesSize;
+    }
+
+    private static int estimateRleSize(int[] indexes, int runs) {
+        int size = CodedOutputStream.computeUInt32SizeNoTag(runs);
+        int start = 0;
+        for (int i = 1; i <= indexes.length; i++) {
+            if (i == indexes.length || indexes[i] != indexes[start]) {
+                size += CodedOutputStream.computeUInt32SizeNoTag(i - start) + CodedOutputStream.computeUInt32SizeNoTag(indexes[start]);
+                start = i;
+            }
+        }
+        return size;
+    }
+
+    private static void writeRle(CodedOutputStream out, int[] indexes, int runs) throws IOException {
+        out.writeUInt32NoTag(runs);
+        int start = 0;
+        for (int i = 1; i <= indexes.length; i++) {
+            if (i == indexes.length || indexes[i] != indexes[start]) {
+                out.writeUInt32NoTag(i - start);
+                out.writeUInt32NoTag(indexes[start]);
+                start = i;
+            }
+        }
+    }
+
+    private static void readRle(CodedInputStream in, Block[] palette, Block[] blocks, Vec3i location) throws IOException {
+        int runs = in.readUInt32();
+        int position = 0;
+        for (int i = 0; i < runs; i++) {
+            int length = in.readUInt32();
+            int index = in.readUInt32();
+            if (length <= 0 || length > blocks.length - position || index < 0 || index >= palette.length) {
+                throw new IOException("Invalid run " + i + " of chunk " + location);
+            }
+            Arrays.fill(blocks, position, position + length, palette[index]);
+            position += length;
+        }
+        if (position != blocks.length) {
+            throw new IOException("Invalid block data of chunk " + location + "! Expected " + blocks.length + " blocks, but found " + position + " blocks.");
+        }
+    }
+
+    private static byte[] pack(int[] indexes, int bitsPerIndex, int packedSize) {
+        byte[] packed = new byte[packedSize];
+        long bits = 0;
+        int bitCount = 0;
+        int position = 0;
+        for (int index : indexes) {
+            bits |= (long) index << bitCount;
+            bitCount += bitsPerIndex;
+            while (bitCount >= 8) {
+                packed[position++] = (byte) bits;
+                bits >>>= 8;
+                bitCount -= 8;
+            }
+        }
+        if (bitCount > 0) {
+            packed[position] = (byte) bits;
+        }
+        return packed;
+    }
+
+    private static void readPacked(CodedInputStream in, Block[] palette, Block[] blocks, Vec3i location) throws IOException {
+        int bitsPerIndex = in.readUInt32();
+        if (bitsPerIndex <= 0 || bitsPerIndex > 31) {
+            throw new IOException("Invalid bits per index " + bitsPerIndex + " of chunk " + location);
+        }
+        int length = in.readRawVarint32();
+        if (length != (int) (((long) blocks.length * bitsPerIndex + 7) >>> 3)) {
+            throw new IOException("Invalid block data of chunk " + location + "! Expected " + blocks.length + " blocks of " + bitsPerIndex + " bits, but found " + length + " bytes.");
+        }
+
+        long mask = (1L << bitsPerIndex) - 1;
+        long bits = 0;
+        int bitCount = 0;
+        for (int i = 0; i < blocks.length; i++) {
+            while (bitCount < bitsPerIndex) {
+                bits |= (in.readRawByte() & 0xFFL) << bitCount;
+                bitCount += 8;
+            }
+            int index = (int) (bits & mask);
+            if (index >= palette.length) {
+                throw new IOException("Invalid palette index " + index + " of chunk " + location);
+            }
+            blocks[i] = palette[index];
+            bits >>>= bitsPerIndex;
+            bitCount -= bitsPerIndex;
+        }
+    }
+
+}
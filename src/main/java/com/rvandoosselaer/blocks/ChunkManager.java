@@ -1,33 +1,39 @@
 package com.rvandoosselaer.blocks;
 
-import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.jme3.collision.CollisionResult;
 import com.jme3.math.Vector3f;
 import com.simsilica.mathd.Vec3i;
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.Setter;
+import lombok.ToString;
 import lombok.extern.slf4j.Slf4j;
 
-import java.util.AbstractMap;
 import java.util.ArrayList;
-import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Queue;
 import java.util.Set;
-import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.CopyOnWriteArrayList;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.Future;
-import java.util.stream.Collectors;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
 
 /**
  * The ChunkManager is responsible for the administration of chunks and the maintenance of the underlying ChunkCache.
@@ -44,22 +50,53 @@ import java.util.stream.Collectors;
  * <p>
  * Applications can register a {@link ChunkManagerListener} to the ChunkManager to get notified when a chunk is
  * available in the cache or when a chunk is updated.
+ * <p>
+ * Each call to {@link #update()} handles the finished tasks and starts new tasks for as long as the update time budget
+ * allows, with a maximum number of items per stage. Each stage handles at least one item per update. The tasks run on
+ * the executors provided by the {@link ChunkExecutorStrategy}, by default a fixed thread pool per stage.
+ * <p>
+ * Queued tasks are started in order of the distance of the chunk to the focus, see {@link #setFocus(Vec3i)}. A request
+ * that is cancelled with {@link #cancelChunkRequest(Vec3i)} is dropped before the chunk is loaded, generated or meshed.
+ * <p>
+ * When a {@link ChunkSaveQueue} is set, changed chunks are saved on a background thread. A chunk is queued for saving
+ * when its mesh is updated after the blocks changed, and when the chunk is removed from the cache. Chunks that are
+ * loaded, generated or set are not saved until they change. {@link #cleanup()} saves the changed chunks and waits until
+ * they are written.
  *
  * @author rvandoosselaer
  */
 @Slf4j
 public class ChunkManager {
 
+    public static final float DEFAULT_UPDATE_TIME_BUDGET = 2f;
+    public static final int DEFAULT_MAX_ITEMS_PER_STAGE = Integer.MAX_VALUE;
+
     private final int cacheSize;
     @Getter
     private boolean initialized = false;
     private ChunkCache cache;
-    private Queue<Vec3i> loadingQueue = new ConcurrentLinkedQueue<>();
-    private Queue<Vec3i> generatorQueue = new ConcurrentLinkedQueue<>();
-    private Queue<Chunk> meshQueue = new ConcurrentLinkedQueue<>();
-    private List<Future<LoadingResult>> loadingResults = new ArrayList<>();
-    private List<Future<Chunk>> generatorResults = new ArrayList<>();
-    private List<Future<Chunk>> meshResults = new ArrayList<>();
+    private PriorityChunkQueue<Vec3i> loadingQueue = PriorityChunkQueue.ofLocations();
+    private PriorityChunkQueue<Vec3i> generatorQueue = PriorityChunkQueue.ofLocations();
+    private PriorityChunkQueue<Chunk> meshQueue = PriorityChunkQueue.ofChunks();
+    // the number of times each chunk that isn't available yet is requested
+    private final Map<Vec3i, Integer> requests = new ConcurrentHashMap<>();
+    /**
+     * The location of the chunk the queued tasks are ordered by. Tasks for chunks closest to the focus are started
+     * first.
+     */
+    @Getter
+    private Vec3i focus;
+    // the handlers of the finished tasks, they are run on the thread that calls update()
+    private final Queue<Runnable> completedTasks = new ConcurrentLinkedQueue<>();
+    // the started tasks of each chunk location that are not yet handled
+    private final Map<Vec3i, Set<CompletableFuture<?>>> runningTasks = new ConcurrentHashMap<>();
+    // statistics
+    private final LongAdder startedTasks = new LongAdder();
+    private final LongAdder finishedTasks = new LongAdder();
+    private final LongAdder cancelledTasks = new LongAdder();
+    private final LongAdder discardedTasks = new LongAdder();
+    private final LongAdder droppedRequests = new LongAdder();
+    private final LongAdder wastedTaskTime = new LongAdder();
     private ChunkRepository repository;
     private ChunkGenerator generator;
     private ChunkMeshGenerator meshGenerator;
@@ -73,9 +110,21 @@ public class ChunkManager {
     private int repositoryPoolSize = 1;
     private int generatorPoolSize = 1;
     private int meshPoolSize = 1;
-    private ExecutorService repositoryExecutor;
-    private ExecutorService generatorExecutor;
-    private ExecutorService meshExecutor;
+    /**
+     * The strategy that provides the executors of the loading, generation and mesh generation tasks.
+     */
+    @Getter
+    private ChunkExecutorStrategy executorStrategy = ChunkExecutors.fixedThreadPools();
+    /**
+     * The queue that saves the changed chunks, null when changed chunks are not saved.
+     */
+    @Getter
+    private ChunkSaveQueue saveQueue;
+    // the version of each cached chunk when it was last saved or added to the cache, only used with a save queue
+    private final Map<Chunk, Long> savedVersions = Collections.synchronizedMap(new IdentityHashMap<>());
+    private Executor repositoryExecutor;
+    private Executor generatorExecutor;
+    private Executor meshExecutor;
     private final List<ChunkManagerListener> listeners = new CopyOnWriteArrayList<>();
     /**
      * The ChunkManager triggers mesh updates on adjacent chunks when they are added or updated. This is because the
@@ -83,14 +132,25 @@ public class ChunkManager {
      * while it's neighbour was not yet available, resulting in a too detailed mesh. That's why we trigger the mesh update
      * again when the neighbour is available. We should take care however to not get into an infinite loop: Chunk A
      * triggers chunk B, chunk B triggers chunk A, chunk A trigger chunk B again...
-     * That's why we keep a registry of chunk update triggers to keep track of who updated who. This registry is checked
-     * before an update is triggered to make sure that chunks don't keep triggering each other. Values in the registry
-     * are only removed when the structure (blocks) of a chunk changes. When addBlock or removeBlock are called.
+     * That's why the mesh of a chunk records the versions of the borders of the neighbouring chunks it was constructed
+     * with. A mesh update of a neighbour is only triggered when the mesh of the neighbour was constructed with another
+     * version of the shared border. A chunk that doesn't change, or only changes blocks inside the chunk, doesn't
+     * trigger its neighbours again.
      */
-    private final Set<Map.Entry<Chunk, Chunk>> chunkUpdateTriggersRegistry = new HashSet<>();
     @Getter
     @Setter
     private boolean triggerAdjacentChunkUpdates;
+    /**
+     * The time in milliseconds an update may spend on handling results and starting tasks.
+     */
+    @Getter
+    private float updateTimeBudget = DEFAULT_UPDATE_TIME_BUDGET;
+    /**
+     * The maximum number of items each stage handles in one update. Handling the finished tasks is one stage, starting
+     * the loading, generation and meshing tasks are the other stages.
+     */
+    @Getter
+    private int maxItemsPerStage = DEFAULT_MAX_ITEMS_PER_STAGE;
 
     public ChunkManager() {
         this(0);
@@ -100,8 +160,13 @@ public class ChunkManager {
         this.cacheSize = cacheSize;
     }
 
+    /**
+     * Creates a chunk manager. An update time budget or a maximum number of items per stage of 0 or less, uses the
+     * default value. When no executor strategy is set, a fixed thread pool is created for each stage. When no save queue
+     * is set, changed chunks are not saved.
+     */
     @Builder
-    private ChunkManager(int cacheSize, ChunkRepository repository, int repositoryPoolSize, ChunkGenerator generator, int generatorPoolSize, int meshPoolSize, int cacheMaintenanceInterval, boolean triggerAdjacentChunkUpdates) {
+    private ChunkManager(int cacheSize, ChunkRepository repository, int repositoryPoolSize, ChunkGenerator generator, int generatorPoolSize, int meshPoolSize, int cacheMaintenanceInterval, boolean triggerAdjacentChunkUpdates, float updateTimeBudget, int maxItemsPerStage, ChunkExecutorStrategy executorStrategy, ChunkSaveQueue saveQueue) {
         this.cacheSize = cacheSize;
         this.repository = repository;
         this.repositoryPoolSize = repositoryPoolSize;
@@ -110,6 +175,63 @@ public class ChunkManager {
         this.meshPoolSize = meshPoolSize;
         this.cacheMaintenanceInterval = cacheMaintenanceInterval;
         this.triggerAdjacentChunkUpdates = triggerAdjacentChunkUpdates;
+        this.updateTimeBudget = updateTimeBudget > 0 ? updateTimeBudget : DEFAULT_UPDATE_TIME_BUDGET;
+        this.maxItemsPerStage = maxItemsPerStage > 0 ? maxItemsPerStage : DEFAULT_MAX_ITEMS_PER_STAGE;
+        this.executorStrategy = executorStrategy != null ? executorStrategy : ChunkExecutors.fixedThreadPools();
+        this.saveQueue = saveQueue;
+    }
+
+    /**
+     * Set the queue that saves the changed chunks, typically with the same repository the chunks are loaded with. The
+     * save queue can't be changed when the chunk manager is initialized.
+     *
+     * @param saveQueue the save queue or null to not save changed chunks
+     */
+    public void setSaveQueue(ChunkSaveQueue saveQueue) {
+        if (isInitialized()) {
+            throw new IllegalStateException("The save queue of an initialized " + getClass().getSimpleName() + " can't be changed.");
+        }
+        this.saveQueue = saveQueue;
+    }
+
+    /**
+     * Set the strategy that provides the executors of the loading, generation and mesh generation tasks. The executors
+     * are created when the chunk manager is initialized, the strategy can't be changed afterwards.
+     *
+     * @param executorStrategy the executor strategy
+     * @see ChunkExecutors
+     */
+    public void setExecutorStrategy(@NonNull ChunkExecutorStrategy executorStrategy) {
+        if (isInitialized()) {
+            throw new IllegalStateException("The executor strategy of an initialized " + getClass().getSimpleName() + " can't be changed.");
+        }
+        this.executorStrategy = executorStrategy;
+    }
+
+    /**
+     * Set the time in milliseconds an update may spend on handling results and starting tasks. Each stage handles at
+     * least one item per update, even when the budget is exceeded.
+     *
+     * @param updateTimeBudget in milliseconds
+     */
+    public void setUpdateTimeBudget(float updateTimeBudget) {
+        if (updateTimeBudget <= 0) {
+            throw new IllegalArgumentException("Invalid update time budget specified: " + updateTimeBudget + ".");
+        }
+        this.updateTimeBudget = updateTimeBudget;
+    }
+
+    /**
+     * Set the maximum number of items each stage handles in one update. A value of 1 handles one finished task and
+     * starts one new task per stage in each update.
+     *
+     * @param maxItemsPerStage the maximum number of items
+     */
+    public void setMaxItemsPerStage(int maxItemsPerStage) {
+        if (maxItemsPerStage <= 0) {
+            throw new IllegalArgumentException("Invalid maximum items per stage specified: " + maxItemsPerStage + ".");
+        }
+        this.maxItemsPerStage = maxItemsPerStage;
     }
 
     /**
@@ -171,10 +293,57 @@ public class ChunkManager {
         assertInitialized();
 
         if (!getChunk(location).isPresent()) {
-            addElementToQueue(new Vec3i(location), loadingQueue);
+            Vec3i chunkLocation = new Vec3i(location);
+            requests.merge(chunkLocation, 1, Integer::sum);
+            addElementToQueue(chunkLocation, loadingQueue);
         }
     }
 
+    /**
+     * Cancels a request made with {@link #requestChunk(Vec3i)}. When all requests for the chunk are cancelled, the
+     * chunk is dropped from the queues before it is loaded, generated or meshed. The running tasks of the chunk are
+     * cancelled and their results are discarded.
+     *
+     * @param location of the chunk
+     */
+    public void cancelChunkRequest(Vec3i location) {
+        assertInitialized();
+
+        if (location == null || !requests.containsKey(location)) {
+            return;
+        }
+
+        if (requests.computeIfPresent(location, (key, count) -> count > 1 ? count - 1 : null) == null) {
+            if (loadingQueue.remove(location) | generatorQueue.remove(location)) {
+                droppedRequests.increment();
+            }
+            cancelRunningTasks(location);
+        }
+    }
+
+    /**
+     * @return a snapshot of the statistics of the tasks of the chunk manager
+     */
+    public Statistics getStatistics() {
+        int running = runningTasks.values().stream().mapToInt(Set::size).sum();
+        return new Statistics(startedTasks.sum(), finishedTasks.sum(), cancelledTasks.sum(), discardedTasks.sum(),
+                droppedRequests.sum(), wastedTaskTime.sum() / 1_000_000d, running);
+    }
+
+    /**
+     * Set the location of the chunk the queued tasks are ordered by, this is typically the chunk the camera or the
+     * player is in. Tasks for chunks closest to the focus are started first. When the focus is null, the tasks are
+     * started in the order they were requested.
+     *
+     * @param focus location of the chunk
+     */
+    public void setFocus(Vec3i focus) {
+        this.focus = focus != null ? new Vec3i(focus) : null;
+        loadingQueue.setFocus(focus);
+        generatorQueue.setFocus(focus);
+        meshQueue.setFocus(focus);
+    }
+
     public void requestChunkMeshUpdate(Vec3i location) {
         assertInitialized();
 
@@ -185,6 +354,10 @@ public class ChunkManager {
         assertInitialized();
 
         if (chunk != null) {
+            if (!getChunk(chunk.getLocation()).isPresent()) {
+                // the chunk is added to the cache when the mesh is generated
+                requests.merge(chunk.getLocation(), 1, Integer::sum);
+            }
             addElementToQueue(chunk, meshQueue);
         }
     }
@@ -236,6 +409,52 @@ public class ChunkManager {
         getChunk(chunkLocation).ifPresent(chunk -> removeBlockFromChunk(location, chunk));
     }
 
+    /**
+     * Applies a batch of block edits. The edits are grouped by chunk and one mesh update is requested for each chunk
+     * that changed. When a changed block is on the border of a chunk, a mesh update of the neighbouring chunk is also
+     * requested. Edits of chunks that are not in the cache are ignored.
+     *
+     * @param edits to apply
+     * @return the number of blocks that changed
+     */
+    public int applyEdits(@NonNull Collection<BlockEdit> edits) {
+        assertInitialized();
+
+        Vec3i chunkSize = BlocksConfig.getInstance().getChunkSize();
+        Map<Vec3i, List<BlockEdit>> editsPerChunk = new HashMap<>();
+        for (BlockEdit edit : edits) {
+            Vec3i location = edit.getLocation();
+            Vec3i chunkLocation = new Vec3i(Math.floorDiv(location.x, chunkSize.x), Math.floorDiv(location.y, chunkSize.y), Math.floorDiv(location.z, chunkSize.z));
+            editsPerChunk.computeIfAbsent(chunkLocation, key -> new ArrayList<>()).add(edit);
+        }
+
+        int changedBlocks = 0;
+        Set<Chunk> changedChunks = new HashSet<>();
+        Set<Vec3i> neighbours = new HashSet<>();
+        for (Map.Entry<Vec3i, List<BlockEdit>> entry : editsPerChunk.entrySet()) {
+            Optional<Chunk> chunk = getChunk(entry.getKey());
+            if (!chunk.isPresent()) {
+                if (log.isDebugEnabled()) {
+                    log.debug("Ignoring {} edits of chunk {}, the chunk is not available", entry.getValue().size(), entry.getKey());
+                }
+                continue;
+            }
+
+            int changed = applyEdits(chunk.get(), entry.getValue(), chunkSize, neighbours);
+            if (changed > 0) {
+                changedChunks.add(chunk.get());
+                changedBlocks += changed;
+            }
+        }
+
+        if (!changedChunks.isEmpty()) {
+            changedChunks.forEach(chunk -> addElementToQueue(chunk, meshQueue));
+            neighbours.forEach(location -> getChunk(location).ifPresent(neighbour -> addElementToQueue(neighbour, meshQueue)));
+        }
+
+        return changedBlocks;
+    }
+
     public Optional<Block> getBlock(Vector3f location) {
         assertInitialized();
 
@@ -290,22 +509,23 @@ public class ChunkManager {
 
         // create cache
         cache = new ChunkCache(cacheSize);
+        cache.setRemovalHandler(this::handleRemovedChunk);
 
         // create executors
         if (repository != null) {
-            repositoryExecutor = createNamedFixedThreadPool(Math.max(1, repositoryPoolSize), "chunk-repository-%d");
+            repositoryExecutor = executorStrategy.createExecutor(ChunkExecutorStrategy.Stage.LOADING, Math.max(1, repositoryPoolSize));
         } else {
             log.info("No ChunkRepository set.");
         }
 
         if (generator != null) {
-            generatorExecutor = createNamedFixedThreadPool(Math.max(1, generatorPoolSize), "chunk-generator-%d");
+            generatorExecutor = executorStrategy.createExecutor(ChunkExecutorStrategy.Stage.GENERATION, Math.max(1, generatorPoolSize));
         } else {
             log.info("No ChunkGenerator set.");
         }
 
         meshGenerator = BlocksConfig.getInstance().getChunkMeshGenerator();
-        meshExecutor = createNamedFixedThreadPool(Math.max(1, meshPoolSize), "chunk-mesh-%d");
+        meshExecutor = executorStrategy.createExecutor(ChunkExecutorStrategy.Stage.MESH_GENERATION, Math.max(1, meshPoolSize));
 
         initialized = true;
     }
@@ -313,13 +533,12 @@ public class ChunkManager {
     public void update() {
         assertInitialized();
 
-        handleLoadResults();
-        handleGenerationResults();
-        handleMeshGenerationResults();
+        long deadline = System.nanoTime() + (long) (updateTimeBudget * 1_000_000);
+        handleCompletedTasks(deadline);
 
-        performLoading();
-        performGeneration();
-        performMeshGeneration();
+        performLoading(deadline);
+        performGeneration(deadline);
+        performMeshGeneration(deadline);
 
         performCacheMaintenance();
     }
@@ -331,23 +550,28 @@ public class ChunkManager {
             log.trace("{} - cleanup", getClass().getSimpleName());
         }
 
-        // stop executors
-        if (repositoryExecutor != null) {
-            repositoryExecutor.shutdownNow();
-        }
-        if (generatorExecutor != null) {
-            generatorExecutor.shutdownNow();
-        }
-        meshExecutor.shutdownNow();
+        // stop executors, executors supplied by the caller keep running so the tasks are cancelled as well
+        executorStrategy.shutdown();
+        repositoryExecutor = null;
+        generatorExecutor = null;
+        meshExecutor = null;
+        runningTasks.values().forEach(tasks -> tasks.forEach(task -> task.cancel(false)));
 
         // clear queues and cache
         loadingQueue.clear();
-        loadingResults.clear();
         generatorQueue.clear();
-        generatorResults.clear();
         meshQueue.clear();
-        meshResults.clear();
+        completedTasks.clear();
+        runningTasks.clear();
+        requests.clear();
+        // the changed chunks are queued for saving when they are evicted
         cache.evictAll();
+        savedVersions.clear();
+
+        // wait until the changed chunks are written
+        if (saveQueue != null) {
+            saveQueue.flush();
+        }
 
         initialized = false;
     }
@@ -387,29 +611,55 @@ public class ChunkManager {
         Vec3i blockLocationInsideChunk = chunk.toLocalLocation(toVec3i(getScaledBlockLocation(location)));
         Block previousBlock = chunk.addBlock(blockLocationInsideChunk, block);
         if (!Objects.equals(previousBlock, block)) {
-            chunk.update();
-            chunkUpdateTriggersRegistry.removeIf(entry -> entry.getKey().equals(chunk));
             addElementToQueue(chunk, meshQueue);
         }
     }
 
+    /**
+     * Applies the edits to the chunk and collects the locations of the neighbouring chunks of the changed blocks on the
+     * border of the chunk.
+     *
+     * @return the number of blocks that changed
+     */
+    private static int applyEdits(Chunk chunk, List<BlockEdit> edits, Vec3i chunkSize, Set<Vec3i> neighbours) {
+        Vec3i chunkLocation = chunk.getLocation();
+        int changed = 0;
+        for (BlockEdit edit : edits) {
+            int x = edit.getLocation().x - chunkLocation.x * chunkSize.x;
+            int y = edit.getLocation().y - chunkLocation.y * chunkSize.y;
+            int z = edit.getLocation().z - chunkLocation.z * chunkSize.z;
+            Block previousBlock = chunk.addBlock(x, y, z, edit.getBlock());
+            if (Objects.equals(previousBlock, edit.getBlock())) {
+                continue;
+            }
+
+            changed++;
+            for (Direction direction : Direction.values()) {
+                if (Chunk.isOnBorder(x, y, z, direction, chunkSize)) {
+                    neighbours.add(chunkLocation.add(direction.getVector()));
+                }
+            }
+        }
+        return changed;
+    }
+
     private void removeBlockFromChunk(Vector3f location, Chunk chunk) {
         Vec3i blockLocationInsideChunk = chunk.toLocalLocation(toVec3i(getScaledBlockLocation(location)));
         Block block = chunk.removeBlock(blockLocationInsideChunk);
         if (block != null) {
-            chunk.update();
-            chunkUpdateTriggersRegistry.removeIf(entry -> entry.getKey().equals(chunk));
             addElementToQueue(chunk, meshQueue);
         }
     }
 
-    private void performLoading() {
-        if (loadingQueue.isEmpty()) {
-            return;
+    private void performLoading(long deadline) {
+        int items = 0;
+        Vec3i location;
+        while (hasBudget(items, deadline) && (location = loadingQueue.poll()) != null) {
+            if (isRequested(location)) {
+                loadChunk(location);
+                items++;
+            }
         }
-
-        Vec3i location = loadingQueue.poll();
-        loadChunk(location);
     }
 
     private void loadChunk(Vec3i location) {
@@ -418,17 +668,18 @@ public class ChunkManager {
             return;
         }
 
-        Future<LoadingResult> loadingResult = repositoryExecutor.submit(new LoadingCallable(location, repository));
-        loadingResults.add(loadingResult);
+        startTask(location, new LoadingTask(location, repository), repositoryExecutor, requests::containsKey, this::handleLoadResult);
     }
 
-    private void performGeneration() {
-        if (generatorQueue.isEmpty()) {
-            return;
+    private void performGeneration(long deadline) {
+        int items = 0;
+        Vec3i location;
+        while (hasBudget(items, deadline) && (location = generatorQueue.poll()) != null) {
+            if (isRequested(location)) {
+                generateChunk(location);
+                items++;
+            }
         }
-
-        Vec3i location = generatorQueue.poll();
-        generateChunk(location);
     }
 
     private void generateChunk(Vec3i location) {
@@ -437,96 +688,179 @@ public class ChunkManager {
             return;
         }
 
-        Future<Chunk> generatorResult = generatorExecutor.submit(new GeneratorCallable(location, generator));
-        generatorResults.add(generatorResult);
+        startTask(location, new GeneratorTask(location, generator), generatorExecutor, requests::containsKey, this::handleGenerationResult);
+    }
+
+    private void performMeshGeneration(long deadline) {
+        int items = 0;
+        Chunk chunk;
+        while (hasBudget(items, deadline) && (chunk = meshQueue.poll()) != null) {
+            // a chunk is only meshed when it is the chunk in the cache, or when it isn't in the cache yet and is still
+            // requested. A chunk that is replaced by another chunk at the same location is skipped.
+            if (isWanted(chunk)) {
+                generateMesh(chunk);
+                items++;
+            } else if (chunk.getLocation() != null && !isCached(chunk.getLocation())) {
+                dropRequest(chunk.getLocation());
+            }
+        }
     }
 
-    private void performMeshGeneration() {
-        if (meshQueue.isEmpty()) {
+    private void generateMesh(Chunk chunk) {
+        if (chunk.getBlockStorage() == null) {
+            if (log.isDebugEnabled()) {
+                log.debug("Not generating the mesh of {}, the chunk is cleaned up", chunk);
+            }
             return;
         }
 
-        Chunk chunk = meshQueue.poll();
-        generateMesh(chunk);
+        // the mesh is generated from a snapshot, the chunk and its neighbours can change in the meantime
+        startTask(chunk.getLocation(), new MeshTask(chunk, ChunkSnapshot.create(chunk), meshGenerator), meshExecutor, location -> isWanted(chunk), this::handleMeshGenerationResult);
     }
 
-    private void generateMesh(Chunk chunk) {
-        Future<Chunk> meshResult = meshExecutor.submit(new MeshCallable(chunk, meshGenerator));
-        meshResults.add(meshResult);
+    /**
+     * Starts the task on the executor. When the task is finished, the result handler is added to the queue of
+     * completed tasks and run in a next update. A cancelled task is not handled. The result of a task is discarded when
+     * the chunk is no longer wanted when the task is handled.
+     */
+    private <T> void startTask(Vec3i location, Supplier<T> task, Executor executor, Predicate<Vec3i> wanted, Consumer<T> resultHandler) {
+        TimedTask<T> timedTask = new TimedTask<>(task, wastedTaskTime);
+        CompletableFuture<T> future = CompletableFuture.supplyAsync(timedTask, executor);
+        timedTask.setFuture(future);
+        runningTasks.computeIfAbsent(location, key -> ConcurrentHashMap.newKeySet()).add(future);
+        startedTasks.increment();
+        future.whenComplete((result, throwable) -> {
+            if (!future.isCancelled()) {
+                completedTasks.add(() -> handleCompletedTask(location, future, timedTask, wanted, result, throwable, resultHandler));
+            }
+        });
     }
 
-    private void handleLoadResults() {
-        if (loadingResults.isEmpty()) {
+    private <T> void handleCompletedTask(Vec3i location, CompletableFuture<T> future, TimedTask<T> task, Predicate<Vec3i> wanted, T result, Throwable throwable, Consumer<T> resultHandler) {
+        // the task is cancelled after it was finished, or the chunk is no longer wanted
+        if (!removeRunningTask(location, future) || !wanted.test(location)) {
+            if (log.isDebugEnabled()) {
+                log.debug("Discarding the result of a task for chunk {}, the chunk is no longer wanted", location);
+            }
+            discardedTasks.increment();
+            wastedTaskTime.add(task.getDuration());
             return;
         }
 
-        Optional<Future<LoadingResult>> loadingResult = loadingResults.stream().filter(Future::isDone).findFirst();
-        if (loadingResult.isPresent()) {
-            Future<LoadingResult> loadingResultFuture = loadingResult.get();
-            try {
-                handleLoadResult(loadingResultFuture.get());
-            } catch (Exception e) {
-                log.error(e.getMessage(), e);
-            }
-            loadingResults.remove(loadingResultFuture);
+        finishedTasks.increment();
+        if (throwable != null) {
+            Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null ? throwable.getCause() : throwable;
+            log.error(cause.getMessage(), cause);
+            return;
         }
 
-        loadingResults.removeIf(Future::isCancelled);
+        resultHandler.accept(result);
     }
 
-    private void handleLoadResult(LoadingResult loadingResult) {
-        if (loadingResult.hasChunk()) {
-            addElementToQueue(loadingResult.getChunk(), meshQueue);
-        } else {
-            addElementToQueue(loadingResult.getLocation(), generatorQueue);
+    /**
+     * @return true if the task was running, false if the task was already removed
+     */
+    private boolean removeRunningTask(Vec3i location, CompletableFuture<?> future) {
+        Set<CompletableFuture<?>> tasks = runningTasks.get(location);
+        if (tasks == null || !tasks.remove(future)) {
+            return false;
         }
 
+        runningTasks.computeIfPresent(location, (key, value) -> value.isEmpty() ? null : value);
+        return true;
     }
 
-    private void handleGenerationResults() {
-        if (generatorResults.isEmpty()) {
-            return;
+    /**
+     * Cancels the running tasks of the chunk location. Tasks that are not yet started won't be run, the result of tasks
+     * that are already running is discarded.
+     */
+    private void cancelRunningTasks(Vec3i location) {
+        Set<CompletableFuture<?>> tasks = runningTasks.remove(location);
+        if (tasks != null) {
+            tasks.stream()
+                    .filter(task -> task.cancel(false))
+                    .forEach(task -> cancelledTasks.increment());
         }
+    }
 
-        Optional<Future<Chunk>> generatorResult = generatorResults.stream().filter(Future::isDone).findFirst();
-        if (generatorResult.isPresent()) {
-            Future<Chunk> generatorResultFuture = generatorResult.get();
-            try {
-                handleGenerationResult(generatorResultFuture.get());
-            } catch (Exception e) {
-                log.error(e.getMessage(), e);
-            }
-            generatorResults.remove(generatorResultFuture);
+    /**
+     * Runs the handlers of the finished tasks, in the order they were finished, as long as the budget allows it.
+     */
+    private void handleCompletedTasks(long deadline) {
+        int items = 0;
+        Runnable completedTask;
+        while (hasBudget(items, deadline) && (completedTask = completedTasks.poll()) != null) {
+            completedTask.run();
+            items++;
+        }
+    }
+
+    private void handleLoadResult(LoadingResult loadingResult) {
+        if (loadingResult.hasChunk()) {
+            addElementToQueue(loadingResult.getChunk(), meshQueue);
+        } else {
+            addElementToQueue(loadingResult.getLocation(), generatorQueue);
         }
 
-        generatorResults.removeIf(Future::isCancelled);
     }
 
     private void handleGenerationResult(Chunk chunk) {
         addElementToQueue(chunk, meshQueue);
     }
 
-    private void handleMeshGenerationResults() {
-        if (meshResults.isEmpty()) {
-            return;
+    /**
+     * Checks if a chunk that isn't available yet is still requested. Dropped requests are logged and counted.
+     */
+    private boolean isRequested(Vec3i location) {
+        boolean requested = requests.containsKey(location);
+        if (!requested) {
+            dropRequest(location);
         }
+        return requested;
+    }
 
-        Optional<Future<Chunk>> meshResult = meshResults.stream().filter(Future::isDone).findFirst();
-        if (meshResult.isPresent()) {
-            Future<Chunk> meshResultFuture = meshResult.get();
-            try {
-                handleMeshGenerationResult(meshResultFuture.get());
-            } catch (Exception e) {
-                log.error(e.getMessage(), e);
-            }
-            meshResults.remove(meshResultFuture);
+    private void dropRequest(Vec3i location) {
+        if (log.isDebugEnabled()) {
+            log.debug("Dropping the request of chunk {}, the request is cancelled", location);
         }
+        droppedRequests.increment();
+    }
 
-        meshResults.removeIf(Future::isCancelled);
+    private boolean isCached(Vec3i location) {
+        return getChunk(location).isPresent();
     }
 
-    private void handleMeshGenerationResult(Chunk chunk) {
+    /**
+     * Checks if the chunk is the chunk in the cache, or if a chunk that isn't in the cache yet is still requested. A
+     * chunk that is cleaned up or replaced by another chunk at the same location, is no longer wanted.
+     */
+    private boolean isWanted(Chunk chunk) {
+        Vec3i location = chunk.getLocation();
+        if (location == null) {
+            return false;
+        }
+        Optional<Chunk> cached = getChunk(location);
+        return cached.isPresent() ? cached.get() == chunk : requests.containsKey(location);
+    }
+
+    /**
+     * Checks if a stage can handle another item in this update. The first item is always allowed.
+     */
+    private boolean hasBudget(int items, long deadline) {
+        return items == 0 || (items < maxItemsPerStage && System.nanoTime() < deadline);
+    }
+
+    private void handleMeshGenerationResult(MeshTask task) {
+        Chunk chunk = task.getChunk();
+        // a mesh task of the chunk that was started later, can finish first
+        if (!chunk.applyMesh(task.getSnapshot())) {
+            return;
+        }
         if (getChunk(chunk.getLocation()).isPresent()) {
+            if (saveQueue != null) {
+                // the snapshot holds the blocks the mesh was constructed with and is saved without copying
+                saveIfChanged(chunk, task.getSnapshot());
+            }
             triggerListenerChunkUpdated(chunk);
         } else {
             addToCache(chunk);
@@ -538,28 +872,23 @@ public class ChunkManager {
     }
 
     private void updateAdjacentChunks(Chunk chunk) {
-        Set<Vec3i> adjacentChunkLocations = getAdjacentChunkLocations(chunk);
-
-        for (Vec3i chunkLocation : adjacentChunkLocations) {
-            getChunk(chunkLocation).ifPresent(neighbour -> chunkWantsToUpdateNeighbour(chunk, neighbour));
+        for (Direction direction : Direction.values()) {
+            getChunk(chunk.getLocation().add(direction.getVector()))
+                    .filter(neighbour -> isMeshOutdated(neighbour, direction, chunk))
+                    .ifPresent(this::requestChunkMeshUpdate);
         }
     }
 
-    private void chunkWantsToUpdateNeighbour(Chunk chunk, Chunk neighbour) {
-        if (isChunkAllowedToUpdateNeighbour(chunk, neighbour)) {
-            requestChunkMeshUpdate(neighbour);
-            chunkUpdateTriggersRegistry.add(new AbstractMap.SimpleImmutableEntry<>(chunk, neighbour));
-        }
-    }
-
-    private Set<Vec3i> getAdjacentChunkLocations(Chunk chunk) {
-        return Arrays.stream(Direction.values())
-                .map(direction -> chunk.getLocation().add(direction.getVector()))
-                .collect(Collectors.toSet());
-    }
-
-    private boolean isChunkAllowedToUpdateNeighbour(Chunk chunk, Chunk neighbour) {
-        return !chunkUpdateTriggersRegistry.contains(new AbstractMap.SimpleImmutableEntry<>(chunk, neighbour));
+    /**
+     * Checks if the mesh of the neighbour was constructed with another version of the shared border of the chunk.
+     * Changes to blocks that aren't on the shared border don't change the mesh of the neighbour.
+     *
+     * @param neighbour the neighbouring chunk
+     * @param direction of the neighbour, seen from the chunk
+     * @param chunk     the chunk
+     */
+    private static boolean isMeshOutdated(Chunk neighbour, Direction direction, Chunk chunk) {
+        return neighbour.getMeshNeighbourVersion(direction.opposite()) != chunk.getBorderVersion(direction);
     }
 
     private void triggerListenerChunkUpdated(Chunk chunk) {
@@ -575,7 +904,56 @@ public class ChunkManager {
         addElementToQueue(chunk, meshQueue);
     }
 
+    /**
+     * Queues the chunk for saving when the blocks changed since the chunk was last saved or added to the cache.
+     */
+    private void saveIfChanged(Chunk chunk) {
+        saveIfChanged(chunk, chunk);
+    }
+
+    /**
+     * Queues the blocks of the chunk for saving when they are newer than the last saved blocks of the chunk. The blocks
+     * are either the chunk itself or a snapshot of the chunk.
+     */
+    private void saveIfChanged(Chunk chunk, Chunk blocks) {
+        synchronized (savedVersions) {
+            Long savedVersion = savedVersions.get(chunk);
+            if (savedVersion == null || blocks.getVersion() <= savedVersion) {
+                return;
+            }
+            savedVersions.put(chunk, blocks.getVersion());
+        }
+        saveQueue.save(blocks);
+    }
+
+    /**
+     * Stops the pending operations of a chunk that is removed from the cache and saves the chunk when it changed. This
+     * is called on the thread that removes the chunk, before the chunk is cleaned up.
+     */
+    private void handleRemovedChunk(Chunk chunk) {
+        // a chunk that is evicted by the cache, can still be queued or meshed. A replaced chunk has the same location
+        // as the chunk that replaced it.
+        if (!isCached(chunk.getLocation())) {
+            cancelAllPendingOperations(chunk);
+        }
+        if (saveQueue == null) {
+            return;
+        }
+
+        try {
+            saveIfChanged(chunk);
+        } catch (RuntimeException e) {
+            log.error("Unable to save removed {}: {}", chunk, e.getMessage(), e);
+        } finally {
+            savedVersions.remove(chunk);
+        }
+    }
+
     private void addToCache(Chunk chunk) {
+        if (saveQueue != null) {
+            savedVersions.put(chunk, chunk.getVersion());
+        }
+        requests.remove(chunk.getLocation());
         cache.put(chunk);
         chunk.setChunkResolver(cache);
         triggerListenerChunkAvailable(chunk);
@@ -597,7 +975,8 @@ public class ChunkManager {
     }
 
     /**
-     * Cancel all pending operations for this chunk. When invoked, the chunk will be remove from all queues.
+     * Cancel all pending operations for this chunk. When invoked, the chunk will be remove from all queues and the
+     * running tasks of the chunk are cancelled.
      *
      * @param chunk to cancel operations for
      */
@@ -608,6 +987,7 @@ public class ChunkManager {
         loadingQueue.remove(chunk.getLocation());
         generatorQueue.remove(chunk.getLocation());
         meshQueue.remove(chunk);
+        cancelRunningTasks(chunk.getLocation());
     }
 
     /**
@@ -618,17 +998,8 @@ public class ChunkManager {
      * @param queue
      * @return true if the element was added to the queue, false if the element was already present in the queue.
      */
-    private <T> boolean addElementToQueue(T element, Queue<T> queue) {
-        if (!queue.contains(element)) {
-            queue.add(element);
-            return true;
-        }
-
-        return false;
-    }
-
-    private static ExecutorService createNamedFixedThreadPool(int size, String name) {
-        return Executors.newFixedThreadPool(size, new ThreadFactoryBuilder().setNameFormat(name).build());
+    private <T> boolean addElementToQueue(T element, PriorityChunkQueue<T> queue) {
+        return queue.offer(element);
     }
 
     @Getter
@@ -645,45 +1016,119 @@ public class ChunkManager {
     }
 
     @RequiredArgsConstructor
-    private static class LoadingCallable implements Callable<LoadingResult> {
+    private static class LoadingTask implements Supplier<LoadingResult> {
 
         private final Vec3i location;
         private final ChunkRepository repository;
 
         @Override
-        public LoadingResult call() {
+        public LoadingResult get() {
             return new LoadingResult(location, repository.load(location));
         }
 
     }
 
     @RequiredArgsConstructor
-    private static class GeneratorCallable implements Callable<Chunk> {
+    private static class GeneratorTask implements Supplier<Chunk> {
 
         private final Vec3i location;
         private final ChunkGenerator generator;
 
         @Override
-        public Chunk call() {
-            Chunk chunk = generator.generate(location);
-            chunk.update();
-            return chunk;
+        public Chunk get() {
+            return generator.generate(location);
         }
 
     }
 
+    /**
+     * A task that measures the time it runs. The time is counted as wasted when the task is cancelled while it was
+     * running.
+     */
     @RequiredArgsConstructor
-    private static class MeshCallable implements Callable<Chunk> {
+    private static class TimedTask<T> implements Supplier<T> {
+
+        private final Supplier<T> task;
+        private final LongAdder wastedTime;
+        @Setter
+        private volatile CompletableFuture<T> future;
+        @Getter
+        private volatile long duration;
+
+        @Override
+        public T get() {
+            long start = System.nanoTime();
+            try {
+                return task.get();
+            } finally {
+                duration = System.nanoTime() - start;
+                if (future != null && future.isCancelled()) {
+                    wastedTime.add(duration);
+                }
+            }
+        }
+
+    }
+
+    /**
+     * Constructs the mesh of the snapshot. The mesh is applied to the chunk when the result is handled, a node holding
+     * only the changed sections of the chunk is merged in the node of the chunk that can be attached to the scene.
+     */
+    @Getter
+    @RequiredArgsConstructor
+    private static class MeshTask implements Supplier<MeshTask> {
 
         private final Chunk chunk;
+        private final ChunkSnapshot snapshot;
         private final ChunkMeshGenerator meshGenerator;
 
         @Override
-        public Chunk call() {
-            meshGenerator.createAndSetNodeAndCollisionMesh(chunk);
-            return chunk;
+        public MeshTask get() {
+            meshGenerator.createAndSetNodeAndCollisionMesh(snapshot);
+            return this;
         }
 
     }
 
+    /**
+     * A snapshot of the statistics of the tasks of the chunk manager. Work is wasted when a task is cancelled while it
+     * was running or when the result of a task is discarded, because the chunk is no longer wanted.
+     */
+    @Getter
+    @ToString
+    @AllArgsConstructor
+    public static class Statistics {
+
+        /**
+         * The number of tasks that were started on the executors.
+         */
+        private final long startedTasks;
+        /**
+         * The number of finished tasks of which the result was handled.
+         */
+        private final long finishedTasks;
+        /**
+         * The number of tasks that were cancelled before they were finished.
+         */
+        private final long cancelledTasks;
+        /**
+         * The number of finished tasks of which the result was discarded.
+         */
+        private final long discardedTasks;
+        /**
+         * The number of requests that were dropped from the queues before a task was started.
+         */
+        private final long droppedRequests;
+        /**
+         * The time in milliseconds the executors spent on tasks that were cancelled while running or of which the
+         * result was discarded.
+         */
+        private final double wastedTime;
+        /**
+         * The number of tasks that are currently started and not yet handled.
+         */
+        private final int runningTasks;
+
+    }
+
 }
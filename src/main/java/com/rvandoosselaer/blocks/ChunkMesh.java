@@ -1,11 +1,13 @@
 package com.rvandoosselaer.blocks;
 
+import com.jme3.math.Quaternion;
 import com.jme3.math.Vector2f;
 import com.jme3.math.Vector3f;
 import com.jme3.math.Vector4f;
 import com.jme3.scene.Mesh;
 import com.jme3.scene.VertexBuffer;
 import com.jme3.util.BufferUtils;
+import com.simsilica.mathd.Vec3i;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -13,44 +15,227 @@ import lombok.extern.slf4j.Slf4j;
 import java.nio.Buffer;
 import java.nio.FloatBuffer;
 import java.nio.IntBuffer;
-import java.util.ArrayList;
+import java.util.AbstractList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
 
 /**
  * A class to help create a mesh for a specific block type of a chunk.
+ * The vertex data is stored in growable primitive arrays, no objects are created when adding vertex data. The arrays
+ * are kept when the chunk mesh is cleared, so a chunk mesh can be reused to construct another mesh.
  *
  * @author rvandoosselaer
  */
 @Slf4j
-@Getter
 @NoArgsConstructor
 public class ChunkMesh {
 
+    private static final int INITIAL_CAPACITY = 64;
+
+    @Getter
     private boolean collisionMesh = false;
-    private final List<Vector3f> positions = new ArrayList<>();
-    private final List<Vector3f> normals = new ArrayList<>();
-    private final List<Vector4f> tangents = new ArrayList<>();
-    private final List<Vector2f> uvs = new ArrayList<>();
-    private final List<Integer> indices = new ArrayList<>();
+    private final FloatArray positions = new FloatArray();
+    private final FloatArray normals = new FloatArray();
+    private final FloatArray tangents = new FloatArray();
+    private final FloatArray uvs = new FloatArray();
+    private final IntArray indices = new IntArray();
 
     public ChunkMesh(boolean collisionMesh) {
         this.collisionMesh = collisionMesh;
     }
 
+    /**
+     * @return the number of vertices (positions) in the mesh, this is the index of the next vertex
+     */
+    public int getVertexCount() {
+        return positions.size / 3;
+    }
+
+    /**
+     * @return the number of indices in the mesh
+     */
+    public int getIndexCount() {
+        return indices.size;
+    }
+
+    /**
+     * @return the memory used by the vertex data arrays, in bytes
+     */
+    long getCapacityInBytes() {
+        return 4L * (positions.data.length + normals.data.length + tangents.data.length + uvs.data.length + indices.data.length);
+    }
+
+    public void addPosition(float x, float y, float z) {
+        positions.add(x, y, z);
+    }
+
+    public void addPosition(Vector3f position) {
+        addPosition(position.x, position.y, position.z);
+    }
+
+    /**
+     * Adds a vertex of a shape to the mesh. The vertex is rotated, translated to the location of the block in the chunk
+     * and scaled with the block scale.
+     *
+     * @param rotation   of the shape
+     * @param x          coordinate of the vertex
+     * @param y          coordinate of the vertex
+     * @param z          coordinate of the vertex
+     * @param location   of the block in the chunk
+     * @param blockScale of the blocks
+     */
+    public void addPosition(Quaternion rotation, float x, float y, float z, Vec3i location, float blockScale) {
+        addPosition((rotateX(rotation, x, y, z) + location.x) * blockScale,
+                (rotateY(rotation, x, y, z) + location.y) * blockScale,
+                (rotateZ(rotation, x, y, z) + location.z) * blockScale);
+    }
+
+    public void addNormal(float x, float y, float z) {
+        normals.add(x, y, z);
+    }
+
+    public void addNormal(Vector3f normal) {
+        addNormal(normal.x, normal.y, normal.z);
+    }
+
+    /**
+     * Adds a rotated normal to the mesh.
+     */
+    public void addNormal(Quaternion rotation, float x, float y, float z) {
+        addNormal(rotateX(rotation, x, y, z), rotateY(rotation, x, y, z), rotateZ(rotation, x, y, z));
+    }
+
+    public void addTangent(float x, float y, float z, float w) {
+        tangents.add(x, y, z, w);
+    }
+
+    public void addTangent(Vector4f tangent) {
+        addTangent(tangent.x, tangent.y, tangent.z, tangent.w);
+    }
+
+    /**
+     * Adds a rotated tangent to the mesh. The w component (handedness) of the tangent is not affected by the rotation.
+     */
+    public void addTangent(Quaternion rotation, float x, float y, float z, float w) {
+        addTangent(rotateX(rotation, x, y, z), rotateY(rotation, x, y, z), rotateZ(rotation, x, y, z), w);
+    }
+
+    public void addUv(float u, float v) {
+        uvs.add(u, v);
+    }
+
+    public void addUv(Vector2f uv) {
+        addUv(uv.x, uv.y);
+    }
+
+    public void addIndex(int index) {
+        indices.add(index);
+    }
+
+    /**
+     * Adds the vertices of a shape that were recorded at the origin of a chunk, see {@link ShapeTemplate}. The positions
+     * are translated to the location of the block and the indices are offset with the current vertex count.
+     *
+     * @param template   the recorded vertices, already scaled with the block scale
+     * @param location   of the block in the chunk
+     * @param blockScale of the blocks
+     */
+    void addTemplate(ChunkMesh template, Vec3i location, float blockScale) {
+        int offset = getVertexCount();
+        positions.ensureCapacity(positions.size + template.positions.size);
+        float[] source = template.positions.data;
+        float[] target = positions.data;
+        float x = location.x * blockScale;
+        float y = location.y * blockScale;
+        float z = location.z * blockScale;
+        for (int i = 0; i < template.positions.size; i += 3) {
+            target[positions.size++] = source[i] + x;
+            target[positions.size++] = source[i + 1] + y;
+            target[positions.size++] = source[i + 2] + z;
+        }
+
+        indices.ensureCapacity(indices.size + template.indices.size);
+        for (int i = 0; i < template.indices.size; i++) {
+            indices.data[indices.size++] = template.indices.data[i] + offset;
+        }
+
+        // collision meshes don't require uvs, normals and tangents
+        if (!isCollisionMesh()) {
+            normals.addAll(template.normals);
+            tangents.addAll(template.tangents);
+            uvs.addAll(template.uvs);
+        }
+    }
+
+    /**
+     * Returns a view on the positions of the mesh. Each element of the view is a new vector.
+     *
+     * @return positions
+     * @deprecated use {@link #addPosition(float, float, float)} and {@link #getVertexCount()}
+     */
+    @Deprecated
+    public List<Vector3f> getPositions() {
+        return new Vector3fList(positions);
+    }
+
+    /**
+     * Returns a view on the normals of the mesh. Each element of the view is a new vector.
+     *
+     * @return normals
+     * @deprecated use {@link #addNormal(float, float, float)}
+     */
+    @Deprecated
+    public List<Vector3f> getNormals() {
+        return new Vector3fList(normals);
+    }
+
+    /**
+     * Returns a view on the tangents of the mesh. Each element of the view is a new vector.
+     *
+     * @return tangents
+     * @deprecated use {@link #addTangent(float, float, float, float)}
+     */
+    @Deprecated
+    public List<Vector4f> getTangents() {
+        return new Vector4fList(tangents);
+    }
+
+    /**
+     * Returns a view on the texture coordinates of the mesh. Each element of the view is a new vector.
+     *
+     * @return texture coordinates
+     * @deprecated use {@link #addUv(float, float)}
+     */
+    @Deprecated
+    public List<Vector2f> getUvs() {
+        return new Vector2fList(uvs);
+    }
+
+    /**
+     * Returns a view on the indices of the mesh.
+     *
+     * @return indices
+     * @deprecated use {@link #addIndex(int)} and {@link #getIndexCount()}
+     */
+    @Deprecated
+    public List<Integer> getIndices() {
+        return new IntegerList(indices);
+    }
+
     public Mesh generateMesh() {
         long start = System.nanoTime();
         Mesh mesh = new Mesh();
         // all meshes have a position and index buffer
-        mesh.setBuffer(VertexBuffer.Type.Position, 3, vector3fToBuffer(positions));
-        mesh.setBuffer(VertexBuffer.Type.Index, 1, intToBuffer(indices));
+        mesh.setBuffer(VertexBuffer.Type.Position, 3, positions.toBuffer());
+        mesh.setBuffer(VertexBuffer.Type.Index, 1, indices.toBuffer());
 
         // collision meshes don't require uvs, normals and tangents
         if (!isCollisionMesh()) {
-            mesh.setBuffer(VertexBuffer.Type.TexCoord, 2, vector2fToBuffer(uvs));
-            mesh.setBuffer(VertexBuffer.Type.Normal, 3, vector3fToBuffer(normals));
-            if (!tangents.isEmpty()) {
-                mesh.setBuffer(VertexBuffer.Type.Tangent, 4, vector4fToBuffer(tangents));
+            mesh.setBuffer(VertexBuffer.Type.TexCoord, 2, uvs.toBuffer());
+            mesh.setBuffer(VertexBuffer.Type.Normal, 3, normals.toBuffer());
+            if (tangents.size > 0) {
+                mesh.setBuffer(VertexBuffer.Type.Tangent, 4, tangents.toBuffer());
             }
         }
         mesh.updateBound();
@@ -62,47 +247,44 @@ public class ChunkMesh {
     }
 
     public void clear() {
-        positions.clear();
-        indices.clear();
-        uvs.clear();
-        normals.clear();
-        tangents.clear();
+        positions.size = 0;
+        indices.size = 0;
+        uvs.size = 0;
+        normals.size = 0;
+        tangents.size = 0;
     }
 
-    private static FloatBuffer vector3fToBuffer(List<Vector3f> list) {
-        FloatBuffer buf = BufferUtils.createFloatBuffer(list.size() * 3);
-        for (Vector3f vec : list) {
-            buf.put(vec.x).put(vec.y).put(vec.z);
-        }
-        flipBuffer(buf);
-        return buf;
+    /**
+     * Shrinks the arrays to the size of the vertex data, for chunk meshes that are kept for a long time.
+     */
+    void trimToSize() {
+        positions.trimToSize();
+        normals.trimToSize();
+        tangents.trimToSize();
+        uvs.trimToSize();
+        indices.trimToSize();
     }
 
-    private static FloatBuffer vector2fToBuffer(List<Vector2f> list) {
-        FloatBuffer buf = BufferUtils.createFloatBuffer(list.size() * 2);
-        for (Vector2f vec : list) {
-            buf.put(vec.x).put(vec.y);
-        }
-        flipBuffer(buf);
-        return buf;
+    // the rotation of a vector by a quaternion, the same calculation as Quaternion.mult(Vector3f)
+    private static float rotateX(Quaternion q, float vx, float vy, float vz) {
+        float x = q.getX(), y = q.getY(), z = q.getZ(), w = q.getW();
+        return w * w * vx + 2 * y * w * vz - 2 * z * w * vy + x * x * vx + 2 * y * x * vy + 2 * z * x * vz - z * z * vx - y * y * vx;
     }
 
-    private static IntBuffer intToBuffer(List<Integer> list) {
-        IntBuffer buf = BufferUtils.createIntBuffer(list.size());
-        for (int i : list) {
-            buf.put(i);
-        }
-        flipBuffer(buf);
-        return buf;
+    private static float rotateY(Quaternion q, float vx, float vy, float vz) {
+        float x = q.getX(), y = q.getY(), z = q.getZ(), w = q.getW();
+        return 2 * x * y * vx + y * y * vy + 2 * z * y * vz + 2 * w * z * vx - z * z * vy + w * w * vy - 2 * x * w * vz - x * x * vy;
     }
 
-    private static FloatBuffer vector4fToBuffer(List<Vector4f> list) {
-        FloatBuffer buf = BufferUtils.createFloatBuffer(list.size() * 4);
-        for (Vector4f vec : list) {
-            buf.put(vec.x).put(vec.y).put(vec.z).put(vec.w);
+    private static float rotateZ(Quaternion q, float vx, float vy, float vz) {
+        float x = q.getX(), y = q.getY(), z = q.getZ(), w = q.getW();
+        return 2 * x * z * vx + 2 * y * z * vy + z * z * vz - 2 * w * y * vx - y * y * vz + 2 * w * x * vy - x * x * vz + w * w * vz;
+    }
+
+    private static void checkIndex(int index, int size) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " is out of bounds for size " + size);
         }
-        flipBuffer(buf);
-        return buf;
     }
 
     private static void flipBuffer(Buffer buffer) {
@@ -112,4 +294,200 @@ public class ChunkMesh {
         buffer.flip();
     }
 
+    /**
+     * A growable array of floats.
+     */
+    private static class FloatArray {
+
+        private float[] data = new float[INITIAL_CAPACITY];
+        private int size;
+
+        void add(float x, float y) {
+            ensureCapacity(size + 2);
+            data[size++] = x;
+            data[size++] = y;
+        }
+
+        void add(float x, float y, float z) {
+            ensureCapacity(size + 3);
+            data[size++] = x;
+            data[size++] = y;
+            data[size++] = z;
+        }
+
+        void add(float x, float y, float z, float w) {
+            ensureCapacity(size + 4);
+            data[size++] = x;
+            data[size++] = y;
+            data[size++] = z;
+            data[size++] = w;
+        }
+
+        void addAll(FloatArray array) {
+            ensureCapacity(size + array.size);
+            System.arraycopy(array.data, 0, data, size, array.size);
+            size += array.size;
+        }
+
+        void ensureCapacity(int capacity) {
+            if (capacity > data.length) {
+                data = Arrays.copyOf(data, Math.max(capacity, data.length * 2));
+            }
+        }
+
+        void trimToSize() {
+            data = Arrays.copyOf(data, size);
+        }
+
+        FloatBuffer toBuffer() {
+            FloatBuffer buffer = BufferUtils.createFloatBuffer(size);
+            buffer.put(data, 0, size);
+            flipBuffer(buffer);
+            return buffer;
+        }
+
+    }
+
+    /**
+     * A growable array of ints.
+     */
+    private static class IntArray {
+
+        private int[] data = new int[INITIAL_CAPACITY];
+        private int size;
+
+        void add(int value) {
+            if (size == data.length) {
+                data = Arrays.copyOf(data, Math.max(1, data.length * 2));
+            }
+            data[size++] = value;
+        }
+
+        void ensureCapacity(int capacity) {
+            if (capacity > data.length) {
+                data = Arrays.copyOf(data, Math.max(capacity, data.length * 2));
+            }
+        }
+
+        void trimToSize() {
+            data = Arrays.copyOf(data, size);
+        }
+
+        IntBuffer toBuffer() {
+            IntBuffer buffer = BufferUtils.createIntBuffer(size);
+            buffer.put(data, 0, size);
+            flipBuffer(buffer);
+            return buffer;
+        }
+
+    }
+
+    private static class Vector2fList extends AbstractList<Vector2f> {
+
+        private final FloatArray array;
+
+        Vector2fList(FloatArray array) {
+            this.array = array;
+        }
+
+        @Override
+        public Vector2f get(int index) {
+            checkIndex(index, size());
+            return new Vector2f(array.data[index * 2], array.data[index * 2 + 1]);
+        }
+
+        @Override
+        public boolean add(Vector2f vector) {
+            array.add(vector.x, vector.y);
+            return true;
+        }
+
+        @Override
+        public int size() {
+            return array.size / 2;
+        }
+
+    }
+
+    private static class Vector3fList extends AbstractList<Vector3f> {
+
+        private final FloatArray array;
+
+        Vector3fList(FloatArray array) {
+            this.array = array;
+        }
+
+        @Override
+        public Vector3f get(int index) {
+            checkIndex(index, size());
+            return new Vector3f(array.data[index * 3], array.data[index * 3 + 1], array.data[index * 3 + 2]);
+        }
+
+        @Override
+        public boolean add(Vector3f vector) {
+            array.add(vector.x, vector.y, vector.z);
+            return true;
+        }
+
+        @Override
+        public int size() {
+            return array.size / 3;
+        }
+
+    }
+
+    private static class Vector4fList extends AbstractList<Vector4f> {
+
+        private final FloatArray array;
+
+        Vector4fList(FloatArray array) {
+            this.array = array;
+        }
+
+        @Override
+        public Vector4f get(int index) {
+            checkIndex(index, size());
+            return new Vector4f(array.data[index * 4], array.data[index * 4 + 1], array.data[index * 4 + 2], array.data[index * 4 + 3]);
+        }
+
+        @Override
+        public boolean add(Vector4f vector) {
+            array.add(vector.x, vector.y, vector.z, vector.w);
+            return true;
+        }
+
+        @Override
+        public int size() {
+            return array.size / 4;
+        }
+
+    }
+
+    private static class IntegerList extends AbstractList<Integer> {
+
+        private final IntArray array;
+
+        IntegerList(IntArray array) {
+            this.array = array;
+        }
+
+        @Override
+        public Integer get(int index) {
+            checkIndex(index, size());
+            return array.data[index];
+        }
+
+        @Override
+        public boolean add(Integer value) {
+            array.add(value);
+            return true;
+        }
+
+        @Override
+        public int size() {
+            return array.size;
+        }
+
+    }
+
 }
@@ -0,0 +1,236 @@
+package com.rvandoosselaer.blocks;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.ToString;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * A pool of {@link ChunkMesh} objects for the current thread. Chunk meshes are only needed while the mesh of a chunk
+ * is constructed, once the jME mesh is generated they can be cleared and reused. The arrays of a reused chunk mesh
+ * already have the required capacity, so in a steady state no vertex data arrays need to be created or grown.
+ * <p>
+ * Each thread that generates chunk meshes has its own pool, retrieve it using {@link #get()}. A pool keeps at most
+ * {@link BlocksConfig#getChunkMeshPoolSize()} chunk meshes for reuse, released chunk meshes above that amount are
+ * discarded. The combined statistics of the pools of all threads are available through {@link #getStatistics()}.
+ *
+ * @author rvandoosselaer
+ */
+@Slf4j
+public class ChunkMeshPool {
+
+    private static final ThreadLocal<ChunkMeshPool> POOLS = ThreadLocal.withInitial(ChunkMeshPool::create);
+    // the pools of all threads, for the statistics. The pool of a thread is removed when the thread is garbage collected.
+    private static final Map<Thread, ChunkMeshPool> ALL_POOLS = new WeakHashMap<>();
+
+    private final Deque<ChunkMesh> meshes = new ArrayDeque<>();
+    private final Deque<ChunkMesh> collisionMeshes = new ArrayDeque<>();
+    private final Map<String, ChunkMesh> meshMap = new HashMap<>();
+    private boolean meshMapInUse = false;
+    private byte[] visibleFaces;
+
+    // the statistics are only written by the owning thread
+    private volatile int pooled;
+    private volatile long pooledBytes;
+    private volatile int inUse;
+    private volatile int highWaterMark;
+    private volatile long created;
+    private volatile long reused;
+
+    private ChunkMeshPool() {
+    }
+
+    /**
+     * @return the chunk mesh pool of the current thread
+     */
+    public static ChunkMeshPool get() {
+        return POOLS.get();
+    }
+
+    /**
+     * Retrieve an empty chunk mesh from the pool. When the pool is empty, a new chunk mesh is created.
+     *
+     * @param collisionMesh true to retrieve a collision mesh
+     * @return an empty chunk mesh
+     */
+    public ChunkMesh acquire(boolean collisionMesh) {
+        Deque<ChunkMesh> deque = collisionMesh ? collisionMeshes : meshes;
+        ChunkMesh chunkMesh = deque.pollLast();
+        if (chunkMesh != null) {
+            pooled--;
+            pooledBytes -= chunkMesh.getCapacityInBytes();
+            reused++;
+        } else {
+            chunkMesh = new ChunkMesh(collisionMesh);
+            created++;
+        }
+
+        inUse++;
+        if (inUse > highWaterMark) {
+            highWaterMark = inUse;
+        }
+        return chunkMesh;
+    }
+
+    /**
+     * Clears the chunk mesh and returns it to the pool. The chunk mesh should no longer be used by the caller.
+     *
+     * @param chunkMesh to return
+     */
+    public void release(@NonNull ChunkMesh chunkMesh) {
+        chunkMesh.clear();
+        inUse = Math.max(0, inUse - 1);
+        if (pooled >= BlocksConfig.getInstance().getChunkMeshPoolSize()) {
+            if (log.isTraceEnabled()) {
+                log.trace("Chunk mesh pool of {} is full, discarding {}", Thread.currentThread().getName(), chunkMesh);
+            }
+            return;
+        }
+
+        (chunkMesh.isCollisionMesh() ? collisionMeshes : meshes).addLast(chunkMesh);
+        pooled++;
+        pooledBytes += chunkMesh.getCapacityInBytes();
+    }
+
+    /**
+     * Retrieve an empty map to hold the chunk meshes of a chunk per type. The map should be returned using
+     * {@link #releaseMeshMap(Map)}.
+     *
+     * @return an empty map
+     */
+    public Map<String, ChunkMesh> acquireMeshMap() {
+        if (meshMapInUse) {
+            // the map is already in use higher up in the call stack
+            return new HashMap<>();
+        }
+        meshMapInUse = true;
+        return meshMap;
+    }
+
+    /**
+     * Returns all the chunk meshes in the map to the pool and clears the map.
+     *
+     * @param meshMap map retrieved with {@link #acquireMeshMap()}
+     */
+    public void releaseMeshMap(@NonNull Map<String, ChunkMesh> meshMap) {
+        meshMap.values().forEach(this::release);
+        meshMap.clear();
+        if (meshMap == this.meshMap) {
+            meshMapInUse = false;
+        }
+    }
+
+    /**
+     * Retrieve an array to hold the visible faces of the blocks of a chunk, see
+     * {@link Chunk#calculateVisibleFaces(byte[])}. The same array is returned on each call, it can be used until the
+     * chunk mesh is constructed.
+     *
+     * @param size the minimum size of the array
+     * @return an array of at least the given size
+     */
+    public byte[] getVisibleFacesArray(int size) {
+        if (visibleFaces == null || visibleFaces.length < size) {
+            visibleFaces = new byte[size];
+        }
+        return visibleFaces;
+    }
+
+    /**
+     * Removes all pooled chunk meshes of the current thread.
+     */
+    public void clear() {
+        meshes.clear();
+        collisionMeshes.clear();
+        visibleFaces = null;
+        pooled = 0;
+        pooledBytes = 0;
+    }
+
+    /**
+     * @return the combined statistics of the chunk mesh pools of all threads
+     */
+    public static Statistics getStatistics() {
+        List<ChunkMeshPool> pools;
+        synchronized (ALL_POOLS) {
+            pools = new ArrayList<>(ALL_POOLS.values());
+        }
+
+        int pooled = 0;
+        long pooledBytes = 0;
+        int inUse = 0;
+        int highWaterMark = 0;
+        long created = 0;
+        long reused = 0;
+        for (ChunkMeshPool pool : pools) {
+            pooled += pool.pooled;
+            pooledBytes += pool.pooledBytes;
+            inUse += pool.inUse;
+            highWaterMark = Math.max(highWaterMark, pool.highWaterMark);
+            created += pool.created;
+            reused += pool.reused;
+        }
+        return new Statistics(pools.size(), pooled, pooledBytes, inUse, highWaterMark, created, reused);
+    }
+
+    private static ChunkMeshPool create() {
+        ChunkMeshPool pool = new ChunkMeshPool();
+        synchronized (ALL_POOLS) {
+            ALL_POOLS.put(Thread.currentThread(), pool);
+        }
+        if (log.isTraceEnabled()) {
+            log.trace("Created chunk mesh pool for thread {}", Thread.currentThread().getName());
+        }
+        return pool;
+    }
+
+    /**
+     * A snapshot of the statistics of the chunk mesh pools. The values are gathered without locking and can be slightly
+     * out of date.
+     */
+    @Getter
+    @ToString
+    @AllArgsConstructor
+    public static class Statistics {
+
+        /**
+         * The number of threads that have a pool.
+         */
+        private final int threads;
+        /**
+         * The number of chunk meshes available for reuse.
+         */
+        private final int pooled;
+        /**
+         * The capacity of the arrays of the chunk meshes available for reuse, in bytes.
+         */
+        private final long pooledBytes;
+        /**
+         * The number of chunk meshes that are currently in use.
+         */
+        private final int inUse;
+        /**
+         * The highest number of chunk meshes that were in use at the same time by a single thread. The pool size should
+         * be at least this value to avoid creating new chunk meshes.
+         */
+        private final int highWaterMark;
+        /**
+         * The number of chunk meshes that were created because the pool was empty.
+         */
+        private final long created;
+        /**
+         * The number of times a chunk mesh was reused.
+         */
+        private final long reused;
+
+    }
+
+}
@@ -0,0 +1,240 @@
+package com.rvandoosselaer.blocks;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.simsilica.mathd.Vec3i;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.Flushable;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A write-behind queue that saves chunks with a {@link ChunkRepository} on a background thread. Saving a chunk copies
+ * the blocks of the chunk and returns immediately, the chunk can be changed afterwards. When a chunk is saved again
+ * before it is written, only the latest copy is written.
+ * <p>
+ * The background thread waits for the save delay before it writes the queued chunks, so repeated saves of a chunk
+ * during the delay are coalesced. The chunks are written in batches, in the order they were first queued. When the
+ * repository is {@link Flushable}, it is flushed after each batch. Call {@link #flush()} to write the queued chunks
+ * without waiting for the save delay.
+ * <p>
+ * The background thread is started when a chunk is queued and stops when the queue is idle. The chunk manager uses a
+ * save queue to save changed chunks, see {@link ChunkManager#setSaveQueue(ChunkSaveQueue)}.
+ *
+ * @author rvandoosselaer
+ */
+@Slf4j
+public class ChunkSaveQueue {
+
+    public static final long DEFAULT_SAVE_DELAY = 1000;
+    public static final int DEFAULT_BATCH_SIZE = 64;
+
+    /**
+     * The repository the chunks are saved with.
+     */
+    @Getter
+    private final ChunkRepository repository;
+    /**
+     * The time in milliseconds a queued chunk waits before it is written.
+     */
+    @Getter
+    private final long saveDelay;
+    /**
+     * The maximum number of chunks that is written in one batch.
+     */
+    @Getter
+    private final int batchSize;
+    // the copies of the queued chunks, in the order they were first queued. Guarded by this.
+    private final Map<Vec3i, Chunk> pending = new LinkedHashMap<>();
+    private final ThreadPoolExecutor executor;
+    // guarded by this
+    private boolean scheduled;
+    private boolean writing;
+    private int flushRequests;
+    // statistics, guarded by this
+    private long savedChunks;
+    private long coalescedChunks;
+    private long failedChunks;
+
+    public ChunkSaveQueue(@NonNull ChunkRepository repository) {
+        this(repository, -1, 0);
+    }
+
+    /**
+     * Creates a save queue. A negative save delay or a batch size of 0 or less, uses the default value.
+     */
+    @Builder
+    private ChunkSaveQueue(@NonNull ChunkRepository repository, long saveDelay, int batchSize) {
+        this.repository = repository;
+        this.saveDelay = saveDelay >= 0 ? saveDelay : DEFAULT_SAVE_DELAY;
+        this.batchSize = batchSize > 0 ? batchSize : DEFAULT_BATCH_SIZE;
+        this.executor = new ThreadPoolExecutor(1, 1, 10, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+                new ThreadFactoryBuilder().setNameFormat("chunk-save-%d").setDaemon(true).build());
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * Queues a copy of the chunk to be saved. A copy of the chunk that is still queued is replaced. The chunk is copied
+     * on the calling thread, so the chunk should not be changed by another thread during this call.
+     *
+     * @param chunk the chunk to save
+     */
+    public void save(@NonNull Chunk chunk) {
+        if (chunk.getBlockStorage() == null) {
+            log.warn("Unable to save {}, the chunk is cleaned up", chunk);
+            return;
+        }
+
+        // a snapshot can't be changed and isn't copied
+        Chunk copy = chunk instanceof ChunkSnapshot ? chunk : new Chunk(chunk);
+        synchronized (this) {
+            if (pending.put(copy.getLocation(), copy) != null) {
+                coalescedChunks++;
+            }
+            if (!scheduled) {
+                scheduled = true;
+                executor.execute(this::writeChunks);
+            }
+        }
+    }
+
+    /**
+     * Writes the queued chunks and waits until they are written.
+     */
+    public void flush() {
+        synchronized (this) {
+            flushRequests++;
+            notifyAll();
+            try {
+                while (!pending.isEmpty() || writing) {
+                    wait();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                log.warn("Interrupted while flushing {} chunks", pending.size());
+            } finally {
+                flushRequests--;
+            }
+        }
+    }
+
+    /**
+     * @return the number of queued chunks that are not written yet
+     */
+    public synchronized int getPendingCount() {
+        return pending.size();
+    }
+
+    /**
+     * @return the number of written chunks
+     */
+    public synchronized long getSavedCount() {
+        return savedChunks;
+    }
+
+    /**
+     * @return the number of saves that replaced a queued copy of the chunk
+     */
+    public synchronized long getCoalescedCount() {
+        return coalescedChunks;
+    }
+
+    /**
+     * @return the number of chunks the repository failed to save
+     */
+    public synchronized long getFailedCount() {
+        return failedChunks;
+    }
+
+    /**
+     * Writes the queued chunks in batches, until the queue is empty.
+     */
+    private void writeChunks() {
+        List<Chunk> batch;
+        boolean first = true;
+        while ((batch = takeBatch(first)) != null) {
+            first = false;
+            long start = System.nanoTime();
+            int saved = 0;
+            for (Chunk chunk : batch) {
+                if (write(chunk)) {
+                    saved++;
+                }
+            }
+            if (repository instanceof Flushable) {
+                try {
+                    ((Flushable) repository).flush();
+                } catch (IOException e) {
+                    log.error("Unable to flush {}: {}", repository, e.getMessage(), e);
+                }
+            }
+            if (log.isTraceEnabled()) {
+                log.trace("Saving {} chunks took {}ms", batch.size(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+            }
+
+            synchronized (this) {
+                writing = false;
+                savedChunks += saved;
+                failedChunks += batch.size() - saved;
+                notifyAll();
+            }
+        }
+    }
+
+    private boolean write(Chunk chunk) {
+        try {
+            if (repository.save(chunk)) {
+                return true;
+            }
+            log.error("Unable to save {}", chunk);
+        } catch (RuntimeException e) {
+            log.error("Unable to save {}: {}", chunk, e.getMessage(), e);
+        }
+        return false;
+    }
+
+    /**
+     * Takes the next batch of queued chunks. Before the first batch, the save delay is awaited so repeated saves of a
+     * chunk are coalesced.
+     *
+     * @param delay true to wait for the save delay
+     * @return the batch or null when the queue is empty
+     */
+    private synchronized List<Chunk> takeBatch(boolean delay) {
+        long deadline = System.nanoTime() + (delay ? TimeUnit.MILLISECONDS.toNanos(saveDelay) : 0);
+        long remaining;
+        try {
+            while (flushRequests == 0 && (remaining = deadline - System.nanoTime()) > 0) {
+                TimeUnit.NANOSECONDS.timedWait(this, remaining);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        if (pending.isEmpty()) {
+            scheduled = false;
+            notifyAll();
+            return null;
+        }
+
+        List<Chunk> batch = new ArrayList<>(Math.min(batchSize, pending.size()));
+        Iterator<Chunk> iterator = pending.values().iterator();
+        while (batch.size() < batchSize && iterator.hasNext()) {
+            batch.add(iterator.next());
+            iterator.remove();
+        }
+        writing = true;
+        return batch;
+    }
+
+}
@@ -0,0 +1,112 @@
+package com.rvandoosselaer.blocks;
+
+import com.simsilica.mathd.Vec3i;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * An immutable copy of a chunk, used to construct the mesh of the chunk on another thread. The snapshot holds the
+ * blocks of the chunk and the blocks on the borders of the 6 neighbouring chunks (a one block halo around the chunk).
+ * The original chunk and its neighbours can be changed or cleaned up while the mesh is constructed, without affecting
+ * the snapshot. Retrieving a neighbouring block from the snapshot doesn't use the {@link ChunkResolver}. The versions
+ * of the borders of the neighbouring chunks are captured as well, to know with which neighbours the mesh was constructed.
+ * When the mesh of the chunk is constructed in sections, the snapshot knows which sections changed since the mesh of
+ * the original chunk was constructed.
+ * <p>
+ * The blocks of a snapshot can't be changed. The node and collision mesh can be set on the snapshot, they are copied to
+ * the original chunk by the caller.
+ *
+ * @author rvandoosselaer
+ */
+@Slf4j
+public class ChunkSnapshot extends Chunk {
+
+    private final Block[][] neighbourBorders;
+    private final long[] neighbourVersions;
+    private final boolean[] changedSections;
+    private final long meshSequence;
+
+    private ChunkSnapshot(Chunk chunk) {
+        super(chunk);
+        this.meshSequence = chunk.nextMeshSequence();
+        this.neighbourBorders = chunk.getNeighbourBorders();
+        this.neighbourVersions = chunk.getNeighbourVersions();
+        this.changedSections = chunk.calculateChangedSections(neighbourVersions);
+    }
+
+    /**
+     * Creates a snapshot of the chunk and the borders of its neighbours. The neighbouring chunks are retrieved with
+     * the chunk resolver of the chunk. This method should be called on the thread that changes the chunks.
+     *
+     * @param chunk to copy
+     * @return the snapshot of the chunk
+     */
+    public static ChunkSnapshot create(@NonNull Chunk chunk) {
+        long start = System.nanoTime();
+        ChunkSnapshot snapshot = new ChunkSnapshot(chunk);
+        if (log.isTraceEnabled()) {
+            log.trace("Snapshot of {} took {}ms", chunk, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        }
+        return snapshot;
+    }
+
+    @Override
+    public Block getNeighbour(@NonNull Vec3i location, @NonNull Direction direction) {
+        Vec3i offset = direction.getVector();
+        int x = location.x + offset.x;
+        int y = location.y + offset.y;
+        int z = location.z + offset.z;
+        Vec3i chunkSize = BlocksConfig.getInstance().getChunkSize();
+        if (x >= 0 && x < chunkSize.x && y >= 0 && y < chunkSize.y && z >= 0 && z < chunkSize.z) {
+            return getBlock(x, y, z);
+        }
+
+        Block[] border = neighbourBorders[direction.ordinal()];
+        return border == null ? null : border[getBorderIndex(direction, location.x, location.y, location.z)];
+    }
+
+    /**
+     * @return the sequence number of this snapshot, a later snapshot of the same chunk has a higher sequence number
+     */
+    long getMeshSequence() {
+        return meshSequence;
+    }
+
+    @Override
+    Block[][] getNeighbourBorders() {
+        return neighbourBorders;
+    }
+
+    @Override
+    long[] getNeighbourVersions() {
+        return neighbourVersions.clone();
+    }
+
+    @Override
+    boolean[] getChangedSections() {
+        return changedSections != null ? changedSections.clone() : null;
+    }
+
+    @Override
+    public Block addBlock(int x, int y, int z, Block block) {
+        throw new UnsupportedOperationException("The blocks of a chunk snapshot can't be changed.");
+    }
+
+    @Override
+    public Block removeBlock(int x, int y, int z) {
+        throw new UnsupportedOperationException("The blocks of a chunk snapshot can't be changed.");
+    }
+
+    @Override
+    public void setBlocks(Block[] blocks) {
+        throw new UnsupportedOperationException("The blocks of a chunk snapshot can't be changed.");
+    }
+
+    @Override
+    public void fill(Block block) {
+        throw new UnsupportedOperationException("The blocks of a chunk snapshot can't be changed.");
+    }
+
+}
@@ -1,5 +1,6 @@
 package com.rvandoosselaer.blocks;
 
+import com.jme3.material.Material;
 import com.jme3.material.RenderState;
 import com.jme3.renderer.queue.RenderQueue;
 import com.jme3.scene.Geometry;
@@ -8,13 +9,14 @@ import com.jme3.scene.Node;
 import com.jme3.scene.VertexBuffer;
 import com.jme3.util.mikktspace.MikkTSpaceImpl;
 import com.jme3.util.mikktspace.MikktspaceTangentGenerator;
+import com.rvandoosselaer.blocks.shapes.Cube;
 import com.simsilica.mathd.Vec3i;
 import lombok.ToString;
 import lombok.extern.slf4j.Slf4j;
 
-import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
 
 /**
  * A chunk mesh generator that creates and combines a quad mesh for each of the visible faces of a block of the same
@@ -22,6 +24,15 @@ import java.util.concurrent.TimeUnit;
  * extra bookkeeping is done to scan through the neighbours of each block.
  * One geometry is created per type of the block in the chunk. The geometry is attached to the node, and the node is
  * positioned based on the location of the chunk.
+ * Uniform chunks that are empty, or that are full of cubes and surrounded by full chunks hiding all their faces, are
+ * not traversed at all.
+ * <p>
+ * When a section size is set in the {@link BlocksConfig}, the chunk is split into sections. A node is created for
+ * each section, holding one geometry per type of the blocks in the section, and the section nodes are attached to the
+ * node of the chunk. When the mesh of a {@link ChunkSnapshot} is constructed, only the sections that changed since the
+ * previous mesh of the chunk are created. The node then only holds the changed sections and is marked as a
+ * {@link Chunk#PARTIAL_NODE}, the sections replace the sections of the node of the chunk when the mesh is applied.
+ * The collision mesh is always constructed for the whole chunk.
  *
  * @author rvandoosselaer
  */
@@ -32,43 +43,31 @@ public class FacesMeshGenerator implements ChunkMeshGenerator {
     @Override
     public Node createNode(Chunk chunk) {
         long start = System.nanoTime();
-        ShapeRegistry shapeRegistry = BlocksConfig.getInstance().getShapeRegistry();
 
         // create the node of the chunk
         Vec3i chunkLocation = chunk.getLocation();
         Node node = new Node("Chunk - " + chunkLocation);
 
-        // create the map holding all the meshes of the chunk
-        Map<String, ChunkMesh> meshMap = new HashMap<>();
-
-        // the first block location is (0, 0, 0)
-        Vec3i blockLocation = new Vec3i(0, 0, 0);
+        // create the map holding all the meshes of the chunk, the meshes are reused
+        ChunkMeshPool pool = ChunkMeshPool.get();
+        Map<String, ChunkMesh> meshMap = pool.acquireMeshMap();
+        try {
+            if (isSectioned()) {
+                addSections(chunk, null, meshMap, null, node);
+            } else {
+                addBlocks(chunk, meshMap, null);
 
-        for (Block block : chunk.getBlocks()) {
-            // check if there is a block
-            if (block != null) {
-                // create a mesh for each different block type
-                ChunkMesh mesh = meshMap.computeIfAbsent(block.getType(), function -> new ChunkMesh());
+                if (log.isTraceEnabled()) {
+                    log.trace("Chunk {} meshes construction took {}ms", chunk, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+                }
 
-                // add the block mesh to the chunk mesh
-                Shape shape = shapeRegistry.get(block.getShape());
-                shape.add(blockLocation, chunk, mesh);
+                // create a geometry for each type of block
+                attachGeometries(meshMap, node);
             }
-
-            // increment the block location
-            incrementBlockLocation(blockLocation);
-        }
-
-        if (log.isTraceEnabled()) {
-            log.trace("Chunk {} meshes construction took {}ms", chunk, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        } finally {
+            pool.releaseMeshMap(meshMap);
         }
 
-        // create a geometry for each type of block
-        meshMap.forEach((type, chunkMesh) -> {
-            Geometry geometry = createGeometry(type, chunkMesh);
-            node.attachChild(geometry);
-        });
-
         // position the node
         node.setLocalTranslation(chunk.getWorldLocation());
 
@@ -81,31 +80,22 @@ public class FacesMeshGenerator implements ChunkMeshGenerator {
     @Override
     public Mesh createCollisionMesh(Chunk chunk) {
         long start = System.nanoTime();
-        ShapeRegistry shapeRegistry = BlocksConfig.getInstance().getShapeRegistry();
 
-        // create the collision mesh
-        ChunkMesh collisionMesh = new ChunkMesh(true);
+        // create the collision mesh, the mesh is reused
+        ChunkMeshPool pool = ChunkMeshPool.get();
+        ChunkMesh collisionMesh = pool.acquire(true);
+        Mesh mesh;
+        try {
+            addBlocks(chunk, null, collisionMesh);
 
-        // the first block location is (0, 0, 0)
-        Vec3i blockLocation = new Vec3i(0, 0, 0);
-
-        for (Block block : chunk.getBlocks()) {
-            if (block != null && block.isSolid()) {
-                // add the block to the collision mesh
-                Shape shape = shapeRegistry.get(block.getShape());
-                shape.add(blockLocation, chunk, collisionMesh);
+            if (log.isTraceEnabled()) {
+                log.trace("Chunk {} collision mesh construction took {}ms", chunk, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
             }
 
-            // increment the block location
-            incrementBlockLocation(blockLocation);
+            mesh = collisionMesh.generateMesh();
+        } finally {
+            pool.release(collisionMesh);
         }
-
-        if (log.isTraceEnabled()) {
-            log.trace("Chunk {} collision mesh construction took {}ms", chunk, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
-        }
-
-        Mesh mesh = collisionMesh.generateMesh();
-        collisionMesh.clear();
         if (log.isTraceEnabled()) {
             log.trace("Total collision mesh generation took {}ms", TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
         }
@@ -116,60 +106,287 @@ public class FacesMeshGenerator implements ChunkMeshGenerator {
     @Override
     public void createAndSetNodeAndCollisionMesh(Chunk chunk) {
         long start = System.nanoTime();
-        ShapeRegistry shapeRegistry = BlocksConfig.getInstance().getShapeRegistry();
 
         // create the node of the chunk
         Vec3i chunkLocation = chunk.getLocation();
         Node node = new Node("Chunk - " + chunkLocation);
 
-        // create the map holding all the meshes of the chunk and the collision mesh
-        Map<String, ChunkMesh> meshMap = new HashMap<>();
-        ChunkMesh collisionMesh = new ChunkMesh(true);
+        // create the map holding all the meshes of the chunk and the collision mesh, the meshes are reused
+        ChunkMeshPool pool = ChunkMeshPool.get();
+        Map<String, ChunkMesh> meshMap = pool.acquireMeshMap();
+        ChunkMesh collisionMesh = pool.acquire(true);
+        Mesh mesh;
+        try {
+            if (isSectioned()) {
+                // only the changed sections of a snapshot are created
+                addSections(chunk, chunk.getChangedSections(), meshMap, collisionMesh, node);
+            } else {
+                addBlocks(chunk, meshMap, collisionMesh);
+
+                if (log.isTraceEnabled()) {
+                    log.trace("Chunk {} meshes construction took {}ms", chunk, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+                }
+
+                // create a geometry for each type of block
+                attachGeometries(meshMap, node);
+            }
+            mesh = collisionMesh.generateMesh();
+        } finally {
+            pool.releaseMeshMap(meshMap);
+            pool.release(collisionMesh);
+        }
+
+        // position the node
+        node.setLocalTranslation(chunk.getWorldLocation());
+
+        // set the node and collision mesh on the chunk
+        chunk.setNode(node);
+        chunk.setCollisionMesh(mesh);
+
+        if (log.isTraceEnabled()) {
+            log.trace("Total chunk node generation took {}ms", TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        }
+    }
+
+    /**
+     * Adds the blocks of the chunk to the meshes. Each block is added to the mesh of its type in the mesh map, solid
+     * blocks are also added to the collision mesh. Subclasses can override this method to change the way the meshes
+     * are constructed.
+     *
+     * @param chunk the chunk to traverse
+     * @param meshMap the meshes per type, or null when no render meshes should be created
+     * @param collisionMesh the collision mesh, or null when no collision mesh should be created
+     */
+    protected void addBlocks(Chunk chunk, Map<String, ChunkMesh> meshMap, ChunkMesh collisionMesh) {
+        // chunks without visible faces are not traversed
+        byte[] visibleFaces = calculateVisibleFaces(chunk);
+        if (visibleFaces == null) {
+            return;
+        }
+
+        addBlocks(chunk, visibleFaces, new Vec3i(0, 0, 0), BlocksConfig.getInstance().getChunkSize(), meshMap, collisionMesh);
+    }
 
-        // the first block location is (0, 0, 0)
-        Vec3i blockLocation = new Vec3i(0, 0, 0);
+    /**
+     * Checks if the mesh of a chunk is constructed in sections. Subclasses that construct the mesh of the whole chunk
+     * at once should return false.
+     *
+     * @return true when a section size is set in the {@link BlocksConfig}
+     */
+    protected boolean isSectioned() {
+        return BlocksConfig.getInstance().getSectionSize() != null;
+    }
 
-        for (Block block : chunk.getBlocks()) {
-            // check if there is a block
-            if (block != null) {
-                // create a mesh for each different block type
-                ChunkMesh mesh = meshMap.computeIfAbsent(block.getType(), function -> new ChunkMesh());
+    /**
+     * Creates a node for each section of the chunk and attaches it to the node of the chunk. When the changed sections
+     * are given, only the changed sections are created and the node of the chunk is marked as a partial node. Sections
+     * without blocks are created as well, so they replace the section of the previous mesh. The solid blocks of the
+     * whole chunk are added to the collision mesh.
+     *
+     * @param chunk           the chunk to traverse
+     * @param changedSections the sections to create, indexed by the section index, or null to create all sections
+     * @param meshMap         the meshes per type
+     * @param collisionMesh   the collision mesh, or null when no collision mesh should be created
+     * @param node            the node of the chunk
+     */
+    private void addSections(Chunk chunk, boolean[] changedSections, Map<String, ChunkMesh> meshMap, ChunkMesh collisionMesh, Node node) {
+        long start = System.nanoTime();
+        Vec3i chunkSize = BlocksConfig.getInstance().getChunkSize();
+        Vec3i sectionSize = BlocksConfig.getInstance().getSectionSize();
+        Vec3i sectionCount = Chunk.getSectionCount();
+        ChunkMeshPool pool = ChunkMeshPool.get();
 
-                // add the block mesh to the chunk mesh
-                Shape shape = shapeRegistry.get(block.getShape());
-                shape.add(blockLocation, chunk, mesh);
+        if (changedSections != null) {
+            node.setUserData(Chunk.PARTIAL_NODE, true);
+        }
 
-                // add the block to the collision mesh
-                if (block.isSolid()) {
-                    shape.add(blockLocation, chunk, collisionMesh);
+        // chunks without visible faces are not traversed, the sections are empty
+        byte[] visibleFaces = calculateVisibleFaces(chunk);
+        Vec3i from = new Vec3i();
+        Vec3i to = new Vec3i();
+        for (int x = 0; x < sectionCount.x; x++) {
+            for (int y = 0; y < sectionCount.y; y++) {
+                for (int z = 0; z < sectionCount.z; z++) {
+                    if (changedSections != null && !changedSections[Chunk.getSectionIndex(x, y, z, sectionCount)]) {
+                        continue;
+                    }
+
+                    Node section = new Node("Section - " + new Vec3i(x, y, z));
+                    if (visibleFaces != null) {
+                        from.set(x * sectionSize.x, y * sectionSize.y, z * sectionSize.z);
+                        to.set(Math.min(from.x + sectionSize.x, chunkSize.x), Math.min(from.y + sectionSize.y, chunkSize.y), Math.min(from.z + sectionSize.z, chunkSize.z));
+                        addBlocks(chunk, visibleFaces, from, to, meshMap, null);
+                        attachGeometries(meshMap, section);
+
+                        // return the meshes of the section to the pool, they are reused for the next section
+                        meshMap.values().forEach(pool::release);
+                        meshMap.clear();
+                    }
+                    node.attachChild(section);
                 }
             }
+        }
 
-            // increment the block location
-            incrementBlockLocation(blockLocation);
+        if (collisionMesh != null && visibleFaces != null) {
+            addBlocks(chunk, visibleFaces, new Vec3i(0, 0, 0), chunkSize, null, collisionMesh);
         }
 
         if (log.isTraceEnabled()) {
-            log.trace("Chunk {} meshes construction took {}ms", chunk, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+            log.trace("Chunk {} construction of {} sections took {}ms", chunk, node.getQuantity(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
         }
+    }
 
-        // create a geometry for each type of block
-        meshMap.forEach((type, chunkMesh) -> {
-            Geometry geometry = createGeometry(type, chunkMesh);
-            node.attachChild(geometry);
-        });
+    /**
+     * Adds the blocks of the chunk between the from (inclusive) and to (exclusive) block coordinates to the meshes.
+     *
+     * @param chunk         the chunk to traverse
+     * @param visibleFaces  the visible faces of the blocks of the chunk
+     * @param from          the first block coordinate
+     * @param to            the block coordinate after the last block
+     * @param meshMap       the meshes per type, or null when no render meshes should be created
+     * @param collisionMesh the collision mesh, or null when no collision mesh should be created
+     */
+    private void addBlocks(Chunk chunk, byte[] visibleFaces, Vec3i from, Vec3i to, Map<String, ChunkMesh> meshMap, ChunkMesh collisionMesh) {
+        ShapeRegistry shapeRegistry = BlocksConfig.getInstance().getShapeRegistry();
+        Vec3i chunkSize = BlocksConfig.getInstance().getChunkSize();
+        BlockStorage blocks = chunk.getBlockStorage();
+
+        Vec3i blockLocation = new Vec3i();
+        for (int x = from.x; x < to.x; x++) {
+            for (int y = from.y; y < to.y; y++) {
+                int index = from.z + y * chunkSize.z + x * chunkSize.y * chunkSize.z;
+                for (int z = from.z; z < to.z; z++, index++) {
+                    Block block = blocks.get(index);
+                    // check if there is a block
+                    if (block == null) {
+                        continue;
+                    }
+
+                    // the template of the shape adds the precomputed vertices of the block
+                    Shape shape = shapeRegistry.getTemplate(block.getShape());
+                    blockLocation.set(x, y, z);
+
+                    // add the block mesh to the chunk mesh of the type
+                    if (meshMap != null) {
+                        addShape(shape, blockLocation, visibleFaces[index], chunk, getChunkMesh(meshMap, block.getType()));
+                    }
+
+                    // add the block to the collision mesh
+                    if (collisionMesh != null && block.isSolid()) {
+                        addShape(shape, blockLocation, visibleFaces[index], chunk, collisionMesh);
+                    }
+                }
+            }
+        }
+    }
 
-        // position the node
-        node.setLocalTranslation(chunk.getWorldLocation());
+    /**
+     * Calculates the visible faces of the blocks of the chunk, see {@link Chunk#calculateVisibleFaces(byte[])}.
+     *
+     * @param chunk the chunk
+     * @return the visible faces or null when the chunk has no visible faces
+     */
+    private byte[] calculateVisibleFaces(Chunk chunk) {
+        if (!hasVisibleFaces(chunk)) {
+            return null;
+        }
 
-        // set the node and collision mesh on the chunk
-        chunk.setNode(node);
-        chunk.setCollisionMesh(collisionMesh.generateMesh());
-        collisionMesh.clear();
+        BlockStorage blocks = chunk.getBlockStorage();
+        return chunk.calculateVisibleFaces(ChunkMeshPool.get().getVisibleFacesArray(blocks.size()));
+    }
+
+    /**
+     * Adds the shape at the location to the chunk mesh. A {@link ShapeTemplate} uses the visible faces that are already
+     * calculated, other shapes check the visible faces themselves.
+     *
+     * @param shape        to add
+     * @param location     of the block in the chunk
+     * @param visibleFaces the mask of the visible faces of the block
+     * @param chunk        of the block
+     * @param chunkMesh    to add the shape to
+     */
+    protected void addShape(Shape shape, Vec3i location, int visibleFaces, Chunk chunk, ChunkMesh chunkMesh) {
+        if (shape instanceof ShapeTemplate) {
+            ((ShapeTemplate) shape).add(location, visibleFaces, chunk, chunkMesh);
+        } else {
+            shape.add(location, chunk, chunkMesh);
+        }
+    }
+
+    /**
+     * Retrieve the chunk mesh of the type from the mesh map. When the map doesn't contain a chunk mesh for the type yet,
+     * a chunk mesh is retrieved from the {@link ChunkMeshPool} of the current thread and added to the map.
+     *
+     * @param meshMap the meshes per type
+     * @param type    of the block
+     * @return the chunk mesh of the type
+     */
+    protected ChunkMesh getChunkMesh(Map<String, ChunkMesh> meshMap, String type) {
+        ChunkMesh chunkMesh = meshMap.get(type);
+        if (chunkMesh == null) {
+            chunkMesh = ChunkMeshPool.get().acquire(false);
+            meshMap.put(type, chunkMesh);
+        }
+        return chunkMesh;
+    }
+
+    /**
+     * Checks if the chunk can have visible faces. An empty uniform chunk has no faces. A uniform chunk of cubes has no
+     * visible faces when the cubes hide each other and the blocks on the borders of the neighbouring chunks hide the
+     * faces on the border of the chunk.
+     *
+     * @param chunk to check
+     * @return false if the chunk certainly has no visible faces, true otherwise
+     */
+    protected boolean hasVisibleFaces(Chunk chunk) {
+        if (!chunk.isUniform()) {
+            return true;
+        }
+
+        Block block = chunk.getBlock(0, 0, 0);
+        if (block == null) {
+            return false;
+        }
+
+        Shape shape = BlocksConfig.getInstance().getShapeRegistry().get(block.getShape());
+        BiFunction<Block, Block, Boolean> faceVisibleFunction = Chunk.getFaceVisibleFunction();
+        if (!(shape instanceof Cube) || faceVisibleFunction.apply(block, block)) {
+            return true;
+        }
+
+        // all blocks on the borders of the neighbouring chunks should hide the faces on the border of the chunk
+        for (Block[] border : chunk.getNeighbourBorders()) {
+            if (border == null) {
+                return true;
+            }
+            for (Block neighbour : border) {
+                if (faceVisibleFunction.apply(block, neighbour)) {
+                    return true;
+                }
+            }
+        }
 
         if (log.isTraceEnabled()) {
-            log.trace("Total chunk node generation took {}ms", TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+            log.trace("{} has no visible faces", chunk);
         }
+        return false;
+    }
+
+    private void attachGeometries(Map<String, ChunkMesh> meshMap, Node node) {
+        meshMap.forEach((type, chunkMesh) -> {
+            Geometry geometry = createGeometry(type, chunkMesh);
+            node.attachChild(geometry);
+        });
+    }
+
+    /**
+     * Retrieve the material of the geometry of the type. This is called on the thread that constructs the mesh.
+     *
+     * @param type of the geometry
+     * @return the material of the type
+     */
+    protected Material getMaterial(String type) {
+        return BlocksConfig.getInstance().getTypeRegistry().get(type).getMaterial();
     }
 
     private Geometry createGeometry(String type, ChunkMesh chunkMesh) {
@@ -179,8 +396,7 @@ public class FacesMeshGenerator implements ChunkMeshGenerator {
             generateTangents(mesh);
         }
         Geometry geometry = new Geometry(type, mesh);
-        TypeRegistry typeRegistry = BlocksConfig.getInstance().getTypeRegistry();
-        geometry.setMaterial(typeRegistry.get(type).getMaterial());
+        geometry.setMaterial(getMaterial(type));
         geometry.setShadowMode(RenderQueue.ShadowMode.CastAndReceive);
         if (geometry.getMaterial().getAdditionalRenderState().getBlendMode() == RenderState.BlendMode.Alpha) {
             if (log.isTraceEnabled()) {
@@ -211,35 +427,4 @@ public class FacesMeshGenerator implements ChunkMeshGenerator {
         }
     }
 
-    /**
-     * Reverse calculate the index of the block in the chunk blocks array. When looping through the blocks array, this
-     * method should be called once per iteration to know the location of the current block.
-     * The first passed block location should be Vec3i(0, 0, 0).
-     *
-     * @param blockLocation the current block location in the chunk block array
-     * @return the next block location in the chunk block array
-     */
-    private Vec3i incrementBlockLocation(Vec3i blockLocation) {
-        // reverse calculate the block location, based on the position in the array.
-        // eg. for a chunk(3,3,3) the index is calculated as followed:
-        // [0] = block(0,0,0)
-        // [1] = block(0,0,1)
-        // [2] = block(0,0,2)
-        // [3] = block(0,1,0)
-        // ...
-        // [26] = block(2,2,2)
-        if (blockLocation.z + 1 >= BlocksConfig.getInstance().getChunkSize().z) {
-            blockLocation.z = 0;
-            if (blockLocation.y + 1 >= BlocksConfig.getInstance().getChunkSize().y) {
-                blockLocation.y = 0;
-                blockLocation.x++;
-            } else {
-                blockLocation.y++;
-            }
-        } else {
-            blockLocation.z++;
-        }
-        return blockLocation;
-    }
-
 }
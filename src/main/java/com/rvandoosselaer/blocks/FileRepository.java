@@ -1,6 +1,5 @@
 package com.rvandoosselaer.blocks;
 
-import com.rvandoosselaer.blocks.protobuf.BlocksProtos;
 import com.simsilica.mathd.Vec3i;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -11,19 +10,17 @@ import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 
 import java.io.IOException;
-import java.io.InputStream;
 import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.util.Arrays;
-import java.util.List;
 import java.util.concurrent.TimeUnit;
-import java.util.stream.Collectors;
 
 /**
- * A File repository implementation for loading and storing chunks using the Protocol Buffers method.
- * Each chunk is stored in a separate file.
+ * A File repository implementation for loading and storing chunks using the {@link ChunkFormat}.
+ * Each chunk is stored in a separate file. Chunk files in the legacy Protocol Buffers format are still loaded.
+ * When a {@link ChunkCompression} is set, chunks are compressed before they are saved. Chunks are always loaded,
+ * regardless of the compression they were saved with.
  *
  * @author rvandoosselaer
  */
@@ -41,6 +38,14 @@ public class FileRepository implements ChunkRepository {
      * The path to save chunks to and load chunks from.
      */
     private Path path;
+    /**
+     * The codec to compress the chunks with, null to save uncompressed chunks.
+     */
+    private ChunkCompression compression;
+
+    public FileRepository(Path path) {
+        this.path = path;
+    }
 
     @Override
     public Chunk load(Vec3i location) {
@@ -135,11 +140,8 @@ public class FileRepository implements ChunkRepository {
         }
 
         long start = System.nanoTime();
-        try (InputStream in = Files.newInputStream(chunkPath)) {
-            BlocksProtos.ChunkProto chunkProto =  BlocksProtos.ChunkProto.newBuilder()
-                    .mergeFrom(in)
-                    .build();
-            Chunk chunk = chunkProtoToChunk(chunkProto);
+        try {
+            Chunk chunk = ChunkFormat.read(Files.readAllBytes(chunkPath));
             if (log.isTraceEnabled()) {
                 log.trace("Loading {} took {}ms", chunk, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
             }
@@ -158,8 +160,7 @@ public class FileRepository implements ChunkRepository {
 
         long start = System.nanoTime();
         try (OutputStream out = Files.newOutputStream(chunkPath)) {
-            BlocksProtos.ChunkProto chunkProto = chunkToChunkProto(chunk);
-            chunkProto.writeTo(out);
+            out.write(ChunkFormat.write(chunk, compression));
             if (log.isTraceEnabled()) {
                 log.trace("Saving {} took {}ms", chunk, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
             }
@@ -178,52 +179,4 @@ public class FileRepository implements ChunkRepository {
         return "chunk_" + location.x + "_" + location.y + "_" + location.z + EXTENSION;
     }
 
-    private static Chunk chunkProtoToChunk(@NonNull BlocksProtos.ChunkProto chunkProto) {
-        Vec3i location = getVector(chunkProto.getLocationList());
-        Vec3i size = getVector(chunkProto.getSizeList());
-
-        int expectedSize = size.x * size.y * size.z;
-
-        if (expectedSize != chunkProto.getBlocksCount()) {
-            throw new IllegalStateException("Invalid block data specified! Expected " + expectedSize + " blocks, but found " + chunkProto.getBlocksCount() + " blocks.");
-        }
-
-        BlockRegistry blockRegistry = BlocksConfig.getInstance().getBlockRegistry();
-        Block[] blocks = chunkProto.getBlocksList().stream()
-                .map(blockRegistry::get)
-                .toArray(Block[]::new);
-
-        Chunk chunk = Chunk.createAt(location);
-        chunk.setBlocks(blocks);
-        chunk.update();
-
-        return chunk;
-    }
-
-    private static BlocksProtos.ChunkProto chunkToChunkProto(@NonNull Chunk chunk) {
-        Vec3i size = BlocksConfig.getInstance().getChunkSize();
-
-        return BlocksProtos.ChunkProto.newBuilder()
-                // location
-                .addLocation(chunk.getLocation().x)
-                .addLocation(chunk.getLocation().y)
-                .addLocation(chunk.getLocation().z)
-                // size
-                .addSize(size.x)
-                .addSize(size.y)
-                .addSize(size.z)
-                .addAllBlocks(Arrays.stream(chunk.getBlocks())
-                        .map(block -> block != null ? block.getName() : BlockIds.EMPTY)
-                        .collect(Collectors.toList()))
-                .build();
-    }
-
-    private static Vec3i getVector(@NonNull List<Integer> integers) {
-        if (integers.size() != 3) {
-            throw new IllegalArgumentException("Invalid vector data specified! data: " + integers);
-        }
-
-        return new Vec3i(integers.get(0), integers.get(1), integers.get(2));
-    }
-
 }
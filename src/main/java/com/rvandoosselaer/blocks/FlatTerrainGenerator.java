@@ -27,9 +27,12 @@ public class FlatTerrainGenerator implements ChunkGenerator {
 
     @Override
     public Chunk generate(Vec3i location) {
-        Chunk chunk = Chunk.createAt(location);
-
         Vec3i chunkSize = BlocksConfig.getInstance().getChunkSize();
+        if (y == chunkSize.y - 1) {
+            return Chunk.createAt(location, block);
+        }
+
+        Chunk chunk = Chunk.createAt(location);
         for (int x = 0; x < chunkSize.x; x++) {
             for (int i = 0; i <= y; i++) {
                 for (int z = 0; z < chunkSize.z; z++) {
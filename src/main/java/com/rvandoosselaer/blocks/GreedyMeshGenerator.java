@@ -0,0 +1,399 @@
+package com.rvandoosselaer.blocks;
+
+import com.jme3.material.MatParam;
+import com.jme3.material.MatParamTexture;
+import com.jme3.material.Material;
+import com.jme3.math.Vector2f;
+import com.jme3.math.Vector3f;
+import com.jme3.math.Vector4f;
+import com.jme3.texture.Texture;
+import com.rvandoosselaer.blocks.shapes.Cube;
+import com.simsilica.mathd.Vec3i;
+import lombok.ToString;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+/**
+ * A chunk mesh generator that merges the coplanar, adjacent faces of cubes of the same block into larger quads. A flat
+ * surface of the same block is constructed with a handful of quads, instead of a quad for each block.
+ * <p>
+ * Only faces of {@link Cube} shapes in the default (UP) direction with a type that uses the full texture for each face
+ * are merged. The texture of a merged face is repeated for each block it covers. The geometries of these types use a
+ * clone of the material of the type with copies of the textures of which the wrap mode is set to
+ * {@link Texture.WrapMode#Repeat}, the material and textures of the type are not changed. Faces of blocks that use a part of a texture (eg. blocks with a
+ * different texture for the top and the bottom face) and all other shapes are added using the
+ * {@link Shape#add(Vec3i, Chunk, ChunkMesh)} method, just like the {@link FacesMeshGenerator} does.
+ * The faces of all solid cubes are merged in the collision mesh.
+ * The mesh is always constructed for the whole chunk, the section size of the {@link BlocksConfig} is ignored.
+ *
+ * @author rvandoosselaer
+ */
+@Slf4j
+@ToString(onlyExplicitlyIncluded = true)
+public class GreedyMeshGenerator extends FacesMeshGenerator {
+
+    private static final Map<Direction, Face> FACES = createFaces();
+
+    // the materials with repeating textures of the types that use the full texture for each face, by type name
+    private final ConcurrentMap<String, RepeatingMaterial> repeatingMaterials = new ConcurrentHashMap<>();
+
+    /**
+     * The merged faces span the whole chunk, the mesh is never constructed in sections.
+     *
+     * @return false
+     */
+    @Override
+    protected boolean isSectioned() {
+        return false;
+    }
+
+    @Override
+    protected void addBlocks(Chunk chunk, Map<String, ChunkMesh> meshMap, ChunkMesh collisionMesh) {
+        if (!hasVisibleFaces(chunk)) {
+            return;
+        }
+
+        Vec3i chunkSize = BlocksConfig.getInstance().getChunkSize();
+        ShapeRegistry shapeRegistry = BlocksConfig.getInstance().getShapeRegistry();
+        Map<Block, Boolean> mergeableBlocks = new IdentityHashMap<>();
+
+        // calculate the visible faces of all blocks at once
+        int size = chunkSize.x * chunkSize.y * chunkSize.z;
+        byte[] visibleFaces = chunk.calculateVisibleFaces(ChunkMeshPool.get().getVisibleFacesArray(size));
+
+        // add the blocks that can't be merged using their shape
+        Vec3i blockLocation = new Vec3i();
+        int index = 0;
+        for (int x = 0; x < chunkSize.x; x++) {
+            for (int y = 0; y < chunkSize.y; y++) {
+                for (int z = 0; z < chunkSize.z; z++, index++) {
+                    Block block = chunk.getBlock(x, y, z);
+                    if (block == null) {
+                        continue;
+                    }
+
+                    blockLocation.set(x, y, z);
+                    Shape shape = shapeRegistry.get(block.getShape());
+                    Shape template = shapeRegistry.getTemplate(block.getShape());
+                    if (meshMap != null && !isMergeable(block, mergeableBlocks)) {
+                        addShape(template, blockLocation, visibleFaces[index], chunk, getChunkMesh(meshMap, block.getType()));
+                    }
+                    if (collisionMesh != null && block.isSolid() && !(shape instanceof Cube)) {
+                        addShape(template, blockLocation, visibleFaces[index], chunk, collisionMesh);
+                    }
+                }
+            }
+        }
+
+        // merge the faces of the cubes. The masks hold the blocks of which the face in a slice is visible and can be
+        // merged, they are large enough for the slices of all directions and are empty again after each slice.
+        int maskSize = Math.max(chunkSize.x * chunkSize.z, Math.max(chunkSize.z * chunkSize.y, chunkSize.x * chunkSize.y));
+        Block[] renderMask = meshMap != null ? new Block[maskSize] : null;
+        boolean[] collisionMask = collisionMesh != null ? new boolean[maskSize] : null;
+        for (Direction direction : Direction.values()) {
+            mergeFaces(chunk, direction, visibleFaces, meshMap, collisionMesh, renderMask, collisionMask, mergeableBlocks);
+        }
+    }
+
+    private void mergeFaces(Chunk chunk, Direction direction, byte[] visibleFaces, Map<String, ChunkMesh> meshMap, ChunkMesh collisionMesh,
+                            Block[] renderMask, boolean[] collisionMask, Map<Block, Boolean> mergeableBlocks) {
+        Vec3i chunkSize = BlocksConfig.getInstance().getChunkSize();
+        ShapeRegistry shapeRegistry = BlocksConfig.getInstance().getShapeRegistry();
+        float blockScale = BlocksConfig.getInstance().getBlockScale();
+        Face face = FACES.get(direction);
+
+        int[] size = {chunkSize.x, chunkSize.y, chunkSize.z};
+        int width = size[face.u];
+        int height = size[face.v];
+
+        int[] position = new int[3];
+        for (int slice = 0; slice < size[face.n]; slice++) {
+            position[face.n] = slice;
+            boolean hasFaces = false;
+            for (int j = 0; j < height; j++) {
+                position[face.v] = j;
+                for (int i = 0; i < width; i++) {
+                    position[face.u] = i;
+                    Block block = chunk.getBlock(position[0], position[1], position[2]);
+                    boolean render = renderMask != null && block != null && isMergeable(block, mergeableBlocks);
+                    boolean collision = collisionMask != null && block != null && block.isSolid() && shapeRegistry.get(block.getShape()) instanceof Cube;
+                    int index = position[2] + position[1] * chunkSize.z + position[0] * chunkSize.y * chunkSize.z;
+                    if ((render || collision) && (visibleFaces[index] & (1 << direction.ordinal())) != 0) {
+                        hasFaces = true;
+                        if (render) {
+                            renderMask[i + j * width] = block;
+                        }
+                        if (collision) {
+                            collisionMask[i + j * width] = true;
+                        }
+                    }
+                }
+            }
+
+            if (!hasFaces) {
+                continue;
+            }
+
+            if (renderMask != null) {
+                addRenderQuads(renderMask, width, height, slice, face, meshMap, blockScale);
+            }
+            if (collisionMask != null) {
+                addCollisionQuads(collisionMask, width, height, slice, face, collisionMesh, blockScale);
+            }
+        }
+    }
+
+    private void addRenderQuads(Block[] mask, int width, int height, int slice, Face face, Map<String, ChunkMesh> meshMap, float blockScale) {
+        for (int j = 0; j < height; j++) {
+            for (int i = 0; i < width; i++) {
+                Block block = mask[i + j * width];
+                if (block == null) {
+                    continue;
+                }
+
+                // grow the quad along the u axis
+                int quadWidth = 1;
+                while (i + quadWidth < width && mask[i + quadWidth + j * width] == block) {
+                    quadWidth++;
+                }
+                // grow the quad along the v axis, as long as the complete row matches
+                int quadHeight = 1;
+                while (j + quadHeight < height && isRow(mask, block, i, j + quadHeight, quadWidth, width)) {
+                    quadHeight++;
+                }
+
+                for (int v = j; v < j + quadHeight; v++) {
+                    for (int u = i; u < i + quadWidth; u++) {
+                        mask[u + v * width] = null;
+                    }
+                }
+
+                addQuad(getChunkMesh(meshMap, block.getType()), face, slice, i, j, quadWidth, quadHeight, blockScale);
+            }
+        }
+    }
+
+    private void addCollisionQuads(boolean[] mask, int width, int height, int slice, Face face, ChunkMesh collisionMesh, float blockScale) {
+        for (int j = 0; j < height; j++) {
+            for (int i = 0; i < width; i++) {
+                if (!mask[i + j * width]) {
+                    continue;
+                }
+
+                int quadWidth = 1;
+                while (i + quadWidth < width && mask[i + quadWidth + j * width]) {
+                    quadWidth++;
+                }
+                int quadHeight = 1;
+                while (j + quadHeight < height && isRow(mask, i, j + quadHeight, quadWidth, width)) {
+                    quadHeight++;
+                }
+
+                for (int v = j; v < j + quadHeight; v++) {
+                    for (int u = i; u < i + quadWidth; u++) {
+                        mask[u + v * width] = false;
+                    }
+                }
+
+                addQuad(collisionMesh, face, slice, i, j, quadWidth, quadHeight, blockScale);
+            }
+        }
+    }
+
+    private static boolean isRow(Block[] mask, Block block, int u, int v, int length, int width) {
+        for (int i = u; i < u + length; i++) {
+            if (mask[i + v * width] != block) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isRow(boolean[] mask, int u, int v, int length, int width) {
+        for (int i = u; i < u + length; i++) {
+            if (!mask[i + v * width]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Adds a quad covering the blocks [u, u + width[ and [v, v + height[ in the slice to the mesh. The vertices of the
+     * quad are the vertices of the cube face, stretched over all blocks. The texture coordinates are multiplied with
+     * the size of the quad so the texture is repeated for each block.
+     */
+    private static void addQuad(ChunkMesh mesh, Face face, int slice, int u, int v, int width, int height, float blockScale) {
+        // calculate index offset, we use this to connect the triangles
+        int offset = mesh.getVertexCount();
+        float[] position = new float[3];
+        for (int i = 0; i < 4; i++) {
+            float[] vertex = face.positions[i];
+            position[face.n] = slice + vertex[face.n];
+            position[face.u] = vertex[face.u] < 0 ? u - 0.5f : u + width - 0.5f;
+            position[face.v] = vertex[face.v] < 0 ? v - 0.5f : v + height - 0.5f;
+            mesh.addPosition(position[0] * blockScale, position[1] * blockScale, position[2] * blockScale);
+        }
+        // indices
+        mesh.addIndex(offset);
+        mesh.addIndex(offset + 1);
+        mesh.addIndex(offset + 2);
+        mesh.addIndex(offset + 1);
+        mesh.addIndex(offset + 3);
+        mesh.addIndex(offset + 2);
+
+        if (!mesh.isCollisionMesh()) {
+            // normals, tangents and uvs
+            for (int i = 0; i < 4; i++) {
+                mesh.addNormal(face.normal);
+                mesh.addTangent(face.tangent);
+                mesh.addUv(face.uvs[i].x * width, face.uvs[i].y * height);
+            }
+        }
+    }
+
+    /**
+     * Checks if the faces of the block can be merged. A block can be merged when it's a cube in the default direction,
+     * and the type uses the full texture for each face.
+     */
+    private boolean isMergeable(Block block, Map<Block, Boolean> mergeableBlocks) {
+        Boolean mergeable = mergeableBlocks.get(block);
+        if (mergeable == null) {
+            mergeable = isMergeable(block);
+            mergeableBlocks.put(block, mergeable);
+        }
+        return mergeable;
+    }
+
+    private static boolean isMergeable(Block block) {
+        Shape shape = BlocksConfig.getInstance().getShapeRegistry().get(block.getShape());
+        if (!(shape instanceof Cube) || ((Cube) shape).getDirection() != Direction.UP || block.isUsingMultipleImages()) {
+            return false;
+        }
+
+        return isUsingFullTexture(BlocksConfig.getInstance().getTypeRegistry().get(block.getType()));
+    }
+
+    private static boolean isUsingFullTexture(Type type) {
+        if (type == null) {
+            return false;
+        }
+        Function<Direction, TextureCoordinates> textureCoordinatesFunction = type.getTextureCoordinatesFunction();
+        for (Direction direction : Direction.values()) {
+            TextureCoordinates textureCoordinates = textureCoordinatesFunction.apply(direction);
+            if (textureCoordinates.getMin().x != 0 || textureCoordinates.getMin().y != 0
+                    || textureCoordinates.getMax().x != 1 || textureCoordinates.getMax().y != 1) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * The geometry of a type that uses the full texture for each face can hold merged faces, it uses a material with
+     * repeating textures. The material is created once for each type.
+     */
+    @Override
+    protected Material getMaterial(String typeName) {
+        Type type = BlocksConfig.getInstance().getTypeRegistry().get(typeName);
+        if (!isUsingFullTexture(type) || type.getMaterial() == null) {
+            return super.getMaterial(typeName);
+        }
+
+        // the material is created again when the type is registered again, eg. when the theme changes
+        return repeatingMaterials.compute(typeName, (name, repeatingMaterial) ->
+                repeatingMaterial != null && repeatingMaterial.type == type ? repeatingMaterial : new RepeatingMaterial(type)).material;
+    }
+
+    /**
+     * A clone of the material of a type, with copies of the textures that are repeated.
+     */
+    private static class RepeatingMaterial {
+
+        private final Type type;
+        private final Material material;
+
+        RepeatingMaterial(Type type) {
+            this.type = type;
+            this.material = type.getMaterial().clone();
+            for (MatParam param : new ArrayList<>(material.getParams())) {
+                if (param instanceof MatParamTexture && param.getValue() != null) {
+                    // the copy shares the image with the texture of the type
+                    Texture texture = ((Texture) param.getValue()).clone();
+                    texture.setWrap(Texture.WrapMode.Repeat);
+                    material.setTexture(param.getName(), texture);
+                }
+            }
+            if (log.isTraceEnabled()) {
+                log.trace("Created a material with repeating textures for type {}", type.getName());
+            }
+        }
+
+    }
+
+    /**
+     * The faces of a cube, with the axes of the plane of the face. The normal axis is n, the face spans the u and v
+     * axis. The first texture coordinate is along the u axis, the second along the v axis.
+     */
+    private static Map<Direction, Face> createFaces() {
+        Map<Direction, Face> faces = new EnumMap<>(Direction.class);
+        faces.put(Direction.UP, new Face(1, 0, 2,
+                new float[][]{{0.5f, 0.5f, -0.5f}, {-0.5f, 0.5f, -0.5f}, {0.5f, 0.5f, 0.5f}, {-0.5f, 0.5f, 0.5f}},
+                new Vector2f[]{new Vector2f(1, 1), new Vector2f(0, 1), new Vector2f(1, 0), new Vector2f(0, 0)},
+                new Vector3f(0, 1, 0), new Vector4f(1, 0, 0, 1)));
+        faces.put(Direction.DOWN, new Face(1, 0, 2,
+                new float[][]{{-0.5f, -0.5f, -0.5f}, {0.5f, -0.5f, -0.5f}, {-0.5f, -0.5f, 0.5f}, {0.5f, -0.5f, 0.5f}},
+                new Vector2f[]{new Vector2f(0, 0), new Vector2f(1, 0), new Vector2f(0, 1), new Vector2f(1, 1)},
+                new Vector3f(0, -1, 0), new Vector4f(1, 0, 0, 1)));
+        faces.put(Direction.WEST, new Face(0, 2, 1,
+                new float[][]{{-0.5f, -0.5f, 0.5f}, {-0.5f, 0.5f, 0.5f}, {-0.5f, -0.5f, -0.5f}, {-0.5f, 0.5f, -0.5f}},
+                new Vector2f[]{new Vector2f(1, 0), new Vector2f(1, 1), new Vector2f(0, 0), new Vector2f(0, 1)},
+                new Vector3f(-1, 0, 0), new Vector4f(0, 0, 1, 1)));
+        faces.put(Direction.EAST, new Face(0, 2, 1,
+                new float[][]{{0.5f, -0.5f, -0.5f}, {0.5f, 0.5f, -0.5f}, {0.5f, -0.5f, 0.5f}, {0.5f, 0.5f, 0.5f}},
+                new Vector2f[]{new Vector2f(1, 0), new Vector2f(1, 1), new Vector2f(0, 0), new Vector2f(0, 1)},
+                new Vector3f(1, 0, 0), new Vector4f(0, 0, -1, 1)));
+        faces.put(Direction.SOUTH, new Face(2, 0, 1,
+                new float[][]{{0.5f, -0.5f, 0.5f}, {0.5f, 0.5f, 0.5f}, {-0.5f, -0.5f, 0.5f}, {-0.5f, 0.5f, 0.5f}},
+                new Vector2f[]{new Vector2f(1, 0), new Vector2f(1, 1), new Vector2f(0, 0), new Vector2f(0, 1)},
+                new Vector3f(0, 0, 1), new Vector4f(1, 0, 0, 1)));
+        faces.put(Direction.NORTH, new Face(2, 0, 1,
+                new float[][]{{-0.5f, -0.5f, -0.5f}, {-0.5f, 0.5f, -0.5f}, {0.5f, -0.5f, -0.5f}, {0.5f, 0.5f, -0.5f}},
+                new Vector2f[]{new Vector2f(1, 0), new Vector2f(1, 1), new Vector2f(0, 0), new Vector2f(0, 1)},
+                new Vector3f(0, 0, -1), new Vector4f(-1, 0, 0, 1)));
+        return faces;
+    }
+
+    /**
+     * The vertices of a cube face, as created by the {@link Cube} shape.
+     */
+    private static class Face {
+
+        private final int n;
+        private final int u;
+        private final int v;
+        private final float[][] positions;
+        private final Vector2f[] uvs;
+        private final Vector3f normal;
+        private final Vector4f tangent;
+
+        Face(int n, int u, int v, float[][] positions, Vector2f[] uvs, Vector3f normal, Vector4f tangent) {
+            this.n = n;
+            this.u = u;
+            this.v = v;
+            this.positions = positions;
+            this.uvs = uvs;
+            this.normal = normal;
+            this.tangent = tangent;
+        }
+
+    }
+
+}
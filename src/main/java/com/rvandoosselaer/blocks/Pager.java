@@ -9,6 +9,7 @@ import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
@@ -23,10 +24,13 @@ import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
  * An abstract implementation of a 3D pager. Based on the given center location ({@code setLocation()} the pages
- * around this center page in the grid are calculated. Each call to {@link #update()} will:
+ * around this center page in the grid are calculated. When the center page changes, the chunks of all pages in the grid
+ * that are not available yet are requested at once. Each call to {@link #update()} will:
  * - detach one page that is outside the grid, if available
- * - attach one new page that is inside the grid, if available
+ * - attach one new page that is inside the grid and of which the chunk is available
  * - update a page inside the grid, if one is available.
+ * Pages closest to the center page are attached first. The center page is used as the focus of the
+ * {@link ChunkManager}, so the chunks closest to the center page are also loaded, generated and meshed first.
  * Implementing classes need to implement the methods to create, attach and detach pages.
  * The boundaries of the grid can be set by setting {@code setLocation()} and {@code setLocation()}.
  *
@@ -93,6 +97,9 @@ public abstract class Pager<T> {
         pagesToAttach.clear();
         pagesToDetach.clear();
         updatedPages.clear();
+        if (chunkManager.isInitialized()) {
+            requestedPages.forEach(chunkManager::cancelChunkRequest);
+        }
         requestedPages.clear();
         chunkManager.removeListener(listener);
         listener = null;
@@ -137,6 +144,9 @@ public abstract class Pager<T> {
 
     /**
      * Updates the queues of the Pager. This should be called when the gridSize or centerPageLocation has changed.
+     * Pages closest to the center page are attached first. The chunks of the pages that are not available yet are
+     * requested, the chunk manager orders the requests by the distance to the center page. Requests for pages that are
+     * no longer in the grid are cancelled.
      */
     protected void updateQueues() {
         Set<Vec3i> newPages = getPages();
@@ -145,13 +155,16 @@ public abstract class Pager<T> {
         pagesToDetach.clear();
         pagesToAttach.clear();
 
-        // attach new pages in the grid
-        for (Vec3i page : newPages) {
-            // skip pages that are already attached
-            if (!attachedPages.containsKey(page)) {
-                pagesToAttach.offer(page);
-            }
-        }
+        // attach new pages in the grid, closest to the center page first
+        newPages.stream()
+                .filter(page -> !attachedPages.containsKey(page))
+                .sorted(Comparator.comparingInt(page -> page.getDistanceSq(centerPage)))
+                .forEach(pagesToAttach::offer);
+
+        // request all missing chunks now, only attaching the pages to the scene graph is throttled
+        pagesToAttach.stream()
+                .filter(page -> !chunkManager.getChunk(page).isPresent())
+                .forEach(this::requestPage);
 
         // detach pages outside of the grid
         for (Vec3i page : attachedPages.keySet()) {
@@ -162,6 +175,15 @@ public abstract class Pager<T> {
 
         // remove updated pages that are outside of the grid
         updatedPages.removeIf(page -> !newPages.contains(page));
+
+        // cancel requested pages that are outside of the grid
+        requestedPages.removeIf(page -> {
+            if (!newPages.contains(page)) {
+                chunkManager.cancelChunkRequest(page);
+                return true;
+            }
+            return false;
+        });
     }
 
     /**
@@ -190,6 +212,7 @@ public abstract class Pager<T> {
         Vec3i newCenterPage = ChunkManager.getChunkLocation(location);
         if (!Objects.equals(newCenterPage, centerPage)) {
             setCenterPage(newCenterPage);
+            chunkManager.setFocus(newCenterPage);
             updateQueues();
         }
     }
@@ -230,25 +253,26 @@ public abstract class Pager<T> {
     }
 
     /**
-     * Attach the next page in the pagesToAttach queue.
+     * Attach the first page in the pagesToAttach queue of which the chunk is available. The pages of which the chunk
+     * is not available yet are moved to the end of the queue.
      */
     private void attachNextPage() {
-        Vec3i pageLocation = pagesToAttach.poll();
-        if (pageLocation == null) {
-            return;
-        }
-
-        attachPageAtLocation(pageLocation);
-    }
+        for (int i = pagesToAttach.size(); i > 0; i--) {
+            Vec3i pageLocation = pagesToAttach.poll();
+            Optional<Chunk> chunk = chunkManager.getChunk(pageLocation);
+            if (chunk.isPresent()) {
+                attachPageAtLocation(pageLocation, chunk.get());
+                return;
+            }
 
-    private void attachPageAtLocation(Vec3i pageLocation) {
-        Optional<Chunk> chunk = chunkManager.getChunk(pageLocation);
-        if (!chunk.isPresent()) {
             requestPage(pageLocation);
-            return;
+            pagesToAttach.offer(pageLocation);
         }
+    }
+
+    private void attachPageAtLocation(Vec3i pageLocation, Chunk chunk) {
 
-        T page = createPage(chunk.get());
+        T page = createPage(chunk);
         if (page == null) {
             // something went wrong creating the page, try again later
             pagesToAttach.offer(pageLocation);
@@ -265,16 +289,16 @@ public abstract class Pager<T> {
         pagerListeners.forEach(listener -> listener.onPageAttached(pageLocation, page));
     }
 
+    /**
+     * Requests the chunk of the page when it isn't requested yet. The page is attached when the chunk is available.
+     */
     private void requestPage(Vec3i pageLocation) {
-        // chunk was not found, we request it and try again later
-        if (!requestedPages.contains(pageLocation)) {
+        if (requestedPages.add(pageLocation)) {
             if (log.isTraceEnabled()) {
                 log.trace("Requesting page " + pageLocation);
             }
             chunkManager.requestChunk(pageLocation);
-            requestedPages.add(pageLocation);
         }
-        pagesToAttach.offer(pageLocation);
     }
 
     /**
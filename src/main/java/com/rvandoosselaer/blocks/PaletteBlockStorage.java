@@ -0,0 +1,287 @@
+package com.rvandoosselaer.blocks;
+
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * A {@link BlockStorage} implementation that stores a small palette of the distinct blocks in the chunk together with a
+ * bit-packed array of palette indexes. The number of bits per index grows with the size of the palette:
+ * a chunk holding only air uses no index array at all, a chunk with a single block type uses 1 bit per location, a
+ * chunk with up to 15 different block types uses 4 bits per location, ...
+ * The bits per index are always a power of 2 so an index never spans two longs.
+ * <p>
+ * Palette index 0 is reserved for the empty (null) block. Blocks are compared by reference, just like they would be
+ * when stored in a plain array.
+ * When the palette is full, unused palette entries are removed before the index array is widened.
+ * <p>
+ * This storage is not thread safe. Blocks are set in place in the index array, so the blocks should be read and
+ * written on a single thread. Use {@link #copy()} to read the blocks on another thread, eg. to construct a mesh.
+ *
+ * @author rvandoosselaer
+ */
+@Slf4j
+public class PaletteBlockStorage implements BlockStorage {
+
+    // from this palette size on, a map is used to look up the palette index of a block
+    private static final int PALETTE_MAP_THRESHOLD = 16;
+
+    private final int size;
+    // the palette and the index data, replaced as a whole when the storage is resized or filled
+    private Data data;
+
+    public PaletteBlockStorage(int size) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("Invalid storage size specified: " + size + ".");
+        }
+        this.size = size;
+        this.data = new Data(0, size);
+    }
+
+    private PaletteBlockStorage(PaletteBlockStorage storage) {
+        this.size = storage.size;
+        this.data = new Data(storage.data);
+    }
+
+    public PaletteBlockStorage(@NonNull Block[] blocks) {
+        this(blocks.length);
+        for (int i = 0; i < blocks.length; i++) {
+            if (blocks[i] != null) {
+                set(i, blocks[i]);
+            }
+        }
+    }
+
+    @Override
+    public Block get(int index) {
+        checkIndex(index);
+        Data data = this.data;
+        return data.palette[data.getPaletteIndex(index)];
+    }
+
+    @Override
+    public Block set(int index, Block block) {
+        checkIndex(index);
+        Data data = this.data;
+        int paletteIndex = data.indexOf(block);
+        if (paletteIndex < 0) {
+            if (data.isPaletteFull()) {
+                data = resize();
+            }
+            paletteIndex = data.addToPalette(block);
+        }
+
+        Block previous = data.palette[data.getPaletteIndex(index)];
+        data.setPaletteIndex(index, paletteIndex);
+        return previous;
+    }
+
+    @Override
+    public void fill(Block block) {
+        if (block == null) {
+            this.data = new Data(0, size);
+            return;
+        }
+
+        Data filled = new Data(1, size);
+        filled.addToPalette(block);
+        // all 1 bit indexes point to palette entry 1
+        Arrays.fill(filled.indexes, -1L);
+        this.data = filled;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public Block[] toArray() {
+        Data data = this.data;
+        Block[] blocks = new Block[size];
+        if (data.bitsPerIndex == 0) {
+            return blocks;
+        }
+        for (int i = 0; i < size; i++) {
+            blocks[i] = data.palette[data.getPaletteIndex(i)];
+        }
+        return blocks;
+    }
+
+    /**
+     * Copies the palette and the packed index data, the copy uses as little memory as this storage.
+     *
+     * @return the copy of this storage
+     */
+    @Override
+    public PaletteBlockStorage copy() {
+        return new PaletteBlockStorage(this);
+    }
+
+    /**
+     * @return the number of entries in the palette, including the empty block
+     */
+    public int getPaletteSize() {
+        return data.paletteSize;
+    }
+
+    /**
+     * @return the number of bits used to store the palette index of a block location
+     */
+    public int getBitsPerIndex() {
+        return data.bitsPerIndex;
+    }
+
+    /**
+     * Creates a new palette containing only the blocks that are in use, with room for at least one more block, and
+     * copies the index data over to it.
+     *
+     * @return the new data
+     */
+    private Data resize() {
+        Data current = this.data;
+
+        // find the palette entries that are still in use
+        boolean[] used = new boolean[current.paletteSize];
+        used[0] = true;
+        for (int i = 0; i < size; i++) {
+            used[current.getPaletteIndex(i)] = true;
+        }
+        int[] remap = new int[current.paletteSize];
+        int usedCount = 0;
+        for (int i = 0; i < current.paletteSize; i++) {
+            if (used[i]) {
+                remap[i] = usedCount++;
+            }
+        }
+
+        Data resized = new Data(getBitsPerIndex(usedCount + 1), size);
+        for (int i = 1; i < current.paletteSize; i++) {
+            if (used[i]) {
+                resized.addToPalette(current.palette[i]);
+            }
+        }
+        for (int i = 0; i < size; i++) {
+            int paletteIndex = current.getPaletteIndex(i);
+            if (paletteIndex != 0) {
+                resized.setPaletteIndex(i, remap[paletteIndex]);
+            }
+        }
+
+        if (log.isTraceEnabled()) {
+            log.trace("Resized palette from {} to {} entries, {} to {} bits per index", current.paletteSize, usedCount, current.bitsPerIndex, resized.bitsPerIndex);
+        }
+        this.data = resized;
+        return resized;
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " is out of bounds for storage size " + size);
+        }
+    }
+
+    /**
+     * Calculates the number of bits needed to address the given amount of palette entries. The result is always a
+     * power of 2, or 0 when only the empty block needs to be addressed.
+     *
+     * @param paletteSize number of palette entries
+     * @return the number of bits per index
+     */
+    private static int getBitsPerIndex(int paletteSize) {
+        int bits = 0;
+        while ((1L << bits) < paletteSize) {
+            bits = bits == 0 ? 1 : bits * 2;
+        }
+        return bits;
+    }
+
+    /**
+     * The palette and the bit-packed palette indexes.
+     */
+    private static class Data {
+
+        private final int bitsPerIndex;
+        private final long mask;
+        private final long[] indexes;
+        private final Block[] palette;
+        private int paletteSize;
+        private Map<Block, Integer> paletteMap;
+
+        Data(int bitsPerIndex, int size) {
+            this.bitsPerIndex = bitsPerIndex;
+            this.mask = bitsPerIndex == 0 ? 0 : (1L << bitsPerIndex) - 1;
+            this.indexes = bitsPerIndex == 0 ? null : new long[(int) (((long) size * bitsPerIndex + 63) >>> 6)];
+            // there can never be more distinct blocks then locations in the storage
+            this.palette = new Block[(int) Math.min(1L << bitsPerIndex, size + 1L)];
+            this.paletteSize = 1;
+        }
+
+        Data(Data data) {
+            this.bitsPerIndex = data.bitsPerIndex;
+            this.mask = data.mask;
+            this.indexes = data.indexes != null ? data.indexes.clone() : null;
+            this.palette = data.palette.clone();
+            this.paletteSize = data.paletteSize;
+            this.paletteMap = data.paletteMap != null ? new IdentityHashMap<>(data.paletteMap) : null;
+        }
+
+        int getPaletteIndex(int index) {
+            if (bitsPerIndex == 0) {
+                return 0;
+            }
+            long bitIndex = (long) index * bitsPerIndex;
+            return (int) ((indexes[(int) (bitIndex >>> 6)] >>> (bitIndex & 63)) & mask);
+        }
+
+        void setPaletteIndex(int index, int paletteIndex) {
+            if (bitsPerIndex == 0) {
+                return;
+            }
+            long bitIndex = (long) index * bitsPerIndex;
+            int word = (int) (bitIndex >>> 6);
+            int shift = (int) (bitIndex & 63);
+            indexes[word] = (indexes[word] & ~(mask << shift)) | ((paletteIndex & mask) << shift);
+        }
+
+        int indexOf(Block block) {
+            if (block == null) {
+                return 0;
+            }
+            if (paletteMap != null) {
+                Integer paletteIndex = paletteMap.get(block);
+                return paletteIndex != null ? paletteIndex : -1;
+            }
+            for (int i = 1; i < paletteSize; i++) {
+                if (palette[i] == block) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        boolean isPaletteFull() {
+            return paletteSize >= palette.length;
+        }
+
+        int addToPalette(Block block) {
+            int paletteIndex = paletteSize;
+            palette[paletteIndex] = block;
+            paletteSize++;
+            if (paletteMap != null) {
+                paletteMap.put(block, paletteIndex);
+            } else if (paletteSize > PALETTE_MAP_THRESHOLD) {
+                paletteMap = new IdentityHashMap<>();
+                for (int i = 1; i < paletteSize; i++) {
+                    paletteMap.put(palette[i], i);
+                }
+            }
+            return paletteIndex;
+        }
+
+    }
+
+}
@@ -0,0 +1,167 @@
+package com.rvandoosselaer.blocks;
+
+import com.simsilica.mathd.Vec3i;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * A thread safe queue of chunk requests, ordered by the distance of the chunk location to a focus location. Elements
+ * closest to the focus are polled first. Elements at the same distance, or all elements when no focus is set, are
+ * polled in the order they were added. An element is only added once to the queue.
+ * When the focus changes, the elements in the queue are reordered.
+ * <p>
+ * The elements in the queue are tracked in a concurrent map, checking if an element is in the queue is a constant time
+ * operation. A removed element is only marked as removed, it is skipped when it is polled. The heap is rebuilt when
+ * it holds more removed than queued elements.
+ *
+ * @param <T> type of the element: a chunk location or a chunk
+ * @author rvandoosselaer
+ */
+@RequiredArgsConstructor
+class PriorityChunkQueue<T> {
+
+    @NonNull
+    private final Function<T, Vec3i> locationFunction;
+    private final PriorityQueue<Entry<T>> queue = new PriorityQueue<>();
+    // the entry of each element in the queue
+    private final Map<T, Entry<T>> entries = new ConcurrentHashMap<>();
+    @Getter
+    private Vec3i focus;
+    private long sequence = 0;
+
+    /**
+     * @return a queue of chunk locations
+     */
+    static PriorityChunkQueue<Vec3i> ofLocations() {
+        return new PriorityChunkQueue<>(Function.identity());
+    }
+
+    /**
+     * @return a queue of chunks
+     */
+    static PriorityChunkQueue<Chunk> ofChunks() {
+        return new PriorityChunkQueue<>(Chunk::getLocation);
+    }
+
+    /**
+     * Adds the element to the queue, when it isn't already present.
+     *
+     * @param element to add
+     * @return true if the element was added, false if the element was already present in the queue
+     */
+    synchronized boolean offer(@NonNull T element) {
+        if (entries.containsKey(element)) {
+            return false;
+        }
+
+        Entry<T> entry = new Entry<>(element, getDistance(element), sequence++);
+        entries.put(element, entry);
+        queue.add(entry);
+        return true;
+    }
+
+    /**
+     * @return the element closest to the focus or null when the queue is empty
+     */
+    synchronized T poll() {
+        Entry<T> entry;
+        while ((entry = queue.poll()) != null) {
+            if (!entry.removed) {
+                entries.remove(entry.element);
+                return entry.element;
+            }
+        }
+        return null;
+    }
+
+    synchronized boolean remove(T element) {
+        Entry<T> entry = element != null ? entries.remove(element) : null;
+        if (entry == null) {
+            return false;
+        }
+
+        entry.removed = true;
+        if (queue.size() > 2 * entries.size()) {
+            rebuild();
+        }
+        return true;
+    }
+
+    boolean contains(T element) {
+        return element != null && entries.containsKey(element);
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    boolean isEmpty() {
+        return entries.isEmpty();
+    }
+
+    synchronized void clear() {
+        queue.clear();
+        entries.clear();
+    }
+
+    /**
+     * Sets the location the elements in the queue are ordered by. Setting the focus to null orders the elements in
+     * the order they were added.
+     *
+     * @param focus location of a chunk or null
+     */
+    synchronized void setFocus(Vec3i focus) {
+        if (Objects.equals(this.focus, focus)) {
+            return;
+        }
+
+        this.focus = focus != null ? new Vec3i(focus) : null;
+        rebuild();
+    }
+
+    /**
+     * Recreates the heap with the queued elements, dropping the removed elements and recalculating the distances.
+     */
+    private void rebuild() {
+        List<Entry<T>> queued = new ArrayList<>(entries.size());
+        for (Entry<T> entry : queue) {
+            if (!entry.removed) {
+                Entry<T> newEntry = new Entry<>(entry.element, getDistance(entry.element), entry.sequence);
+                entries.put(entry.element, newEntry);
+                queued.add(newEntry);
+            }
+        }
+        queue.clear();
+        queue.addAll(queued);
+    }
+
+    private long getDistance(T element) {
+        return focus != null ? focus.getDistanceSq(locationFunction.apply(element)) : 0;
+    }
+
+    @RequiredArgsConstructor
+    private static class Entry<T> implements Comparable<Entry<T>> {
+
+        private final T element;
+        private final long distance;
+        private final long sequence;
+        private boolean removed = false;
+
+        @Override
+        public int compareTo(Entry<T> other) {
+            int result = Long.compare(distance, other.distance);
+            return result != 0 ? result : Long.compare(sequence, other.sequence);
+        }
+
+    }
+
+}
@@ -0,0 +1,109 @@
+package com.rvandoosselaer.blocks;
+
+import com.simsilica.mathd.Vec3i;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * A tool to move the chunks of a {@link FileRepository} to a {@link RegionFileRepository}. The chunk files are copied
+ * as is, the chunks are not parsed. The location of a chunk is taken from the filename of the chunk file, files that
+ * don't follow the naming of the file repository are skipped.
+ * <p>
+ * The tool can be run from the command line: {@code RegionFileMigration <source> <target> [--delete]}. When --delete
+ * is passed, the chunk files are deleted after all chunks are written to the region files.
+ *
+ * @author rvandoosselaer
+ */
+@Slf4j
+public final class RegionFileMigration {
+
+    private static final Pattern CHUNK_FILENAME = Pattern.compile("chunk_(-?\\d+)_(-?\\d+)_(-?\\d+)" + Pattern.quote(FileRepository.EXTENSION));
+
+    private RegionFileMigration() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2 || args.length > 3 || (args.length == 3 && !"--delete".equals(args[2]))) {
+            System.err.println("Usage: RegionFileMigration <source> <target> [--delete]");
+            System.exit(1);
+        }
+
+        try (RegionFileRepository target = new RegionFileRepository(Paths.get(args[1]))) {
+            int chunks = migrate(Paths.get(args[0]), target, args.length == 3);
+            System.out.println("Migrated " + chunks + " chunks to " + target.getPath().toAbsolutePath());
+        }
+    }
+
+    /**
+     * Copies the chunk files in the source directory to the region file repository.
+     *
+     * @param source the directory of the chunk files
+     * @param target the region file repository
+     * @return the number of migrated chunks
+     * @throws IOException when a chunk file can't be read or a chunk can't be written
+     */
+    public static int migrate(@NonNull Path source, @NonNull RegionFileRepository target) throws IOException {
+        return migrate(source, target, false);
+    }
+
+    /**
+     * Copies the chunk files in the source directory to the region file repository.
+     *
+     * @param source the directory of the chunk files
+     * @param target the region file repository
+     * @param delete true to delete the chunk files when the migration succeeded
+     * @return the number of migrated chunks
+     * @throws IOException when a chunk file can't be read or a chunk can't be written
+     */
+    public static int migrate(@NonNull Path source, @NonNull RegionFileRepository target, boolean delete) throws IOException {
+        if (!Files.isDirectory(source)) {
+            throw new IllegalArgumentException("Invalid path specified: " + source.toAbsolutePath());
+        }
+
+        List<Path> migrated = new ArrayList<>();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(source, "*" + FileRepository.EXTENSION)) {
+            for (Path file : files) {
+                Vec3i location = getLocation(file);
+                if (location == null) {
+                    log.warn("Skipping {}, the filename isn't a chunk filename", file);
+                    continue;
+                }
+                if (!target.write(location, Files.readAllBytes(file))) {
+                    throw new IOException("Unable to write chunk " + location + " to " + target.getRegionPath(target.getRegionLocation(location)));
+                }
+                migrated.add(file);
+            }
+        }
+        target.flush();
+        log.info("Migrated {} chunks from {} to {}", migrated.size(), source.toAbsolutePath(), target.getPath().toAbsolutePath());
+
+        if (delete) {
+            for (Path file : migrated) {
+                Files.delete(file);
+            }
+        }
+        return migrated.size();
+    }
+
+    /**
+     * @return the location of the chunk or null when the filename isn't a chunk filename
+     */
+    static Vec3i getLocation(Path file) {
+        Matcher matcher = CHUNK_FILENAME.matcher(file.getFileName().toString());
+        if (!matcher.matches()) {
+            return null;
+        }
+        return new Vec3i(Integer.parseInt(matcher.group(1)), Integer.parseInt(matcher.group(2)), Integer.parseInt(matcher.group(3)));
+    }
+
+}
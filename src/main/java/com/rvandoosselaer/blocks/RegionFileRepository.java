@@ -0,0 +1,564 @@
+package com.rvandoosselaer.blocks;
+
+import com.simsilica.mathd.Vec3i;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A file repository implementation that packs the chunks of a region in one file. A region is a block of chunks, 16 x
+ * 16 x 16 chunks by default. The chunks are stored using the {@link ChunkFormat}, just like the
+ * {@link FileRepository} does.
+ * <p>
+ * A region file starts with a header holding the size of the region and an offset table. The data of the chunks is
+ * stored in sectors of 4KB after the header. The offset table holds the first sector and the number of sectors of each
+ * chunk in the region, a chunk that isn't saved has no sectors. A chunk that still fits in its sectors is rewritten in
+ * place, a chunk that grew is moved to the first free range of sectors that is large enough, or appended to the file.
+ * The sectors of a moved chunk are reused by other chunks.
+ * <p>
+ * The repository keeps the most recently used region files open, loading and saving a chunk of an open region doesn't
+ * open or close any files. The repository is thread safe. Call {@link #close()} to close the open region files.
+ * <p>
+ * When the repository is memory mapped, the open region files are mapped in memory and chunks are parsed directly from
+ * the mapped file, without copying the data of the chunk to the heap first. A mapping is dropped when a chunk of the
+ * region is written, memory mapping suits worlds that are mostly loaded and seldom saved.
+ * <p>
+ * When a {@link ChunkCompression} is set, chunks are compressed before they are saved. Chunks are always loaded,
+ * regardless of the compression they were saved with.
+ * Use {@link RegionFileMigration} to move the chunks of a {@link FileRepository} to a region file repository.
+ *
+ * @author rvandoosselaer
+ */
+@Slf4j
+public class RegionFileRepository implements ChunkRepository, Closeable, Flushable {
+
+    public static final String EXTENSION = ".region";
+    public static final Vec3i DEFAULT_REGION_SIZE = new Vec3i(16, 16, 16);
+    public static final int DEFAULT_MAX_OPEN_REGIONS = 16;
+    static final int SECTOR_SIZE = 4096;
+    // the magic number and the version of the region file format
+    private static final int MAGIC = 0x424C4B52;
+    private static final int VERSION = 1;
+    // magic, version and the region size
+    private static final int HEADER_SIZE = 5 * Integer.BYTES;
+
+    /**
+     * The path to save region files to and load region files from.
+     */
+    @Getter
+    private final Path path;
+    /**
+     * The number of chunks in a region, along each axis.
+     */
+    @Getter
+    private final Vec3i regionSize;
+    /**
+     * The maximum number of region files that are kept open.
+     */
+    @Getter
+    private final int maxOpenRegions;
+    /**
+     * Flag indicating if chunks are loaded from memory mapped region files.
+     */
+    @Getter
+    private final boolean memoryMapped;
+    /**
+     * The codec to compress the chunks with, null to save uncompressed chunks.
+     */
+    @Getter
+    private final ChunkCompression compression;
+    // the open regions, in order of access
+    private final Map<Vec3i, Region> regions = new LinkedHashMap<>(16, 0.75f, true);
+
+    public RegionFileRepository(@NonNull Path path) {
+        this(path, null, 0, false, null);
+    }
+
+    /**
+     * Creates a region file repository. When no region size or a maximum number of open regions of 0 or less is set,
+     * the default value is used.
+     */
+    @Builder
+    private RegionFileRepository(@NonNull Path path, Vec3i regionSize, int maxOpenRegions, boolean memoryMapped, ChunkCompression compression) {
+        this.path = path;
+        this.memoryMapped = memoryMapped;
+        this.compression = compression;
+        this.regionSize = regionSize != null ? new Vec3i(regionSize) : new Vec3i(DEFAULT_REGION_SIZE);
+        this.maxOpenRegions = maxOpenRegions > 0 ? maxOpenRegions : DEFAULT_MAX_OPEN_REGIONS;
+        if (this.regionSize.x <= 0 || this.regionSize.y <= 0 || this.regionSize.z <= 0) {
+            throw new IllegalArgumentException("Invalid region size specified: " + regionSize + ".");
+        }
+    }
+
+    @Override
+    public Chunk load(Vec3i location) {
+        if (location == null) {
+            return null;
+        }
+
+        long start = System.nanoTime();
+        try {
+            Chunk chunk = memoryMapped ? readMapped(location) : readHeap(location);
+            if (chunk == null) {
+                if (log.isTraceEnabled()) {
+                    log.trace("Chunk {} not found in repository", location);
+                }
+                return null;
+            }
+
+            if (log.isTraceEnabled()) {
+                log.trace("Loading {} took {}ms", chunk, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+            }
+            return chunk;
+        } catch (IOException e) {
+            log.error("Unable to load chunk {}: {}", location, e.getMessage(), e);
+        }
+        return null;
+    }
+
+    @Override
+    public boolean save(Chunk chunk) {
+        if (chunk == null) {
+            return false;
+        }
+
+        long start = System.nanoTime();
+        boolean saved = write(chunk.getLocation(), ChunkFormat.write(chunk, compression));
+        if (saved && log.isTraceEnabled()) {
+            log.trace("Saving {} took {}ms", chunk, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        }
+        return saved;
+    }
+
+    private Chunk readHeap(Vec3i location) throws IOException {
+        byte[] data = readData(location);
+        return data != null ? ChunkFormat.read(data) : null;
+    }
+
+    /**
+     * Parses the chunk from the mapped region file. The chunk is parsed while holding the lock of the region, so the
+     * data can't be rewritten during parsing.
+     */
+    private Chunk readMapped(Vec3i location) throws IOException {
+        while (true) {
+            Region region = getRegion(getRegionLocation(location), false);
+            if (region == null) {
+                return null;
+            }
+            synchronized (region) {
+                if (!region.isClosed()) {
+                    ByteBuffer data = region.map(getIndex(location));
+                    return data != null ? ChunkFormat.read(data) : null;
+                }
+            }
+        }
+    }
+
+    /**
+     * Reads the stored data of the chunk.
+     *
+     * @param location of the chunk
+     * @return the data of the chunk or null when the chunk isn't stored
+     */
+    public byte[] read(@NonNull Vec3i location) {
+        try {
+            return readData(location);
+        } catch (IOException e) {
+            log.error("Unable to read chunk {}: {}", location, e.getMessage(), e);
+        }
+        return null;
+    }
+
+    private byte[] readData(Vec3i location) throws IOException {
+        while (true) {
+            Region region = getRegion(getRegionLocation(location), false);
+            if (region == null) {
+                return null;
+            }
+            synchronized (region) {
+                // the region can be closed by another thread, before the lock was acquired
+                if (!region.isClosed()) {
+                    return region.read(getIndex(location));
+                }
+            }
+        }
+    }
+
+    /**
+     * Stores the data of the chunk, replacing the previous data of the chunk.
+     *
+     * @param location of the chunk
+     * @param data     of the chunk
+     * @return true when the data is stored, false otherwise
+     */
+    public boolean write(@NonNull Vec3i location, @NonNull byte[] data) {
+        try {
+            while (true) {
+                Region region = getRegion(getRegionLocation(location), true);
+                synchronized (region) {
+                    if (!region.isClosed()) {
+                        region.write(getIndex(location), data);
+                        return true;
+                    }
+                }
+            }
+        } catch (IOException e) {
+            log.error("Unable to write chunk {}: {}", location, e.getMessage(), e);
+        }
+        return false;
+    }
+
+    /**
+     * Writes the changes to the open region files to the storage device.
+     */
+    @Override
+    public void flush() {
+        for (Region region : getOpenRegions()) {
+            synchronized (region) {
+                try {
+                    if (!region.isClosed()) {
+                        region.channel.force(false);
+                    }
+                } catch (IOException e) {
+                    log.error("Unable to flush {}: {}", region.file, e.getMessage(), e);
+                }
+            }
+        }
+    }
+
+    /**
+     * Closes the open region files. The repository can still be used, the region files are opened again when needed.
+     */
+    @Override
+    public void close() {
+        List<Region> closing;
+        synchronized (regions) {
+            closing = new ArrayList<>(regions.values());
+            regions.clear();
+        }
+        closing.forEach(RegionFileRepository::closeRegion);
+    }
+
+    /**
+     * @param location of the chunk
+     * @return the location of the region that holds the chunk
+     */
+    public Vec3i getRegionLocation(@NonNull Vec3i location) {
+        return new Vec3i(Math.floorDiv(location.x, regionSize.x), Math.floorDiv(location.y, regionSize.y), Math.floorDiv(location.z, regionSize.z));
+    }
+
+    /**
+     * @param regionLocation the location of the region
+     * @return the path of the region file
+     */
+    public Path getRegionPath(@NonNull Vec3i regionLocation) {
+        return path.resolve("region_" + regionLocation.x + "_" + regionLocation.y + "_" + regionLocation.z + EXTENSION);
+    }
+
+    /**
+     * @return the number of region files that are open
+     */
+    public int getOpenRegionCount() {
+        synchronized (regions) {
+            return regions.size();
+        }
+    }
+
+    private List<Region> getOpenRegions() {
+        synchronized (regions) {
+            return new ArrayList<>(regions.values());
+        }
+    }
+
+    /**
+     * Returns the open region or opens the region file. The least recently used region is closed when too many regions
+     * are open.
+     *
+     * @param regionLocation the location of the region
+     * @param create         true to create the region file when it doesn't exist
+     * @return the region or null when the region file doesn't exist and should not be created
+     */
+    private Region getRegion(Vec3i regionLocation, boolean create) throws IOException {
+        Region evicted = null;
+        Region region;
+        synchronized (regions) {
+            region = regions.get(regionLocation);
+            if (region == null) {
+                Path regionPath = getRegionPath(regionLocation);
+                if (!create && Files.notExists(regionPath)) {
+                    return null;
+                }
+                if (create && Files.notExists(path)) {
+                    Files.createDirectories(path);
+                    log.info("Created directory: {}", path.toAbsolutePath());
+                }
+
+                region = Region.open(regionPath, regionSize);
+                regions.put(regionLocation, region);
+                if (regions.size() > maxOpenRegions) {
+                    Map.Entry<Vec3i, Region> eldest = regions.entrySet().iterator().next();
+                    evicted = eldest.getValue();
+                    regions.remove(eldest.getKey());
+                }
+            }
+        }
+
+        if (evicted != null) {
+            closeRegion(evicted);
+        }
+        return region;
+    }
+
+    private static void closeRegion(Region region) {
+        synchronized (region) {
+            try {
+                region.close();
+            } catch (IOException e) {
+                log.error("Unable to close {}: {}", region.file, e.getMessage(), e);
+            }
+        }
+    }
+
+    /**
+     * @return the index of the chunk in the offset table of the region
+     */
+    private int getIndex(Vec3i location) {
+        int x = Math.floorMod(location.x, regionSize.x);
+        int y = Math.floorMod(location.y, regionSize.y);
+        int z = Math.floorMod(location.z, regionSize.z);
+        return z + y * regionSize.z + x * regionSize.y * regionSize.z;
+    }
+
+    /**
+     * An open region file. The methods of a region are not thread safe, the caller should synchronize on the region.
+     * Chunk data is stored as the length of the data followed by the data.
+     */
+    static class Region {
+
+        private final Path file;
+        private final FileChannel channel;
+        // the first sector and number of sectors of each chunk, indexed by the index of the chunk
+        private final int[] offsets;
+        private final int[] sectorCounts;
+        private final int headerSectors;
+        private final BitSet usedSectors = new BitSet();
+        private int fileSectors;
+        // a read-only mapping of the file, created on the first mapped read and dropped when the file is written
+        private MappedByteBuffer mapping;
+        @Getter
+        private boolean closed;
+
+        private Region(Path file, FileChannel channel, int chunks) {
+            this.file = file;
+            this.channel = channel;
+            this.offsets = new int[chunks];
+            this.sectorCounts = new int[chunks];
+            this.headerSectors = (HEADER_SIZE + chunks * 2 * Integer.BYTES + SECTOR_SIZE - 1) / SECTOR_SIZE;
+        }
+
+        static Region open(Path file, Vec3i regionSize) throws IOException {
+            FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            try {
+                Region region = new Region(file, channel, regionSize.x * regionSize.y * regionSize.z);
+                if (channel.size() == 0) {
+                    region.writeHeader(regionSize);
+                } else {
+                    region.readHeader(regionSize);
+                }
+                return region;
+            } catch (IOException | RuntimeException e) {
+                channel.close();
+                throw e;
+            }
+        }
+
+        byte[] read(int index) throws IOException {
+            if (sectorCounts[index] == 0) {
+                return null;
+            }
+
+            long position = (long) offsets[index] * SECTOR_SIZE;
+            ByteBuffer lengthBuffer = ByteBuffer.allocate(Integer.BYTES);
+            readFully(lengthBuffer, position);
+            int length = lengthBuffer.getInt(0);
+            if (length < 0 || length + Integer.BYTES > sectorCounts[index] * SECTOR_SIZE) {
+                throw new IOException("Invalid length " + length + " of chunk " + index + " in " + file);
+            }
+
+            ByteBuffer data = ByteBuffer.allocate(length);
+            readFully(data, position + Integer.BYTES);
+            return data.array();
+        }
+
+        /**
+         * Returns the data of the chunk as a view on the memory mapped file. The file is mapped when it isn't mapped
+         * yet. When the file is too large to be mapped, the data is read on the heap.
+         *
+         * @return the data of the chunk or null when the chunk isn't stored
+         */
+        ByteBuffer map(int index) throws IOException {
+            if (sectorCounts[index] == 0) {
+                return null;
+            }
+
+            if (mapping == null) {
+                long size = channel.size();
+                if (size > Integer.MAX_VALUE) {
+                    return ByteBuffer.wrap(read(index));
+                }
+                mapping = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            }
+
+            int position = offsets[index] * SECTOR_SIZE;
+            if (position + Integer.BYTES > mapping.capacity()) {
+                throw new IOException("Chunk " + index + " is outside of " + file);
+            }
+            int length = mapping.getInt(position);
+            if (length < 0 || length + Integer.BYTES > sectorCounts[index] * SECTOR_SIZE || position + Integer.BYTES + length > mapping.capacity()) {
+                throw new IOException("Invalid length " + length + " of chunk " + index + " in " + file);
+            }
+
+            ByteBuffer data = mapping.duplicate();
+            data.limit(position + Integer.BYTES + length).position(position + Integer.BYTES);
+            return data.slice();
+        }
+
+        void write(int index, byte[] data) throws IOException {
+            // changes to the file are not guaranteed to be visible in the mapping
+            mapping = null;
+            int sectors = (data.length + Integer.BYTES + SECTOR_SIZE - 1) / SECTOR_SIZE;
+            int offset = offsets[index];
+            int sectorCount = sectorCounts[index];
+
+            if (sectorCount == 0 || sectors > sectorCount) {
+                // the chunk is new or grew, the new sectors are allocated before the old sectors are released so the
+                // old data isn't overwritten before the offset table points to the new data
+                offset = allocate(sectors);
+            }
+
+            ByteBuffer buffer = ByteBuffer.allocate(Integer.BYTES + data.length);
+            buffer.putInt(data.length).put(data).flip();
+            writeFully(buffer, (long) offset * SECTOR_SIZE);
+
+            if (offset != offsets[index]) {
+                usedSectors.clear(offsets[index], offsets[index] + sectorCount);
+            } else if (sectors < sectorCount) {
+                // the chunk shrunk, the sectors at the end are released
+                usedSectors.clear(offset + sectors, offset + sectorCount);
+            }
+            usedSectors.set(offset, offset + sectors);
+            offsets[index] = offset;
+            sectorCounts[index] = sectors;
+            writeTableEntry(index);
+        }
+
+        void close() throws IOException {
+            closed = true;
+            mapping = null;
+            channel.close();
+        }
+
+        /**
+         * @return the first sector of the first free range of sectors that is large enough, the sectors are appended
+         * to the file when there is no such range
+         */
+        private int allocate(int sectors) {
+            int start = usedSectors.nextClearBit(headerSectors);
+            while (start < fileSectors) {
+                int end = usedSectors.nextSetBit(start);
+                if (end < 0 || end > fileSectors) {
+                    end = fileSectors;
+                }
+                if (end - start >= sectors) {
+                    return start;
+                }
+                start = usedSectors.nextClearBit(end);
+            }
+
+            // append the sectors, a free range at the end of the file is extended
+            int offset = Math.min(start, fileSectors);
+            fileSectors = Math.max(fileSectors, offset + sectors);
+            return offset;
+        }
+
+        private void readHeader(Vec3i regionSize) throws IOException {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE + offsets.length * 2 * Integer.BYTES);
+            readFully(header, 0);
+            header.flip();
+            if (header.getInt() != MAGIC) {
+                throw new IOException(file + " is not a region file");
+            }
+            int version = header.getInt();
+            if (version != VERSION) {
+                throw new IOException("Unsupported version " + version + " of region file " + file);
+            }
+            Vec3i size = new Vec3i(header.getInt(), header.getInt(), header.getInt());
+            if (!size.equals(regionSize)) {
+                throw new IOException("Region size " + size + " of " + file + " doesn't match the region size " + regionSize + " of the repository");
+            }
+
+            fileSectors = (int) ((channel.size() + SECTOR_SIZE - 1) / SECTOR_SIZE);
+            for (int i = 0; i < offsets.length; i++) {
+                offsets[i] = header.getInt();
+                sectorCounts[i] = header.getInt();
+                if (sectorCounts[i] > 0) {
+                    if (offsets[i] < headerSectors || offsets[i] + sectorCounts[i] > fileSectors) {
+                        log.warn("Invalid sectors of chunk {} in {}, the chunk is ignored", i, file);
+                        offsets[i] = 0;
+                        sectorCounts[i] = 0;
+                        continue;
+                    }
+                    usedSectors.set(offsets[i], offsets[i] + sectorCounts[i]);
+                }
+            }
+        }
+
+        private void writeHeader(Vec3i regionSize) throws IOException {
+            ByteBuffer header = ByteBuffer.allocate(headerSectors * SECTOR_SIZE);
+            header.putInt(MAGIC).putInt(VERSION).putInt(regionSize.x).putInt(regionSize.y).putInt(regionSize.z);
+            header.clear();
+            writeFully(header, 0);
+            fileSectors = headerSectors;
+        }
+
+        private void writeTableEntry(int index) throws IOException {
+            ByteBuffer entry = ByteBuffer.allocate(2 * Integer.BYTES);
+            entry.putInt(offsets[index]).putInt(sectorCounts[index]).flip();
+            writeFully(entry, HEADER_SIZE + (long) index * 2 * Integer.BYTES);
+        }
+
+        private void readFully(ByteBuffer buffer, long position) throws IOException {
+            while (buffer.hasRemaining()) {
+                int read = channel.read(buffer, position + buffer.position());
+                if (read < 0) {
+                    throw new IOException("Unexpected end of " + file);
+                }
+            }
+        }
+
+        private void writeFully(ByteBuffer buffer, long position) throws IOException {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer, position + buffer.position());
+            }
+        }
+
+    }
+
+}
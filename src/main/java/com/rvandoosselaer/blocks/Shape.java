@@ -46,6 +46,18 @@ public interface Shape {
      */
     void add(Vec3i location, Chunk chunk, ChunkMesh chunkMesh);
 
+    /**
+     * Indicates if the vertices that are added by {@link #add(Vec3i, Chunk, ChunkMesh)} can be precomputed. This is
+     * the case when the vertices only depend on the block at the location and on which faces of the block are visible,
+     * and not on other blocks or state. The {@link ShapeRegistry} creates a {@link ShapeTemplate} for these shapes
+     * that records the vertices once and reuses them for every block.
+     *
+     * @return true when the vertices can be precomputed
+     */
+    default boolean isPrecomputable() {
+        return false;
+    }
+
     /**
      * A helper method that offsets a vertex based on the location of the block in the chunk and the block scale.
      *
@@ -23,6 +23,8 @@ import java.util.concurrent.ConcurrentMap;
 /**
  * A thread safe register for shapes. The register is used so only one instance of a shape is used throughout the Blocks
  * framework.
+ * When a shape is registered that can be precomputed, a {@link ShapeTemplate} is created for it. The chunk mesh
+ * generators retrieve the template with {@link #getTemplate(String)} and use it to add the blocks to the chunk mesh.
  *
  * @author rvandoosselaer
  */
@@ -30,6 +32,7 @@ import java.util.concurrent.ConcurrentMap;
 public class ShapeRegistry {
 
     private final ConcurrentMap<String, Shape> shapeRegistry = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Shape> templateRegistry = new ConcurrentHashMap<>();
 
     /**
      * Will register default shapes
@@ -50,6 +53,7 @@ public class ShapeRegistry {
         }
 
         shapeRegistry.put(name, shape);
+        templateRegistry.put(name, shape.isPrecomputable() ? new ShapeTemplate(shape) : shape);
         if (log.isTraceEnabled()) {
             log.trace("Registered shape {} -> {}", name, shape);
         }
@@ -64,9 +68,25 @@ public class ShapeRegistry {
         return s;
     }
 
+    /**
+     * Retrieve the shape to add blocks of the given shape to a chunk mesh. This is the {@link ShapeTemplate} of the
+     * shape when it can be precomputed, or the registered shape itself otherwise.
+     *
+     * @param name of the shape
+     * @return the template of the shape, the shape or null
+     */
+    public Shape getTemplate(String name) {
+        Shape s = templateRegistry.get(name);
+        if (s == null) {
+            log.warn("No shape registered with name {}", name);
+        }
+        return s;
+    }
+
     public boolean remove(@NonNull String name) {
         if (shapeRegistry.containsKey(name)) {
             Shape shape = shapeRegistry.remove(name);
+            templateRegistry.remove(name);
             if (log.isTraceEnabled()) {
                 log.trace("Removed shape {} -> {}", name, shape);
             }
@@ -77,6 +97,17 @@ public class ShapeRegistry {
 
     public void clear() {
         shapeRegistry.clear();
+        templateRegistry.clear();
+    }
+
+    /**
+     * Removes the recorded vertices of all templates, see {@link ShapeTemplate#clear()}. This should be called when the
+     * texture coordinates of the block types change.
+     */
+    public void clearTemplates() {
+        templateRegistry.values().stream()
+                .filter(ShapeTemplate.class::isInstance)
+                .forEach(template -> ((ShapeTemplate) template).clear());
     }
 
     public Collection<String> getAll() {
@@ -0,0 +1,167 @@
+package com.rvandoosselaer.blocks;
+
+import com.simsilica.mathd.Vec3i;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.ToString;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A shape that adds precomputed vertices of another shape to the chunk mesh.
+ * The vertices a {@link Shape} adds for a block only depend on the block (its type and texture coordinates) and on
+ * the faces of the block that are visible. The template records the output of the shape once for each block and
+ * combination of visible faces, with all rotations and texture coordinates applied. Adding the block to a chunk mesh is
+ * then reduced to translating the recorded positions to the location of the block and copying the other vertex data.
+ * <p>
+ * A template is created for each shape that is registered in the {@link ShapeRegistry} and that can be precomputed,
+ * see {@link Shape#isPrecomputable()}. The texture coordinates are only known when a block is added, so the vertices
+ * of a block are recorded the first time the block is added with a specific combination of visible faces.
+ *
+ * @author rvandoosselaer
+ */
+@Slf4j
+@ToString(onlyExplicitlyIncluded = true)
+public class ShapeTemplate implements Shape {
+
+    private static final Direction[] DIRECTIONS = Direction.values();
+    private static final int COMBINATIONS = 1 << DIRECTIONS.length;
+    private static final Vec3i ORIGIN = new Vec3i(0, 0, 0);
+
+    @Getter
+    @ToString.Include
+    private final Shape shape;
+    // the recorded vertices of the blocks that are added with this template
+    private final ConcurrentMap<Block, BlockVertices> blockVertices = new ConcurrentHashMap<>();
+
+    public ShapeTemplate(@NonNull Shape shape) {
+        this.shape = shape;
+    }
+
+    @Override
+    public void add(Vec3i location, Chunk chunk, ChunkMesh chunkMesh) {
+        int visibleFaces = 0;
+        for (Direction direction : DIRECTIONS) {
+            if (chunk.isFaceVisible(location, direction)) {
+                visibleFaces |= 1 << direction.ordinal();
+            }
+        }
+
+        add(location, visibleFaces, chunk, chunkMesh);
+    }
+
+    /**
+     * Adds the shape at the location in the chunk to the chunk mesh, using the visible faces that are already
+     * calculated with {@link Chunk#calculateVisibleFaces(byte[])}.
+     *
+     * @param location     of the shape in the chunk
+     * @param visibleFaces the mask of the visible faces of the block
+     * @param chunk        of the shape
+     * @param chunkMesh    to add the shape to
+     */
+    public void add(Vec3i location, int visibleFaces, Chunk chunk, ChunkMesh chunkMesh) {
+        Block block = chunk.getBlock(location.x, location.y, location.z);
+        chunkMesh.addTemplate(getVertices(block, visibleFaces & (COMBINATIONS - 1)), location, BlocksConfig.getInstance().getBlockScale());
+    }
+
+    @Override
+    public boolean isPrecomputable() {
+        return true;
+    }
+
+    /**
+     * Removes all recorded vertices. The vertices are recorded again when they are needed.
+     */
+    public void clear() {
+        blockVertices.clear();
+    }
+
+    private ChunkMesh getVertices(Block block, int visibleFaces) {
+        BlockVertices vertices = blockVertices.get(block);
+        if (vertices == null || !vertices.isValidFor(block)) {
+            // the block is added for the first time, or the block, its type or the block scale has changed
+            vertices = new BlockVertices(block);
+            blockVertices.put(block, vertices);
+        }
+
+        // when multiple threads record the same vertices at the same time, the result is the same
+        ChunkMesh chunkMesh = vertices.meshes.get(visibleFaces);
+        if (chunkMesh == null) {
+            chunkMesh = record(block, visibleFaces);
+            vertices.meshes.set(visibleFaces, chunkMesh);
+        }
+        return chunkMesh;
+    }
+
+    /**
+     * Adds the block at the origin of a chunk with the given visible faces to a new chunk mesh.
+     */
+    private ChunkMesh record(Block block, int visibleFaces) {
+        ChunkMesh chunkMesh = new ChunkMesh();
+        shape.add(ORIGIN, new TemplateChunk(block, visibleFaces), chunkMesh);
+        chunkMesh.trimToSize();
+
+        if (log.isTraceEnabled()) {
+            log.trace("Recorded {} vertices of {} with visible faces {} for {}", chunkMesh.getVertexCount(), block, Integer.toBinaryString(visibleFaces), shape);
+        }
+        return chunkMesh;
+    }
+
+    /**
+     * The recorded vertices of a block, for each combination of visible faces. The vertices are recorded with the
+     * type and the block scale at that moment, they are no longer valid when one of them changes.
+     */
+    private static class BlockVertices {
+
+        private final Block block;
+        private final Type type;
+        private final boolean usingMultipleImages;
+        private final float blockScale;
+        private final AtomicReferenceArray<ChunkMesh> meshes = new AtomicReferenceArray<>(COMBINATIONS);
+
+        BlockVertices(Block block) {
+            this.block = block;
+            this.type = BlocksConfig.getInstance().getTypeRegistry().get(block.getType());
+            this.usingMultipleImages = block.isUsingMultipleImages();
+            this.blockScale = BlocksConfig.getInstance().getBlockScale();
+        }
+
+        boolean isValidFor(Block block) {
+            return this.block == block
+                    && usingMultipleImages == block.isUsingMultipleImages()
+                    && type == BlocksConfig.getInstance().getTypeRegistry().get(block.getType())
+                    && blockScale == BlocksConfig.getInstance().getBlockScale();
+        }
+
+    }
+
+    /**
+     * A chunk that holds the block on every location and that reports the recorded combination of faces as visible.
+     */
+    private static class TemplateChunk extends Chunk {
+
+        private final Block block;
+        private final int visibleFaces;
+
+        TemplateChunk(Block block, int visibleFaces) {
+            super(ORIGIN);
+            this.block = block;
+            this.visibleFaces = visibleFaces;
+        }
+
+        @Override
+        public Block getBlock(int x, int y, int z) {
+            return block;
+        }
+
+        @Override
+        public boolean isFaceVisible(Vec3i location, Direction direction) {
+            return (visibleFaces & (1 << direction.ordinal())) != 0;
+        }
+
+    }
+
+}
@@ -14,6 +14,7 @@ import java.nio.ByteBuffer;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 
 /**
@@ -29,6 +30,8 @@ public class TextureUtil {
     private final Map<AssetKey<?>, TextureLocation> textureLocations = new HashMap<>();
     private final Map<Direction, AssetKey<?>> directions = new HashMap<>();
     private final Map<AssetKey<?>, Texture> textures = new HashMap<>();
+    // the texture coordinates are requested for each face that is added to a mesh, they are only calculated once
+    private final Map<Direction, TextureCoordinates> textureCoordinates = new ConcurrentHashMap<>();
 
     private int currentX = 0;
     private int currentY = 0;
@@ -46,6 +49,11 @@ public class TextureUtil {
     //TODO:
     // - check if we need to clean up the maps: don't want to hold on to all the textures
     public TextureCoordinates getTextureCoordinates(Direction direction) {
+        TextureCoordinates cached = textureCoordinates.get(direction);
+        if (cached != null) {
+            return cached;
+        }
+
         int width = getWidth();
         int height = getHeight();
 
@@ -61,7 +69,9 @@ public class TextureUtil {
         float minY = textureLocation.min.y / (float) height;
         float maxY = textureLocation.max.y / (float) height;
 
-        return new TextureCoordinates(minX, maxX, minY, maxY);
+        TextureCoordinates coordinates = new TextureCoordinates(minX, maxX, minY, maxY);
+        textureCoordinates.put(direction, coordinates);
+        return coordinates;
     }
 
     public Function<Direction, TextureCoordinates> createTextureCoordinatesFunction() {
@@ -76,6 +86,8 @@ public class TextureUtil {
         if (textureLocations.containsKey(texture.getKey())) {
             log.trace("AssetKey[{}] already present in atlas.", texture.getKey());
             directions.put(direction, texture.getKey());
+            // the direction is mapped on another texture of the atlas
+            textureCoordinates.remove(direction);
             return;
         }
 
@@ -84,6 +96,7 @@ public class TextureUtil {
         textureLocations.put(texture.getKey(), createTextureLocation(texture));
         // reset the texture, it should be regenerated
         this.texture = null;
+        textureCoordinates.clear();
     }
 
     public Texture getTexture() {
@@ -10,12 +10,14 @@ import java.util.function.Function;
 @RequiredArgsConstructor
 public class Type {
 
+    private static final TextureCoordinates FULL_TEXTURE = new TextureCoordinates(0, 1, 0, 1);
+
     private final String name;
     private final Material material;
     private final Function<Direction, TextureCoordinates> textureCoordinatesFunction;
 
     public Type(String name, Material material) {
-        this(name, material, direction -> new TextureCoordinates(0, 1, 0, 1));
+        this(name, material, direction -> FULL_TEXTURE);
     }
 
 }
@@ -235,6 +235,12 @@ public class TypeRegistry {
      */
     private void reload() {
         registry.keySet().forEach(this::register);
+
+        // the shape templates recorded the texture coordinates of the previous types
+        BlocksConfig config = BlocksConfig.getInstance();
+        if (config != null && config.getTypeRegistry() == this && config.getShapeRegistry() != null) {
+            config.getShapeRegistry().clearTemplates();
+        }
     }
 
     private Material load(String materialPath) {
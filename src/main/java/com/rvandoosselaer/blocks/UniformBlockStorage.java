@@ -0,0 +1,82 @@
+package com.rvandoosselaer.blocks;
+
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.Arrays;
+
+/**
+ * A {@link BlockStorage} implementation where every location holds the same block. Only the block itself is stored,
+ * regardless of the size of the storage. This storage can't hold different blocks: a {@link Chunk} replaces it with
+ * a full block storage on the first write of a different block.
+ *
+ * @author rvandoosselaer
+ */
+@Getter
+@ToString
+public class UniformBlockStorage implements BlockStorage {
+
+    private final int size;
+    /**
+     * The block at every location of the storage, null for an empty storage.
+     */
+    private final Block block;
+
+    public UniformBlockStorage(int size, Block block) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("Invalid storage size specified: " + size + ".");
+        }
+        this.size = size;
+        this.block = block;
+    }
+
+    @Override
+    public Block get(int index) {
+        checkIndex(index);
+        return block;
+    }
+
+    /**
+     * Setting the block that is already stored is allowed, setting a different block throws an
+     * {@link UnsupportedOperationException}.
+     */
+    @Override
+    public Block set(int index, Block block) {
+        checkIndex(index);
+        if (block != this.block) {
+            throw new UnsupportedOperationException("A uniform block storage can't hold different blocks.");
+        }
+        return this.block;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * A uniform storage can't be changed, the storage itself is returned.
+     *
+     * @return this storage
+     */
+    @Override
+    public BlockStorage copy() {
+        return this;
+    }
+
+    @Override
+    public Block[] toArray() {
+        Block[] blocks = new Block[size];
+        if (block != null) {
+            Arrays.fill(blocks, block);
+        }
+        return blocks;
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " is out of bounds for storage size " + size);
+        }
+    }
+
+}
@@ -2,7 +2,6 @@ package com.rvandoosselaer.blocks.shapes;
 
 import com.jme3.math.FastMath;
 import com.jme3.math.Quaternion;
-import com.jme3.math.Vector2f;
 import com.jme3.math.Vector3f;
 import com.rvandoosselaer.blocks.Block;
 import com.rvandoosselaer.blocks.BlocksConfig;
@@ -85,7 +84,7 @@ public class Cylinder implements Shape {
         // Add one triangle per radial sample, twice, to form the caps.
         trianglesCount += 2 * radialSamples;
 
-        int offset = chunkMesh.getPositions().size();
+        int offset = chunkMesh.getVertexCount();
 
         // Compute the points along a unit circle:
         float[][] circlePoints = new float[radialSamples + 1][2];
@@ -131,17 +130,17 @@ public class Cylinder implements Shape {
                 float y = circlePoints[circlePoint][1] * currentRadius;
                 float z = currentHeight;
 
-                chunkMesh.getPositions().add(Shape.createVertex(rotation.mult(new Vector3f(x, y, z)), location, blockScale));
+                chunkMesh.addPosition(rotation, x, y, z, location, blockScale);
 
                 Vector3f currentNormal = circleNormals[circlePoint];
-                chunkMesh.getNormals().add(Shape.createVertex(rotation.mult(currentNormal), location, blockScale));
+                chunkMesh.addNormal(Shape.createVertex(rotation.mult(currentNormal), location, blockScale));
 
                 // Texture
                 // The X is the angular position of the point.
                 float uvX = (float) circlePoint / radialSamples;
                 float uvY = (height / 2 + currentHeight / numberOfTexturesY) - textureCoordinatesFunction.apply(Direction.NORTH).getMax().y;
 
-                chunkMesh.getUvs().add(new Vector2f(uvX, uvY));
+                chunkMesh.addUv(uvX, uvY);
             }
         }
 
@@ -151,13 +150,13 @@ public class Cylinder implements Shape {
             float y = circlePoints[circlePoint][1] * bottomRadius;
             float z = -height / 2;
 
-            chunkMesh.getPositions().add(Shape.createVertex(rotation.mult(new Vector3f(x, y, z)), location, blockScale));
+            chunkMesh.addPosition(rotation, x, y, z, location, blockScale);
 
-            chunkMesh.getNormals().add(Shape.createVertex(rotation.mult(new Vector3f(0, 0, -1)), location, blockScale));
+            chunkMesh.addNormal(Shape.createVertex(rotation.mult(new Vector3f(0, 0, -1)), location, blockScale));
 
             float uvX = (float) circlePoint / radialSamples;
             float uvY = bottomRadius / (bottomRadius + (height / numberOfTexturesY) + topRadius);
-            chunkMesh.getUvs().add(new Vector2f(uvX, uvY));
+            chunkMesh.addUv(uvX, uvY);
         }
         // Top
         for (int circlePoint = 0; circlePoint < radialSamples + 1; circlePoint++) {
@@ -165,34 +164,34 @@ public class Cylinder implements Shape {
             float y = circlePoints[circlePoint][1] * topRadius;
             float z = height / 2;
 
-            chunkMesh.getPositions().add(Shape.createVertex(rotation.mult(new Vector3f(x, y, z)), location, blockScale));
+            chunkMesh.addPosition(rotation, x, y, z, location, blockScale);
 
-            chunkMesh.getNormals().add(Shape.createVertex(rotation.mult(new Vector3f(0, 0, 1)), location, blockScale));
+            chunkMesh.addNormal(Shape.createVertex(rotation.mult(new Vector3f(0, 0, 1)), location, blockScale));
 
             float uvX = (float) circlePoint / radialSamples;
             float uvY = (bottomRadius + (height / numberOfTexturesY)) / (bottomRadius + (height / numberOfTexturesY) + topRadius);
-            chunkMesh.getUvs().add(new Vector2f(uvX, uvY));
+            chunkMesh.addUv(uvX, uvY);
         }
         // Add the centers of the caps.
-        chunkMesh.getPositions().add(Shape.createVertex(rotation.mult(new Vector3f(0, 0, -height / 2)), location, blockScale));
-        chunkMesh.getNormals().add(Shape.createVertex(rotation.mult(new Vector3f(0, 0, -1)), location, blockScale));
+        chunkMesh.addPosition(rotation, 0, 0, -height / 2, location, blockScale);
+        chunkMesh.addNormal(Shape.createVertex(rotation.mult(new Vector3f(0, 0, -1)), location, blockScale));
         float oneThirdY = 1 / (numberOfTexturesY * 3);
-        chunkMesh.getUvs().add(new Vector2f(0.5f, textureCoordinatesFunction.apply(Direction.DOWN).getMin().y + oneThirdY));
+        chunkMesh.addUv(0.5f, textureCoordinatesFunction.apply(Direction.DOWN).getMin().y + oneThirdY);
 
-        chunkMesh.getPositions().add(Shape.createVertex(rotation.mult(new Vector3f(0, 0, height / 2)), location, blockScale));
-        chunkMesh.getNormals().add(Shape.createVertex(rotation.mult(new Vector3f(0, 0, 1)), location, blockScale));
-        chunkMesh.getUvs().add(new Vector2f(0.5f, textureCoordinatesFunction.apply(Direction.UP).getMin().y));
+        chunkMesh.addPosition(rotation, 0, 0, height / 2, location, blockScale);
+        chunkMesh.addNormal(Shape.createVertex(rotation.mult(new Vector3f(0, 0, 1)), location, blockScale));
+        chunkMesh.addUv(0.5f, textureCoordinatesFunction.apply(Direction.UP).getMin().y);
 
         // Add the triangles indexes.
         for (int axisSample = 0; axisSample < axisSamples - 1; axisSample++) {
             for (int circlePoint = 0; circlePoint < radialSamples; circlePoint++) {
-                chunkMesh.getIndices().add(axisSample * (radialSamples + 1) + circlePoint + offset);
-                chunkMesh.getIndices().add(axisSample * (radialSamples + 1) + circlePoint + 1 + offset);
-                chunkMesh.getIndices().add((axisSample + 1) * (radialSamples + 1) + circlePoint + offset);
+                chunkMesh.addIndex(axisSample * (radialSamples + 1) + circlePoint + offset);
+                chunkMesh.addIndex(axisSample * (radialSamples + 1) + circlePoint + 1 + offset);
+                chunkMesh.addIndex((axisSample + 1) * (radialSamples + 1) + circlePoint + offset);
 
-                chunkMesh.getIndices().add((axisSample + 1) * (radialSamples + 1) + circlePoint + offset);
-                chunkMesh.getIndices().add(axisSample * (radialSamples + 1) + circlePoint + 1 + offset);
-                chunkMesh.getIndices().add((axisSample + 1) * (radialSamples + 1) + circlePoint + 1 + offset);
+                chunkMesh.addIndex((axisSample + 1) * (radialSamples + 1) + circlePoint + offset);
+                chunkMesh.addIndex(axisSample * (radialSamples + 1) + circlePoint + 1 + offset);
+                chunkMesh.addIndex((axisSample + 1) * (radialSamples + 1) + circlePoint + 1 + offset);
             }
         }
         // Add caps
@@ -203,13 +202,13 @@ public class Cylinder implements Shape {
         int topRowOffset = (axisSamples + 1) * (radialSamples + 1);
 
         for (int circlePoint = 0; circlePoint < radialSamples; circlePoint++) {
-            chunkMesh.getIndices().add(bottomRowOffset + circlePoint + 1 + offset);
-            chunkMesh.getIndices().add(bottomRowOffset + circlePoint + offset);
-            chunkMesh.getIndices().add(bottomCapIndex + offset);
+            chunkMesh.addIndex(bottomRowOffset + circlePoint + 1 + offset);
+            chunkMesh.addIndex(bottomRowOffset + circlePoint + offset);
+            chunkMesh.addIndex(bottomCapIndex + offset);
 
-            chunkMesh.getIndices().add(topRowOffset + circlePoint + offset);
-            chunkMesh.getIndices().add(topRowOffset + circlePoint + 1 + offset);
-            chunkMesh.getIndices().add(topCapIndex + offset);
+            chunkMesh.addIndex(topRowOffset + circlePoint + offset);
+            chunkMesh.addIndex(topRowOffset + circlePoint + 1 + offset);
+            chunkMesh.addIndex(topCapIndex + offset);
         }
 
     }
@@ -1,11 +1,7 @@
 package com.rvandoosselaer.blocks.shapes;
 
 import com.jme3.math.FastMath;
-import com.jme3.math.Matrix4f;
 import com.jme3.math.Quaternion;
-import com.jme3.math.Vector2f;
-import com.jme3.math.Vector3f;
-import com.jme3.math.Vector4f;
 import com.rvandoosselaer.blocks.Block;
 import com.rvandoosselaer.blocks.BlocksConfig;
 import com.rvandoosselaer.blocks.Chunk;
@@ -43,6 +39,11 @@ public class Pole implements Shape {
         this.widthExtend = FastMath.clamp(Math.abs(widthExtend), 0, 0.5f);
     }
 
+    @Override
+    public boolean isPrecomputable() {
+        return true;
+    }
+
     @Override
     public void add(Vec3i location, Chunk chunk, ChunkMesh chunkMesh) {
         // get the block scale, we multiply it with the vertex positions
@@ -68,203 +69,197 @@ public class Pole implements Shape {
 
     private static void createNorth(Vec3i location, Quaternion rotation, ChunkMesh chunkMesh, float blockScale, Function<Direction, TextureCoordinates> textureCoordinatesFunction, float thicknessExtend) {
         // calculate index offset, we use this to connect the triangles
-        int offset = chunkMesh.getPositions().size();
+        int offset = chunkMesh.getVertexCount();
         // vertices
-        chunkMesh.getPositions().add(Shape.createVertex(rotation.mult(new Vector3f(thicknessExtend * -1f, -0.5f, thicknessExtend * -1f)), location, blockScale));
-        chunkMesh.getPositions().add(Shape.createVertex(rotation.mult(new Vector3f(thicknessExtend * -1f, 0.5f, thicknessExtend * -1f)), location, blockScale));
-        chunkMesh.getPositions().add(Shape.createVertex(rotation.mult(new Vector3f(thicknessExtend, -0.5f, thicknessExtend * -1f)), location, blockScale));
-        chunkMesh.getPositions().add(Shape.createVertex(rotation.mult(new Vector3f(thicknessExtend, 0.5f, thicknessExtend * -1f)), location, blockScale));
+        chunkMesh.addPosition(rotation, thicknessExtend * -1f, -0.5f, thicknessExtend * -1f, location, blockScale);
+        chunkMesh.addPosition(rotation, thicknessExtend * -1f, 0.5f, thicknessExtend * -1f, location, blockScale);
+        chunkMesh.addPosition(rotation, thicknessExtend, -0.5f, thicknessExtend * -1f, location, blockScale);
+        chunkMesh.addPosition(rotation, thicknessExtend, 0.5f, thicknessExtend * -1f, location, blockScale);
         // indices
-        chunkMesh.getIndices().add(offset);
-        chunkMesh.getIndices().add(offset + 1);
-        chunkMesh.getIndices().add(offset + 2);
-        chunkMesh.getIndices().add(offset + 1);
-        chunkMesh.getIndices().add(offset + 3);
-        chunkMesh.getIndices().add(offset + 2);
+        chunkMesh.addIndex(offset);
+        chunkMesh.addIndex(offset + 1);
+        chunkMesh.addIndex(offset + 2);
+        chunkMesh.addIndex(offset + 1);
+        chunkMesh.addIndex(offset + 3);
+        chunkMesh.addIndex(offset + 2);
 
         if (!chunkMesh.isCollisionMesh()) {
             // normals and tangents
             for (int i = 0; i < 4; i++) {
-                chunkMesh.getNormals().add(rotation.mult(new Vector3f(0.0f, 0.0f, -1.0f)));
-                Matrix4f rotationMatrix = rotation.toRotationMatrix(new Matrix4f());
-                chunkMesh.getTangents().add(rotationMatrix.mult(new Vector4f(-1.0f, 0.0f, 0.0f, 1.0f)));
+                chunkMesh.addNormal(rotation, 0.0f, 0.0f, -1.0f);
+                chunkMesh.addTangent(rotation, -1.0f, 0.0f, 0.0f, 1.0f);
             }
             // uvs
             TextureCoordinates textureCoordinates = textureCoordinatesFunction.apply(Direction.NORTH);
             float middleX = ((textureCoordinates.getMax().x - textureCoordinates.getMin().x) / 2) + textureCoordinates.getMin().x;
-            chunkMesh.getUvs().add(new Vector2f(middleX + thicknessExtend, textureCoordinates.getMin().y));
-            chunkMesh.getUvs().add(new Vector2f(middleX + thicknessExtend, textureCoordinates.getMax().y));
-            chunkMesh.getUvs().add(new Vector2f(middleX - thicknessExtend, textureCoordinates.getMin().y));
-            chunkMesh.getUvs().add(new Vector2f(middleX - thicknessExtend, textureCoordinates.getMax().y));
+            chunkMesh.addUv(middleX + thicknessExtend, textureCoordinates.getMin().y);
+            chunkMesh.addUv(middleX + thicknessExtend, textureCoordinates.getMax().y);
+            chunkMesh.addUv(middleX - thicknessExtend, textureCoordinates.getMin().y);
+            chunkMesh.addUv(middleX - thicknessExtend, textureCoordinates.getMax().y);
         }
     }
 
     private static void createSouth(Vec3i location, Quaternion rotation, ChunkMesh chunkMesh, float blockScale, Function<Direction, TextureCoordinates> textureCoordinatesFunction, float thicknessExtend) {
         // calculate index offset, we use this to connect the triangles
-        int offset = chunkMesh.getPositions().size();
+        int offset = chunkMesh.getVertexCount();
         // vertices
-        chunkMesh.getPositions().add(Shape.createVertex(rotation.mult(new Vector3f(thicknessExtend, -0.5f, thicknessExtend)), location, blockScale));
-        chunkMesh.getPositions().add(Shape.createVertex(rotation.mult(new Vector3f(thicknessExtend, 0.5f, thicknessExtend)), location, blockScale));
-        chunkMesh.getPositions().add(Shape.createVertex(rotation.mult(new Vector3f(thicknessExtend * -1f, -0.5f, thicknessExtend)), location, blockScale));
-        chunkMesh.getPositions().add(Shape.createVertex(rotation.mult(new Vector3f(thicknessExtend * -1f, 0.5f, thicknessExtend)), location, blockScale));
+        chunkMesh.addPosition(rotation, thicknessExtend, -0.5f, thicknessExtend, location, blockScale);
+        chunkMesh.addPosition(rotation, thicknessExtend, 0.5f, thicknessExtend, location, blockScale);
+        chunkMesh.addPosition(rotation, thicknessExtend * -1f, -0.5f, thicknessExtend, location, blockScale);
+        chunkMesh.addPosition(rotation, thicknessExtend * -1f, 0.5f, thicknessExtend, location, blockScale);
         // indices
-        chunkMesh.getIndices().add(offset);
-        chunkMesh.getIndices().add(offset + 1);
-        chunkMesh.getIndices().add(offset + 2);
-        chunkMesh.getIndices().add(offset + 1);
-        chunkMesh.getIndices().add(offset + 3);
-        chunkMesh.getIndices().add(offset + 2);
+        chunkMesh.addIndex(offset);
+        chunkMesh.addIndex(offset + 1);
+        chunkMesh.addIndex(offset + 2);
+        chunkMesh.addIndex(offset + 1);
+        chunkMesh.addIndex(offset + 3);
+        chunkMesh.addIndex(offset + 2);
 
         if (!chunkMesh.isCollisionMesh()) {
             // normals and tangents
             for (int i = 0; i < 4; i++) {
-                chunkMesh.getNormals().add(rotation.mult(new Vector3f(0.0f, 0.0f, 1.0f)));
-                Matrix4f rotationMatrix = rotation.toRotationMatrix(new Matrix4f());
-                chunkMesh.getTangents().add(rotationMatrix.mult(new Vector4f(1.0f, 0.0f, 0.0f, 1.0f)));
+                chunkMesh.addNormal(rotation, 0.0f, 0.0f, 1.0f);
+                chunkMesh.addTangent(rotation, 1.0f, 0.0f, 0.0f, 1.0f);
             }
             // uvs
             TextureCoordinates textureCoordinates = textureCoordinatesFunction.apply(Direction.SOUTH);
             float middleX = ((textureCoordinates.getMax().x - textureCoordinates.getMin().x) / 2) + textureCoordinates.getMin().x;
-            chunkMesh.getUvs().add(new Vector2f(middleX + thicknessExtend, textureCoordinates.getMin().y));
-            chunkMesh.getUvs().add(new Vector2f(middleX + thicknessExtend, textureCoordinates.getMax().y));
-            chunkMesh.getUvs().add(new Vector2f(middleX - thicknessExtend, textureCoordinates.getMin().y));
-            chunkMesh.getUvs().add(new Vector2f(middleX - thicknessExtend, textureCoordinates.getMax().y));
+            chunkMesh.addUv(middleX + thicknessExtend, textureCoordinates.getMin().y);
+            chunkMesh.addUv(middleX + thicknessExtend, textureCoordinates.getMax().y);
+            chunkMesh.addUv(middleX - thicknessExtend, textureCoordinates.getMin().y);
+            chunkMesh.addUv(middleX - thicknessExtend, textureCoordinates.getMax().y);
         }
     }
 
     private static void createEast(Vec3i location, Quaternion rotation, ChunkMesh chunkMesh, float blockScale, Function<Direction, TextureCoordinates> textureCoordinatesFunction, float thicknessExtend) {
         // calculate index offset, we use this to connect the triangles
-        int offset = chunkMesh.getPositions().size();
+        int offset = chunkMesh.getVertexCount();
         // vertices
-        chunkMesh.getPositions().add(Shape.createVertex(rotation.mult(new Vector3f(thicknessExtend, -0.5f, thicknessExtend * -1f)), location, blockScale));
-        chunkMesh.getPositions().add(Shape.createVertex(rotation.mult(new Vector3f(thicknessExtend, 0.5f, thicknessExtend * -1f)), location, blockScale));
-        chunkMesh.getPositions().add(Shape.createVertex(rotation.mult(new Vector3f(thicknessExtend, -0.5f, thicknessExtend)), location, blockScale));
-        chunkMesh.getPositions().add(Shape.createVertex(rotation.mult(new Vector3f(thicknessExtend, 0.5f, thicknessExtend)), location, blockScale));
+        chunkMesh.addPosition(rotation, thicknessExtend, -0.5f, thicknessExtend * -1f, location, blockScale);
+        chunkMesh.addPosition(rotation, thicknessExtend, 0.5f, thicknessExtend * -1f, location, blockScale);
+        chunkMesh.addPosition(rotation, thicknessExtend, -0.5f, thicknessExtend, location, blockScale);
+        chunkMesh.addPosition(rotation, thicknessExtend, 0.5f, thicknessExtend, location, blockScale);
         // indices
-        chunkMesh.getIndices().add(offset);
-        chunkMesh.getIndices().add(offset + 1);
-        chunkMesh.getIndices().add(offset + 2);
-        chunkMesh.getIndices().add(offset + 1);
-        chunkMesh.getIndices().add(offset + 3);
-        chunkMesh.getIndices().add(offset + 2);
+        chunkMesh.addIndex(offset);
+        chunkMesh.addIndex(offset + 1);
+        chunkMesh.addIndex(offset + 2);
+        chunkMesh.addIndex(offset + 1);
+        chunkMesh.addIndex(offset + 3);
+        chunkMesh.addIndex(offset + 2);
 
         if (!chunkMesh.isCollisionMesh()) {
             // normals and tangents
             for (int i = 0; i < 4; i++) {
-                chunkMesh.getNormals().add(rotation.mult(new Vector3f(1.0f, 0.0f, 0.0f)));
-                Matrix4f rotationMatrix = rotation.toRotationMatrix(new Matrix4f());
-                chunkMesh.getTangents().add(rotationMatrix.mult(new Vector4f(0.0f, 0.0f, -1.0f, 1.0f)));
+                chunkMesh.addNormal(rotation, 1.0f, 0.0f, 0.0f);
+                chunkMesh.addTangent(rotation, 0.0f, 0.0f, -1.0f, 1.0f);
             }
             // uvs
             TextureCoordinates textureCoordinates = textureCoordinatesFunction.apply(Direction.EAST);
             float middleX = ((textureCoordinates.getMax().x - textureCoordinates.getMin().x) / 2) + textureCoordinates.getMin().x;
-            chunkMesh.getUvs().add(new Vector2f(middleX + thicknessExtend, textureCoordinates.getMin().y));
-            chunkMesh.getUvs().add(new Vector2f(middleX + thicknessExtend, textureCoordinates.getMax().y));
-            chunkMesh.getUvs().add(new Vector2f(middleX - thicknessExtend, textureCoordinates.getMin().y));
-            chunkMesh.getUvs().add(new Vector2f(middleX - thicknessExtend, textureCoordinates.getMax().y));
+            chunkMesh.addUv(middleX + thicknessExtend, textureCoordinates.getMin().y);
+            chunkMesh.addUv(middleX + thicknessExtend, textureCoordinates.getMax().y);
+            chunkMesh.addUv(middleX - thicknessExtend, textureCoordinates.getMin().y);
+            chunkMesh.addUv(middleX - thicknessExtend, textureCoordinates.getMax().y);
         }
     }
 
     private static void createWest(Vec3i location, Quaternion rotation, ChunkMesh chunkMesh, float blockScale, Function<Direction, TextureCoordinates> textureCoordinatesFunction, float thicknessExtend) {
         // calculate index offset, we use this to connect the triangles
-        int offset = chunkMesh.getPositions().size();
+        int offset = chunkMesh.getVertexCount();
         // vertices
-        chunkMesh.getPositions().add(Shape.createVertex(rotation.mult(new Vector3f(thicknessExtend * -1f, -0.5f, thicknessExtend)), location, blockScale));
-        chunkMesh.getPositions().add(Shape.createVertex(rotation.mult(new Vector3f(thicknessExtend * -1f, 0.5f, thicknessExtend)), location, blockScale));
-        chunkMesh.getPositions().add(Shape.createVertex(rotation.mult(new Vector3f(thicknessExtend * -1f, -0.5f, thicknessExtend * -1f)), location, blockScale));
-        chunkMesh.getPositions().add(Shape.createVertex(rotation.mult(new Vector3f(thicknessExtend * -1f, 0.5f, thicknessExtend * -1f)), location, blockScale));
+        chunkMesh.addPosition(rotation, thicknessExtend * -1f, -0.5f, thicknessExtend, location, blockScale);
+        chunkMesh.addPosition(rotation, thicknessExtend * -1f, 0.5f, thicknessExtend, location, blockScale);
+        chunkMesh.addPosition(rotation, thicknessExtend * -1f, -0.5f, thicknessExtend * -1f, location, blockScale);
+        chunkMesh.addPosition(rotation, thicknessExtend * -1f, 0.5f, thicknessExtend * -1f, location, blockScale);
         // indices
-        chunkMesh.getIndices().add(offset);
-        chunkMesh.getIndices().add(offset + 1);
-        chunkMesh.getIndices().add(offset + 2);
-        chunkMesh.getIndices().add(offset + 1);
-        chunkMesh.getIndices().add(offset + 3);
-        chunkMesh.getIndices().add(offset + 2);
+        chunkMesh.addIndex(offset);
+        chunkMesh.addIndex(offset + 1);
+        chunkMesh.addIndex(offset + 2);
+        chunkMesh.addIndex(offset + 1);
+        chunkMesh.addIndex(offset + 3);
+        chunkMesh.addIndex(offset + 2);
 
         if (!chunkMesh.isCollisionMesh()) {
             // normals and tangents
             for (int i = 0; i < 4; i++) {
-                chunkMesh.getNormals().add(rotation.mult(new Vector3f(-1.0f, 0.0f, 0.0f)));
-                Matrix4f rotationMatrix = rotation.toRotationMatrix(new Matrix4f());
-                chunkMesh.getTangents().add(rotationMatrix.mult(new Vector4f(0.0f, 0.0f, 1.0f, 1.0f)));
+                chunkMesh.addNormal(rotation, -1.0f, 0.0f, 0.0f);
+                chunkMesh.addTangent(rotation, 0.0f, 0.0f, 1.0f, 1.0f);
             }
             // uvs
             TextureCoordinates textureCoordinates = textureCoordinatesFunction.apply(Direction.WEST);
             float middleX = ((textureCoordinates.getMax().x - textureCoordinates.getMin().x) / 2) + textureCoordinates.getMin().x;
-            chunkMesh.getUvs().add(new Vector2f(middleX + thicknessExtend, textureCoordinates.getMin().y));
-            chunkMesh.getUvs().add(new Vector2f(middleX + thicknessExtend, textureCoordinates.getMax().y));
-            chunkMesh.getUvs().add(new Vector2f(middleX - thicknessExtend, textureCoordinates.getMin().y));
-            chunkMesh.getUvs().add(new Vector2f(middleX - thicknessExtend, textureCoordinates.getMax().y));
+            chunkMesh.addUv(middleX + thicknessExtend, textureCoordinates.getMin().y);
+            chunkMesh.addUv(middleX + thicknessExtend, textureCoordinates.getMax().y);
+            chunkMesh.addUv(middleX - thicknessExtend, textureCoordinates.getMin().y);
+            chunkMesh.addUv(middleX - thicknessExtend, textureCoordinates.getMax().y);
         }
     }
 
     private static void createDown(Vec3i location, Quaternion rotation, ChunkMesh chunkMesh, float blockScale, Function<Direction, TextureCoordinates> textureCoordinatesFunction, float thicknessExtend) {
         // calculate index offset, we use this to connect the triangles
-        int offset = chunkMesh.getPositions().size();
+        int offset = chunkMesh.getVertexCount();
         // vertices
-        chunkMesh.getPositions().add(Shape.createVertex(rotation.mult(new Vector3f(thicknessExtend * -1f, -0.5f, thicknessExtend * -1f)), location, blockScale));
-        chunkMesh.getPositions().add(Shape.createVertex(rotation.mult(new Vector3f(thicknessExtend, -0.5f, thicknessExtend * -1f)), location, blockScale));
-        chunkMesh.getPositions().add(Shape.createVertex(rotation.mult(new Vector3f(thicknessExtend * -1f, -0.5f, thicknessExtend)), location, blockScale));
-        chunkMesh.getPositions().add(Shape.createVertex(rotation.mult(new Vector3f(thicknessExtend, -0.5f, thicknessExtend)), location, blockScale));
+        chunkMesh.addPosition(rotation, thicknessExtend * -1f, -0.5f, thicknessExtend * -1f, location, blockScale);
+        chunkMesh.addPosition(rotation, thicknessExtend, -0.5f, thicknessExtend * -1f, location, blockScale);
+        chunkMesh.addPosition(rotation, thicknessExtend * -1f, -0.5f, thicknessExtend, location, blockScale);
+        chunkMesh.addPosition(rotation, thicknessExtend, -0.5f, thicknessExtend, location, blockScale);
         // indices
-        chunkMesh.getIndices().add(offset);
-        chunkMesh.getIndices().add(offset + 1);
-        chunkMesh.getIndices().add(offset + 2);
-        chunkMesh.getIndices().add(offset + 1);
-        chunkMesh.getIndices().add(offset + 3);
-        chunkMesh.getIndices().add(offset + 2);
+        chunkMesh.addIndex(offset);
+        chunkMesh.addIndex(offset + 1);
+        chunkMesh.addIndex(offset + 2);
+        chunkMesh.addIndex(offset + 1);
+        chunkMesh.addIndex(offset + 3);
+        chunkMesh.addIndex(offset + 2);
 
         if (!chunkMesh.isCollisionMesh()) {
             // normals and tangents
             for (int i = 0; i < 4; i++) {
-                chunkMesh.getNormals().add(rotation.mult(new Vector3f(0.0f, -1.0f, 0.0f)));
-                Matrix4f rotationMatrix = rotation.toRotationMatrix(new Matrix4f());
-                chunkMesh.getTangents().add(rotationMatrix.mult(new Vector4f(1.0f, 0.0f, 0.0f, 1.0f)));
+                chunkMesh.addNormal(rotation, 0.0f, -1.0f, 0.0f);
+                chunkMesh.addTangent(rotation, 1.0f, 0.0f, 0.0f, 1.0f);
             }
             // uvs
             TextureCoordinates textureCoordinates = textureCoordinatesFunction.apply(Direction.DOWN);
             float middleX = ((textureCoordinates.getMax().x - textureCoordinates.getMin().x) / 2) + textureCoordinates.getMin().x;
             float middleY = ((textureCoordinates.getMax().y - textureCoordinates.getMin().y) / 2) + textureCoordinates.getMin().y;
             float numberOfTextures = 1 / (textureCoordinates.getMax().y - textureCoordinates.getMin().y);
-            chunkMesh.getUvs().add(new Vector2f(middleX - thicknessExtend, middleY - thicknessExtend / numberOfTextures));
-            chunkMesh.getUvs().add(new Vector2f(middleX + thicknessExtend, middleY - thicknessExtend / numberOfTextures));
-            chunkMesh.getUvs().add(new Vector2f(middleX - thicknessExtend, middleY + thicknessExtend / numberOfTextures));
-            chunkMesh.getUvs().add(new Vector2f(middleX + thicknessExtend, middleY + thicknessExtend / numberOfTextures));
+            chunkMesh.addUv(middleX - thicknessExtend, middleY - thicknessExtend / numberOfTextures);
+            chunkMesh.addUv(middleX + thicknessExtend, middleY - thicknessExtend / numberOfTextures);
+            chunkMesh.addUv(middleX - thicknessExtend, middleY + thicknessExtend / numberOfTextures);
+            chunkMesh.addUv(middleX + thicknessExtend, middleY + thicknessExtend / numberOfTextures);
         }
     }
 
     private static void createUp(Vec3i location, Quaternion rotation, ChunkMesh chunkMesh, float blockScale, Function<Direction, TextureCoordinates> textureCoordinatesFunction, float thicknessExtend) {
         // calculate index offset, we use this to connect the triangles
-        int offset = chunkMesh.getPositions().size();
+        int offset = chunkMesh.getVertexCount();
         // vertices
-        chunkMesh.getPositions().add(Shape.createVertex(rotation.mult(new Vector3f(thicknessExtend, 0.5f, thicknessExtend * -1f)), location, blockScale));
-        chunkMesh.getPositions().add(Shape.createVertex(rotation.mult(new Vector3f(thicknessExtend * -1f, 0.5f, thicknessExtend * -1f)), location, blockScale));
-        chunkMesh.getPositions().add(Shape.createVertex(rotation.mult(new Vector3f(thicknessExtend, 0.5f, thicknessExtend)), location, blockScale));
-        chunkMesh.getPositions().add(Shape.createVertex(rotation.mult(new Vector3f(thicknessExtend * -1f, 0.5f, thicknessExtend)), location, blockScale));
+        chunkMesh.addPosition(rotation, thicknessExtend, 0.5f, thicknessExtend * -1f, location, blockScale);
+        chunkMesh.addPosition(rotation, thicknessExtend * -1f, 0.5f, thicknessExtend * -1f, location, blockScale);
+        chunkMesh.addPosition(rotation, thicknessExtend, 0.5f, thicknessExtend, location, blockScale);
+        chunkMesh.addPosition(rotation, thicknessExtend * -1f, 0.5f, thicknessExtend, location, blockScale);
         // indices
-        chunkMesh.getIndices().add(offset);
-        chunkMesh.getIndices().add(offset + 1);
-        chunkMesh.getIndices().add(offset + 2);
-        chunkMesh.getIndices().add(offset + 1);
-        chunkMesh.getIndices().add(offset + 3);
-        chunkMesh.getIndices().add(offset + 2);
+        chunkMesh.addIndex(offset);
+        chunkMesh.addIndex(offset + 1);
+        chunkMesh.addIndex(offset + 2);
+        chunkMesh.addIndex(offset + 1);
+        chunkMesh.addIndex(offset + 3);
+        chunkMesh.addIndex(offset + 2);
 
         if (!chunkMesh.isCollisionMesh()) {
             // normals and tangents
             for (int i = 0; i < 4; i++) {
-                chunkMesh.getNormals().add(rotation.mult(new Vector3f(0.0f, 1.0f, 0.0f)));
-                Matrix4f rotationMatrix = rotation.toRotationMatrix(new Matrix4f());
-                chunkMesh.getTangents().add(rotationMatrix.mult(new Vector4f(1.0f, 0.0f, 0.0f, 1.0f)));
+                chunkMesh.addNormal(rotation, 0.0f, 1.0f, 0.0f);
+                chunkMesh.addTangent(rotation, 1.0f, 0.0f, 0.0f, 1.0f);
             }
             // uvs
             TextureCoordinates textureCoordinates = textureCoordinatesFunction.apply(Direction.UP);
             float middleX = ((textureCoordinates.getMax().x - textureCoordinates.getMin().x) / 2) + textureCoordinates.getMin().x;
             float middleY = ((textureCoordinates.getMax().y - textureCoordinates.getMin().y) / 2) + textureCoordinates.getMin().y;
             float numberOfTextures = 1 / (textureCoordinates.getMax().y - textureCoordinates.getMin().y);
-            chunkMesh.getUvs().add(new Vector2f(middleX + thicknessExtend, middleY + thicknessExtend / numberOfTextures));
-            chunkMesh.getUvs().add(new Vector2f(middleX - thicknessExtend, middleY + thicknessExtend / numberOfTextures));
-            chunkMesh.getUvs().add(new Vector2f(middleX + thicknessExtend, middleY - thicknessExtend / numberOfTextures));
-            chunkMesh.getUvs().add(new Vector2f(middleX - thicknessExtend, middleY - thicknessExtend / numberOfTextures));
+            chunkMesh.addUv(middleX + thicknessExtend, middleY + thicknessExtend / numberOfTextures);
+            chunkMesh.addUv(middleX - thicknessExtend, middleY + thicknessExtend / numberOfTextures);
+            chunkMesh.addUv(middleX + thicknessExtend, middleY - thicknessExtend / numberOfTextures);
+            chunkMesh.addUv(middleX - thicknessExtend, middleY - thicknessExtend / numberOfTextures);
         }
     }
 
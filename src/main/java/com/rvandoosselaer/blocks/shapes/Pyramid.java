@@ -1,10 +1,6 @@
 package com.rvandoosselaer.blocks.shapes;
 
-import com.jme3.math.Matrix4f;
 import com.jme3.math.Quaternion;
-import com.jme3.math.Vector2f;
-import com.jme3.math.Vector3f;
-import com.jme3.math.Vector4f;
 import com.rvandoosselaer.blocks.Block;
 import com.rvandoosselaer.blocks.BlocksConfig;
 import com.rvandoosselaer.blocks.Chunk;
@@ -34,6 +30,11 @@ public class Pyramid implements Shape {
         this(Direction.UP);
     }
 
+    @Override
+    public boolean isPrecomputable() {
+        return true;
+    }
+
     @Override
     public void add(Vec3i location, Chunk chunk, ChunkMesh chunkMesh) {
         // get the block scale, we multiply it with the vertex positions
@@ -54,137 +55,132 @@ public class Pyramid implements Shape {
     }
 
     private static void createDown(Vec3i location, Quaternion rotation, ChunkMesh chunkMesh, float blockScale, Function<Direction, TextureCoordinates> textureCoordinatesFunction) {
-        int offset = chunkMesh.getPositions().size();
+        int offset = chunkMesh.getVertexCount();
         // vertices
-        chunkMesh.getPositions().add(Shape.createVertex(rotation.mult(new Vector3f(0.5f, -0.5f, -0.5f)), location, blockScale));
-        chunkMesh.getPositions().add(Shape.createVertex(rotation.mult(new Vector3f(-0.5f, -0.5f, 0.5f)), location, blockScale));
-        chunkMesh.getPositions().add(Shape.createVertex(rotation.mult(new Vector3f(-0.5f, -0.5f, -0.5f)), location, blockScale));
-        chunkMesh.getPositions().add(Shape.createVertex(rotation.mult(new Vector3f(0.5f, -0.5f, 0.5f)), location, blockScale));
+        chunkMesh.addPosition(rotation, 0.5f, -0.5f, -0.5f, location, blockScale);
+        chunkMesh.addPosition(rotation, -0.5f, -0.5f, 0.5f, location, blockScale);
+        chunkMesh.addPosition(rotation, -0.5f, -0.5f, -0.5f, location, blockScale);
+        chunkMesh.addPosition(rotation, 0.5f, -0.5f, 0.5f, location, blockScale);
         // indices
-        chunkMesh.getIndices().add(offset);
-        chunkMesh.getIndices().add(offset + 1);
-        chunkMesh.getIndices().add(offset + 2);
-        chunkMesh.getIndices().add(offset);
-        chunkMesh.getIndices().add(offset + 3);
-        chunkMesh.getIndices().add(offset + 1);
+        chunkMesh.addIndex(offset);
+        chunkMesh.addIndex(offset + 1);
+        chunkMesh.addIndex(offset + 2);
+        chunkMesh.addIndex(offset);
+        chunkMesh.addIndex(offset + 3);
+        chunkMesh.addIndex(offset + 1);
 
         if (!chunkMesh.isCollisionMesh()) {
             // normals and tangents
             for (int i = 0; i < 4; i++) {
-                chunkMesh.getNormals().add(rotation.mult(new Vector3f(0.0f, -1.0f, 0.0f)));
-                Matrix4f rotationMatrix = rotation.toRotationMatrix(new Matrix4f());
-                chunkMesh.getTangents().add(rotationMatrix.mult(new Vector4f(1.0f, 0.0f, 0.0f, -1.0f)));
+                chunkMesh.addNormal(rotation, 0.0f, -1.0f, 0.0f);
+                chunkMesh.addTangent(rotation, 1.0f, 0.0f, 0.0f, -1.0f);
             }
             // uvs
             TextureCoordinates textureCoordinates = textureCoordinatesFunction.apply(Direction.DOWN);
-            chunkMesh.getUvs().add(new Vector2f(textureCoordinates.getMax().x, textureCoordinates.getMax().y));
-            chunkMesh.getUvs().add(new Vector2f(textureCoordinates.getMin().x, textureCoordinates.getMin().y));
-            chunkMesh.getUvs().add(new Vector2f(textureCoordinates.getMin().x, textureCoordinates.getMax().y));
-            chunkMesh.getUvs().add(new Vector2f(textureCoordinates.getMax().x, textureCoordinates.getMin().y));
+            chunkMesh.addUv(textureCoordinates.getMax().x, textureCoordinates.getMax().y);
+            chunkMesh.addUv(textureCoordinates.getMin().x, textureCoordinates.getMin().y);
+            chunkMesh.addUv(textureCoordinates.getMin().x, textureCoordinates.getMax().y);
+            chunkMesh.addUv(textureCoordinates.getMax().x, textureCoordinates.getMin().y);
         }
     }
 
     private static void createSouth(Vec3i location, Quaternion rotation, ChunkMesh chunkMesh, float blockScale, Function<Direction, TextureCoordinates> textureCoordinatesFunction) {
-        int offset = chunkMesh.getPositions().size();
+        int offset = chunkMesh.getVertexCount();
         // vertices
-        chunkMesh.getPositions().add(Shape.createVertex(rotation.mult(new Vector3f(0.5f, -0.5f, 0.5f)), location, blockScale));
-        chunkMesh.getPositions().add(Shape.createVertex(rotation.mult(new Vector3f(0.0f, 0.5f, 0.0f)), location, blockScale));
-        chunkMesh.getPositions().add(Shape.createVertex(rotation.mult(new Vector3f(-0.5f, -0.5f, 0.5f)), location, blockScale));
+        chunkMesh.addPosition(rotation, 0.5f, -0.5f, 0.5f, location, blockScale);
+        chunkMesh.addPosition(rotation, 0.0f, 0.5f, 0.0f, location, blockScale);
+        chunkMesh.addPosition(rotation, -0.5f, -0.5f, 0.5f, location, blockScale);
         // indices
-        chunkMesh.getIndices().add(offset);
-        chunkMesh.getIndices().add(offset + 1);
-        chunkMesh.getIndices().add(offset + 2);
+        chunkMesh.addIndex(offset);
+        chunkMesh.addIndex(offset + 1);
+        chunkMesh.addIndex(offset + 2);
         if (!chunkMesh.isCollisionMesh()) {
             // normals and tangents
             for (int i = 0; i < 3; i++) {
-                chunkMesh.getNormals().add(rotation.mult(new Vector3f(0.0f, 0.4472136f, 0.8944272f)));
-                Matrix4f rotationMatrix = rotation.toRotationMatrix(new Matrix4f());
-                chunkMesh.getTangents().add(rotationMatrix.mult(new Vector4f(1.0f, 0.0f, 0.0f, 1.0f)));
+                chunkMesh.addNormal(rotation, 0.0f, 0.4472136f, 0.8944272f);
+                chunkMesh.addTangent(rotation, 1.0f, 0.0f, 0.0f, 1.0f);
             }
             // uvs
             TextureCoordinates textureCoordinates = textureCoordinatesFunction.apply(Direction.SOUTH);
             float middleX = ((textureCoordinates.getMax().x - textureCoordinates.getMin().x) / 2) + textureCoordinates.getMin().x;
-            chunkMesh.getUvs().add(new Vector2f(textureCoordinates.getMin().x, textureCoordinates.getMin().y));
-            chunkMesh.getUvs().add(new Vector2f(middleX, textureCoordinates.getMax().y));
-            chunkMesh.getUvs().add(new Vector2f(textureCoordinates.getMax().x, textureCoordinates.getMin().y));
+            chunkMesh.addUv(textureCoordinates.getMin().x, textureCoordinates.getMin().y);
+            chunkMesh.addUv(middleX, textureCoordinates.getMax().y);
+            chunkMesh.addUv(textureCoordinates.getMax().x, textureCoordinates.getMin().y);
         }
     }
 
     private static void createEast(Vec3i location, Quaternion rotation, ChunkMesh chunkMesh, float blockScale, Function<Direction, TextureCoordinates> textureCoordinatesFunction) {
-        int offset = chunkMesh.getPositions().size();
+        int offset = chunkMesh.getVertexCount();
         // vertices
-        chunkMesh.getPositions().add(Shape.createVertex(rotation.mult(new Vector3f(0.5f, -0.5f, -0.5f)), location, blockScale));
-        chunkMesh.getPositions().add(Shape.createVertex(rotation.mult(new Vector3f(0.0f, 0.5f, 0.0f)), location, blockScale));
-        chunkMesh.getPositions().add(Shape.createVertex(rotation.mult(new Vector3f(0.5f, -0.5f, 0.5f)), location, blockScale));
+        chunkMesh.addPosition(rotation, 0.5f, -0.5f, -0.5f, location, blockScale);
+        chunkMesh.addPosition(rotation, 0.0f, 0.5f, 0.0f, location, blockScale);
+        chunkMesh.addPosition(rotation, 0.5f, -0.5f, 0.5f, location, blockScale);
         // indices
-        chunkMesh.getIndices().add(offset);
-        chunkMesh.getIndices().add(offset + 1);
-        chunkMesh.getIndices().add(offset + 2);
+        chunkMesh.addIndex(offset);
+        chunkMesh.addIndex(offset + 1);
+        chunkMesh.addIndex(offset + 2);
         if (!chunkMesh.isCollisionMesh()) {
             // normals and tangents
             for (int i = 0; i < 3; i++) {
-                chunkMesh.getNormals().add(rotation.mult(new Vector3f(0.8944272f, 0.4472136f, 0.0f)));
-                Matrix4f rotationMatrix = rotation.toRotationMatrix(new Matrix4f());
-                chunkMesh.getTangents().add(rotationMatrix.mult(new Vector4f(0.0f, 0.0f, -1.0f, 1.0f)));
+                chunkMesh.addNormal(rotation, 0.8944272f, 0.4472136f, 0.0f);
+                chunkMesh.addTangent(rotation, 0.0f, 0.0f, -1.0f, 1.0f);
             }
             // uvs
             TextureCoordinates textureCoordinates = textureCoordinatesFunction.apply(Direction.EAST);
             float middleX = ((textureCoordinates.getMax().x - textureCoordinates.getMin().x) / 2) + textureCoordinates.getMin().x;
-            chunkMesh.getUvs().add(new Vector2f(textureCoordinates.getMin().x, textureCoordinates.getMin().y));
-            chunkMesh.getUvs().add(new Vector2f(middleX, textureCoordinates.getMax().y));
-            chunkMesh.getUvs().add(new Vector2f(textureCoordinates.getMax().x, textureCoordinates.getMin().y));
+            chunkMesh.addUv(textureCoordinates.getMin().x, textureCoordinates.getMin().y);
+            chunkMesh.addUv(middleX, textureCoordinates.getMax().y);
+            chunkMesh.addUv(textureCoordinates.getMax().x, textureCoordinates.getMin().y);
         }
     }
 
     private static void createNorth(Vec3i location, Quaternion rotation, ChunkMesh chunkMesh, float blockScale, Function<Direction, TextureCoordinates> textureCoordinatesFunction) {
-        int offset = chunkMesh.getPositions().size();
+        int offset = chunkMesh.getVertexCount();
         // vertices
-        chunkMesh.getPositions().add(Shape.createVertex(rotation.mult(new Vector3f(-0.5f, -0.5f, -0.5f)), location, blockScale));
-        chunkMesh.getPositions().add(Shape.createVertex(rotation.mult(new Vector3f(0.0f, 0.5f, 0.0f)), location, blockScale));
-        chunkMesh.getPositions().add(Shape.createVertex(rotation.mult(new Vector3f(0.5f, -0.5f, -0.5f)), location, blockScale));
+        chunkMesh.addPosition(rotation, -0.5f, -0.5f, -0.5f, location, blockScale);
+        chunkMesh.addPosition(rotation, 0.0f, 0.5f, 0.0f, location, blockScale);
+        chunkMesh.addPosition(rotation, 0.5f, -0.5f, -0.5f, location, blockScale);
         // indices
-        chunkMesh.getIndices().add(offset);
-        chunkMesh.getIndices().add(offset + 1);
-        chunkMesh.getIndices().add(offset + 2);
+        chunkMesh.addIndex(offset);
+        chunkMesh.addIndex(offset + 1);
+        chunkMesh.addIndex(offset + 2);
         if (!chunkMesh.isCollisionMesh()) {
             // normals and tangents
             for (int i = 0; i < 3; i++) {
-                chunkMesh.getNormals().add(rotation.mult(new Vector3f(0.0f, 0.4472136f, -0.8944272f)));
-                Matrix4f rotationMatrix = rotation.toRotationMatrix(new Matrix4f());
-                chunkMesh.getTangents().add(rotationMatrix.mult(new Vector4f(1.0f, 0.0f, 0.0f, -1.0f)));
+                chunkMesh.addNormal(rotation, 0.0f, 0.4472136f, -0.8944272f);
+                chunkMesh.addTangent(rotation, 1.0f, 0.0f, 0.0f, -1.0f);
             }
             // uvs
             TextureCoordinates textureCoordinates = textureCoordinatesFunction.apply(Direction.NORTH);
             float middleX = ((textureCoordinates.getMax().x - textureCoordinates.getMin().x) / 2) + textureCoordinates.getMin().x;
-            chunkMesh.getUvs().add(new Vector2f(textureCoordinates.getMin().x, textureCoordinates.getMin().y));
-            chunkMesh.getUvs().add(new Vector2f(middleX, textureCoordinates.getMax().y));
-            chunkMesh.getUvs().add(new Vector2f(textureCoordinates.getMax().x, textureCoordinates.getMin().y));
+            chunkMesh.addUv(textureCoordinates.getMin().x, textureCoordinates.getMin().y);
+            chunkMesh.addUv(middleX, textureCoordinates.getMax().y);
+            chunkMesh.addUv(textureCoordinates.getMax().x, textureCoordinates.getMin().y);
         }
     }
 
     private static void createWest(Vec3i location, Quaternion rotation, ChunkMesh chunkMesh, float blockScale, Function<Direction, TextureCoordinates> textureCoordinatesFunction) {
-        int offset = chunkMesh.getPositions().size();
+        int offset = chunkMesh.getVertexCount();
         // vertices
-        chunkMesh.getPositions().add(Shape.createVertex(rotation.mult(new Vector3f(-0.5f, -0.5f, 0.5f)), location, blockScale));
-        chunkMesh.getPositions().add(Shape.createVertex(rotation.mult(new Vector3f(0.0f, 0.5f, 0.0f)), location, blockScale));
-        chunkMesh.getPositions().add(Shape.createVertex(rotation.mult(new Vector3f(-0.5f, -0.5f, -0.5f)), location, blockScale));
+        chunkMesh.addPosition(rotation, -0.5f, -0.5f, 0.5f, location, blockScale);
+        chunkMesh.addPosition(rotation, 0.0f, 0.5f, 0.0f, location, blockScale);
+        chunkMesh.addPosition(rotation, -0.5f, -0.5f, -0.5f, location, blockScale);
         // indices
-        chunkMesh.getIndices().add(offset);
-        chunkMesh.getIndices().add(offset + 1);
-        chunkMesh.getIndices().add(offset + 2);
+        chunkMesh.addIndex(offset);
+        chunkMesh.addIndex(offset + 1);
+        chunkMesh.addIndex(offset + 2);
         if (!chunkMesh.isCollisionMesh()) {
             // normals and tangents
             for (int i = 0; i < 3; i++) {
-                chunkMesh.getNormals().add(rotation.mult(new Vector3f(-0.8944272f, 0.4472136f, 0.0f)));
-                Matrix4f rotationMatrix = rotation.toRotationMatrix(new Matrix4f());
-                chunkMesh.getTangents().add(rotationMatrix.mult(new Vector4f(0.0f, 0.0f, -1.0f, -1.0f)));
+                chunkMesh.addNormal(rotation, -0.8944272f, 0.4472136f, 0.0f);
+                chunkMesh.addTangent(rotation, 0.0f, 0.0f, -1.0f, -1.0f);
             }
             // uvs
             TextureCoordinates textureCoordinates = textureCoordinatesFunction.apply(Direction.WEST);
             float middleX = ((textureCoordinates.getMax().x - textureCoordinates.getMin().x) / 2) + textureCoordinates.getMin().x;
-            chunkMesh.getUvs().add(new Vector2f(textureCoordinates.getMin().x, textureCoordinates.getMin().y));
-            chunkMesh.getUvs().add(new Vector2f(middleX, textureCoordinates.getMax().y));
-            chunkMesh.getUvs().add(new Vector2f(textureCoordinates.getMax().x, textureCoordinates.getMin().y));
+            chunkMesh.addUv(textureCoordinates.getMin().x, textureCoordinates.getMin().y);
+            chunkMesh.addUv(middleX, textureCoordinates.getMax().y);
+            chunkMesh.addUv(textureCoordinates.getMax().x, textureCoordinates.getMin().y);
         }
     }
 
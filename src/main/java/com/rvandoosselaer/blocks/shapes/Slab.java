@@ -1,11 +1,7 @@
 package com.rvandoosselaer.blocks.shapes;
 
 import com.jme3.math.FastMath;
-import com.jme3.math.Matrix4f;
 import com.jme3.math.Quaternion;
-import com.jme3.math.Vector2f;
-import com.jme3.math.Vector3f;
-import com.jme3.math.Vector4f;
 import com.rvandoosselaer.blocks.Block;
 import com.rvandoosselaer.blocks.BlocksConfig;
 import com.rvandoosselaer.blocks.Chunk;
@@ -50,6 +46,11 @@ public class Slab implements Shape {
         this.direction = direction;
     }
 
+    @Override
+    public boolean isPrecomputable() {
+        return true;
+    }
+
     @Override
     public void add(Vec3i location, Chunk chunk, ChunkMesh chunkMesh) {
         // get the block scale, we multiply it with the vertex positions
@@ -83,197 +84,191 @@ public class Slab implements Shape {
 
     protected void createNorth(Vec3i location, Quaternion rotation, ChunkMesh chunkMesh, float blockScale, Function<Direction, TextureCoordinates> textureCoordinatesFunction) {
         // calculate index offset, we use this to connect the triangles
-        int offset = chunkMesh.getPositions().size();
+        int offset = chunkMesh.getVertexCount();
         // vertices
-        chunkMesh.getPositions().add(Shape.createVertex(rotation.mult(new Vector3f(-0.5f, startY, -0.5f)), location, blockScale));
-        chunkMesh.getPositions().add(Shape.createVertex(rotation.mult(new Vector3f(-0.5f, endY, -0.5f)), location, blockScale));
-        chunkMesh.getPositions().add(Shape.createVertex(rotation.mult(new Vector3f(0.5f, startY, -0.5f)), location, blockScale));
-        chunkMesh.getPositions().add(Shape.createVertex(rotation.mult(new Vector3f(0.5f, endY, -0.5f)), location, blockScale));
+        chunkMesh.addPosition(rotation, -0.5f, startY, -0.5f, location, blockScale);
+        chunkMesh.addPosition(rotation, -0.5f, endY, -0.5f, location, blockScale);
+        chunkMesh.addPosition(rotation, 0.5f, startY, -0.5f, location, blockScale);
+        chunkMesh.addPosition(rotation, 0.5f, endY, -0.5f, location, blockScale);
         // indices
-        chunkMesh.getIndices().add(offset);
-        chunkMesh.getIndices().add(offset + 1);
-        chunkMesh.getIndices().add(offset + 2);
-        chunkMesh.getIndices().add(offset + 1);
-        chunkMesh.getIndices().add(offset + 3);
-        chunkMesh.getIndices().add(offset + 2);
+        chunkMesh.addIndex(offset);
+        chunkMesh.addIndex(offset + 1);
+        chunkMesh.addIndex(offset + 2);
+        chunkMesh.addIndex(offset + 1);
+        chunkMesh.addIndex(offset + 3);
+        chunkMesh.addIndex(offset + 2);
 
         if (!chunkMesh.isCollisionMesh()) {
             // normals and tangents
             for (int i = 0; i < 4; i++) {
-                chunkMesh.getNormals().add(rotation.mult(new Vector3f(0.0f, 0.0f, -1.0f)));
-                Matrix4f rotationMatrix = rotation.toRotationMatrix(new Matrix4f());
-                chunkMesh.getTangents().add(rotationMatrix.mult(new Vector4f(-1.0f, 0.0f, 0.0f, 1.0f)));
+                chunkMesh.addNormal(rotation, 0.0f, 0.0f, -1.0f);
+                chunkMesh.addTangent(rotation, -1.0f, 0.0f, 0.0f, 1.0f);
             }
             // uvs
             TextureCoordinates textureCoordinates = textureCoordinatesFunction.apply(Direction.NORTH);
             float numberOfTextures = 1 / (textureCoordinates.getMax().y - textureCoordinates.getMin().y);
-            chunkMesh.getUvs().add(new Vector2f(textureCoordinates.getMax().x, mapValueToRange(startY + 0.5f, new Vector2f(0, 1), new Vector2f(0, 1 / numberOfTextures))));
-            chunkMesh.getUvs().add(new Vector2f(textureCoordinates.getMax().x, mapValueToRange(endY + 0.5f, new Vector2f(0, 1), new Vector2f(0, 1 / numberOfTextures))));
-            chunkMesh.getUvs().add(new Vector2f(textureCoordinates.getMin().x, mapValueToRange(startY + 0.5f, new Vector2f(0, 1), new Vector2f(0, 1 / numberOfTextures))));
-            chunkMesh.getUvs().add(new Vector2f(textureCoordinates.getMin().x, mapValueToRange(endY + 0.5f, new Vector2f(0, 1), new Vector2f(0, 1 / numberOfTextures))));
+            chunkMesh.addUv(textureCoordinates.getMax().x, mapValueToRange(startY + 0.5f, 0, 1, 0, 1 / numberOfTextures));
+            chunkMesh.addUv(textureCoordinates.getMax().x, mapValueToRange(endY + 0.5f, 0, 1, 0, 1 / numberOfTextures));
+            chunkMesh.addUv(textureCoordinates.getMin().x, mapValueToRange(startY + 0.5f, 0, 1, 0, 1 / numberOfTextures));
+            chunkMesh.addUv(textureCoordinates.getMin().x, mapValueToRange(endY + 0.5f, 0, 1, 0, 1 / numberOfTextures));
         }
     }
 
     protected void createSouth(Vec3i location, Quaternion rotation, ChunkMesh chunkMesh, float blockScale, Function<Direction, TextureCoordinates> textureCoordinatesFunction) {
         // calculate index offset, we use this to connect the triangles
-        int offset = chunkMesh.getPositions().size();
+        int offset = chunkMesh.getVertexCount();
         // vertices
-        chunkMesh.getPositions().add(Shape.createVertex(rotation.mult(new Vector3f(0.5f, startY, 0.5f)), location, blockScale));
-        chunkMesh.getPositions().add(Shape.createVertex(rotation.mult(new Vector3f(0.5f, endY, 0.5f)), location, blockScale));
-        chunkMesh.getPositions().add(Shape.createVertex(rotation.mult(new Vector3f(-0.5f, startY, 0.5f)), location, blockScale));
-        chunkMesh.getPositions().add(Shape.createVertex(rotation.mult(new Vector3f(-0.5f, endY, 0.5f)), location, blockScale));
+        chunkMesh.addPosition(rotation, 0.5f, startY, 0.5f, location, blockScale);
+        chunkMesh.addPosition(rotation, 0.5f, endY, 0.5f, location, blockScale);
+        chunkMesh.addPosition(rotation, -0.5f, startY, 0.5f, location, blockScale);
+        chunkMesh.addPosition(rotation, -0.5f, endY, 0.5f, location, blockScale);
         // indices
-        chunkMesh.getIndices().add(offset);
-        chunkMesh.getIndices().add(offset + 1);
-        chunkMesh.getIndices().add(offset + 2);
-        chunkMesh.getIndices().add(offset + 1);
-        chunkMesh.getIndices().add(offset + 3);
-        chunkMesh.getIndices().add(offset + 2);
+        chunkMesh.addIndex(offset);
+        chunkMesh.addIndex(offset + 1);
+        chunkMesh.addIndex(offset + 2);
+        chunkMesh.addIndex(offset + 1);
+        chunkMesh.addIndex(offset + 3);
+        chunkMesh.addIndex(offset + 2);
 
         if (!chunkMesh.isCollisionMesh()) {
             // normals and tangents
             for (int i = 0; i < 4; i++) {
-                chunkMesh.getNormals().add(rotation.mult(new Vector3f(0.0f, 0.0f, 1.0f)));
-                Matrix4f rotationMatrix = rotation.toRotationMatrix(new Matrix4f());
-                chunkMesh.getTangents().add(rotationMatrix.mult(new Vector4f(1.0f, 0.0f, 0.0f, 1.0f)));
+                chunkMesh.addNormal(rotation, 0.0f, 0.0f, 1.0f);
+                chunkMesh.addTangent(rotation, 1.0f, 0.0f, 0.0f, 1.0f);
             }
             // uvs
             TextureCoordinates textureCoordinates = textureCoordinatesFunction.apply(Direction.SOUTH);
             float numberOfTextures = 1 / (textureCoordinates.getMax().y - textureCoordinates.getMin().y);
-            chunkMesh.getUvs().add(new Vector2f(textureCoordinates.getMax().x, mapValueToRange(startY + 0.5f, new Vector2f(0, 1), new Vector2f(0, 1 / numberOfTextures))));
-            chunkMesh.getUvs().add(new Vector2f(textureCoordinates.getMax().x, mapValueToRange(endY + 0.5f, new Vector2f(0, 1), new Vector2f(0, 1 / numberOfTextures))));
-            chunkMesh.getUvs().add(new Vector2f(textureCoordinates.getMin().x, mapValueToRange(startY + 0.5f, new Vector2f(0, 1), new Vector2f(0, 1 / numberOfTextures))));
-            chunkMesh.getUvs().add(new Vector2f(textureCoordinates.getMin().x, mapValueToRange(endY + 0.5f, new Vector2f(0, 1), new Vector2f(0, 1 / numberOfTextures))));
+            chunkMesh.addUv(textureCoordinates.getMax().x, mapValueToRange(startY + 0.5f, 0, 1, 0, 1 / numberOfTextures));
+            chunkMesh.addUv(textureCoordinates.getMax().x, mapValueToRange(endY + 0.5f, 0, 1, 0, 1 / numberOfTextures));
+            chunkMesh.addUv(textureCoordinates.getMin().x, mapValueToRange(startY + 0.5f, 0, 1, 0, 1 / numberOfTextures));
+            chunkMesh.addUv(textureCoordinates.getMin().x, mapValueToRange(endY + 0.5f, 0, 1, 0, 1 / numberOfTextures));
         }
     }
 
     protected void createEast(Vec3i location, Quaternion rotation, ChunkMesh chunkMesh, float blockScale, Function<Direction, TextureCoordinates> textureCoordinatesFunction) {
         // calculate index offset, we use this to connect the triangles
-        int offset = chunkMesh.getPositions().size();
+        int offset = chunkMesh.getVertexCount();
         // vertices
-        chunkMesh.getPositions().add(Shape.createVertex(rotation.mult(new Vector3f(0.5f, startY, -0.5f)), location, blockScale));
-        chunkMesh.getPositions().add(Shape.createVertex(rotation.mult(new Vector3f(0.5f, endY, -0.5f)), location, blockScale));
-        chunkMesh.getPositions().add(Shape.createVertex(rotation.mult(new Vector3f(0.5f, startY, 0.5f)), location, blockScale));
-        chunkMesh.getPositions().add(Shape.createVertex(rotation.mult(new Vector3f(0.5f, endY, 0.5f)), location, blockScale));
+        chunkMesh.addPosition(rotation, 0.5f, startY, -0.5f, location, blockScale);
+        chunkMesh.addPosition(rotation, 0.5f, endY, -0.5f, location, blockScale);
+        chunkMesh.addPosition(rotation, 0.5f, startY, 0.5f, location, blockScale);
+        chunkMesh.addPosition(rotation, 0.5f, endY, 0.5f, location, blockScale);
         // indices
-        chunkMesh.getIndices().add(offset);
-        chunkMesh.getIndices().add(offset + 1);
-        chunkMesh.getIndices().add(offset + 2);
-        chunkMesh.getIndices().add(offset + 1);
-        chunkMesh.getIndices().add(offset + 3);
-        chunkMesh.getIndices().add(offset + 2);
+        chunkMesh.addIndex(offset);
+        chunkMesh.addIndex(offset + 1);
+        chunkMesh.addIndex(offset + 2);
+        chunkMesh.addIndex(offset + 1);
+        chunkMesh.addIndex(offset + 3);
+        chunkMesh.addIndex(offset + 2);
 
         if (!chunkMesh.isCollisionMesh()) {
             // normals and tangents
             for (int i = 0; i < 4; i++) {
-                chunkMesh.getNormals().add(rotation.mult(new Vector3f(1.0f, 0.0f, 0.0f)));
-                Matrix4f rotationMatrix = rotation.toRotationMatrix(new Matrix4f());
-                chunkMesh.getTangents().add(rotationMatrix.mult(new Vector4f(0.0f, 0.0f, -1.0f, 1.0f)));
+                chunkMesh.addNormal(rotation, 1.0f, 0.0f, 0.0f);
+                chunkMesh.addTangent(rotation, 0.0f, 0.0f, -1.0f, 1.0f);
             }
             // uvs
             TextureCoordinates textureCoordinates = textureCoordinatesFunction.apply(Direction.EAST);
             float numberOfTextures = 1 / (textureCoordinates.getMax().y - textureCoordinates.getMin().y);
-            chunkMesh.getUvs().add(new Vector2f(textureCoordinates.getMax().x, mapValueToRange(startY + 0.5f, new Vector2f(0, 1), new Vector2f(0, 1 / numberOfTextures))));
-            chunkMesh.getUvs().add(new Vector2f(textureCoordinates.getMax().x, mapValueToRange(endY + 0.5f, new Vector2f(0, 1), new Vector2f(0, 1 / numberOfTextures))));
-            chunkMesh.getUvs().add(new Vector2f(textureCoordinates.getMin().x, mapValueToRange(startY + 0.5f, new Vector2f(0, 1), new Vector2f(0, 1 / numberOfTextures))));
-            chunkMesh.getUvs().add(new Vector2f(textureCoordinates.getMin().x, mapValueToRange(endY + 0.5f, new Vector2f(0, 1), new Vector2f(0, 1 / numberOfTextures))));
+            chunkMesh.addUv(textureCoordinates.getMax().x, mapValueToRange(startY + 0.5f, 0, 1, 0, 1 / numberOfTextures));
+            chunkMesh.addUv(textureCoordinates.getMax().x, mapValueToRange(endY + 0.5f, 0, 1, 0, 1 / numberOfTextures));
+            chunkMesh.addUv(textureCoordinates.getMin().x, mapValueToRange(startY + 0.5f, 0, 1, 0, 1 / numberOfTextures));
+            chunkMesh.addUv(textureCoordinates.getMin().x, mapValueToRange(endY + 0.5f, 0, 1, 0, 1 / numberOfTextures));
         }
     }
 
     protected void createWest(Vec3i location, Quaternion rotation, ChunkMesh chunkMesh, float blockScale, Function<Direction, TextureCoordinates> textureCoordinatesFunction) {
         // calculate index offset, we use this to connect the triangles
-        int offset = chunkMesh.getPositions().size();
+        int offset = chunkMesh.getVertexCount();
         // vertices
-        chunkMesh.getPositions().add(Shape.createVertex(rotation.mult(new Vector3f(-0.5f, startY, 0.5f)), location, blockScale));
-        chunkMesh.getPositions().add(Shape.createVertex(rotation.mult(new Vector3f(-0.5f, endY, 0.5f)), location, blockScale));
-        chunkMesh.getPositions().add(Shape.createVertex(rotation.mult(new Vector3f(-0.5f, startY, -0.5f)), location, blockScale));
-        chunkMesh.getPositions().add(Shape.createVertex(rotation.mult(new Vector3f(-0.5f, endY, -0.5f)), location, blockScale));
+        chunkMesh.addPosition(rotation, -0.5f, startY, 0.5f, location, blockScale);
+        chunkMesh.addPosition(rotation, -0.5f, endY, 0.5f, location, blockScale);
+        chunkMesh.addPosition(rotation, -0.5f, startY, -0.5f, location, blockScale);
+        chunkMesh.addPosition(rotation, -0.5f, endY, -0.5f, location, blockScale);
         // indices
-        chunkMesh.getIndices().add(offset);
-        chunkMesh.getIndices().add(offset + 1);
-        chunkMesh.getIndices().add(offset + 2);
-        chunkMesh.getIndices().add(offset + 1);
-        chunkMesh.getIndices().add(offset + 3);
-        chunkMesh.getIndices().add(offset + 2);
+        chunkMesh.addIndex(offset);
+        chunkMesh.addIndex(offset + 1);
+        chunkMesh.addIndex(offset + 2);
+        chunkMesh.addIndex(offset + 1);
+        chunkMesh.addIndex(offset + 3);
+        chunkMesh.addIndex(offset + 2);
 
         if (!chunkMesh.isCollisionMesh()) {
             // normals and tangents
             for (int i = 0; i < 4; i++) {
-                chunkMesh.getNormals().add(rotation.mult(new Vector3f(-1.0f, 0.0f, 0.0f)));
-                Matrix4f rotationMatrix = rotation.toRotationMatrix(new Matrix4f());
-                chunkMesh.getTangents().add(rotationMatrix.mult(new Vector4f(0.0f, 0.0f, 1.0f, 1.0f)));
+                chunkMesh.addNormal(rotation, -1.0f, 0.0f, 0.0f);
+                chunkMesh.addTangent(rotation, 0.0f, 0.0f, 1.0f, 1.0f);
             }
             // uvs
             TextureCoordinates textureCoordinates = textureCoordinatesFunction.apply(Direction.WEST);
             float numberOfTextures = 1 / (textureCoordinates.getMax().y - textureCoordinates.getMin().y);
-            chunkMesh.getUvs().add(new Vector2f(textureCoordinates.getMax().x, mapValueToRange(startY + 0.5f, new Vector2f(0, 1), new Vector2f(0, 1 / numberOfTextures))));
-            chunkMesh.getUvs().add(new Vector2f(textureCoordinates.getMax().x, mapValueToRange(endY + 0.5f, new Vector2f(0, 1), new Vector2f(0, 1 / numberOfTextures))));
-            chunkMesh.getUvs().add(new Vector2f(textureCoordinates.getMin().x, mapValueToRange(startY + 0.5f, new Vector2f(0, 1), new Vector2f(0, 1 / numberOfTextures))));
-            chunkMesh.getUvs().add(new Vector2f(textureCoordinates.getMin().x, mapValueToRange(endY + 0.5f, new Vector2f(0, 1), new Vector2f(0, 1 / numberOfTextures))));
+            chunkMesh.addUv(textureCoordinates.getMax().x, mapValueToRange(startY + 0.5f, 0, 1, 0, 1 / numberOfTextures));
+            chunkMesh.addUv(textureCoordinates.getMax().x, mapValueToRange(endY + 0.5f, 0, 1, 0, 1 / numberOfTextures));
+            chunkMesh.addUv(textureCoordinates.getMin().x, mapValueToRange(startY + 0.5f, 0, 1, 0, 1 / numberOfTextures));
+            chunkMesh.addUv(textureCoordinates.getMin().x, mapValueToRange(endY + 0.5f, 0, 1, 0, 1 / numberOfTextures));
         }
     }
 
     protected void createDown(Vec3i location, Quaternion rotation, ChunkMesh chunkMesh, float blockScale, Function<Direction, TextureCoordinates> textureCoordinatesFunction) {
         // calculate index offset, we use this to connect the triangles
-        int offset = chunkMesh.getPositions().size();
+        int offset = chunkMesh.getVertexCount();
         // vertices
-        chunkMesh.getPositions().add(Shape.createVertex(rotation.mult(new Vector3f(-0.5f, startY, -0.5f)), location, blockScale));
-        chunkMesh.getPositions().add(Shape.createVertex(rotation.mult(new Vector3f(0.5f, startY, -0.5f)), location, blockScale));
-        chunkMesh.getPositions().add(Shape.createVertex(rotation.mult(new Vector3f(-0.5f, startY, 0.5f)), location, blockScale));
-        chunkMesh.getPositions().add(Shape.createVertex(rotation.mult(new Vector3f(0.5f, startY, 0.5f)), location, blockScale));
+        chunkMesh.addPosition(rotation, -0.5f, startY, -0.5f, location, blockScale);
+        chunkMesh.addPosition(rotation, 0.5f, startY, -0.5f, location, blockScale);
+        chunkMesh.addPosition(rotation, -0.5f, startY, 0.5f, location, blockScale);
+        chunkMesh.addPosition(rotation, 0.5f, startY, 0.5f, location, blockScale);
         // indices
-        chunkMesh.getIndices().add(offset);
-        chunkMesh.getIndices().add(offset + 1);
-        chunkMesh.getIndices().add(offset + 2);
-        chunkMesh.getIndices().add(offset + 1);
-        chunkMesh.getIndices().add(offset + 3);
-        chunkMesh.getIndices().add(offset + 2);
+        chunkMesh.addIndex(offset);
+        chunkMesh.addIndex(offset + 1);
+        chunkMesh.addIndex(offset + 2);
+        chunkMesh.addIndex(offset + 1);
+        chunkMesh.addIndex(offset + 3);
+        chunkMesh.addIndex(offset + 2);
 
         if (!chunkMesh.isCollisionMesh()) {
             // normals and tangents
             for (int i = 0; i < 4; i++) {
-                chunkMesh.getNormals().add(rotation.mult(new Vector3f(0.0f, -1.0f, 0.0f)));
-                Matrix4f rotationMatrix = rotation.toRotationMatrix(new Matrix4f());
-                chunkMesh.getTangents().add(rotationMatrix.mult(new Vector4f(1.0f, 0.0f, 0.0f, 1.0f)));
+                chunkMesh.addNormal(rotation, 0.0f, -1.0f, 0.0f);
+                chunkMesh.addTangent(rotation, 1.0f, 0.0f, 0.0f, 1.0f);
             }
             // uvs
             TextureCoordinates textureCoordinates = textureCoordinatesFunction.apply(Direction.DOWN);
-            chunkMesh.getUvs().add(new Vector2f(textureCoordinates.getMin().x, textureCoordinates.getMin().y));
-            chunkMesh.getUvs().add(new Vector2f(textureCoordinates.getMax().x, textureCoordinates.getMin().y));
-            chunkMesh.getUvs().add(new Vector2f(textureCoordinates.getMin().x, textureCoordinates.getMax().y));
-            chunkMesh.getUvs().add(new Vector2f(textureCoordinates.getMax().x, textureCoordinates.getMax().y));
+            chunkMesh.addUv(textureCoordinates.getMin().x, textureCoordinates.getMin().y);
+            chunkMesh.addUv(textureCoordinates.getMax().x, textureCoordinates.getMin().y);
+            chunkMesh.addUv(textureCoordinates.getMin().x, textureCoordinates.getMax().y);
+            chunkMesh.addUv(textureCoordinates.getMax().x, textureCoordinates.getMax().y);
         }
     }
 
     protected void createUp(Vec3i location, Quaternion rotation, ChunkMesh chunkMesh, float blockScale, Function<Direction, TextureCoordinates> textureCoordinatesFunction) {
         // calculate index offset, we use this to connect the triangles
-        int offset = chunkMesh.getPositions().size();
+        int offset = chunkMesh.getVertexCount();
         // vertices
-        chunkMesh.getPositions().add(Shape.createVertex(rotation.mult(new Vector3f(0.5f, endY, -0.5f)), location, blockScale));
-        chunkMesh.getPositions().add(Shape.createVertex(rotation.mult(new Vector3f(-0.5f, endY, -0.5f)), location, blockScale));
-        chunkMesh.getPositions().add(Shape.createVertex(rotation.mult(new Vector3f(0.5f, endY, 0.5f)), location, blockScale));
-        chunkMesh.getPositions().add(Shape.createVertex(rotation.mult(new Vector3f(-0.5f, endY, 0.5f)), location, blockScale));
+        chunkMesh.addPosition(rotation, 0.5f, endY, -0.5f, location, blockScale);
+        chunkMesh.addPosition(rotation, -0.5f, endY, -0.5f, location, blockScale);
+        chunkMesh.addPosition(rotation, 0.5f, endY, 0.5f, location, blockScale);
+        chunkMesh.addPosition(rotation, -0.5f, endY, 0.5f, location, blockScale);
         // indices
-        chunkMesh.getIndices().add(offset);
-        chunkMesh.getIndices().add(offset + 1);
-        chunkMesh.getIndices().add(offset + 2);
-        chunkMesh.getIndices().add(offset + 1);
-        chunkMesh.getIndices().add(offset + 3);
-        chunkMesh.getIndices().add(offset + 2);
+        chunkMesh.addIndex(offset);
+        chunkMesh.addIndex(offset + 1);
+        chunkMesh.addIndex(offset + 2);
+        chunkMesh.addIndex(offset + 1);
+        chunkMesh.addIndex(offset + 3);
+        chunkMesh.addIndex(offset + 2);
 
         if (!chunkMesh.isCollisionMesh()) {
             // normals and tangents
             for (int i = 0; i < 4; i++) {
-                chunkMesh.getNormals().add(rotation.mult(new Vector3f(0.0f, 1.0f, 0.0f)));
-                Matrix4f rotationMatrix = rotation.toRotationMatrix(new Matrix4f());
-                chunkMesh.getTangents().add(rotationMatrix.mult(new Vector4f(1.0f, 0.0f, 0.0f, 1.0f)));
+                chunkMesh.addNormal(rotation, 0.0f, 1.0f, 0.0f);
+                chunkMesh.addTangent(rotation, 1.0f, 0.0f, 0.0f, 1.0f);
             }
             // uvs
             TextureCoordinates textureCoordinates = textureCoordinatesFunction.apply(Direction.UP);
-            chunkMesh.getUvs().add(new Vector2f(textureCoordinates.getMax().x, textureCoordinates.getMax().y));
-            chunkMesh.getUvs().add(new Vector2f(textureCoordinates.getMin().x, textureCoordinates.getMax().y));
-            chunkMesh.getUvs().add(new Vector2f(textureCoordinates.getMax().x, textureCoordinates.getMin().y));
-            chunkMesh.getUvs().add(new Vector2f(textureCoordinates.getMin().x, textureCoordinates.getMin().y));
+            chunkMesh.addUv(textureCoordinates.getMax().x, textureCoordinates.getMax().y);
+            chunkMesh.addUv(textureCoordinates.getMin().x, textureCoordinates.getMax().y);
+            chunkMesh.addUv(textureCoordinates.getMax().x, textureCoordinates.getMin().y);
+            chunkMesh.addUv(textureCoordinates.getMin().x, textureCoordinates.getMin().y);
         }
     }
 
@@ -285,8 +280,8 @@ public class Slab implements Shape {
      * @param destinationRange destination range
      * @return value in destination range
      */
-    private static float mapValueToRange(float value, Vector2f range, Vector2f destinationRange) {
-        return (value - range.x) * ((destinationRange.y - destinationRange.x) / (range.y - range.x)) + destinationRange.x;
+    private static float mapValueToRange(float value, float min, float max, float destinationMin, float destinationMax) {
+        return (value - min) * ((destinationMax - destinationMin) / (max - min)) + destinationMin;
     }
 
 }
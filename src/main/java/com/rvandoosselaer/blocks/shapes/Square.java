@@ -1,10 +1,6 @@
 package com.rvandoosselaer.blocks.shapes;
 
-import com.jme3.math.Matrix4f;
 import com.jme3.math.Quaternion;
-import com.jme3.math.Vector2f;
-import com.jme3.math.Vector3f;
-import com.jme3.math.Vector4f;
 import com.rvandoosselaer.blocks.BlocksConfig;
 import com.rvandoosselaer.blocks.Chunk;
 import com.rvandoosselaer.blocks.ChunkMesh;
@@ -29,6 +25,11 @@ public class Square implements Shape {
         this(Direction.UP);
     }
 
+    @Override
+    public boolean isPrecomputable() {
+        return true;
+    }
+
     @Override
     public void add(Vec3i location, Chunk chunk, ChunkMesh chunkMesh) {
         // get the block scale, we multiply it with the vertex positions
@@ -41,32 +42,31 @@ public class Square implements Shape {
 
     private static void createFace(Vec3i location, Quaternion rotation, ChunkMesh chunkMesh, float blockScale) {
         // calculate index offset, we use this to connect the triangles
-        int offset = chunkMesh.getPositions().size();
+        int offset = chunkMesh.getVertexCount();
         // vertices
-        chunkMesh.getPositions().add(Shape.createVertex(rotation.mult(new Vector3f(0.5f, 0, -0.5f)), location, blockScale));
-        chunkMesh.getPositions().add(Shape.createVertex(rotation.mult(new Vector3f(-0.5f, 0, -0.5f)), location, blockScale));
-        chunkMesh.getPositions().add(Shape.createVertex(rotation.mult(new Vector3f(0.5f, 0, 0.5f)), location, blockScale));
-        chunkMesh.getPositions().add(Shape.createVertex(rotation.mult(new Vector3f(-0.5f, 0, 0.5f)), location, blockScale));
+        chunkMesh.addPosition(rotation, 0.5f, 0, -0.5f, location, blockScale);
+        chunkMesh.addPosition(rotation, -0.5f, 0, -0.5f, location, blockScale);
+        chunkMesh.addPosition(rotation, 0.5f, 0, 0.5f, location, blockScale);
+        chunkMesh.addPosition(rotation, -0.5f, 0, 0.5f, location, blockScale);
         // indices
-        chunkMesh.getIndices().add(offset);
-        chunkMesh.getIndices().add(offset + 1);
-        chunkMesh.getIndices().add(offset + 2);
-        chunkMesh.getIndices().add(offset + 1);
-        chunkMesh.getIndices().add(offset + 3);
-        chunkMesh.getIndices().add(offset + 2);
+        chunkMesh.addIndex(offset);
+        chunkMesh.addIndex(offset + 1);
+        chunkMesh.addIndex(offset + 2);
+        chunkMesh.addIndex(offset + 1);
+        chunkMesh.addIndex(offset + 3);
+        chunkMesh.addIndex(offset + 2);
 
         if (!chunkMesh.isCollisionMesh()) {
             // normals and tangents
             for (int i = 0; i < 4; i++) {
-                chunkMesh.getNormals().add(rotation.mult(new Vector3f(0.0f, 1.0f, 0.0f)));
-                Matrix4f rotationMatrix = rotation.toRotationMatrix(new Matrix4f());
-                chunkMesh.getTangents().add(rotationMatrix.mult(new Vector4f(1.0f, 0.0f, 0.0f, 1.0f)));
+                chunkMesh.addNormal(rotation, 0.0f, 1.0f, 0.0f);
+                chunkMesh.addTangent(rotation, 1.0f, 0.0f, 0.0f, 1.0f);
             }
             // uvs
-            chunkMesh.getUvs().add(new Vector2f(1.0f, 1.0f));
-            chunkMesh.getUvs().add(new Vector2f(0.0f, 1.0f));
-            chunkMesh.getUvs().add(new Vector2f(1.0f, 0.0f));
-            chunkMesh.getUvs().add(new Vector2f(0.0f, 0.0f));
+            chunkMesh.addUv(1.0f, 1.0f);
+            chunkMesh.addUv(0.0f, 1.0f);
+            chunkMesh.addUv(1.0f, 0.0f);
+            chunkMesh.addUv(0.0f, 0.0f);
         }
     }
 
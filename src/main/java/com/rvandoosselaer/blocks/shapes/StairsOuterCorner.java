@@ -1,11 +1,8 @@
 package com.rvandoosselaer.blocks.shapes;
 
 import com.jme3.math.FastMath;
-import com.jme3.math.Matrix4f;
 import com.jme3.math.Quaternion;
-import com.jme3.math.Vector2f;
 import com.jme3.math.Vector3f;
-import com.jme3.math.Vector4f;
 import com.rvandoosselaer.blocks.Block;
 import com.rvandoosselaer.blocks.BlocksConfig;
 import com.rvandoosselaer.blocks.Chunk;
@@ -39,6 +36,11 @@ public class StairsOuterCorner implements Shape {
         this(Direction.UP, false);
     }
 
+    @Override
+    public boolean isPrecomputable() {
+        return true;
+    }
+
     @Override
     public void add(Vec3i location, Chunk chunk, ChunkMesh chunkMesh) {
         // when the shape is upside down (inverted), we need to perform 3 rotations. Two to invert the shape and one
@@ -70,91 +72,90 @@ public class StairsOuterCorner implements Shape {
     }
 
     private static void createUp(Vec3i location, ChunkMesh chunkMesh, Quaternion rotation, float blockScale, Function<Direction, TextureCoordinates> textureCoordinatesFunction) {
-        int offset = chunkMesh.getPositions().size();
+        int offset = chunkMesh.getVertexCount();
         // # Positions:16
-        chunkMesh.getPositions().add(Shape.createVertex(rotation.mult(new Vector3f(0.167f, 0.167f, -0.500f)), location, blockScale));
-        chunkMesh.getPositions().add(Shape.createVertex(rotation.mult(new Vector3f(-0.167f, 0.167f, -0.167f)), location, blockScale));
-        chunkMesh.getPositions().add(Shape.createVertex(rotation.mult(new Vector3f(0.167f, 0.167f, 0.167f)), location, blockScale));
-        chunkMesh.getPositions().add(Shape.createVertex(rotation.mult(new Vector3f(0.500f, -0.167f, -0.500f)), location, blockScale));
-        chunkMesh.getPositions().add(Shape.createVertex(rotation.mult(new Vector3f(0.167f, -0.167f, 0.167f)), location, blockScale));
-        chunkMesh.getPositions().add(Shape.createVertex(rotation.mult(new Vector3f(0.500f, -0.167f, 0.500f)), location, blockScale));
-        chunkMesh.getPositions().add(Shape.createVertex(rotation.mult(new Vector3f(-0.500f, 0.167f, 0.167f)), location, blockScale));
-        chunkMesh.getPositions().add(Shape.createVertex(rotation.mult(new Vector3f(-0.500f, 0.167f, -0.167f)), location, blockScale));
-        chunkMesh.getPositions().add(Shape.createVertex(rotation.mult(new Vector3f(-0.500f, -0.167f, 0.500f)), location, blockScale));
-        chunkMesh.getPositions().add(Shape.createVertex(rotation.mult(new Vector3f(-0.500f, -0.167f, 0.167f)), location, blockScale));
-        chunkMesh.getPositions().add(Shape.createVertex(rotation.mult(new Vector3f(-0.500f, 0.500f, -0.500f)), location, blockScale));
-        chunkMesh.getPositions().add(Shape.createVertex(rotation.mult(new Vector3f(-0.167f, 0.500f, -0.167f)), location, blockScale));
-        chunkMesh.getPositions().add(Shape.createVertex(rotation.mult(new Vector3f(-0.167f, 0.500f, -0.500f)), location, blockScale));
-        chunkMesh.getPositions().add(Shape.createVertex(rotation.mult(new Vector3f(-0.167f, 0.167f, -0.500f)), location, blockScale));
-        chunkMesh.getPositions().add(Shape.createVertex(rotation.mult(new Vector3f(0.167f, -0.167f, -0.500f)), location, blockScale));
-        chunkMesh.getPositions().add(Shape.createVertex(rotation.mult(new Vector3f(-0.500f, 0.500f, -0.167f)), location, blockScale));
+        chunkMesh.addPosition(rotation, 0.167f, 0.167f, -0.500f, location, blockScale);
+        chunkMesh.addPosition(rotation, -0.167f, 0.167f, -0.167f, location, blockScale);
+        chunkMesh.addPosition(rotation, 0.167f, 0.167f, 0.167f, location, blockScale);
+        chunkMesh.addPosition(rotation, 0.500f, -0.167f, -0.500f, location, blockScale);
+        chunkMesh.addPosition(rotation, 0.167f, -0.167f, 0.167f, location, blockScale);
+        chunkMesh.addPosition(rotation, 0.500f, -0.167f, 0.500f, location, blockScale);
+        chunkMesh.addPosition(rotation, -0.500f, 0.167f, 0.167f, location, blockScale);
+        chunkMesh.addPosition(rotation, -0.500f, 0.167f, -0.167f, location, blockScale);
+        chunkMesh.addPosition(rotation, -0.500f, -0.167f, 0.500f, location, blockScale);
+        chunkMesh.addPosition(rotation, -0.500f, -0.167f, 0.167f, location, blockScale);
+        chunkMesh.addPosition(rotation, -0.500f, 0.500f, -0.500f, location, blockScale);
+        chunkMesh.addPosition(rotation, -0.167f, 0.500f, -0.167f, location, blockScale);
+        chunkMesh.addPosition(rotation, -0.167f, 0.500f, -0.500f, location, blockScale);
+        chunkMesh.addPosition(rotation, -0.167f, 0.167f, -0.500f, location, blockScale);
+        chunkMesh.addPosition(rotation, 0.167f, -0.167f, -0.500f, location, blockScale);
+        chunkMesh.addPosition(rotation, -0.500f, 0.500f, -0.167f, location, blockScale);
         // Index:
-        chunkMesh.getIndices().add(offset + 0);
-        chunkMesh.getIndices().add(offset + 1);
-        chunkMesh.getIndices().add(offset + 2);
-        chunkMesh.getIndices().add(offset + 3);
-        chunkMesh.getIndices().add(offset + 4);
-        chunkMesh.getIndices().add(offset + 5);
-        chunkMesh.getIndices().add(offset + 6);
-        chunkMesh.getIndices().add(offset + 1);
-        chunkMesh.getIndices().add(offset + 7);
-        chunkMesh.getIndices().add(offset + 8);
-        chunkMesh.getIndices().add(offset + 4);
-        chunkMesh.getIndices().add(offset + 9);
-        chunkMesh.getIndices().add(offset + 10);
-        chunkMesh.getIndices().add(offset + 11);
-        chunkMesh.getIndices().add(offset + 12);
-        chunkMesh.getIndices().add(offset + 0);
-        chunkMesh.getIndices().add(offset + 13);
-        chunkMesh.getIndices().add(offset + 1);
-        chunkMesh.getIndices().add(offset + 3);
-        chunkMesh.getIndices().add(offset + 14);
-        chunkMesh.getIndices().add(offset + 4);
-        chunkMesh.getIndices().add(offset + 6);
-        chunkMesh.getIndices().add(offset + 2);
-        chunkMesh.getIndices().add(offset + 1);
-        chunkMesh.getIndices().add(offset + 8);
-        chunkMesh.getIndices().add(offset + 5);
-        chunkMesh.getIndices().add(offset + 4);
-        chunkMesh.getIndices().add(offset + 10);
-        chunkMesh.getIndices().add(offset + 15);
-        chunkMesh.getIndices().add(offset + 11);
+        chunkMesh.addIndex(offset + 0);
+        chunkMesh.addIndex(offset + 1);
+        chunkMesh.addIndex(offset + 2);
+        chunkMesh.addIndex(offset + 3);
+        chunkMesh.addIndex(offset + 4);
+        chunkMesh.addIndex(offset + 5);
+        chunkMesh.addIndex(offset + 6);
+        chunkMesh.addIndex(offset + 1);
+        chunkMesh.addIndex(offset + 7);
+        chunkMesh.addIndex(offset + 8);
+        chunkMesh.addIndex(offset + 4);
+        chunkMesh.addIndex(offset + 9);
+        chunkMesh.addIndex(offset + 10);
+        chunkMesh.addIndex(offset + 11);
+        chunkMesh.addIndex(offset + 12);
+        chunkMesh.addIndex(offset + 0);
+        chunkMesh.addIndex(offset + 13);
+        chunkMesh.addIndex(offset + 1);
+        chunkMesh.addIndex(offset + 3);
+        chunkMesh.addIndex(offset + 14);
+        chunkMesh.addIndex(offset + 4);
+        chunkMesh.addIndex(offset + 6);
+        chunkMesh.addIndex(offset + 2);
+        chunkMesh.addIndex(offset + 1);
+        chunkMesh.addIndex(offset + 8);
+        chunkMesh.addIndex(offset + 5);
+        chunkMesh.addIndex(offset + 4);
+        chunkMesh.addIndex(offset + 10);
+        chunkMesh.addIndex(offset + 15);
+        chunkMesh.addIndex(offset + 11);
         if (!chunkMesh.isCollisionMesh()) {
             // Normals:
-            chunkMesh.getNormals().add(rotation.mult(new Vector3f(0.000f, 1.000f, 0.000f)));
-            chunkMesh.getNormals().add(rotation.mult(new Vector3f(0.000f, 1.000f, 0.000f)));
-            chunkMesh.getNormals().add(rotation.mult(new Vector3f(0.000f, 1.000f, 0.000f)));
-            chunkMesh.getNormals().add(rotation.mult(new Vector3f(0.000f, 1.000f, 0.000f)));
-            chunkMesh.getNormals().add(rotation.mult(new Vector3f(0.000f, 1.000f, 0.000f)));
-            chunkMesh.getNormals().add(rotation.mult(new Vector3f(0.000f, 1.000f, 0.000f)));
-            chunkMesh.getNormals().add(rotation.mult(new Vector3f(0.000f, 1.000f, 0.000f)));
-            chunkMesh.getNormals().add(rotation.mult(new Vector3f(0.000f, 1.000f, 0.000f)));
-            chunkMesh.getNormals().add(rotation.mult(new Vector3f(0.000f, 1.000f, 0.000f)));
-            chunkMesh.getNormals().add(rotation.mult(new Vector3f(0.000f, 1.000f, 0.000f)));
-            chunkMesh.getNormals().add(rotation.mult(new Vector3f(0.000f, 1.000f, 0.000f)));
-            chunkMesh.getNormals().add(rotation.mult(new Vector3f(0.000f, 1.000f, 0.000f)));
-            chunkMesh.getNormals().add(rotation.mult(new Vector3f(0.000f, 1.000f, 0.000f)));
-            chunkMesh.getNormals().add(rotation.mult(new Vector3f(0.000f, 1.000f, 0.000f)));
-            chunkMesh.getNormals().add(rotation.mult(new Vector3f(0.000f, 1.000f, 0.000f)));
-            chunkMesh.getNormals().add(rotation.mult(new Vector3f(0.000f, 1.000f, 0.000f)));
+            chunkMesh.addNormal(rotation, 0.000f, 1.000f, 0.000f);
+            chunkMesh.addNormal(rotation, 0.000f, 1.000f, 0.000f);
+            chunkMesh.addNormal(rotation, 0.000f, 1.000f, 0.000f);
+            chunkMesh.addNormal(rotation, 0.000f, 1.000f, 0.000f);
+            chunkMesh.addNormal(rotation, 0.000f, 1.000f, 0.000f);
+            chunkMesh.addNormal(rotation, 0.000f, 1.000f, 0.000f);
+            chunkMesh.addNormal(rotation, 0.000f, 1.000f, 0.000f);
+            chunkMesh.addNormal(rotation, 0.000f, 1.000f, 0.000f);
+            chunkMesh.addNormal(rotation, 0.000f, 1.000f, 0.000f);
+            chunkMesh.addNormal(rotation, 0.000f, 1.000f, 0.000f);
+            chunkMesh.addNormal(rotation, 0.000f, 1.000f, 0.000f);
+            chunkMesh.addNormal(rotation, 0.000f, 1.000f, 0.000f);
+            chunkMesh.addNormal(rotation, 0.000f, 1.000f, 0.000f);
+            chunkMesh.addNormal(rotation, 0.000f, 1.000f, 0.000f);
+            chunkMesh.addNormal(rotation, 0.000f, 1.000f, 0.000f);
+            chunkMesh.addNormal(rotation, 0.000f, 1.000f, 0.000f);
             // Tangents:
-            Matrix4f rotationMatrix = rotation.toRotationMatrix(new Matrix4f());
-            chunkMesh.getTangents().add(rotationMatrix.mult(new Vector4f(1.000f, 0.000f, 0.000f, -1.000f)));
-            chunkMesh.getTangents().add(rotationMatrix.mult(new Vector4f(1.000f, 0.000f, 0.000f, -1.000f)));
-            chunkMesh.getTangents().add(rotationMatrix.mult(new Vector4f(1.000f, 0.000f, 0.000f, -1.000f)));
-            chunkMesh.getTangents().add(rotationMatrix.mult(new Vector4f(1.000f, 0.000f, 0.000f, -1.000f)));
-            chunkMesh.getTangents().add(rotationMatrix.mult(new Vector4f(1.000f, 0.000f, 0.000f, -1.000f)));
-            chunkMesh.getTangents().add(rotationMatrix.mult(new Vector4f(1.000f, 0.000f, 0.000f, -1.000f)));
-            chunkMesh.getTangents().add(rotationMatrix.mult(new Vector4f(1.000f, 0.000f, 0.000f, -1.000f)));
-            chunkMesh.getTangents().add(rotationMatrix.mult(new Vector4f(1.000f, 0.000f, 0.000f, -1.000f)));
-            chunkMesh.getTangents().add(rotationMatrix.mult(new Vector4f(1.000f, 0.000f, 0.000f, -1.000f)));
-            chunkMesh.getTangents().add(rotationMatrix.mult(new Vector4f(1.000f, 0.000f, 0.000f, -1.000f)));
-            chunkMesh.getTangents().add(rotationMatrix.mult(new Vector4f(1.000f, 0.000f, 0.000f, -1.000f)));
-            chunkMesh.getTangents().add(rotationMatrix.mult(new Vector4f(1.000f, 0.000f, 0.000f, -1.000f)));
-            chunkMesh.getTangents().add(rotationMatrix.mult(new Vector4f(1.000f, 0.000f, 0.000f, -1.000f)));
-            chunkMesh.getTangents().add(rotationMatrix.mult(new Vector4f(1.000f, 0.000f, 0.000f, -1.000f)));
-            chunkMesh.getTangents().add(rotationMatrix.mult(new Vector4f(1.000f, 0.000f, 0.000f, -1.000f)));
-            chunkMesh.getTangents().add(rotationMatrix.mult(new Vector4f(1.000f, 0.000f, 0.000f, -1.000f)));
+            chunkMesh.addTangent(rotation, 1.000f, 0.000f, 0.000f, -1.000f);
+            chunkMesh.addTangent(rotation, 1.000f, 0.000f, 0.000f, -1.000f);
+            chunkMesh.addTangent(rotation, 1.000f, 0.000f, 0.000f, -1.000f);
+            chunkMesh.addTangent(rotation, 1.000f, 0.000f, 0.000f, -1.000f);
+            chunkMesh.addTangent(rotation, 1.000f, 0.000f, 0.000f, -1.000f);
+            chunkMesh.addTangent(rotation, 1.000f, 0.000f, 0.000f, -1.000f);
+            chunkMesh.addTangent(rotation, 1.000f, 0.000f, 0.000f, -1.000f);
+            chunkMesh.addTangent(rotation, 1.000f, 0.000f, 0.000f, -1.000f);
+            chunkMesh.addTangent(rotation, 1.000f, 0.000f, 0.000f, -1.000f);
+            chunkMesh.addTangent(rotation, 1.000f, 0.000f, 0.000f, -1.000f);
+            chunkMesh.addTangent(rotation, 1.000f, 0.000f, 0.000f, -1.000f);
+            chunkMesh.addTangent(rotation, 1.000f, 0.000f, 0.000f, -1.000f);
+            chunkMesh.addTangent(rotation, 1.000f, 0.000f, 0.000f, -1.000f);
+            chunkMesh.addTangent(rotation, 1.000f, 0.000f, 0.000f, -1.000f);
+            chunkMesh.addTangent(rotation, 1.000f, 0.000f, 0.000f, -1.000f);
+            chunkMesh.addTangent(rotation, 1.000f, 0.000f, 0.000f, -1.000f);
             // uv
             TextureCoordinates textureCoordinates = textureCoordinatesFunction.apply(Direction.UP);
             float numberOfTexturesY = 1 / (textureCoordinates.getMax().y - textureCoordinates.getMin().y);
@@ -163,87 +164,86 @@ public class StairsOuterCorner implements Shape {
             float numberOfTexturesX = 1 / (textureCoordinates.getMax().x - textureCoordinates.getMin().x);
             float oneThirdX = 1 / (numberOfTexturesX * 3);
             float twoThirdX = 2 / (numberOfTexturesX * 3);
-            chunkMesh.getUvs().add(new Vector2f(textureCoordinates.getMin().x + twoThirdX, textureCoordinates.getMax().y));
-            chunkMesh.getUvs().add(new Vector2f(textureCoordinates.getMin().x + oneThirdX, textureCoordinates.getMin().y + twoThirdY));
-            chunkMesh.getUvs().add(new Vector2f(textureCoordinates.getMin().x + twoThirdX, textureCoordinates.getMin().y + oneThirdY));
-            chunkMesh.getUvs().add(new Vector2f(textureCoordinates.getMax().x, textureCoordinates.getMax().y));
-            chunkMesh.getUvs().add(new Vector2f(textureCoordinates.getMin().x + twoThirdX, textureCoordinates.getMin().y + oneThirdY));
-            chunkMesh.getUvs().add(new Vector2f(textureCoordinates.getMax().x, textureCoordinates.getMin().y));
-            chunkMesh.getUvs().add(new Vector2f(textureCoordinates.getMin().x, textureCoordinates.getMin().y + oneThirdY));
-            chunkMesh.getUvs().add(new Vector2f(textureCoordinates.getMin().x, textureCoordinates.getMin().y + twoThirdY));
-            chunkMesh.getUvs().add(new Vector2f(textureCoordinates.getMin().x, textureCoordinates.getMin().y));
-            chunkMesh.getUvs().add(new Vector2f(textureCoordinates.getMin().x, textureCoordinates.getMin().y + oneThirdY));
-            chunkMesh.getUvs().add(new Vector2f(textureCoordinates.getMin().x, textureCoordinates.getMax().y));
-            chunkMesh.getUvs().add(new Vector2f(textureCoordinates.getMin().x + oneThirdX, textureCoordinates.getMin().y + twoThirdY));
-            chunkMesh.getUvs().add(new Vector2f(textureCoordinates.getMin().x + oneThirdX, textureCoordinates.getMax().y));
-            chunkMesh.getUvs().add(new Vector2f(textureCoordinates.getMin().x + oneThirdX, textureCoordinates.getMax().y));
-            chunkMesh.getUvs().add(new Vector2f(textureCoordinates.getMin().x + twoThirdX, textureCoordinates.getMax().y));
-            chunkMesh.getUvs().add(new Vector2f(textureCoordinates.getMin().x, textureCoordinates.getMin().y + twoThirdY));
+            chunkMesh.addUv(textureCoordinates.getMin().x + twoThirdX, textureCoordinates.getMax().y);
+            chunkMesh.addUv(textureCoordinates.getMin().x + oneThirdX, textureCoordinates.getMin().y + twoThirdY);
+            chunkMesh.addUv(textureCoordinates.getMin().x + twoThirdX, textureCoordinates.getMin().y + oneThirdY);
+            chunkMesh.addUv(textureCoordinates.getMax().x, textureCoordinates.getMax().y);
+            chunkMesh.addUv(textureCoordinates.getMin().x + twoThirdX, textureCoordinates.getMin().y + oneThirdY);
+            chunkMesh.addUv(textureCoordinates.getMax().x, textureCoordinates.getMin().y);
+            chunkMesh.addUv(textureCoordinates.getMin().x, textureCoordinates.getMin().y + oneThirdY);
+            chunkMesh.addUv(textureCoordinates.getMin().x, textureCoordinates.getMin().y + twoThirdY);
+            chunkMesh.addUv(textureCoordinates.getMin().x, textureCoordinates.getMin().y);
+            chunkMesh.addUv(textureCoordinates.getMin().x, textureCoordinates.getMin().y + oneThirdY);
+            chunkMesh.addUv(textureCoordinates.getMin().x, textureCoordinates.getMax().y);
+            chunkMesh.addUv(textureCoordinates.getMin().x + oneThirdX, textureCoordinates.getMin().y + twoThirdY);
+            chunkMesh.addUv(textureCoordinates.getMin().x + oneThirdX, textureCoordinates.getMax().y);
+            chunkMesh.addUv(textureCoordinates.getMin().x + oneThirdX, textureCoordinates.getMax().y);
+            chunkMesh.addUv(textureCoordinates.getMin().x + twoThirdX, textureCoordinates.getMax().y);
+            chunkMesh.addUv(textureCoordinates.getMin().x, textureCoordinates.getMin().y + twoThirdY);
         }
     }
 
     private static void createSouth(Vec3i location, ChunkMesh chunkMesh, Quaternion rotation, float blockScale, Function<Direction, TextureCoordinates> textureCoordinatesFunction) {
-        int offset = chunkMesh.getPositions().size();
+        int offset = chunkMesh.getVertexCount();
         // # Positions:12
-        chunkMesh.getPositions().add(Shape.createVertex(rotation.mult(new Vector3f(-0.167f, 0.167f, -0.167f)), location, blockScale));
-        chunkMesh.getPositions().add(Shape.createVertex(rotation.mult(new Vector3f(-0.500f, 0.500f, -0.167f)), location, blockScale));
-        chunkMesh.getPositions().add(Shape.createVertex(rotation.mult(new Vector3f(-0.500f, 0.167f, -0.167f)), location, blockScale));
-        chunkMesh.getPositions().add(Shape.createVertex(rotation.mult(new Vector3f(0.167f, 0.167f, 0.167f)), location, blockScale));
-        chunkMesh.getPositions().add(Shape.createVertex(rotation.mult(new Vector3f(-0.500f, -0.167f, 0.167f)), location, blockScale));
-        chunkMesh.getPositions().add(Shape.createVertex(rotation.mult(new Vector3f(0.167f, -0.167f, 0.167f)), location, blockScale));
-        chunkMesh.getPositions().add(Shape.createVertex(rotation.mult(new Vector3f(0.500f, -0.167f, 0.500f)), location, blockScale));
-        chunkMesh.getPositions().add(Shape.createVertex(rotation.mult(new Vector3f(-0.500f, -0.167f, 0.500f)), location, blockScale));
-        chunkMesh.getPositions().add(Shape.createVertex(rotation.mult(new Vector3f(-0.500f, -0.500f, 0.500f)), location, blockScale));
-        chunkMesh.getPositions().add(Shape.createVertex(rotation.mult(new Vector3f(-0.167f, 0.500f, -0.167f)), location, blockScale));
-        chunkMesh.getPositions().add(Shape.createVertex(rotation.mult(new Vector3f(-0.500f, 0.167f, 0.167f)), location, blockScale));
-        chunkMesh.getPositions().add(Shape.createVertex(rotation.mult(new Vector3f(0.500f, -0.500f, 0.500f)), location, blockScale));
+        chunkMesh.addPosition(rotation, -0.167f, 0.167f, -0.167f, location, blockScale);
+        chunkMesh.addPosition(rotation, -0.500f, 0.500f, -0.167f, location, blockScale);
+        chunkMesh.addPosition(rotation, -0.500f, 0.167f, -0.167f, location, blockScale);
+        chunkMesh.addPosition(rotation, 0.167f, 0.167f, 0.167f, location, blockScale);
+        chunkMesh.addPosition(rotation, -0.500f, -0.167f, 0.167f, location, blockScale);
+        chunkMesh.addPosition(rotation, 0.167f, -0.167f, 0.167f, location, blockScale);
+        chunkMesh.addPosition(rotation, 0.500f, -0.167f, 0.500f, location, blockScale);
+        chunkMesh.addPosition(rotation, -0.500f, -0.167f, 0.500f, location, blockScale);
+        chunkMesh.addPosition(rotation, -0.500f, -0.500f, 0.500f, location, blockScale);
+        chunkMesh.addPosition(rotation, -0.167f, 0.500f, -0.167f, location, blockScale);
+        chunkMesh.addPosition(rotation, -0.500f, 0.167f, 0.167f, location, blockScale);
+        chunkMesh.addPosition(rotation, 0.500f, -0.500f, 0.500f, location, blockScale);
         // Index:
-        chunkMesh.getIndices().add(offset + 0);
-        chunkMesh.getIndices().add(offset + 1);
-        chunkMesh.getIndices().add(offset + 2);
-        chunkMesh.getIndices().add(offset + 3);
-        chunkMesh.getIndices().add(offset + 4);
-        chunkMesh.getIndices().add(offset + 5);
-        chunkMesh.getIndices().add(offset + 6);
-        chunkMesh.getIndices().add(offset + 7);
-        chunkMesh.getIndices().add(offset + 8);
-        chunkMesh.getIndices().add(offset + 0);
-        chunkMesh.getIndices().add(offset + 9);
-        chunkMesh.getIndices().add(offset + 1);
-        chunkMesh.getIndices().add(offset + 3);
-        chunkMesh.getIndices().add(offset + 10);
-        chunkMesh.getIndices().add(offset + 4);
-        chunkMesh.getIndices().add(offset + 6);
-        chunkMesh.getIndices().add(offset + 8);
-        chunkMesh.getIndices().add(offset + 11);
+        chunkMesh.addIndex(offset + 0);
+        chunkMesh.addIndex(offset + 1);
+        chunkMesh.addIndex(offset + 2);
+        chunkMesh.addIndex(offset + 3);
+        chunkMesh.addIndex(offset + 4);
+        chunkMesh.addIndex(offset + 5);
+        chunkMesh.addIndex(offset + 6);
+        chunkMesh.addIndex(offset + 7);
+        chunkMesh.addIndex(offset + 8);
+        chunkMesh.addIndex(offset + 0);
+        chunkMesh.addIndex(offset + 9);
+        chunkMesh.addIndex(offset + 1);
+        chunkMesh.addIndex(offset + 3);
+        chunkMesh.addIndex(offset + 10);
+        chunkMesh.addIndex(offset + 4);
+        chunkMesh.addIndex(offset + 6);
+        chunkMesh.addIndex(offset + 8);
+        chunkMesh.addIndex(offset + 11);
         if (!chunkMesh.isCollisionMesh()) {
             // Normals:
-            chunkMesh.getNormals().add(rotation.mult(new Vector3f(0.000f, 0.000f, 1.000f)));
-            chunkMesh.getNormals().add(rotation.mult(new Vector3f(0.000f, 0.000f, 1.000f)));
-            chunkMesh.getNormals().add(rotation.mult(new Vector3f(0.000f, 0.000f, 1.000f)));
-            chunkMesh.getNormals().add(rotation.mult(new Vector3f(0.000f, 0.000f, 1.000f)));
-            chunkMesh.getNormals().add(rotation.mult(new Vector3f(0.000f, 0.000f, 1.000f)));
-            chunkMesh.getNormals().add(rotation.mult(new Vector3f(0.000f, 0.000f, 1.000f)));
-            chunkMesh.getNormals().add(rotation.mult(new Vector3f(0.000f, 0.000f, 1.000f)));
-            chunkMesh.getNormals().add(rotation.mult(new Vector3f(0.000f, 0.000f, 1.000f)));
-            chunkMesh.getNormals().add(rotation.mult(new Vector3f(0.000f, 0.000f, 1.000f)));
-            chunkMesh.getNormals().add(rotation.mult(new Vector3f(0.000f, 0.000f, 1.000f)));
-            chunkMesh.getNormals().add(rotation.mult(new Vector3f(0.000f, 0.000f, 1.000f)));
-            chunkMesh.getNormals().add(rotation.mult(new Vector3f(0.000f, 0.000f, 1.000f)));
+            chunkMesh.addNormal(rotation, 0.000f, 0.000f, 1.000f);
+            chunkMesh.addNormal(rotation, 0.000f, 0.000f, 1.000f);
+            chunkMesh.addNormal(rotation, 0.000f, 0.000f, 1.000f);
+            chunkMesh.addNormal(rotation, 0.000f, 0.000f, 1.000f);
+            chunkMesh.addNormal(rotation, 0.000f, 0.000f, 1.000f);
+            chunkMesh.addNormal(rotation, 0.000f, 0.000f, 1.000f);
+            chunkMesh.addNormal(rotation, 0.000f, 0.000f, 1.000f);
+            chunkMesh.addNormal(rotation, 0.000f, 0.000f, 1.000f);
+            chunkMesh.addNormal(rotation, 0.000f, 0.000f, 1.000f);
+            chunkMesh.addNormal(rotation, 0.000f, 0.000f, 1.000f);
+            chunkMesh.addNormal(rotation, 0.000f, 0.000f, 1.000f);
+            chunkMesh.addNormal(rotation, 0.000f, 0.000f, 1.000f);
             // Tangents:
-            Matrix4f rotationMatrix = rotation.toRotationMatrix(new Matrix4f());
-            chunkMesh.getTangents().add(rotationMatrix.mult(new Vector4f(1.000f, 0.000f, 0.000f, -1.000f)));
-            chunkMesh.getTangents().add(rotationMatrix.mult(new Vector4f(1.000f, 0.000f, 0.000f, -1.000f)));
-            chunkMesh.getTangents().add(rotationMatrix.mult(new Vector4f(1.000f, 0.000f, 0.000f, -1.000f)));
-            chunkMesh.getTangents().add(rotationMatrix.mult(new Vector4f(1.000f, 0.000f, 0.000f, -1.000f)));
-            chunkMesh.getTangents().add(rotationMatrix.mult(new Vector4f(1.000f, 0.000f, 0.000f, -1.000f)));
-            chunkMesh.getTangents().add(rotationMatrix.mult(new Vector4f(1.000f, 0.000f, 0.000f, -1.000f)));
-            chunkMesh.getTangents().add(rotationMatrix.mult(new Vector4f(1.000f, 0.000f, 0.000f, -1.000f)));
-            chunkMesh.getTangents().add(rotationMatrix.mult(new Vector4f(1.000f, 0.000f, 0.000f, -1.000f)));
-            chunkMesh.getTangents().add(rotationMatrix.mult(new Vector4f(1.000f, 0.000f, 0.000f, -1.000f)));
-            chunkMesh.getTangents().add(rotationMatrix.mult(new Vector4f(1.000f, 0.000f, 0.000f, -1.000f)));
-            chunkMesh.getTangents().add(rotationMatrix.mult(new Vector4f(1.000f, 0.000f, 0.000f, -1.000f)));
-            chunkMesh.getTangents().add(rotationMatrix.mult(new Vector4f(1.000f, 0.000f, 0.000f, -1.000f)));
+            chunkMesh.addTangent(rotation, 1.000f, 0.000f, 0.000f, -1.000f);
+            chunkMesh.addTangent(rotation, 1.000f, 0.000f, 0.000f, -1.000f);
+            chunkMesh.addTangent(rotation, 1.000f, 0.000f, 0.000f, -1.000f);
+            chunkMesh.addTangent(rotation, 1.000f, 0.000f, 0.000f, -1.000f);
+            chunkMesh.addTangent(rotation, 1.000f, 0.000f, 0.000f, -1.000f);
+            chunkMesh.addTangent(rotation, 1.000f, 0.000f, 0.000f, -1.000f);
+            chunkMesh.addTangent(rotation, 1.000f, 0.000f, 0.000f, -1.000f);
+            chunkMesh.addTangent(rotation, 1.000f, 0.000f, 0.000f, -1.000f);
+            chunkMesh.addTangent(rotation, 1.000f, 0.000f, 0.000f, -1.000f);
+            chunkMesh.addTangent(rotation, 1.000f, 0.000f, 0.000f, -1.000f);
+            chunkMesh.addTangent(rotation, 1.000f, 0.000f, 0.000f, -1.000f);
+            chunkMesh.addTangent(rotation, 1.000f, 0.000f, 0.000f, -1.000f);
             // uv
             TextureCoordinates textureCoordinates = textureCoordinatesFunction.apply(Direction.SOUTH);
             float numberOfTexturesY = 1 / (textureCoordinates.getMax().y - textureCoordinates.getMin().y);
@@ -252,112 +252,110 @@ public class StairsOuterCorner implements Shape {
             float numberOfTexturesX = 1 / (textureCoordinates.getMax().x - textureCoordinates.getMin().x);
             float oneThirdX = 1 / (numberOfTexturesX * 3);
             float twoThirdX = 2 / (numberOfTexturesX * 3);
-            chunkMesh.getUvs().add(new Vector2f(textureCoordinates.getMin().x + oneThirdX, textureCoordinates.getMin().y + twoThirdY));
-            chunkMesh.getUvs().add(new Vector2f(textureCoordinates.getMin().x, textureCoordinates.getMax().y));
-            chunkMesh.getUvs().add(new Vector2f(textureCoordinates.getMin().x, textureCoordinates.getMin().y + twoThirdY));
-            chunkMesh.getUvs().add(new Vector2f(textureCoordinates.getMin().x + twoThirdX, textureCoordinates.getMin().y + twoThirdY));
-            chunkMesh.getUvs().add(new Vector2f(textureCoordinates.getMin().x, textureCoordinates.getMin().y + oneThirdY));
-            chunkMesh.getUvs().add(new Vector2f(textureCoordinates.getMin().x + twoThirdX, textureCoordinates.getMin().y + oneThirdY));
-            chunkMesh.getUvs().add(new Vector2f(textureCoordinates.getMax().x, textureCoordinates.getMin().y + oneThirdY));
-            chunkMesh.getUvs().add(new Vector2f(textureCoordinates.getMin().x, textureCoordinates.getMin().y + oneThirdY));
-            chunkMesh.getUvs().add(new Vector2f(textureCoordinates.getMin().x, textureCoordinates.getMin().y));
-            chunkMesh.getUvs().add(new Vector2f(textureCoordinates.getMin().x + oneThirdX, textureCoordinates.getMax().y));
-            chunkMesh.getUvs().add(new Vector2f(textureCoordinates.getMin().x, textureCoordinates.getMin().y + twoThirdY));
-            chunkMesh.getUvs().add(new Vector2f(textureCoordinates.getMax().x, textureCoordinates.getMin().y));
+            chunkMesh.addUv(textureCoordinates.getMin().x + oneThirdX, textureCoordinates.getMin().y + twoThirdY);
+            chunkMesh.addUv(textureCoordinates.getMin().x, textureCoordinates.getMax().y);
+            chunkMesh.addUv(textureCoordinates.getMin().x, textureCoordinates.getMin().y + twoThirdY);
+            chunkMesh.addUv(textureCoordinates.getMin().x + twoThirdX, textureCoordinates.getMin().y + twoThirdY);
+            chunkMesh.addUv(textureCoordinates.getMin().x, textureCoordinates.getMin().y + oneThirdY);
+            chunkMesh.addUv(textureCoordinates.getMin().x + twoThirdX, textureCoordinates.getMin().y + oneThirdY);
+            chunkMesh.addUv(textureCoordinates.getMax().x, textureCoordinates.getMin().y + oneThirdY);
+            chunkMesh.addUv(textureCoordinates.getMin().x, textureCoordinates.getMin().y + oneThirdY);
+            chunkMesh.addUv(textureCoordinates.getMin().x, textureCoordinates.getMin().y);
+            chunkMesh.addUv(textureCoordinates.getMin().x + oneThirdX, textureCoordinates.getMax().y);
+            chunkMesh.addUv(textureCoordinates.getMin().x, textureCoordinates.getMin().y + twoThirdY);
+            chunkMesh.addUv(textureCoordinates.getMax().x, textureCoordinates.getMin().y);
         }
     }
 
     private static void createDown(Vec3i location, ChunkMesh chunkMesh, Quaternion rotation, float blockScale, Function<Direction, TextureCoordinates> textureCoordinatesFunction) {
-        int offset = chunkMesh.getPositions().size();
+        int offset = chunkMesh.getVertexCount();
         // # Positions:4
-        chunkMesh.getPositions().add(Shape.createVertex(rotation.mult(new Vector3f(0.500f, -0.500f, 0.500f)), location, blockScale));
-        chunkMesh.getPositions().add(Shape.createVertex(rotation.mult(new Vector3f(-0.500f, -0.500f, 0.500f)), location, blockScale));
-        chunkMesh.getPositions().add(Shape.createVertex(rotation.mult(new Vector3f(-0.500f, -0.500f, -0.500f)), location, blockScale));
-        chunkMesh.getPositions().add(Shape.createVertex(rotation.mult(new Vector3f(0.500f, -0.500f, -0.500f)), location, blockScale));
+        chunkMesh.addPosition(rotation, 0.500f, -0.500f, 0.500f, location, blockScale);
+        chunkMesh.addPosition(rotation, -0.500f, -0.500f, 0.500f, location, blockScale);
+        chunkMesh.addPosition(rotation, -0.500f, -0.500f, -0.500f, location, blockScale);
+        chunkMesh.addPosition(rotation, 0.500f, -0.500f, -0.500f, location, blockScale);
         // Index:
-        chunkMesh.getIndices().add(offset + 0);
-        chunkMesh.getIndices().add(offset + 1);
-        chunkMesh.getIndices().add(offset + 2);
-        chunkMesh.getIndices().add(offset + 0);
-        chunkMesh.getIndices().add(offset + 2);
-        chunkMesh.getIndices().add(offset + 3);
+        chunkMesh.addIndex(offset + 0);
+        chunkMesh.addIndex(offset + 1);
+        chunkMesh.addIndex(offset + 2);
+        chunkMesh.addIndex(offset + 0);
+        chunkMesh.addIndex(offset + 2);
+        chunkMesh.addIndex(offset + 3);
         if (!chunkMesh.isCollisionMesh()) {
             // Normals:
-            chunkMesh.getNormals().add(rotation.mult(new Vector3f(0.000f, -1.000f, 0.000f)));
-            chunkMesh.getNormals().add(rotation.mult(new Vector3f(0.000f, -1.000f, 0.000f)));
-            chunkMesh.getNormals().add(rotation.mult(new Vector3f(0.000f, -1.000f, 0.000f)));
-            chunkMesh.getNormals().add(rotation.mult(new Vector3f(0.000f, -1.000f, 0.000f)));
+            chunkMesh.addNormal(rotation, 0.000f, -1.000f, 0.000f);
+            chunkMesh.addNormal(rotation, 0.000f, -1.000f, 0.000f);
+            chunkMesh.addNormal(rotation, 0.000f, -1.000f, 0.000f);
+            chunkMesh.addNormal(rotation, 0.000f, -1.000f, 0.000f);
             // Tangents:
-            Matrix4f rotationMatrix = rotation.toRotationMatrix(new Matrix4f());
-            chunkMesh.getTangents().add(rotationMatrix.mult(new Vector4f(1.000f, 0.000f, 0.000f, 1.000f)));
-            chunkMesh.getTangents().add(rotationMatrix.mult(new Vector4f(1.000f, 0.000f, 0.000f, 1.000f)));
-            chunkMesh.getTangents().add(rotationMatrix.mult(new Vector4f(1.000f, 0.000f, 0.000f, 1.000f)));
-            chunkMesh.getTangents().add(rotationMatrix.mult(new Vector4f(1.000f, 0.000f, 0.000f, 1.000f)));
+            chunkMesh.addTangent(rotation, 1.000f, 0.000f, 0.000f, 1.000f);
+            chunkMesh.addTangent(rotation, 1.000f, 0.000f, 0.000f, 1.000f);
+            chunkMesh.addTangent(rotation, 1.000f, 0.000f, 0.000f, 1.000f);
+            chunkMesh.addTangent(rotation, 1.000f, 0.000f, 0.000f, 1.000f);
             // uv
             TextureCoordinates textureCoordinates = textureCoordinatesFunction.apply(Direction.DOWN);
-            chunkMesh.getUvs().add(new Vector2f(textureCoordinates.getMax().x, textureCoordinates.getMin().y));
-            chunkMesh.getUvs().add(new Vector2f(textureCoordinates.getMin().x, textureCoordinates.getMin().y));
-            chunkMesh.getUvs().add(new Vector2f(textureCoordinates.getMin().x, textureCoordinates.getMax().y));
-            chunkMesh.getUvs().add(new Vector2f(textureCoordinates.getMax().x, textureCoordinates.getMax().y));
+            chunkMesh.addUv(textureCoordinates.getMax().x, textureCoordinates.getMin().y);
+            chunkMesh.addUv(textureCoordinates.getMin().x, textureCoordinates.getMin().y);
+            chunkMesh.addUv(textureCoordinates.getMin().x, textureCoordinates.getMax().y);
+            chunkMesh.addUv(textureCoordinates.getMax().x, textureCoordinates.getMax().y);
         }
     }
 
     private static void createNorth(Vec3i location, ChunkMesh chunkMesh, Quaternion rotation, float blockScale, Function<Direction, TextureCoordinates> textureCoordinatesFunction) {
-        int offset = chunkMesh.getPositions().size();
+        int offset = chunkMesh.getVertexCount();
         // # Positions:10
-        chunkMesh.getPositions().add(Shape.createVertex(rotation.mult(new Vector3f(-0.500f, -0.500f, -0.500f)), location, blockScale));
-        chunkMesh.getPositions().add(Shape.createVertex(rotation.mult(new Vector3f(0.500f, -0.167f, -0.500f)), location, blockScale));
-        chunkMesh.getPositions().add(Shape.createVertex(rotation.mult(new Vector3f(0.500f, -0.500f, -0.500f)), location, blockScale));
-        chunkMesh.getPositions().add(Shape.createVertex(rotation.mult(new Vector3f(-0.500f, 0.167f, -0.500f)), location, blockScale));
-        chunkMesh.getPositions().add(Shape.createVertex(rotation.mult(new Vector3f(0.167f, -0.167f, -0.500f)), location, blockScale));
-        chunkMesh.getPositions().add(Shape.createVertex(rotation.mult(new Vector3f(-0.500f, -0.167f, -0.500f)), location, blockScale));
-        chunkMesh.getPositions().add(Shape.createVertex(rotation.mult(new Vector3f(-0.167f, 0.500f, -0.500f)), location, blockScale));
-        chunkMesh.getPositions().add(Shape.createVertex(rotation.mult(new Vector3f(-0.167f, 0.167f, -0.500f)), location, blockScale));
-        chunkMesh.getPositions().add(Shape.createVertex(rotation.mult(new Vector3f(0.167f, 0.167f, -0.500f)), location, blockScale));
-        chunkMesh.getPositions().add(Shape.createVertex(rotation.mult(new Vector3f(-0.500f, 0.500f, -0.500f)), location, blockScale));
+        chunkMesh.addPosition(rotation, -0.500f, -0.500f, -0.500f, location, blockScale);
+        chunkMesh.addPosition(rotation, 0.500f, -0.167f, -0.500f, location, blockScale);
+        chunkMesh.addPosition(rotation, 0.500f, -0.500f, -0.500f, location, blockScale);
+        chunkMesh.addPosition(rotation, -0.500f, 0.167f, -0.500f, location, blockScale);
+        chunkMesh.addPosition(rotation, 0.167f, -0.167f, -0.500f, location, blockScale);
+        chunkMesh.addPosition(rotation, -0.500f, -0.167f, -0.500f, location, blockScale);
+        chunkMesh.addPosition(rotation, -0.167f, 0.500f, -0.500f, location, blockScale);
+        chunkMesh.addPosition(rotation, -0.167f, 0.167f, -0.500f, location, blockScale);
+        chunkMesh.addPosition(rotation, 0.167f, 0.167f, -0.500f, location, blockScale);
+        chunkMesh.addPosition(rotation, -0.500f, 0.500f, -0.500f, location, blockScale);
         // Index:
-        chunkMesh.getIndices().add(offset + 0);
-        chunkMesh.getIndices().add(offset + 1);
-        chunkMesh.getIndices().add(offset + 2);
-        chunkMesh.getIndices().add(offset + 3);
-        chunkMesh.getIndices().add(offset + 4);
-        chunkMesh.getIndices().add(offset + 5);
-        chunkMesh.getIndices().add(offset + 3);
-        chunkMesh.getIndices().add(offset + 6);
-        chunkMesh.getIndices().add(offset + 7);
-        chunkMesh.getIndices().add(offset + 0);
-        chunkMesh.getIndices().add(offset + 5);
-        chunkMesh.getIndices().add(offset + 1);
-        chunkMesh.getIndices().add(offset + 3);
-        chunkMesh.getIndices().add(offset + 8);
-        chunkMesh.getIndices().add(offset + 4);
-        chunkMesh.getIndices().add(offset + 3);
-        chunkMesh.getIndices().add(offset + 9);
-        chunkMesh.getIndices().add(offset + 6);
+        chunkMesh.addIndex(offset + 0);
+        chunkMesh.addIndex(offset + 1);
+        chunkMesh.addIndex(offset + 2);
+        chunkMesh.addIndex(offset + 3);
+        chunkMesh.addIndex(offset + 4);
+        chunkMesh.addIndex(offset + 5);
+        chunkMesh.addIndex(offset + 3);
+        chunkMesh.addIndex(offset + 6);
+        chunkMesh.addIndex(offset + 7);
+        chunkMesh.addIndex(offset + 0);
+        chunkMesh.addIndex(offset + 5);
+        chunkMesh.addIndex(offset + 1);
+        chunkMesh.addIndex(offset + 3);
+        chunkMesh.addIndex(offset + 8);
+        chunkMesh.addIndex(offset + 4);
+        chunkMesh.addIndex(offset + 3);
+        chunkMesh.addIndex(offset + 9);
+        chunkMesh.addIndex(offset + 6);
         if (!chunkMesh.isCollisionMesh()) {
             // Normals:
-            chunkMesh.getNormals().add(rotation.mult(new Vector3f(0.000f, 0.000f, -1.000f)));
-            chunkMesh.getNormals().add(rotation.mult(new Vector3f(0.000f, 0.000f, -1.000f)));
-            chunkMesh.getNormals().add(rotation.mult(new Vector3f(0.000f, 0.000f, -1.000f)));
-            chunkMesh.getNormals().add(rotation.mult(new Vector3f(0.000f, 0.000f, -1.000f)));
-            chunkMesh.getNormals().add(rotation.mult(new Vector3f(0.000f, 0.000f, -1.000f)));
-            chunkMesh.getNormals().add(rotation.mult(new Vector3f(0.000f, 0.000f, -1.000f)));
-            chunkMesh.getNormals().add(rotation.mult(new Vector3f(0.000f, 0.000f, -1.000f)));
-            chunkMesh.getNormals().add(rotation.mult(new Vector3f(0.000f, 0.000f, -1.000f)));
-            chunkMesh.getNormals().add(rotation.mult(new Vector3f(0.000f, 0.000f, -1.000f)));
-            chunkMesh.getNormals().add(rotation.mult(new Vector3f(0.000f, 0.000f, -1.000f)));
+            chunkMesh.addNormal(rotation, 0.000f, 0.000f, -1.000f);
+            chunkMesh.addNormal(rotation, 0.000f, 0.000f, -1.000f);
+            chunkMesh.addNormal(rotation, 0.000f, 0.000f, -1.000f);
+            chunkMesh.addNormal(rotation, 0.000f, 0.000f, -1.000f);
+            chunkMesh.addNormal(rotation, 0.000f, 0.000f, -1.000f);
+            chunkMesh.addNormal(rotation, 0.000f, 0.000f, -1.000f);
+            chunkMesh.addNormal(rotation, 0.000f, 0.000f, -1.000f);
+            chunkMesh.addNormal(rotation, 0.000f, 0.000f, -1.000f);
+            chunkMesh.addNormal(rotation, 0.000f, 0.000f, -1.000f);
+            chunkMesh.addNormal(rotation, 0.000f, 0.000f, -1.000f);
             // Tangents:
-            Matrix4f rotationMatrix = rotation.toRotationMatrix(new Matrix4f());
-            chunkMesh.getTangents().add(rotationMatrix.mult(new Vector4f(1.000f, 0.000f, 0.000f, 1.000f)));
-            chunkMesh.getTangents().add(rotationMatrix.mult(new Vector4f(1.000f, 0.000f, 0.000f, 1.000f)));
-            chunkMesh.getTangents().add(rotationMatrix.mult(new Vector4f(1.000f, 0.000f, 0.000f, 1.000f)));
-            chunkMesh.getTangents().add(rotationMatrix.mult(new Vector4f(1.000f, 0.000f, 0.000f, 1.000f)));
-            chunkMesh.getTangents().add(rotationMatrix.mult(new Vector4f(1.000f, 0.000f, 0.000f, 1.000f)));
-            chunkMesh.getTangents().add(rotationMatrix.mult(new Vector4f(1.000f, 0.000f, 0.000f, 1.000f)));
-            chunkMesh.getTangents().add(rotationMatrix.mult(new Vector4f(1.000f, 0.000f, 0.000f, 1.000f)));
-            chunkMesh.getTangents().add(rotationMatrix.mult(new Vector4f(1.000f, 0.000f, 0.000f, 1.000f)));
-            chunkMesh.getTangents().add(rotationMatrix.mult(new Vector4f(1.000f, 0.000f, 0.000f, 1.000f)));
-            chunkMesh.getTangents().add(rotationMatrix.mult(new Vector4f(1.000f, 0.000f, 0.000f, 1.000f)));
+            chunkMesh.addTangent(rotation, 1.000f, 0.000f, 0.000f, 1.000f);
+            chunkMesh.addTangent(rotation, 1.000f, 0.000f, 0.000f, 1.000f);
+            chunkMesh.addTangent(rotation, 1.000f, 0.000f, 0.000f, 1.000f);
+            chunkMesh.addTangent(rotation, 1.000f, 0.000f, 0.000f, 1.000f);
+            chunkMesh.addTangent(rotation, 1.000f, 0.000f, 0.000f, 1.000f);
+            chunkMesh.addTangent(rotation, 1.000f, 0.000f, 0.000f, 1.000f);
+            chunkMesh.addTangent(rotation, 1.000f, 0.000f, 0.000f, 1.000f);
+            chunkMesh.addTangent(rotation, 1.000f, 0.000f, 0.000f, 1.000f);
+            chunkMesh.addTangent(rotation, 1.000f, 0.000f, 0.000f, 1.000f);
+            chunkMesh.addTangent(rotation, 1.000f, 0.000f, 0.000f, 1.000f);
             // uv
             TextureCoordinates textureCoordinates = textureCoordinatesFunction.apply(Direction.NORTH);
             float numberOfTexturesY = 1 / (textureCoordinates.getMax().y - textureCoordinates.getMin().y);
@@ -366,81 +364,80 @@ public class StairsOuterCorner implements Shape {
             float numberOfTexturesX = 1 / (textureCoordinates.getMax().x - textureCoordinates.getMin().x);
             float oneThirdX = 1 / (numberOfTexturesX * 3);
             float twoThirdX = 2 / (numberOfTexturesX * 3);
-            chunkMesh.getUvs().add(new Vector2f(textureCoordinates.getMin().x, textureCoordinates.getMin().y));
-            chunkMesh.getUvs().add(new Vector2f(textureCoordinates.getMax().x, textureCoordinates.getMin().y + oneThirdY));
-            chunkMesh.getUvs().add(new Vector2f(textureCoordinates.getMax().x, textureCoordinates.getMin().y));
-            chunkMesh.getUvs().add(new Vector2f(textureCoordinates.getMin().x, textureCoordinates.getMin().y + twoThirdY));
-            chunkMesh.getUvs().add(new Vector2f(textureCoordinates.getMin().x + twoThirdX, textureCoordinates.getMin().y + oneThirdY));
-            chunkMesh.getUvs().add(new Vector2f(textureCoordinates.getMin().x, textureCoordinates.getMin().y + oneThirdY));
-            chunkMesh.getUvs().add(new Vector2f(textureCoordinates.getMin().x + oneThirdX, textureCoordinates.getMax().y));
-            chunkMesh.getUvs().add(new Vector2f(textureCoordinates.getMin().x + oneThirdX, textureCoordinates.getMin().y + twoThirdY));
-            chunkMesh.getUvs().add(new Vector2f(textureCoordinates.getMin().x + twoThirdX, textureCoordinates.getMin().y + twoThirdY));
-            chunkMesh.getUvs().add(new Vector2f(textureCoordinates.getMin().x, textureCoordinates.getMax().y));
+            chunkMesh.addUv(textureCoordinates.getMin().x, textureCoordinates.getMin().y);
+            chunkMesh.addUv(textureCoordinates.getMax().x, textureCoordinates.getMin().y + oneThirdY);
+            chunkMesh.addUv(textureCoordinates.getMax().x, textureCoordinates.getMin().y);
+            chunkMesh.addUv(textureCoordinates.getMin().x, textureCoordinates.getMin().y + twoThirdY);
+            chunkMesh.addUv(textureCoordinates.getMin().x + twoThirdX, textureCoordinates.getMin().y + oneThirdY);
+            chunkMesh.addUv(textureCoordinates.getMin().x, textureCoordinates.getMin().y + oneThirdY);
+            chunkMesh.addUv(textureCoordinates.getMin().x + oneThirdX, textureCoordinates.getMax().y);
+            chunkMesh.addUv(textureCoordinates.getMin().x + oneThirdX, textureCoordinates.getMin().y + twoThirdY);
+            chunkMesh.addUv(textureCoordinates.getMin().x + twoThirdX, textureCoordinates.getMin().y + twoThirdY);
+            chunkMesh.addUv(textureCoordinates.getMin().x, textureCoordinates.getMax().y);
         }
     }
 
     private static void createEast(Vec3i location, ChunkMesh chunkMesh, Quaternion rotation, float blockScale, Function<Direction, TextureCoordinates> textureCoordinatesFunction) {
-        int offset = chunkMesh.getPositions().size();
+        int offset = chunkMesh.getVertexCount();
         // # Positions:12
-        chunkMesh.getPositions().add(Shape.createVertex(rotation.mult(new Vector3f(0.500f, -0.167f, -0.500f)), location, blockScale));
-        chunkMesh.getPositions().add(Shape.createVertex(rotation.mult(new Vector3f(0.500f, -0.500f, 0.500f)), location, blockScale));
-        chunkMesh.getPositions().add(Shape.createVertex(rotation.mult(new Vector3f(0.500f, -0.500f, -0.500f)), location, blockScale));
-        chunkMesh.getPositions().add(Shape.createVertex(rotation.mult(new Vector3f(0.167f, 0.167f, -0.500f)), location, blockScale));
-        chunkMesh.getPositions().add(Shape.createVertex(rotation.mult(new Vector3f(0.167f, -0.167f, 0.167f)), location, blockScale));
-        chunkMesh.getPositions().add(Shape.createVertex(rotation.mult(new Vector3f(0.167f, -0.167f, -0.500f)), location, blockScale));
-        chunkMesh.getPositions().add(Shape.createVertex(rotation.mult(new Vector3f(-0.167f, 0.167f, -0.500f)), location, blockScale));
-        chunkMesh.getPositions().add(Shape.createVertex(rotation.mult(new Vector3f(-0.167f, 0.500f, -0.167f)), location, blockScale));
-        chunkMesh.getPositions().add(Shape.createVertex(rotation.mult(new Vector3f(-0.167f, 0.167f, -0.167f)), location, blockScale));
-        chunkMesh.getPositions().add(Shape.createVertex(rotation.mult(new Vector3f(0.500f, -0.167f, 0.500f)), location, blockScale));
-        chunkMesh.getPositions().add(Shape.createVertex(rotation.mult(new Vector3f(0.167f, 0.167f, 0.167f)), location, blockScale));
-        chunkMesh.getPositions().add(Shape.createVertex(rotation.mult(new Vector3f(-0.167f, 0.500f, -0.500f)), location, blockScale));
+        chunkMesh.addPosition(rotation, 0.500f, -0.167f, -0.500f, location, blockScale);
+        chunkMesh.addPosition(rotation, 0.500f, -0.500f, 0.500f, location, blockScale);
+        chunkMesh.addPosition(rotation, 0.500f, -0.500f, -0.500f, location, blockScale);
+        chunkMesh.addPosition(rotation, 0.167f, 0.167f, -0.500f, location, blockScale);
+        chunkMesh.addPosition(rotation, 0.167f, -0.167f, 0.167f, location, blockScale);
+        chunkMesh.addPosition(rotation, 0.167f, -0.167f, -0.500f, location, blockScale);
+        chunkMesh.addPosition(rotation, -0.167f, 0.167f, -0.500f, location, blockScale);
+        chunkMesh.addPosition(rotation, -0.167f, 0.500f, -0.167f, location, blockScale);
+        chunkMesh.addPosition(rotation, -0.167f, 0.167f, -0.167f, location, blockScale);
+        chunkMesh.addPosition(rotation, 0.500f, -0.167f, 0.500f, location, blockScale);
+        chunkMesh.addPosition(rotation, 0.167f, 0.167f, 0.167f, location, blockScale);
+        chunkMesh.addPosition(rotation, -0.167f, 0.500f, -0.500f, location, blockScale);
         // Index:
-        chunkMesh.getIndices().add(offset + 0);
-        chunkMesh.getIndices().add(offset + 1);
-        chunkMesh.getIndices().add(offset + 2);
-        chunkMesh.getIndices().add(offset + 3);
-        chunkMesh.getIndices().add(offset + 4);
-        chunkMesh.getIndices().add(offset + 5);
-        chunkMesh.getIndices().add(offset + 6);
-        chunkMesh.getIndices().add(offset + 7);
-        chunkMesh.getIndices().add(offset + 8);
-        chunkMesh.getIndices().add(offset + 0);
-        chunkMesh.getIndices().add(offset + 9);
-        chunkMesh.getIndices().add(offset + 1);
-        chunkMesh.getIndices().add(offset + 3);
-        chunkMesh.getIndices().add(offset + 10);
-        chunkMesh.getIndices().add(offset + 4);
-        chunkMesh.getIndices().add(offset + 6);
-        chunkMesh.getIndices().add(offset + 11);
-        chunkMesh.getIndices().add(offset + 7);
+        chunkMesh.addIndex(offset + 0);
+        chunkMesh.addIndex(offset + 1);
+        chunkMesh.addIndex(offset + 2);
+        chunkMesh.addIndex(offset + 3);
+        chunkMesh.addIndex(offset + 4);
+        chunkMesh.addIndex(offset + 5);
+        chunkMesh.addIndex(offset + 6);
+        chunkMesh.addIndex(offset + 7);
+        chunkMesh.addIndex(offset + 8);
+        chunkMesh.addIndex(offset + 0);
+        chunkMesh.addIndex(offset + 9);
+        chunkMesh.addIndex(offset + 1);
+        chunkMesh.addIndex(offset + 3);
+        chunkMesh.addIndex(offset + 10);
+        chunkMesh.addIndex(offset + 4);
+        chunkMesh.addIndex(offset + 6);
+        chunkMesh.addIndex(offset + 11);
+        chunkMesh.addIndex(offset + 7);
         if (!chunkMesh.isCollisionMesh()) {
             // Normals:
-            chunkMesh.getNormals().add(rotation.mult(new Vector3f(1.000f, 0.000f, 0.000f)));
-            chunkMesh.getNormals().add(rotation.mult(new Vector3f(1.000f, 0.000f, 0.000f)));
-            chunkMesh.getNormals().add(rotation.mult(new Vector3f(1.000f, 0.000f, 0.000f)));
-            chunkMesh.getNormals().add(rotation.mult(new Vector3f(1.000f, 0.000f, 0.000f)));
-            chunkMesh.getNormals().add(rotation.mult(new Vector3f(1.000f, 0.000f, 0.000f)));
-            chunkMesh.getNormals().add(rotation.mult(new Vector3f(1.000f, 0.000f, 0.000f)));
-            chunkMesh.getNormals().add(rotation.mult(new Vector3f(1.000f, 0.000f, 0.000f)));
-            chunkMesh.getNormals().add(rotation.mult(new Vector3f(1.000f, 0.000f, 0.000f)));
-            chunkMesh.getNormals().add(rotation.mult(new Vector3f(1.000f, 0.000f, 0.000f)));
-            chunkMesh.getNormals().add(rotation.mult(new Vector3f(1.000f, 0.000f, 0.000f)));
-            chunkMesh.getNormals().add(rotation.mult(new Vector3f(1.000f, 0.000f, 0.000f)));
-            chunkMesh.getNormals().add(rotation.mult(new Vector3f(1.000f, 0.000f, 0.000f)));
+            chunkMesh.addNormal(rotation, 1.000f, 0.000f, 0.000f);
+            chunkMesh.addNormal(rotation, 1.000f, 0.000f, 0.000f);
+            chunkMesh.addNormal(rotation, 1.000f, 0.000f, 0.000f);
+            chunkMesh.addNormal(rotation, 1.000f, 0.000f, 0.000f);
+            chunkMesh.addNormal(rotation, 1.000f, 0.000f, 0.000f);
+            chunkMesh.addNormal(rotation, 1.000f, 0.000f, 0.000f);
+            chunkMesh.addNormal(rotation, 1.000f, 0.000f, 0.000f);
+            chunkMesh.addNormal(rotation, 1.000f, 0.000f, 0.000f);
+            chunkMesh.addNormal(rotation, 1.000f, 0.000f, 0.000f);
+            chunkMesh.addNormal(rotation, 1.000f, 0.000f, 0.000f);
+            chunkMesh.addNormal(rotation, 1.000f, 0.000f, 0.000f);
+            chunkMesh.addNormal(rotation, 1.000f, 0.000f, 0.000f);
             // Tangents:
-            Matrix4f rotationMatrix = rotation.toRotationMatrix(new Matrix4f());
-            chunkMesh.getTangents().add(rotationMatrix.mult(new Vector4f(0.000f, 0.000f, -1.000f, -1.000f)));
-            chunkMesh.getTangents().add(rotationMatrix.mult(new Vector4f(0.000f, 0.000f, -1.000f, -1.000f)));
-            chunkMesh.getTangents().add(rotationMatrix.mult(new Vector4f(0.000f, 0.000f, -1.000f, -1.000f)));
-            chunkMesh.getTangents().add(rotationMatrix.mult(new Vector4f(0.000f, 0.000f, -1.000f, -1.000f)));
-            chunkMesh.getTangents().add(rotationMatrix.mult(new Vector4f(0.000f, 0.000f, -1.000f, -1.000f)));
-            chunkMesh.getTangents().add(rotationMatrix.mult(new Vector4f(0.000f, 0.000f, -1.000f, -1.000f)));
-            chunkMesh.getTangents().add(rotationMatrix.mult(new Vector4f(0.000f, 0.000f, -1.000f, -1.000f)));
-            chunkMesh.getTangents().add(rotationMatrix.mult(new Vector4f(0.000f, 0.000f, -1.000f, -1.000f)));
-            chunkMesh.getTangents().add(rotationMatrix.mult(new Vector4f(0.000f, 0.000f, -1.000f, -1.000f)));
-            chunkMesh.getTangents().add(rotationMatrix.mult(new Vector4f(0.000f, 0.000f, -1.000f, -1.000f)));
-            chunkMesh.getTangents().add(rotationMatrix.mult(new Vector4f(0.000f, 0.000f, -1.000f, -1.000f)));
-            chunkMesh.getTangents().add(rotationMatrix.mult(new Vector4f(0.000f, 0.000f, -1.000f, -1.000f)));
+            chunkMesh.addTangent(rotation, 0.000f, 0.000f, -1.000f, -1.000f);
+            chunkMesh.addTangent(rotation, 0.000f, 0.000f, -1.000f, -1.000f);
+            chunkMesh.addTangent(rotation, 0.000f, 0.000f, -1.000f, -1.000f);
+            chunkMesh.addTangent(rotation, 0.000f, 0.000f, -1.000f, -1.000f);
+            chunkMesh.addTangent(rotation, 0.000f, 0.000f, -1.000f, -1.000f);
+            chunkMesh.addTangent(rotation, 0.000f, 0.000f, -1.000f, -1.000f);
+            chunkMesh.addTangent(rotation, 0.000f, 0.000f, -1.000f, -1.000f);
+            chunkMesh.addTangent(rotation, 0.000f, 0.000f, -1.000f, -1.000f);
+            chunkMesh.addTangent(rotation, 0.000f, 0.000f, -1.000f, -1.000f);
+            chunkMesh.addTangent(rotation, 0.000f, 0.000f, -1.000f, -1.000f);
+            chunkMesh.addTangent(rotation, 0.000f, 0.000f, -1.000f, -1.000f);
+            chunkMesh.addTangent(rotation, 0.000f, 0.000f, -1.000f, -1.000f);
             // uv
             TextureCoordinates textureCoordinates = textureCoordinatesFunction.apply(Direction.EAST);
             float numberOfTexturesY = 1 / (textureCoordinates.getMax().y - textureCoordinates.getMin().y);
@@ -449,77 +446,76 @@ public class StairsOuterCorner implements Shape {
             float numberOfTexturesX = 1 / (textureCoordinates.getMax().x - textureCoordinates.getMin().x);
             float oneThirdX = 1 / (numberOfTexturesX * 3);
             float twoThirdX = 2 / (numberOfTexturesX * 3);
-            chunkMesh.getUvs().add(new Vector2f(textureCoordinates.getMax().x, textureCoordinates.getMin().y + oneThirdY));
-            chunkMesh.getUvs().add(new Vector2f(textureCoordinates.getMin().x, textureCoordinates.getMin().y));
-            chunkMesh.getUvs().add(new Vector2f(textureCoordinates.getMax().x, textureCoordinates.getMin().y));
-            chunkMesh.getUvs().add(new Vector2f(textureCoordinates.getMax().x, textureCoordinates.getMin().y + twoThirdY));
-            chunkMesh.getUvs().add(new Vector2f(textureCoordinates.getMin().x + oneThirdX, textureCoordinates.getMin().y + oneThirdY));
-            chunkMesh.getUvs().add(new Vector2f(textureCoordinates.getMax().x, textureCoordinates.getMin().y + oneThirdY));
-            chunkMesh.getUvs().add(new Vector2f(textureCoordinates.getMax().x, textureCoordinates.getMin().y + twoThirdY));
-            chunkMesh.getUvs().add(new Vector2f(textureCoordinates.getMin().x + twoThirdX, textureCoordinates.getMax().y));
-            chunkMesh.getUvs().add(new Vector2f(textureCoordinates.getMin().x + twoThirdX, textureCoordinates.getMin().y + twoThirdY));
-            chunkMesh.getUvs().add(new Vector2f(textureCoordinates.getMin().x, textureCoordinates.getMin().y + oneThirdY));
-            chunkMesh.getUvs().add(new Vector2f(textureCoordinates.getMin().x + oneThirdX, textureCoordinates.getMin().y + twoThirdY));
-            chunkMesh.getUvs().add(new Vector2f(textureCoordinates.getMax().x, textureCoordinates.getMax().y));
+            chunkMesh.addUv(textureCoordinates.getMax().x, textureCoordinates.getMin().y + oneThirdY);
+            chunkMesh.addUv(textureCoordinates.getMin().x, textureCoordinates.getMin().y);
+            chunkMesh.addUv(textureCoordinates.getMax().x, textureCoordinates.getMin().y);
+            chunkMesh.addUv(textureCoordinates.getMax().x, textureCoordinates.getMin().y + twoThirdY);
+            chunkMesh.addUv(textureCoordinates.getMin().x + oneThirdX, textureCoordinates.getMin().y + oneThirdY);
+            chunkMesh.addUv(textureCoordinates.getMax().x, textureCoordinates.getMin().y + oneThirdY);
+            chunkMesh.addUv(textureCoordinates.getMax().x, textureCoordinates.getMin().y + twoThirdY);
+            chunkMesh.addUv(textureCoordinates.getMin().x + twoThirdX, textureCoordinates.getMax().y);
+            chunkMesh.addUv(textureCoordinates.getMin().x + twoThirdX, textureCoordinates.getMin().y + twoThirdY);
+            chunkMesh.addUv(textureCoordinates.getMin().x, textureCoordinates.getMin().y + oneThirdY);
+            chunkMesh.addUv(textureCoordinates.getMin().x + oneThirdX, textureCoordinates.getMin().y + twoThirdY);
+            chunkMesh.addUv(textureCoordinates.getMax().x, textureCoordinates.getMax().y);
         }
     }
 
     private static void createWest(Vec3i location, ChunkMesh chunkMesh, Quaternion rotation, float blockScale, Function<Direction, TextureCoordinates> textureCoordinatesFunction) {
-        int offset = chunkMesh.getPositions().size();
+        int offset = chunkMesh.getVertexCount();
         // # Positions:10
-        chunkMesh.getPositions().add(Shape.createVertex(rotation.mult(new Vector3f(-0.500f, -0.167f, 0.167f)), location, blockScale));
-        chunkMesh.getPositions().add(Shape.createVertex(rotation.mult(new Vector3f(-0.500f, 0.167f, -0.500f)), location, blockScale));
-        chunkMesh.getPositions().add(Shape.createVertex(rotation.mult(new Vector3f(-0.500f, -0.167f, -0.500f)), location, blockScale));
-        chunkMesh.getPositions().add(Shape.createVertex(rotation.mult(new Vector3f(-0.500f, -0.500f, 0.500f)), location, blockScale));
-        chunkMesh.getPositions().add(Shape.createVertex(rotation.mult(new Vector3f(-0.500f, -0.167f, 0.500f)), location, blockScale));
-        chunkMesh.getPositions().add(Shape.createVertex(rotation.mult(new Vector3f(-0.500f, 0.167f, -0.167f)), location, blockScale));
-        chunkMesh.getPositions().add(Shape.createVertex(rotation.mult(new Vector3f(-0.500f, 0.500f, -0.500f)), location, blockScale));
-        chunkMesh.getPositions().add(Shape.createVertex(rotation.mult(new Vector3f(-0.500f, 0.167f, 0.167f)), location, blockScale));
-        chunkMesh.getPositions().add(Shape.createVertex(rotation.mult(new Vector3f(-0.500f, -0.500f, -0.500f)), location, blockScale));
-        chunkMesh.getPositions().add(Shape.createVertex(rotation.mult(new Vector3f(-0.500f, 0.500f, -0.167f)), location, blockScale));
+        chunkMesh.addPosition(rotation, -0.500f, -0.167f, 0.167f, location, blockScale);
+        chunkMesh.addPosition(rotation, -0.500f, 0.167f, -0.500f, location, blockScale);
+        chunkMesh.addPosition(rotation, -0.500f, -0.167f, -0.500f, location, blockScale);
+        chunkMesh.addPosition(rotation, -0.500f, -0.500f, 0.500f, location, blockScale);
+        chunkMesh.addPosition(rotation, -0.500f, -0.167f, 0.500f, location, blockScale);
+        chunkMesh.addPosition(rotation, -0.500f, 0.167f, -0.167f, location, blockScale);
+        chunkMesh.addPosition(rotation, -0.500f, 0.500f, -0.500f, location, blockScale);
+        chunkMesh.addPosition(rotation, -0.500f, 0.167f, 0.167f, location, blockScale);
+        chunkMesh.addPosition(rotation, -0.500f, -0.500f, -0.500f, location, blockScale);
+        chunkMesh.addPosition(rotation, -0.500f, 0.500f, -0.167f, location, blockScale);
         // Index:
-        chunkMesh.getIndices().add(offset + 0);
-        chunkMesh.getIndices().add(offset + 1);
-        chunkMesh.getIndices().add(offset + 2);
-        chunkMesh.getIndices().add(offset + 2);
-        chunkMesh.getIndices().add(offset + 3);
-        chunkMesh.getIndices().add(offset + 4);
-        chunkMesh.getIndices().add(offset + 5);
-        chunkMesh.getIndices().add(offset + 6);
-        chunkMesh.getIndices().add(offset + 1);
-        chunkMesh.getIndices().add(offset + 0);
-        chunkMesh.getIndices().add(offset + 7);
-        chunkMesh.getIndices().add(offset + 1);
-        chunkMesh.getIndices().add(offset + 2);
-        chunkMesh.getIndices().add(offset + 8);
-        chunkMesh.getIndices().add(offset + 3);
-        chunkMesh.getIndices().add(offset + 5);
-        chunkMesh.getIndices().add(offset + 9);
-        chunkMesh.getIndices().add(offset + 6);
+        chunkMesh.addIndex(offset + 0);
+        chunkMesh.addIndex(offset + 1);
+        chunkMesh.addIndex(offset + 2);
+        chunkMesh.addIndex(offset + 2);
+        chunkMesh.addIndex(offset + 3);
+        chunkMesh.addIndex(offset + 4);
+        chunkMesh.addIndex(offset + 5);
+        chunkMesh.addIndex(offset + 6);
+        chunkMesh.addIndex(offset + 1);
+        chunkMesh.addIndex(offset + 0);
+        chunkMesh.addIndex(offset + 7);
+        chunkMesh.addIndex(offset + 1);
+        chunkMesh.addIndex(offset + 2);
+        chunkMesh.addIndex(offset + 8);
+        chunkMesh.addIndex(offset + 3);
+        chunkMesh.addIndex(offset + 5);
+        chunkMesh.addIndex(offset + 9);
+        chunkMesh.addIndex(offset + 6);
         if (!chunkMesh.isCollisionMesh()) {
             // Normals:
-            chunkMesh.getNormals().add(rotation.mult(new Vector3f(-1.000f, 0.000f, 0.000f)));
-            chunkMesh.getNormals().add(rotation.mult(new Vector3f(-1.000f, 0.000f, 0.000f)));
-            chunkMesh.getNormals().add(rotation.mult(new Vector3f(-1.000f, 0.000f, 0.000f)));
-            chunkMesh.getNormals().add(rotation.mult(new Vector3f(-1.000f, 0.000f, 0.000f)));
-            chunkMesh.getNormals().add(rotation.mult(new Vector3f(-1.000f, 0.000f, 0.000f)));
-            chunkMesh.getNormals().add(rotation.mult(new Vector3f(-1.000f, 0.000f, 0.000f)));
-            chunkMesh.getNormals().add(rotation.mult(new Vector3f(-1.000f, 0.000f, 0.000f)));
-            chunkMesh.getNormals().add(rotation.mult(new Vector3f(-1.000f, 0.000f, 0.000f)));
-            chunkMesh.getNormals().add(rotation.mult(new Vector3f(-1.000f, 0.000f, 0.000f)));
-            chunkMesh.getNormals().add(rotation.mult(new Vector3f(-1.000f, 0.000f, 0.000f)));
+            chunkMesh.addNormal(rotation, -1.000f, 0.000f, 0.000f);
+            chunkMesh.addNormal(rotation, -1.000f, 0.000f, 0.000f);
+            chunkMesh.addNormal(rotation, -1.000f, 0.000f, 0.000f);
+            chunkMesh.addNormal(rotation, -1.000f, 0.000f, 0.000f);
+            chunkMesh.addNormal(rotation, -1.000f, 0.000f, 0.000f);
+            chunkMesh.addNormal(rotation, -1.000f, 0.000f, 0.000f);
+            chunkMesh.addNormal(rotation, -1.000f, 0.000f, 0.000f);
+            chunkMesh.addNormal(rotation, -1.000f, 0.000f, 0.000f);
+            chunkMesh.addNormal(rotation, -1.000f, 0.000f, 0.000f);
+            chunkMesh.addNormal(rotation, -1.000f, 0.000f, 0.000f);
             // Tangents:
-            Matrix4f rotationMatrix = rotation.toRotationMatrix(new Matrix4f());
-            chunkMesh.getTangents().add(rotationMatrix.mult(new Vector4f(0.000f, 0.000f, 1.000f, -1.000f)));
-            chunkMesh.getTangents().add(rotationMatrix.mult(new Vector4f(0.000f, 0.000f, 1.000f, -1.000f)));
-            chunkMesh.getTangents().add(rotationMatrix.mult(new Vector4f(0.000f, 0.000f, 1.000f, -1.000f)));
-            chunkMesh.getTangents().add(rotationMatrix.mult(new Vector4f(0.000f, 0.000f, 1.000f, -1.000f)));
-            chunkMesh.getTangents().add(rotationMatrix.mult(new Vector4f(0.000f, 0.000f, 1.000f, -1.000f)));
-            chunkMesh.getTangents().add(rotationMatrix.mult(new Vector4f(0.000f, 0.000f, 1.000f, -1.000f)));
-            chunkMesh.getTangents().add(rotationMatrix.mult(new Vector4f(0.000f, 0.000f, 1.000f, -1.000f)));
-            chunkMesh.getTangents().add(rotationMatrix.mult(new Vector4f(0.000f, 0.000f, 1.000f, -1.000f)));
-            chunkMesh.getTangents().add(rotationMatrix.mult(new Vector4f(0.000f, 0.000f, 1.000f, -1.000f)));
-            chunkMesh.getTangents().add(rotationMatrix.mult(new Vector4f(0.000f, 0.000f, 1.000f, -1.000f)));
+            chunkMesh.addTangent(rotation, 0.000f, 0.000f, 1.000f, -1.000f);
+            chunkMesh.addTangent(rotation, 0.000f, 0.000f, 1.000f, -1.000f);
+            chunkMesh.addTangent(rotation, 0.000f, 0.000f, 1.000f, -1.000f);
+            chunkMesh.addTangent(rotation, 0.000f, 0.000f, 1.000f, -1.000f);
+            chunkMesh.addTangent(rotation, 0.000f, 0.000f, 1.000f, -1.000f);
+            chunkMesh.addTangent(rotation, 0.000f, 0.000f, 1.000f, -1.000f);
+            chunkMesh.addTangent(rotation, 0.000f, 0.000f, 1.000f, -1.000f);
+            chunkMesh.addTangent(rotation, 0.000f, 0.000f, 1.000f, -1.000f);
+            chunkMesh.addTangent(rotation, 0.000f, 0.000f, 1.000f, -1.000f);
+            chunkMesh.addTangent(rotation, 0.000f, 0.000f, 1.000f, -1.000f);
             // uv
             TextureCoordinates textureCoordinates = textureCoordinatesFunction.apply(Direction.WEST);
             float numberOfTexturesY = 1 / (textureCoordinates.getMax().y - textureCoordinates.getMin().y);
@@ -528,16 +524,16 @@ public class StairsOuterCorner implements Shape {
             float numberOfTexturesX = 1 / (textureCoordinates.getMax().x - textureCoordinates.getMin().x);
             float oneThirdX = 1 / (numberOfTexturesX * 3);
             float twoThirdX = 2 / (numberOfTexturesX * 3);
-            chunkMesh.getUvs().add(new Vector2f(textureCoordinates.getMin().x + twoThirdX, textureCoordinates.getMin().y + oneThirdY));
-            chunkMesh.getUvs().add(new Vector2f(textureCoordinates.getMin().x, textureCoordinates.getMin().y + twoThirdY));
-            chunkMesh.getUvs().add(new Vector2f(textureCoordinates.getMin().x, textureCoordinates.getMin().y + oneThirdY));
-            chunkMesh.getUvs().add(new Vector2f(textureCoordinates.getMax().x, textureCoordinates.getMin().y));
-            chunkMesh.getUvs().add(new Vector2f(textureCoordinates.getMax().x, textureCoordinates.getMin().y + oneThirdY));
-            chunkMesh.getUvs().add(new Vector2f(textureCoordinates.getMin().x + oneThirdX, textureCoordinates.getMin().y + twoThirdY));
-            chunkMesh.getUvs().add(new Vector2f(textureCoordinates.getMin().x, textureCoordinates.getMax().y));
-            chunkMesh.getUvs().add(new Vector2f(textureCoordinates.getMin().x + twoThirdX, textureCoordinates.getMin().y + twoThirdY));
-            chunkMesh.getUvs().add(new Vector2f(textureCoordinates.getMin().x, textureCoordinates.getMin().y));
-            chunkMesh.getUvs().add(new Vector2f(textureCoordinates.getMin().x + oneThirdX, textureCoordinates.getMax().y));
+            chunkMesh.addUv(textureCoordinates.getMin().x + twoThirdX, textureCoordinates.getMin().y + oneThirdY);
+            chunkMesh.addUv(textureCoordinates.getMin().x, textureCoordinates.getMin().y + twoThirdY);
+            chunkMesh.addUv(textureCoordinates.getMin().x, textureCoordinates.getMin().y + oneThirdY);
+            chunkMesh.addUv(textureCoordinates.getMax().x, textureCoordinates.getMin().y);
+            chunkMesh.addUv(textureCoordinates.getMax().x, textureCoordinates.getMin().y + oneThirdY);
+            chunkMesh.addUv(textureCoordinates.getMin().x + oneThirdX, textureCoordinates.getMin().y + twoThirdY);
+            chunkMesh.addUv(textureCoordinates.getMin().x, textureCoordinates.getMax().y);
+            chunkMesh.addUv(textureCoordinates.getMin().x + twoThirdX, textureCoordinates.getMin().y + twoThirdY);
+            chunkMesh.addUv(textureCoordinates.getMin().x, textureCoordinates.getMin().y);
+            chunkMesh.addUv(textureCoordinates.getMin().x + oneThirdX, textureCoordinates.getMax().y);
         }
     }
 
@@ -6,14 +6,21 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
@@ -134,6 +141,84 @@ public class BlockRegistryTest {
 
     }
 
+    @Test
+    public void testBlockIds() {
+        BlockRegistry blockRegistry = BlocksConfig.getInstance().getBlockRegistry();
+
+        Block grass = blockRegistry.get(BlockIds.GRASS);
+        int id = blockRegistry.getId(grass);
+        assertTrue(id > BlockRegistry.EMPTY_ID);
+        assertTrue(id <= blockRegistry.getMaxId());
+        assertEquals(id, blockRegistry.getId(BlockIds.GRASS));
+        assertSame(grass, blockRegistry.get(id));
+
+        assertEquals(BlockRegistry.EMPTY_ID, blockRegistry.getId((Block) null));
+        assertEquals(BlockRegistry.EMPTY_ID, blockRegistry.getId(BlockIds.EMPTY));
+        assertNull(blockRegistry.get(BlockRegistry.EMPTY_ID));
+        assertEquals(BlockRegistry.UNKNOWN_ID, blockRegistry.getId(Block.create("unknown", TypeIds.GRASS)));
+    }
+
+    @Test
+    public void testBlockIdIsStableAfterRemove() {
+        BlockRegistry blockRegistry = BlocksConfig.getInstance().getBlockRegistry();
+
+        Block block = blockRegistry.register(Block.create("test", "custom-type"));
+        int id = blockRegistry.getId(block);
+
+        blockRegistry.remove(block);
+        assertNull(blockRegistry.get(id));
+        assertEquals(BlockRegistry.UNKNOWN_ID, blockRegistry.getId(block));
+
+        Block replacement = blockRegistry.register(Block.create("test", "another-type"));
+        assertEquals(id, blockRegistry.getId(replacement));
+        assertSame(replacement, blockRegistry.get(id));
+    }
+
+    @Test
+    public void testSaveAndLoadBlockIds() {
+        BlockRegistry blockRegistry = new BlockRegistry(false);
+        blockRegistry.register(Block.create("a", TypeIds.GRASS), Block.create("b", TypeIds.GRASS), Block.create("c", TypeIds.GRASS));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        blockRegistry.saveIds(out);
+
+        // register the blocks in a different order
+        BlockRegistry otherRegistry = new BlockRegistry(false);
+        otherRegistry.register(Block.create("c", TypeIds.GRASS), Block.create("d", TypeIds.GRASS), Block.create("a", TypeIds.GRASS));
+        otherRegistry.loadIds(new ByteArrayInputStream(out.toByteArray()));
+        otherRegistry.register(Block.create("b", TypeIds.GRASS));
+
+        assertEquals(blockRegistry.getIds(), otherRegistry.getIds().entrySet().stream()
+                .filter(entry -> !entry.getKey().equals("d"))
+                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue)));
+        assertEquals("b", otherRegistry.get(blockRegistry.getId("b")).getName());
+
+        // the displaced block got a new, unique id
+        int d = otherRegistry.getId("d");
+        assertTrue(d > 3);
+        assertEquals("d", otherRegistry.get(d).getName());
+    }
+
+    @Test
+    public void testInvalidBlockIds() {
+        BlockRegistry blockRegistry = new BlockRegistry(false);
+        blockRegistry.register(Block.create("a", TypeIds.GRASS));
+
+        assertThrows(IllegalArgumentException.class, () -> blockRegistry.setIds(Collections.singletonMap("a", BlockRegistry.EMPTY_ID)));
+        assertThrows(IllegalArgumentException.class, () -> blockRegistry.setIds(Collections.singletonMap("a", 100_000_000)));
+        assertThrows(IllegalArgumentException.class, () -> blockRegistry.setIds(Collections.singletonMap("a", Integer.MAX_VALUE)));
+        // an invalid mapping doesn't change the ids
+        assertEquals(1, blockRegistry.getId("a"));
+        assertEquals(1, blockRegistry.getMaxId());
+
+        blockRegistry.setIds(Collections.singletonMap("a", BlockRegistry.MAX_ID));
+        assertEquals(BlockRegistry.MAX_ID, blockRegistry.getId("a"));
+        assertEquals("a", blockRegistry.get(BlockRegistry.MAX_ID).getName());
+        // all ids are in use
+        assertThrows(IllegalStateException.class, () -> blockRegistry.register(Block.create("b", TypeIds.GRASS)));
+        assertNull(blockRegistry.get("b"));
+    }
+
     @AfterAll
     public static void testClear() {
         BlockRegistry blockRegistry = BlocksConfig.getInstance().getBlockRegistry();
@@ -6,6 +6,7 @@ import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 /**
@@ -41,6 +42,16 @@ public class BlocksConfigTest {
         assertThrows(IllegalArgumentException.class, () -> BlocksConfig.getInstance().setBlockScale(0));
     }
 
+    @Test
+    public void testSectionSize() {
+        assertNull(BlocksConfig.getInstance().getSectionSize());
+        BlocksConfig.getInstance().setSectionSize(new Vec3i(16, 16, 16));
+        assertEquals(new Vec3i(16, 16, 16), BlocksConfig.getInstance().getSectionSize());
+        BlocksConfig.getInstance().setSectionSize(null);
+        assertNull(BlocksConfig.getInstance().getSectionSize());
+        assertThrows(IllegalArgumentException.class, () -> BlocksConfig.getInstance().setSectionSize(new Vec3i(16, 0, 16)));
+    }
+
     @Test
     public void testValidGridSize() {
         BlocksConfig.getInstance().setGrid(new Vec3i(11, 11, 11));
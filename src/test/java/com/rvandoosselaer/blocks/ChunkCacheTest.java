@@ -7,6 +7,9 @@ import com.simsilica.mathd.Vec3i;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Optional;
 import java.util.stream.IntStream;
 
@@ -113,7 +116,30 @@ public class ChunkCacheTest {
     }
 
     @Test
-    public void testChunkCleanupIsTriggeredWhenEvictingFromCache() throws InterruptedException {
+    public void testRemovalHandler() {
+        ChunkCache cache = new ChunkCache(1);
+        List<Chunk> removed = new ArrayList<>();
+        cache.setRemovalHandler(chunk -> {
+            assertNotNull(chunk.getBlocks());
+            removed.add(chunk);
+        });
+        Chunk first = Chunk.createAt(new Vec3i(0, 0, 0));
+        Chunk second = Chunk.createAt(new Vec3i(1, 0, 0));
+        cache.put(first);
+        cache.put(second);
+        cache.maintain();
+        assertEquals(1, removed.size());
+
+        cache.evictAll();
+
+        assertEquals(2, removed.size());
+        assertTrue(removed.containsAll(Arrays.asList(first, second)));
+        assertNull(first.getBlocks());
+        assertNull(second.getBlocks());
+    }
+
+    @Test
+    public void testChunkCleanupIsTriggeredWhenEvictingFromCache() {
         ChunkCache cache = new ChunkCache();
         Chunk chunk = Chunk.createAt(new Vec3i());
         chunk.setNode(new Node());
@@ -127,8 +153,6 @@ public class ChunkCacheTest {
 
         cache.evict(chunk.getLocation());
 
-        Thread.sleep(500);
-
         assertNull(chunk.getBlocks());
         assertNull(chunk.getNode());
         assertNull(chunk.getCollisionMesh());
@@ -0,0 +1,162 @@
+package com.rvandoosselaer.blocks;
+
+import com.jme3.asset.DesktopAssetManager;
+import com.simsilica.mathd.Vec3i;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.Deflater;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author rvandoosselaer
+ */
+public class ChunkCompressionsTest {
+
+    @BeforeAll
+    public static void setUp() {
+        BlocksConfig.initialize(new DesktopAssetManager(true));
+    }
+
+    @Test
+    public void testDeflate() throws IOException {
+        byte[] data = new byte[10000];
+        Random random = new Random(1);
+        for (int i = 0; i < data.length; i++) {
+            data[i] = (byte) random.nextInt(4);
+        }
+
+        ChunkCompression fast = ChunkCompressions.deflate(Deflater.BEST_SPEED);
+        ChunkCompression best = ChunkCompressions.deflate(Deflater.BEST_COMPRESSION);
+        byte[] fastCompressed = fast.compress(data);
+        byte[] bestCompressed = best.compress(data);
+
+        assertEquals(ChunkCompressions.DEFLATE_ID, fast.getId());
+        assertTrue(fastCompressed.length < data.length / 2);
+        assertTrue(bestCompressed.length <= fastCompressed.length);
+        // the level is only used when compressing
+        assertArrayEquals(data, best.decompress(ByteBuffer.wrap(fastCompressed), data.length));
+        assertArrayEquals(data, fast.decompress(ByteBuffer.wrap(bestCompressed), data.length));
+
+        ByteBuffer direct = ByteBuffer.allocateDirect(bestCompressed.length);
+        direct.put(bestCompressed).flip();
+        assertArrayEquals(data, fast.decompress(direct, data.length));
+    }
+
+    @Test
+    public void testDeflateInvalidData() {
+        ChunkCompression deflate = ChunkCompressions.deflate();
+        byte[] compressed = deflate.compress(new byte[1000]);
+
+        assertThrows(IOException.class, () -> deflate.decompress(ByteBuffer.wrap(compressed), 999));
+        assertThrows(IOException.class, () -> deflate.decompress(ByteBuffer.wrap(compressed), 1001));
+        assertThrows(IOException.class, () -> deflate.decompress(ByteBuffer.wrap(Arrays.copyOf(compressed, compressed.length / 2)), 1000));
+        assertThrows(IOException.class, () -> deflate.decompress(ByteBuffer.wrap(new byte[]{1, 2, 3, 4}), 1000));
+        assertThrows(IOException.class, () -> deflate.decompress(ByteBuffer.wrap(compressed), -1));
+    }
+
+    @Test
+    public void testInvalidLength() {
+        Chunk chunk = Chunk.createAt(new Vec3i(0, 0, 0));
+        chunk.addBlock(0, 0, 0, BlocksConfig.getInstance().getBlockRegistry().get(BlockIds.GRASS));
+        byte[] compressed = ChunkFormat.write(chunk, ChunkCompressions.deflate());
+
+        // the length in the header is corrupt, the chunk is rejected before the buffer is allocated
+        for (int length : new int[]{-1, 0, ChunkFormat.getMaxSize() + 1, Integer.MAX_VALUE}) {
+            ByteBuffer.wrap(compressed).putInt(5, length);
+            assertThrows(IOException.class, () -> ChunkFormat.read(compressed));
+        }
+    }
+
+    @Test
+    public void testInvalidLevel() {
+        assertThrows(IllegalArgumentException.class, () -> ChunkCompressions.deflate(10));
+        assertThrows(IllegalArgumentException.class, () -> ChunkCompressions.deflate(-2));
+    }
+
+    @Test
+    public void testCompressedChunk() throws IOException {
+        Chunk chunk = Chunk.createAt(new Vec3i(1, 2, 3));
+        chunk.addBlock(1, 2, 3, BlocksConfig.getInstance().getBlockRegistry().get(BlockIds.GRASS));
+
+        byte[] compressed = ChunkFormat.write(chunk, ChunkCompressions.deflate());
+        assertTrue(ChunkFormat.isCompressed(ByteBuffer.wrap(compressed)));
+        assertFalse(ChunkFormat.isCompressed(ByteBuffer.wrap(ChunkFormat.write(chunk, null))));
+
+        Chunk read = ChunkFormat.read(compressed);
+        assertEquals(chunk.getLocation(), read.getLocation());
+        assertArrayEquals(chunk.getBlocks(), read.getBlocks());
+    }
+
+    @Test
+    public void testCustomCodec() throws IOException {
+        AtomicInteger decompressed = new AtomicInteger();
+        ChunkCompression reverse = new ChunkCompression() {
+            @Override
+            public int getId() {
+                return 200;
+            }
+
+            @Override
+            public byte[] compress(byte[] data) {
+                byte[] result = new byte[data.length];
+                for (int i = 0; i < data.length; i++) {
+                    result[i] = data[data.length - 1 - i];
+                }
+                return result;
+            }
+
+            @Override
+            public byte[] decompress(ByteBuffer data, int length) {
+                decompressed.incrementAndGet();
+                byte[] compressed = new byte[data.remaining()];
+                data.get(compressed);
+                return compress(compressed);
+            }
+        };
+        Chunk chunk = Chunk.createAt(new Vec3i(0, 0, 0));
+        chunk.addBlock(0, 0, 0, BlocksConfig.getInstance().getBlockRegistry().get(BlockIds.GRASS));
+        byte[] compressed = ChunkFormat.write(chunk, reverse);
+
+        assertNull(ChunkCompressions.get(200));
+        assertThrows(IOException.class, () -> ChunkFormat.read(compressed));
+
+        ChunkCompressions.register(reverse);
+        assertArrayEquals(chunk.getBlocks(), ChunkFormat.read(compressed).getBlocks());
+        assertEquals(1, decompressed.get());
+    }
+
+    @Test
+    public void testInvalidCodecId() {
+        ChunkCompression compression = new ChunkCompression() {
+            @Override
+            public int getId() {
+                return 256;
+            }
+
+            @Override
+            public byte[] compress(byte[] data) {
+                return data;
+            }
+
+            @Override
+            public byte[] decompress(ByteBuffer data, int length) {
+                return null;
+            }
+        };
+
+        assertThrows(IllegalArgumentException.class, () -> ChunkCompressions.register(compression));
+    }
+
+}
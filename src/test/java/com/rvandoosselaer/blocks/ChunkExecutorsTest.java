@@ -0,0 +1,93 @@
+package com.rvandoosselaer.blocks;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author rvandoosselaer
+ */
+public class ChunkExecutorsTest {
+
+    @Test
+    public void testFixedThreadPools() {
+        ChunkExecutorStrategy strategy = ChunkExecutors.fixedThreadPools();
+        Executor loading = strategy.createExecutor(ChunkExecutorStrategy.Stage.LOADING, 1);
+        Executor meshing = strategy.createExecutor(ChunkExecutorStrategy.Stage.MESH_GENERATION, 2);
+        assertNotSame(loading, meshing);
+
+        assertEquals("chunk-repository-0", CompletableFuture.supplyAsync(() -> Thread.currentThread().getName(), loading).join());
+        assertEquals("chunk-mesh-0", CompletableFuture.supplyAsync(() -> Thread.currentThread().getName(), meshing).join());
+
+        strategy.shutdown();
+        assertTrue(((ExecutorService) loading).isShutdown());
+        assertTrue(((ExecutorService) meshing).isShutdown());
+    }
+
+    @Test
+    public void testWorkStealing() {
+        ChunkExecutorStrategy strategy = ChunkExecutors.workStealing(2);
+        Executor loading = strategy.createExecutor(ChunkExecutorStrategy.Stage.LOADING, 1);
+        Executor generation = strategy.createExecutor(ChunkExecutorStrategy.Stage.GENERATION, 1);
+        Executor meshing = strategy.createExecutor(ChunkExecutorStrategy.Stage.MESH_GENERATION, 1);
+
+        // all stages share the same pool
+        assertSame(loading, generation);
+        assertSame(loading, meshing);
+        assertEquals(2, ((ForkJoinPool) meshing).getParallelism());
+        assertTrue(CompletableFuture.supplyAsync(() -> Thread.currentThread().getName(), meshing).join().startsWith("chunk-worker-"));
+
+        strategy.shutdown();
+        assertTrue(((ForkJoinPool) meshing).isShutdown());
+
+        // a new pool is created when the strategy is used again
+        Executor executor = strategy.createExecutor(ChunkExecutorStrategy.Stage.MESH_GENERATION, 1);
+        assertNotSame(meshing, executor);
+        strategy.shutdown();
+
+        assertThrows(IllegalArgumentException.class, () -> ChunkExecutors.workStealing(0));
+    }
+
+    @Test
+    public void testSuppliedExecutor() {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        ChunkExecutorStrategy strategy = ChunkExecutors.of(executor);
+        assertSame(executor, strategy.createExecutor(ChunkExecutorStrategy.Stage.LOADING, 1));
+        assertSame(executor, strategy.createExecutor(ChunkExecutorStrategy.Stage.GENERATION, 1));
+
+        // the executor of the caller isn't stopped
+        strategy.shutdown();
+        assertFalse(executor.isShutdown());
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testVirtualThreadLoading() {
+        ChunkExecutorStrategy strategy = ChunkExecutors.virtualThreadLoading(ChunkExecutors.fixedThreadPools());
+        Executor loading = strategy.createExecutor(ChunkExecutorStrategy.Stage.LOADING, 1);
+        Executor meshing = strategy.createExecutor(ChunkExecutorStrategy.Stage.MESH_GENERATION, 1);
+
+        assertEquals("chunk-mesh-0", CompletableFuture.supplyAsync(() -> Thread.currentThread().getName(), meshing).join());
+        // without virtual threads, the loading stage uses the executor of the other strategy
+        String loadingThread = CompletableFuture.supplyAsync(() -> Thread.currentThread().getName(), loading).join();
+        if (!ChunkExecutors.isVirtualThreadsSupported()) {
+            assertEquals("chunk-repository-0", loadingThread);
+        }
+
+        strategy.shutdown();
+        assertTrue(((ExecutorService) loading).isShutdown());
+        assertTrue(((ExecutorService) meshing).isShutdown());
+    }
+
+}
@@ -0,0 +1,140 @@
+package com.rvandoosselaer.blocks;
+
+import com.jme3.asset.DesktopAssetManager;
+import com.simsilica.mathd.Vec3i;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author rvandoosselaer
+ */
+public class ChunkFormatTest {
+
+    @BeforeAll
+    public static void setUp() {
+        BlocksConfig.initialize(new DesktopAssetManager(true));
+    }
+
+    @Test
+    public void testEmptyChunk() throws IOException {
+        Chunk chunk = Chunk.createAt(new Vec3i(-3, 0, 7));
+
+        byte[] data = ChunkFormat.write(chunk);
+        Chunk read = ChunkFormat.read(data);
+
+        assertEquals(new Vec3i(-3, 0, 7), read.getLocation());
+        assertTrue(read.isEmpty());
+        assertTrue(data.length < 32);
+    }
+
+    @Test
+    public void testUniformChunk() throws IOException {
+        Chunk chunk = Chunk.createAt(new Vec3i(0, -1, 0));
+        chunk.fill(BlocksConfig.getInstance().getBlockRegistry().get(BlockIds.ROCK));
+
+        Chunk read = ChunkFormat.read(ChunkFormat.write(chunk));
+
+        assertTrue(read.isUniform());
+        assertArrayEquals(chunk.getBlocks(), read.getBlocks());
+    }
+
+    @Test
+    public void testTerrainChunk() throws IOException {
+        BlockRegistry registry = BlocksConfig.getInstance().getBlockRegistry();
+        Vec3i chunkSize = BlocksConfig.getInstance().getChunkSize();
+        Chunk chunk = Chunk.createAt(new Vec3i(1, 2, 3));
+        for (int x = 0; x < chunkSize.x; x++) {
+            for (int z = 0; z < chunkSize.z; z++) {
+                int height = chunkSize.y / 2 + (x + z) % 5;
+                for (int y = 0; y <= height; y++) {
+                    chunk.addBlock(x, y, z, registry.get(y == height ? BlockIds.GRASS : y < height - 3 ? BlockIds.ROCK : BlockIds.DIRT));
+                }
+            }
+        }
+
+        byte[] data = ChunkFormat.write(chunk);
+        byte[] legacy = ChunkFormat.writeLegacy(chunk);
+        Chunk read = ChunkFormat.read(data);
+
+        assertEquals(chunk.getLocation(), read.getLocation());
+        assertArrayEquals(chunk.getBlocks(), read.getBlocks());
+        assertTrue(data.length * 10 < legacy.length);
+    }
+
+    @Test
+    public void testNoisyChunk() throws IOException {
+        // a random chunk with all registered blocks is stored bit-packed
+        List<Block> palette = new ArrayList<>(BlocksConfig.getInstance().getBlockRegistry().getAll());
+        palette.add(null);
+        Chunk chunk = Chunk.createAt(new Vec3i(0, 0, 0));
+        Block[] blocks = new Block[chunk.getBlocks().length];
+        Random random = new Random(1);
+        Arrays.setAll(blocks, i -> palette.get(random.nextInt(palette.size())));
+        chunk.setBlocks(blocks);
+
+        byte[] data = ChunkFormat.write(chunk);
+        Chunk read = ChunkFormat.read(data);
+
+        assertArrayEquals(blocks, read.getBlocks());
+        int bitsPerIndex = 32 - Integer.numberOfLeadingZeros(palette.size() - 1);
+        int paletteLength = palette.stream().filter(Objects::nonNull).mapToInt(block -> block.getName().length() + 2).sum();
+        assertTrue(data.length < blocks.length * bitsPerIndex / 8 + paletteLength + 64);
+        assertTrue(data.length <= ChunkFormat.getMaxSize());
+    }
+
+    @Test
+    public void testReadLegacyFormat() throws IOException {
+        Chunk chunk = Chunk.createAt(new Vec3i(4, 5, -6));
+        chunk.addBlock(1, 2, 3, BlocksConfig.getInstance().getBlockRegistry().get(BlockIds.GRASS));
+
+        byte[] legacy = ChunkFormat.writeLegacy(chunk);
+        assertFalse(ChunkFormat.isPaletteFormat(ByteBuffer.wrap(legacy)));
+        assertTrue(ChunkFormat.isPaletteFormat(ByteBuffer.wrap(ChunkFormat.write(chunk))));
+
+        Chunk read = ChunkFormat.read(legacy);
+        assertEquals(chunk.getLocation(), read.getLocation());
+        assertArrayEquals(chunk.getBlocks(), read.getBlocks());
+    }
+
+    @Test
+    public void testReadFromBufferPosition() throws IOException {
+        Chunk chunk = Chunk.createAt(new Vec3i(4, 5, -6));
+        chunk.addBlock(1, 2, 3, BlocksConfig.getInstance().getBlockRegistry().get(BlockIds.GRASS));
+        byte[] data = ChunkFormat.write(chunk);
+
+        ByteBuffer buffer = ByteBuffer.allocateDirect(data.length + 10);
+        buffer.position(5);
+        buffer.put(data);
+        buffer.position(5).limit(5 + data.length);
+
+        assertArrayEquals(chunk.getBlocks(), ChunkFormat.read(buffer.slice()).getBlocks());
+    }
+
+    @Test
+    public void testInvalidData() {
+        Chunk chunk = Chunk.createAt(new Vec3i(0, 0, 0));
+        chunk.addBlock(0, 0, 0, BlocksConfig.getInstance().getBlockRegistry().get(BlockIds.GRASS));
+        byte[] data = ChunkFormat.write(chunk);
+
+        assertThrows(IOException.class, () -> ChunkFormat.read(Arrays.copyOf(data, data.length - 1)));
+
+        byte[] version = data.clone();
+        version[4] = 2;
+        assertThrows(IOException.class, () -> ChunkFormat.read(version));
+    }
+
+}
@@ -1,23 +1,33 @@
 package com.rvandoosselaer.blocks;
 
+import com.google.common.util.concurrent.Uninterruptibles;
 import com.jme3.asset.DesktopAssetManager;
 import com.jme3.collision.CollisionResult;
 import com.jme3.math.Vector3f;
+import com.jme3.scene.Node;
+import com.jme3.scene.Spatial;
 import com.simsilica.mathd.Vec3i;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
+import org.mockito.AdditionalAnswers;
 import org.mockito.Mockito;
 import org.mockito.internal.verification.AtLeast;
 import org.mockito.internal.verification.AtMost;
 import org.mockito.internal.verification.Times;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
@@ -167,6 +177,334 @@ public class ChunkManagerTest {
         assertTrue(chunk.get().isEmpty());
     }
 
+    @Test
+    public void testUpdateHandlesMultipleItems() throws InterruptedException {
+        // a large time budget, so the test doesn't depend on the speed of the machine
+        ChunkManager chunkManager = ChunkManager.builder().meshPoolSize(2).updateTimeBudget(1000).build();
+        chunkManager.initialize();
+        for (int i = 0; i < 10; i++) {
+            chunkManager.requestChunk(new Vec3i(i, 0, 0));
+        }
+
+        chunkManager.update(); // creation is instant, all meshes are started
+        Thread.sleep(200);
+        chunkManager.update(); // meshes done
+
+        for (int i = 0; i < 10; i++) {
+            assertTrue(chunkManager.getChunk(new Vec3i(i, 0, 0)).isPresent());
+        }
+        chunkManager.cleanup();
+    }
+
+    @Test
+    public void testMaxItemsPerStage() throws InterruptedException {
+        ChunkManager chunkManager = ChunkManager.builder().maxItemsPerStage(1).build();
+        chunkManager.initialize();
+        assertEquals(ChunkManager.DEFAULT_UPDATE_TIME_BUDGET, chunkManager.getUpdateTimeBudget());
+        for (int i = 0; i < 3; i++) {
+            chunkManager.requestChunk(new Vec3i(i, 0, 0));
+        }
+
+        chunkManager.update(); // only one chunk is created and meshed
+        Thread.sleep(100);
+        chunkManager.update();
+
+        assertTrue(chunkManager.getChunk(new Vec3i(0, 0, 0)).isPresent());
+        assertFalse(chunkManager.getChunk(new Vec3i(2, 0, 0)).isPresent());
+        assertThrows(IllegalArgumentException.class, () -> chunkManager.setMaxItemsPerStage(0));
+        assertThrows(IllegalArgumentException.class, () -> chunkManager.setUpdateTimeBudget(-1));
+        chunkManager.cleanup();
+    }
+
+    @Test
+    public void testFocus() throws InterruptedException {
+        ChunkManager chunkManager = ChunkManager.builder().maxItemsPerStage(1).build();
+        chunkManager.initialize();
+        for (int i = 0; i < 3; i++) {
+            chunkManager.requestChunk(new Vec3i(i, 0, 0));
+        }
+        chunkManager.setFocus(new Vec3i(5, 0, 0));
+
+        chunkManager.update(); // only the chunk closest to the focus is created and meshed
+        Thread.sleep(100);
+        chunkManager.update();
+
+        assertEquals(new Vec3i(5, 0, 0), chunkManager.getFocus());
+        assertTrue(chunkManager.getChunk(new Vec3i(2, 0, 0)).isPresent());
+        assertFalse(chunkManager.getChunk(new Vec3i(0, 0, 0)).isPresent());
+        chunkManager.cleanup();
+    }
+
+    @Test
+    public void testRemoveChunkCancelsRunningTasks() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        ChunkGenerator generator = location -> {
+            Uninterruptibles.awaitUninterruptibly(latch);
+            return Chunk.createAt(location);
+        };
+        ChunkManagerListener listener = Mockito.mock(ChunkManagerListener.class);
+        ChunkManager chunkManager = ChunkManager.builder().generator(generator).build();
+        chunkManager.addListener(listener);
+        chunkManager.initialize();
+
+        chunkManager.requestChunk(new Vec3i(0, 0, 0));
+        chunkManager.update(); // generation started
+        Thread.sleep(50);
+        chunkManager.removeChunk(Chunk.createAt(new Vec3i(0, 0, 0)));
+        latch.countDown();
+        Thread.sleep(50);
+        chunkManager.update(); // generation result is discarded
+        Thread.sleep(50);
+        chunkManager.update();
+
+        assertFalse(chunkManager.getChunk(new Vec3i(0, 0, 0)).isPresent());
+        Mockito.verify(listener, new Times(0)).onChunkAvailable(Mockito.any());
+        ChunkManager.Statistics statistics = chunkManager.getStatistics();
+        assertEquals(1, statistics.getStartedTasks());
+        assertEquals(1, statistics.getCancelledTasks());
+        assertEquals(0, statistics.getFinishedTasks());
+        assertEquals(0, statistics.getRunningTasks());
+        assertTrue(statistics.getWastedTime() > 0);
+        chunkManager.cleanup();
+    }
+
+    @Test
+    public void testCancelChunkRequestDiscardsFinishedTasks() throws InterruptedException {
+        CountDownLatch generated = new CountDownLatch(1);
+        ChunkGenerator generator = location -> {
+            generated.countDown();
+            return Chunk.createAt(location);
+        };
+        ChunkManager chunkManager = ChunkManager.builder().generator(generator).build();
+        chunkManager.initialize();
+
+        chunkManager.requestChunk(new Vec3i(0, 0, 0));
+        chunkManager.update(); // generation started
+        generated.await();
+        Thread.sleep(50);
+        chunkManager.cancelChunkRequest(new Vec3i(0, 0, 0));
+        chunkManager.update(); // generation result is discarded
+
+        assertFalse(chunkManager.getChunk(new Vec3i(0, 0, 0)).isPresent());
+        ChunkManager.Statistics statistics = chunkManager.getStatistics();
+        assertEquals(1, statistics.getStartedTasks());
+        assertEquals(0, statistics.getFinishedTasks());
+        assertEquals(0, statistics.getCancelledTasks());
+        assertEquals(1, statistics.getDiscardedTasks());
+        assertEquals(0, statistics.getRunningTasks());
+        chunkManager.cleanup();
+    }
+
+    @Test
+    public void testExecutorStrategy() throws InterruptedException {
+        ChunkExecutorStrategy strategy = Mockito.mock(ChunkExecutorStrategy.class, AdditionalAnswers.delegatesTo(ChunkExecutors.workStealing(2)));
+        ChunkManager chunkManager = ChunkManager.builder()
+                .generator(new FlatTerrainGenerator(0, BlocksConfig.getInstance().getBlockRegistry().get(BlockIds.GRASS)))
+                .executorStrategy(strategy)
+                .build();
+        assertSame(strategy, chunkManager.getExecutorStrategy());
+        chunkManager.initialize();
+        assertThrows(IllegalStateException.class, () -> chunkManager.setExecutorStrategy(ChunkExecutors.fixedThreadPools()));
+
+        chunkManager.requestChunk(new Vec3i(0, 0, 0));
+        updateChunkManager(5, chunkManager);
+        assertTrue(chunkManager.getChunk(new Vec3i(0, 0, 0)).isPresent());
+
+        Mockito.verify(strategy).createExecutor(ChunkExecutorStrategy.Stage.GENERATION, 1);
+        Mockito.verify(strategy).createExecutor(ChunkExecutorStrategy.Stage.MESH_GENERATION, 1);
+        chunkManager.cleanup();
+        Mockito.verify(strategy).shutdown();
+    }
+
+    @Test
+    public void testEvictedChunkTasksAreCancelled() {
+        List<Runnable> tasks = new ArrayList<>();
+        ChunkManager chunkManager = ChunkManager.builder()
+                .cacheSize(1)
+                .executorStrategy(ChunkExecutors.of(tasks::add))
+                .build();
+        chunkManager.initialize();
+
+        Chunk first = Chunk.createAt(new Vec3i(0, 0, 0));
+        chunkManager.setChunk(first);
+        chunkManager.requestChunkMeshUpdate(first);
+        chunkManager.update();
+        assertEquals(1, tasks.size());
+
+        // the first chunk is evicted by the cache while its mesh is constructed
+        Chunk second = Chunk.createAt(new Vec3i(1, 0, 0));
+        chunkManager.setChunk(second);
+        assertFalse(chunkManager.getChunk(new Vec3i(0, 0, 0)).isPresent());
+        assertNull(first.getLocation());
+        assertEquals(1, chunkManager.getStatistics().getCancelledTasks());
+
+        tasks.forEach(Runnable::run);
+        chunkManager.update();
+
+        assertFalse(chunkManager.getChunk(new Vec3i(0, 0, 0)).isPresent());
+        assertSame(second, chunkManager.getChunk(new Vec3i(1, 0, 0)).orElse(null));
+        assertEquals(0, chunkManager.getStatistics().getRunningTasks());
+
+        chunkManager.cleanup();
+    }
+
+    @Test
+    public void testReplacedChunkTaskIsDiscarded() {
+        List<Runnable> tasks = new ArrayList<>();
+        ChunkManager chunkManager = ChunkManager.builder()
+                .executorStrategy(ChunkExecutors.of(tasks::add))
+                .build();
+        chunkManager.initialize();
+
+        // the mesh of a chunk that isn't cached yet is constructed
+        Chunk first = Chunk.createAt(new Vec3i(0, 0, 0));
+        chunkManager.requestChunkMeshUpdate(first);
+        chunkManager.update();
+        assertEquals(1, tasks.size());
+
+        // another chunk is set at the same location while the mesh is constructed
+        Chunk second = Chunk.createAt(new Vec3i(0, 0, 0));
+        chunkManager.setChunk(second);
+        tasks.forEach(Runnable::run);
+        chunkManager.update();
+
+        assertSame(second, chunkManager.getChunk(new Vec3i(0, 0, 0)).orElse(null));
+        assertNull(first.getNode());
+        assertEquals(1, chunkManager.getStatistics().getDiscardedTasks());
+
+        chunkManager.cleanup();
+    }
+
+    @Test
+    public void testSaveChangedChunks() throws InterruptedException {
+        ChunkSaveQueueTest.MemoryRepository repository = new ChunkSaveQueueTest.MemoryRepository();
+        ChunkSaveQueue saveQueue = ChunkSaveQueue.builder().repository(repository).saveDelay(60_000).build();
+        ChunkManager chunkManager = ChunkManager.builder()
+                .generator(new FlatTerrainGenerator(0, BlocksConfig.getInstance().getBlockRegistry().get(BlockIds.GRASS)))
+                .saveQueue(saveQueue)
+                .build();
+        assertSame(saveQueue, chunkManager.getSaveQueue());
+        chunkManager.initialize();
+        assertThrows(IllegalStateException.class, () -> chunkManager.setSaveQueue(null));
+
+        // generated chunks are not saved
+        chunkManager.requestChunk(new Vec3i(0, 0, 0));
+        chunkManager.requestChunk(new Vec3i(1, 0, 0));
+        chunkManager.requestChunk(new Vec3i(2, 0, 0));
+        updateChunkManager(5, chunkManager);
+        assertEquals(0, saveQueue.getPendingCount());
+
+        // a changed chunk is queued when its mesh is updated, repeated changes are coalesced
+        Block rock = BlocksConfig.getInstance().getBlockRegistry().get(BlockIds.ROCK);
+        chunkManager.addBlock(new Vector3f(0.5f, 1.5f, 0.5f), rock);
+        updateChunkManager(2, chunkManager);
+        assertEquals(1, saveQueue.getPendingCount());
+        chunkManager.addBlock(new Vector3f(1.5f, 1.5f, 0.5f), rock);
+        updateChunkManager(2, chunkManager);
+        assertEquals(1, saveQueue.getPendingCount());
+        assertEquals(0, repository.saves.get());
+
+        // a changed chunk without a mesh update is saved when it is removed
+        Vec3i chunkSize = BlocksConfig.getInstance().getChunkSize();
+        chunkManager.getChunk(new Vec3i(1, 0, 0)).get().addBlock(0, 1, 0, rock);
+        chunkManager.removeChunk(new Vec3i(1, 0, 0));
+        assertEquals(2, saveQueue.getPendingCount());
+
+        // the cleanup saves the changed chunks and waits until they are written
+        chunkManager.getChunk(new Vec3i(2, 0, 0)).get().addBlock(0, 1, 0, rock);
+        chunkManager.cleanup();
+        assertEquals(3, repository.saves.get());
+        assertEquals(0, saveQueue.getPendingCount());
+        assertEquals(rock, repository.load(new Vec3i(0, 0, 0)).getBlock(1, 1, 0));
+        assertEquals(rock, repository.load(new Vec3i(1, 0, 0)).getBlock(0, 1, 0));
+        assertEquals(rock, repository.load(new Vec3i(2, 0, 0)).getBlock(0, 1, 0));
+        assertEquals(chunkSize.x * chunkSize.z + 2, repository.load(new Vec3i(0, 0, 0)).getBlockCount());
+    }
+
+    @Test
+    public void testSectionedMeshUpdate() throws InterruptedException {
+        BlocksConfig.getInstance().setSectionSize(new Vec3i(16, 16, 16));
+        ChunkManagerListener listener = Mockito.mock(ChunkManagerListener.class);
+        ChunkManager chunkManager = new ChunkManager();
+        chunkManager.initialize();
+        Chunk chunk = Chunk.createAt(new Vec3i(0, 0, 0));
+        chunkManager.setChunk(chunk);
+        chunkManager.addListener(listener);
+
+        chunkManager.requestChunkMeshUpdate(chunk);
+        updateChunkManager(2, chunkManager);
+        Node node = chunk.getNode();
+        assertEquals(8, node.getQuantity());
+        Spatial otherSection = node.getChild("Section - " + new Vec3i(1, 1, 1));
+
+        // the changed section is replaced in the node of the chunk, the node and the other sections are kept
+        chunkManager.addBlock(new Vector3f(0.5f, 0.5f, 0.5f), BlocksConfig.getInstance().getBlockRegistry().get(BlockIds.GRASS));
+        updateChunkManager(2, chunkManager);
+
+        Mockito.verify(listener, new Times(2)).onChunkUpdated(chunk);
+        assertSame(node, chunk.getNode());
+        assertEquals(8, node.getQuantity());
+        assertSame(otherSection, node.getChild("Section - " + new Vec3i(1, 1, 1)));
+        assertEquals(1, ((Node) node.getChild("Section - " + new Vec3i(0, 0, 0))).getQuantity());
+        chunkManager.cleanup();
+    }
+
+    @Test
+    public void testApplyEdits() throws InterruptedException {
+        Vec3i chunkSize = BlocksConfig.getInstance().getChunkSize();
+        Block grass = BlocksConfig.getInstance().getBlockRegistry().get(BlockIds.GRASS);
+        ChunkManagerListener listener = Mockito.mock(ChunkManagerListener.class);
+        // a large time budget, so both meshes are started in the same update
+        ChunkManager chunkManager = ChunkManager.builder().updateTimeBudget(1000).build();
+        chunkManager.initialize();
+        Chunk chunk = Chunk.createAt(new Vec3i(0, 0, 0));
+        Chunk eastNeighbour = Chunk.createAt(new Vec3i(1, 0, 0));
+        Chunk upNeighbour = Chunk.createAt(new Vec3i(0, 1, 0));
+        chunkManager.setChunk(chunk);
+        chunkManager.setChunk(eastNeighbour);
+        chunkManager.setChunk(upNeighbour);
+        chunkManager.addListener(listener);
+
+        int changed = chunkManager.applyEdits(Arrays.asList(
+                BlockEdit.add(new Vec3i(1, 1, 1), grass),
+                BlockEdit.add(new Vec3i(2, 1, 1), grass),
+                BlockEdit.add(new Vec3i(chunkSize.x - 1, 1, 1), grass), // on the border with the east neighbour
+                BlockEdit.remove(new Vec3i(3, 1, 1)), // no block to remove
+                BlockEdit.add(new Vec3i(-1, 1, 1), grass))); // chunk not available
+        chunkManager.update();
+        Thread.sleep(200);
+        chunkManager.update();
+
+        assertEquals(3, changed);
+        assertEquals(grass, chunk.getBlock(chunkSize.x - 1, 1, 1));
+        assertNull(chunk.getBlock(3, 1, 1));
+        Mockito.verify(listener, new Times(1)).onChunkUpdated(chunk);
+        Mockito.verify(listener, new Times(1)).onChunkUpdated(eastNeighbour);
+        Mockito.verify(listener, new Times(0)).onChunkUpdated(upNeighbour);
+        chunkManager.cleanup();
+    }
+
+    @Test
+    public void testCancelChunkRequest() throws InterruptedException {
+        ChunkManager chunkManager = new ChunkManager();
+        chunkManager.initialize();
+
+        // a chunk requested twice, is only dropped when both requests are cancelled
+        chunkManager.requestChunk(new Vec3i(0, 0, 0));
+        chunkManager.requestChunk(new Vec3i(0, 0, 0));
+        chunkManager.requestChunk(new Vec3i(1, 0, 0));
+        chunkManager.cancelChunkRequest(new Vec3i(0, 0, 0));
+        chunkManager.cancelChunkRequest(new Vec3i(1, 0, 0));
+
+        chunkManager.update();
+        Thread.sleep(50);
+        chunkManager.update();
+
+        assertTrue(chunkManager.getChunk(new Vec3i(0, 0, 0)).isPresent());
+        assertFalse(chunkManager.getChunk(new Vec3i(1, 0, 0)).isPresent());
+        chunkManager.cleanup();
+    }
+
     @Test
     public void testSetChunk() throws InterruptedException {
         ChunkManager chunkManager = new ChunkManager();
@@ -427,7 +765,9 @@ public class ChunkManagerTest {
 
         Mockito.reset(listener);
 
-        chunkManager.addBlock(new Vector3f(0, 0, 0), BlocksConfig.getInstance().getBlockRegistry().get(BlockIds.GRASS));
+        // a block on the east and south border of the chunk only triggers the neighbours sharing those borders
+        Vec3i chunkSize = BlocksConfig.getInstance().getChunkSize();
+        chunkManager.addBlock(new Vector3f(chunkSize.x - 1, 0, chunkSize.z - 1), BlocksConfig.getInstance().getBlockRegistry().get(BlockIds.GRASS));
 
         updateChunkManager(3, chunkManager);
 
@@ -442,6 +782,43 @@ public class ChunkManagerTest {
         Mockito.verify(listener, new Times(0)).onChunkUpdated(chunkManager.getChunk(new Vec3i(2, 0, 2)).get());
     }
 
+    @Test
+    public void testAdjacentChunkUpdatesStopWhenChunksDontChange() throws InterruptedException {
+        Vec3i chunkSize = BlocksConfig.getInstance().getChunkSize();
+        ChunkManager chunkManager = new ChunkManager();
+        chunkManager.setTriggerAdjacentChunkUpdates(true);
+        ChunkManagerListener listener = Mockito.mock(ChunkManagerListener.class);
+        chunkManager.addListener(listener);
+        chunkManager.initialize();
+
+        chunkManager.requestChunk(new Vec3i(0, 0, 0));
+        chunkManager.requestChunk(new Vec3i(1, 0, 0));
+        updateChunkManager(10, chunkManager);
+        Chunk chunk = chunkManager.getChunk(new Vec3i(0, 0, 0)).get();
+        Chunk neighbour = chunkManager.getChunk(new Vec3i(1, 0, 0)).get();
+
+        // the mesh of each chunk is constructed with the current version of the shared border of the other chunk
+        assertEquals(neighbour.getBorderVersion(Direction.WEST), chunk.getMeshNeighbourVersion(Direction.EAST));
+        assertEquals(chunk.getBorderVersion(Direction.EAST), neighbour.getMeshNeighbourVersion(Direction.WEST));
+
+        // a block inside the chunk doesn't trigger a mesh update of the neighbour
+        Mockito.clearInvocations(listener);
+        chunkManager.addBlock(new Vector3f(1.5f, 1.5f, 1.5f), BlocksConfig.getInstance().getBlockRegistry().get(BlockIds.DIRT));
+        updateChunkManager(10, chunkManager);
+
+        Mockito.verify(listener, new Times(1)).onChunkUpdated(chunk);
+        Mockito.verify(listener, Mockito.never()).onChunkUpdated(neighbour);
+
+        // a changed chunk triggers a single mesh update of the neighbour, the neighbour doesn't trigger the chunk again
+        Mockito.clearInvocations(listener);
+        chunkManager.addBlock(new Vector3f(chunkSize.x - 0.5f, 0.5f, 0.5f), BlocksConfig.getInstance().getBlockRegistry().get(BlockIds.DIRT));
+        updateChunkManager(10, chunkManager);
+
+        Mockito.verify(listener, new Times(1)).onChunkUpdated(chunk);
+        Mockito.verify(listener, new Times(1)).onChunkUpdated(neighbour);
+        chunkManager.cleanup();
+    }
+
     private void updateChunkManager(int times, ChunkManager chunkManager) throws InterruptedException {
         for (int i = 0; i < times; i++) {
             chunkManager.update();
@@ -0,0 +1,115 @@
+package com.rvandoosselaer.blocks;
+
+import com.jme3.asset.DesktopAssetManager;
+import com.simsilica.mathd.Vec3i;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author rvandoosselaer
+ */
+public class ChunkMeshPoolTest {
+
+    @BeforeEach
+    public void setUp() {
+        BlocksConfig.initialize(new DesktopAssetManager(true));
+        ChunkMeshPool.get().clear();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        ChunkMeshPool.get().clear();
+    }
+
+    @Test
+    public void testReuseChunkMesh() {
+        ChunkMeshPool pool = ChunkMeshPool.get();
+        ChunkMesh chunkMesh = pool.acquire(false);
+        chunkMesh.addPosition(1, 2, 3);
+        pool.release(chunkMesh);
+
+        // the released chunk mesh is cleared and reused
+        ChunkMesh reused = pool.acquire(false);
+        assertSame(chunkMesh, reused);
+        assertEquals(0, reused.getVertexCount());
+
+        // collision meshes are pooled separately
+        ChunkMesh collisionMesh = pool.acquire(true);
+        assertNotSame(chunkMesh, collisionMesh);
+        assertTrue(collisionMesh.isCollisionMesh());
+        assertFalse(reused.isCollisionMesh());
+    }
+
+    @Test
+    public void testPoolSize() {
+        BlocksConfig.getInstance().setChunkMeshPoolSize(1);
+        ChunkMeshPool pool = ChunkMeshPool.get();
+        long pooledBefore = ChunkMeshPool.getStatistics().getPooled();
+
+        ChunkMesh first = pool.acquire(false);
+        ChunkMesh second = pool.acquire(false);
+        pool.release(first);
+        pool.release(second);
+
+        // only 1 chunk mesh is kept
+        assertEquals(pooledBefore + 1, ChunkMeshPool.getStatistics().getPooled());
+        assertSame(first, pool.acquire(false));
+        assertNotSame(second, pool.acquire(false));
+    }
+
+    @Test
+    public void testMeshMap() {
+        ChunkMeshPool pool = ChunkMeshPool.get();
+        Map<String, ChunkMesh> meshMap = pool.acquireMeshMap();
+        // a nested request gets a different map
+        Map<String, ChunkMesh> nestedMeshMap = pool.acquireMeshMap();
+        assertNotSame(meshMap, nestedMeshMap);
+
+        ChunkMesh chunkMesh = pool.acquire(false);
+        meshMap.put(TypeIds.DIRT, chunkMesh);
+        pool.releaseMeshMap(nestedMeshMap);
+        pool.releaseMeshMap(meshMap);
+
+        assertTrue(meshMap.isEmpty());
+        assertSame(meshMap, pool.acquireMeshMap());
+        assertSame(chunkMesh, pool.acquire(false));
+    }
+
+    @Test
+    public void testStatistics() throws Exception {
+        BlockRegistry blockRegistry = BlocksConfig.getInstance().getBlockRegistry();
+        Chunk chunk = Chunk.createAt(new Vec3i(0, 0, 0));
+        chunk.addBlock(0, 0, 0, blockRegistry.get(BlockIds.DIRT));
+        chunk.addBlock(0, 1, 0, blockRegistry.get(BlockIds.SAND));
+
+        // mesh the chunk a few times on another thread
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        ChunkMeshGenerator meshGenerator = new FacesMeshGenerator();
+        ChunkMeshPool.Statistics before = ChunkMeshPool.getStatistics();
+        for (int i = 0; i < 3; i++) {
+            executorService.submit(() -> meshGenerator.createAndSetNodeAndCollisionMesh(chunk)).get();
+        }
+        executorService.shutdown();
+        ChunkMeshPool.Statistics after = ChunkMeshPool.getStatistics();
+
+        // 2 render meshes and a collision mesh are created once and reused afterwards
+        assertEquals(before.getThreads() + 1, after.getThreads());
+        assertEquals(before.getCreated() + 3, after.getCreated());
+        assertEquals(before.getReused() + 6, after.getReused());
+        assertEquals(before.getPooled() + 3, after.getPooled());
+        assertTrue(after.getHighWaterMark() >= 3);
+        assertTrue(after.getPooledBytes() > 0);
+    }
+
+}
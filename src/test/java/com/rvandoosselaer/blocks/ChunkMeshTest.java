@@ -0,0 +1,103 @@
+package com.rvandoosselaer.blocks;
+
+import com.jme3.math.FastMath;
+import com.jme3.math.Quaternion;
+import com.jme3.math.Vector3f;
+import com.jme3.scene.Mesh;
+import com.jme3.scene.VertexBuffer;
+import com.simsilica.mathd.Vec3i;
+import org.junit.jupiter.api.Test;
+
+import java.nio.FloatBuffer;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * @author rvandoosselaer
+ */
+public class ChunkMeshTest {
+
+    @Test
+    public void testGenerateMesh() {
+        ChunkMesh chunkMesh = new ChunkMesh();
+        // add more vertices then the initial capacity
+        for (int i = 0; i < 100; i++) {
+            int offset = chunkMesh.getVertexCount();
+            chunkMesh.addPosition(i, 0, 0);
+            chunkMesh.addPosition(i, 1, 0);
+            chunkMesh.addPosition(i, 0, 1);
+            chunkMesh.addIndex(offset);
+            chunkMesh.addIndex(offset + 1);
+            chunkMesh.addIndex(offset + 2);
+            for (int j = 0; j < 3; j++) {
+                chunkMesh.addNormal(0, 1, 0);
+                chunkMesh.addTangent(1, 0, 0, 1);
+                chunkMesh.addUv(0, 1);
+            }
+        }
+
+        Mesh mesh = chunkMesh.generateMesh();
+        assertEquals(300, mesh.getVertexCount());
+        assertEquals(100, mesh.getTriangleCount());
+        assertEquals(300, mesh.getBuffer(VertexBuffer.Type.Normal).getNumElements());
+        assertEquals(300, mesh.getBuffer(VertexBuffer.Type.Tangent).getNumElements());
+        assertEquals(300, mesh.getBuffer(VertexBuffer.Type.TexCoord).getNumElements());
+
+        FloatBuffer positions = (FloatBuffer) mesh.getBuffer(VertexBuffer.Type.Position).getData();
+        assertEquals(99f, positions.get(297 * 3));
+
+        // the chunk mesh can be reused after a clear
+        chunkMesh.clear();
+        assertEquals(0, chunkMesh.getVertexCount());
+        assertEquals(0, chunkMesh.getIndexCount());
+        chunkMesh.addPosition(1, 2, 3);
+        assertEquals(1, chunkMesh.generateMesh().getVertexCount());
+    }
+
+    @Test
+    public void testCollisionMesh() {
+        ChunkMesh chunkMesh = new ChunkMesh(true);
+        chunkMesh.addPosition(0, 0, 0);
+        chunkMesh.addPosition(0, 1, 0);
+        chunkMesh.addPosition(1, 0, 0);
+        chunkMesh.addIndex(0);
+        chunkMesh.addIndex(1);
+        chunkMesh.addIndex(2);
+
+        Mesh mesh = chunkMesh.generateMesh();
+        assertEquals(1, mesh.getTriangleCount());
+        assertNull(mesh.getBuffer(VertexBuffer.Type.Normal));
+        assertNull(mesh.getBuffer(VertexBuffer.Type.TexCoord));
+    }
+
+    @Test
+    public void testAddRotatedPosition() {
+        Quaternion rotation = new Quaternion().fromAngleAxis(FastMath.HALF_PI, Vector3f.UNIT_Y);
+        Vec3i location = new Vec3i(2, 3, 4);
+        float blockScale = 0.5f;
+
+        ChunkMesh chunkMesh = new ChunkMesh();
+        chunkMesh.addPosition(rotation, 0.5f, -0.5f, 0.5f, location, blockScale);
+        chunkMesh.addNormal(rotation, 0, 0, 1);
+
+        Vector3f expectedPosition = Shape.createVertex(rotation.mult(new Vector3f(0.5f, -0.5f, 0.5f)), location, blockScale);
+        assertEquals(expectedPosition, chunkMesh.getPositions().get(0));
+        assertEquals(rotation.mult(new Vector3f(0, 0, 1)), chunkMesh.getNormals().get(0));
+    }
+
+    @Test
+    public void testDeprecatedListViews() {
+        ChunkMesh chunkMesh = new ChunkMesh();
+        List<Vector3f> positions = chunkMesh.getPositions();
+        positions.add(new Vector3f(1, 2, 3));
+        chunkMesh.getIndices().add(0);
+
+        assertEquals(1, chunkMesh.getVertexCount());
+        assertEquals(1, positions.size());
+        assertEquals(new Vector3f(1, 2, 3), positions.get(0));
+        assertEquals(1, chunkMesh.getIndexCount());
+    }
+
+}
@@ -0,0 +1,154 @@
+package com.rvandoosselaer.blocks;
+
+import com.jme3.asset.DesktopAssetManager;
+import com.simsilica.mathd.Vec3i;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.io.Flushable;
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author rvandoosselaer
+ */
+public class ChunkSaveQueueTest {
+
+    @BeforeAll
+    public static void setUp() {
+        BlocksConfig.initialize(new DesktopAssetManager(true));
+    }
+
+    @Test
+    public void testSaveCopiesChunk() throws IOException {
+        MemoryRepository repository = new MemoryRepository();
+        ChunkSaveQueue saveQueue = new ChunkSaveQueue(repository);
+        Block grass = BlocksConfig.getInstance().getBlockRegistry().get(BlockIds.GRASS);
+        Chunk chunk = Chunk.createAt(new Vec3i(1, 2, 3));
+        chunk.addBlock(0, 0, 0, grass);
+
+        saveQueue.save(chunk);
+        // changes after the save are not saved
+        chunk.addBlock(1, 0, 0, grass);
+        saveQueue.flush();
+
+        Chunk saved = repository.load(new Vec3i(1, 2, 3));
+        assertNotNull(saved.getBlock(0, 0, 0));
+        assertNull(saved.getBlock(1, 0, 0));
+        assertEquals(1, saveQueue.getSavedCount());
+        assertEquals(0, saveQueue.getPendingCount());
+    }
+
+    @Test
+    public void testCoalesceSaves() throws IOException {
+        MemoryRepository repository = new MemoryRepository();
+        ChunkSaveQueue saveQueue = ChunkSaveQueue.builder().repository(repository).saveDelay(60_000).build();
+        Block grass = BlocksConfig.getInstance().getBlockRegistry().get(BlockIds.GRASS);
+        Chunk chunk = Chunk.createAt(new Vec3i(0, 0, 0));
+
+        for (int x = 0; x < 5; x++) {
+            chunk.addBlock(x, 0, 0, grass);
+            saveQueue.save(chunk);
+        }
+        saveQueue.save(Chunk.createAt(new Vec3i(0, 1, 0)));
+        assertEquals(2, saveQueue.getPendingCount());
+        saveQueue.flush();
+
+        assertEquals(2, repository.saves.get());
+        assertEquals(2, saveQueue.getSavedCount());
+        assertEquals(4, saveQueue.getCoalescedCount());
+        assertEquals(5, repository.load(new Vec3i(0, 0, 0)).getBlockCount());
+    }
+
+    @Test
+    public void testSaveInBatches() throws InterruptedException {
+        MemoryRepository repository = new MemoryRepository();
+        ChunkSaveQueue saveQueue = ChunkSaveQueue.builder().repository(repository).saveDelay(0).batchSize(2).build();
+        assertEquals(0, saveQueue.getSaveDelay());
+
+        for (int i = 0; i < 5; i++) {
+            saveQueue.save(Chunk.createAt(new Vec3i(i, 0, 0)));
+        }
+        saveQueue.flush();
+
+        assertEquals(5, repository.saves.get());
+        // the repository is flushed after each batch
+        assertTrue(repository.flushes.get() >= 3);
+
+        // the queue is written without a flush
+        saveQueue.save(Chunk.createAt(new Vec3i(10, 0, 0)));
+        long timeout = System.currentTimeMillis() + 5000;
+        while (saveQueue.getSavedCount() < 6 && System.currentTimeMillis() < timeout) {
+            Thread.sleep(10);
+        }
+        assertEquals(6, saveQueue.getSavedCount());
+    }
+
+    @Test
+    public void testFailedSave() {
+        ChunkRepository repository = new ChunkRepository() {
+            @Override
+            public Chunk load(Vec3i location) {
+                return null;
+            }
+
+            @Override
+            public boolean save(Chunk chunk) {
+                if (chunk.getLocation().x == 0) {
+                    throw new IllegalStateException("Unable to save");
+                }
+                return chunk.getLocation().x != 1;
+            }
+        };
+        ChunkSaveQueue saveQueue = ChunkSaveQueue.builder().repository(repository).saveDelay(0).build();
+
+        for (int i = 0; i < 3; i++) {
+            saveQueue.save(Chunk.createAt(new Vec3i(i, 0, 0)));
+        }
+        saveQueue.flush();
+
+        assertEquals(1, saveQueue.getSavedCount());
+        assertEquals(2, saveQueue.getFailedCount());
+    }
+
+    /**
+     * A repository that stores the serialized chunks in memory.
+     */
+    static class MemoryRepository implements ChunkRepository, Flushable {
+
+        final Map<Vec3i, byte[]> chunks = new ConcurrentHashMap<>();
+        final AtomicInteger saves = new AtomicInteger();
+        final AtomicInteger flushes = new AtomicInteger();
+
+        @Override
+        public Chunk load(Vec3i location) {
+            try {
+                byte[] data = chunks.get(location);
+                return data != null ? ChunkFormat.read(data) : null;
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        @Override
+        public boolean save(Chunk chunk) {
+            chunks.put(chunk.getLocation(), ChunkFormat.write(chunk));
+            saves.incrementAndGet();
+            return true;
+        }
+
+        @Override
+        public void flush() {
+            flushes.incrementAndGet();
+        }
+
+    }
+
+}
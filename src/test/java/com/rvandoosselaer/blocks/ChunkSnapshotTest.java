@@ -0,0 +1,125 @@
+package com.rvandoosselaer.blocks;
+
+import com.jme3.asset.DesktopAssetManager;
+import com.jme3.scene.Node;
+import com.simsilica.mathd.Vec3i;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author rvandoosselaer
+ */
+public class ChunkSnapshotTest {
+
+    private Block dirt;
+    private Block grass;
+
+    @BeforeEach
+    public void setUp() {
+        BlocksConfig.initialize(new DesktopAssetManager(true));
+        BlocksConfig.getInstance().setChunkSize(new Vec3i(3, 3, 3));
+        dirt = BlocksConfig.getInstance().getBlockRegistry().get(BlockIds.DIRT);
+        grass = BlocksConfig.getInstance().getBlockRegistry().get(BlockIds.GRASS);
+    }
+
+    @Test
+    public void testSnapshotIsNotChanged() {
+        Chunk chunk = Chunk.createAt(new Vec3i(1, 2, 3));
+        chunk.addBlock(1, 1, 1, dirt);
+        ChunkSnapshot snapshot = ChunkSnapshot.create(chunk);
+
+        // changes to the chunk are not visible in the snapshot
+        chunk.addBlock(0, 0, 0, grass);
+        chunk.cleanup();
+        assertEquals(new Vec3i(1, 2, 3), snapshot.getLocation());
+        assertEquals(dirt, snapshot.getBlock(1, 1, 1));
+        assertNull(snapshot.getBlock(0, 0, 0));
+        assertEquals(1, snapshot.getBlockCount(dirt));
+        assertEquals(0, snapshot.getBlockCount(grass));
+
+        // the snapshot keeps the compact block storage of the chunk
+        assertTrue(snapshot.getBlockStorage() instanceof PaletteBlockStorage);
+
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.addBlock(0, 0, 0, grass));
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.removeBlock(new Vec3i(1, 1, 1)));
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.fill(grass));
+    }
+
+    @Test
+    public void testOutdatedMeshIsNotApplied() {
+        Chunk chunk = Chunk.createAt(new Vec3i(0, 0, 0));
+        chunk.addBlock(1, 1, 1, dirt);
+        ChunkSnapshot first = ChunkSnapshot.create(chunk);
+        first.setNode(new Node("first"));
+        chunk.addBlock(0, 0, 0, grass);
+        ChunkSnapshot second = ChunkSnapshot.create(chunk);
+        second.setNode(new Node("second"));
+
+        // the mesh of the second snapshot finishes first
+        assertTrue(chunk.applyMesh(second));
+        assertFalse(chunk.applyMesh(first));
+        assertEquals("second", chunk.getNode().getName());
+
+        ChunkSnapshot third = ChunkSnapshot.create(chunk);
+        third.setNode(new Node("third"));
+        assertTrue(chunk.applyMesh(third));
+        assertEquals("third", chunk.getNode().getName());
+    }
+
+    @Test
+    public void testNeighbourBorders() {
+        Map<Vec3i, Chunk> chunks = new HashMap<>();
+        Chunk chunk = Chunk.createAt(new Vec3i(0, 0, 0));
+        chunk.fill(dirt);
+        chunk.setChunkResolver(location -> Optional.ofNullable(chunks.get(location)));
+        Chunk east = Chunk.createAt(new Vec3i(1, 0, 0));
+        east.addBlock(0, 2, 1, grass);
+        chunks.put(east.getLocation(), east);
+        Chunk down = Chunk.createAt(new Vec3i(0, -1, 0));
+        down.fill(grass);
+        chunks.put(down.getLocation(), down);
+
+        ChunkSnapshot snapshot = ChunkSnapshot.create(chunk);
+        // the neighbours can change after the snapshot is taken
+        east.addBlock(0, 0, 0, grass);
+        chunks.clear();
+
+        assertEquals(grass, snapshot.getNeighbour(new Vec3i(2, 2, 1), Direction.EAST));
+        assertNull(snapshot.getNeighbour(new Vec3i(2, 0, 0), Direction.EAST));
+        assertEquals(grass, snapshot.getNeighbour(new Vec3i(1, 0, 2), Direction.DOWN));
+        assertEquals(dirt, snapshot.getNeighbour(new Vec3i(1, 0, 2), Direction.UP));
+        assertNull(snapshot.getNeighbour(new Vec3i(0, 1, 1), Direction.WEST));
+
+        // only the faces next to the empty neighbouring locations are visible
+        byte[] visibleFaces = snapshot.calculateVisibleFaces(null);
+        assertEquals(0, visibleFaces[13]);
+        assertTrue((visibleFaces[2 * 9] & 1 << Direction.EAST.ordinal()) != 0);
+        assertTrue((visibleFaces[2 * 9 + 2 * 3 + 1] & 1 << Direction.EAST.ordinal()) == 0);
+        assertTrue((visibleFaces[0] & 1 << Direction.DOWN.ordinal()) == 0);
+    }
+
+    @Test
+    public void testSameMeshAsChunk() {
+        Chunk chunk = Chunk.createAt(new Vec3i(0, 0, 0));
+        chunk.addBlock(0, 0, 0, dirt);
+        chunk.addBlock(1, 0, 0, grass);
+        chunk.addBlock(2, 2, 2, dirt);
+
+        FacesMeshGenerator meshGenerator = new FacesMeshGenerator();
+        ChunkSnapshot snapshot = ChunkSnapshot.create(chunk);
+        assertArrayEquals(chunk.calculateVisibleFaces(null), snapshot.calculateVisibleFaces(null));
+        assertEquals(meshGenerator.createCollisionMesh(chunk).getTriangleCount(), meshGenerator.createCollisionMesh(snapshot).getTriangleCount());
+    }
+
+}
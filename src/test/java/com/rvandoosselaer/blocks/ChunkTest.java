@@ -6,6 +6,13 @@ import com.simsilica.mathd.Vec3i;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
@@ -117,4 +124,271 @@ public class ChunkTest {
         assertTrue(chunk.isFull());
     }
 
+    @Test
+    public void testUniformChunk() {
+        BlockRegistry blockRegistry = BlocksConfig.getInstance().getBlockRegistry();
+        BlocksConfig.getInstance().setChunkSize(new Vec3i(3, 3, 3));
+
+        Chunk chunk = Chunk.createAt(new Vec3i());
+        assertTrue(chunk.isUniform());
+        assertTrue(chunk.isEmpty());
+        assertFalse(chunk.isFull());
+
+        // removing a block from an empty chunk keeps it uniform
+        assertNull(chunk.removeBlock(1, 1, 1));
+        assertTrue(chunk.isUniform());
+
+        chunk.fill(blockRegistry.get("grass"));
+        assertTrue(chunk.isUniform());
+        assertFalse(chunk.isEmpty());
+        assertTrue(chunk.isFull());
+        assertEquals(blockRegistry.get("grass"), chunk.getBlock(2, 2, 2));
+
+        // writing a different block inflates the storage
+        assertEquals(blockRegistry.get("grass"), chunk.addBlock(1, 1, 1, blockRegistry.get("dirt")));
+        assertFalse(chunk.isUniform());
+        assertEquals(blockRegistry.get("dirt"), chunk.getBlock(1, 1, 1));
+        assertEquals(blockRegistry.get("grass"), chunk.getBlock(1, 1, 2));
+
+        chunk = Chunk.createAt(new Vec3i(), blockRegistry.get("dirt"));
+        assertTrue(chunk.isFull());
+        assertEquals(blockRegistry.get("dirt"), chunk.getBlock(0, 0, 0));
+
+        // a uniform block array results in a uniform chunk
+        Block[] blocks = new Block[27];
+        Arrays.fill(blocks, blockRegistry.get("grass"));
+        chunk.setBlocks(blocks);
+        assertTrue(chunk.isUniform());
+        assertTrue(chunk.isFull());
+    }
+
+    @Test
+    public void testBlockCounts() {
+        BlockRegistry blockRegistry = BlocksConfig.getInstance().getBlockRegistry();
+        BlocksConfig.getInstance().setChunkSize(new Vec3i(3, 3, 3));
+        Block grass = blockRegistry.get(BlockIds.GRASS);
+        Block dirt = blockRegistry.get(BlockIds.DIRT);
+
+        Chunk chunk = Chunk.createAt(new Vec3i());
+        chunk.addBlock(0, 0, 0, grass);
+        chunk.addBlock(0, 0, 1, grass);
+        chunk.addBlock(0, 0, 2, dirt);
+
+        assertEquals(3, chunk.getBlockCount());
+        assertEquals(2, chunk.getBlockCount(grass));
+        assertEquals(1, chunk.getBlockCount(dirt));
+        assertEquals(24, chunk.getBlockCount(null));
+        assertEquals(2, chunk.getTypeCount(grass.getType()));
+        assertFalse(chunk.isEmpty());
+        assertFalse(chunk.isFull());
+
+        // replacing a block
+        chunk.addBlock(0, 0, 0, dirt);
+        assertEquals(3, chunk.getBlockCount());
+        assertEquals(1, chunk.getBlockCount(grass));
+        assertEquals(2, chunk.getBlockCount(dirt));
+
+        // removing all blocks results in an empty uniform chunk
+        chunk.removeBlock(0, 0, 0);
+        chunk.removeBlock(0, 0, 1);
+        chunk.removeBlock(0, 0, 2);
+        assertTrue(chunk.isEmpty());
+        assertTrue(chunk.isUniform());
+        assertEquals(0, chunk.getTypeCount(grass.getType()));
+
+        // a chunk holding one block at every location becomes uniform
+        chunk = Chunk.createAt(new Vec3i(), grass);
+        chunk.addBlock(1, 1, 1, dirt);
+        assertFalse(chunk.isUniform());
+        assertTrue(chunk.isFull());
+        chunk.addBlock(1, 1, 1, grass);
+        assertTrue(chunk.isUniform());
+        assertTrue(chunk.isFull());
+        assertEquals(27, chunk.getBlockCount(grass));
+    }
+
+    @Test
+    public void testSetAndGetBlocks() {
+        BlockRegistry blockRegistry = BlocksConfig.getInstance().getBlockRegistry();
+        BlocksConfig.getInstance().setChunkSize(new Vec3i(3, 3, 3));
+
+        Block[] blocks = new Block[27];
+        blocks[13] = blockRegistry.get("grass");
+        Chunk chunk = Chunk.createAt(new Vec3i());
+        chunk.setBlocks(blocks);
+
+        assertEquals(blockRegistry.get("grass"), chunk.getBlock(1, 1, 1));
+        assertArrayEquals(blocks, chunk.getBlocks());
+
+        // the returned array is a copy
+        chunk.getBlocks()[0] = blockRegistry.get("grass");
+        assertNull(chunk.getBlock(0, 0, 0));
+
+        chunk.cleanup();
+        assertNull(chunk.getBlocks());
+    }
+
+    @Test
+    public void testCalculateVisibleFaces() {
+        BlockRegistry blockRegistry = BlocksConfig.getInstance().getBlockRegistry();
+        Block[] palette = {null, blockRegistry.get(BlockIds.DIRT), blockRegistry.get(BlockIds.WATER), blockRegistry.get(BlockIds.OAK_LEAVES)};
+        BlocksConfig.getInstance().setChunkSize(new Vec3i(4, 5, 6));
+
+        // a chunk surrounded by neighbouring chunks, except in the down direction
+        Random random = new Random(42);
+        Map<Vec3i, Chunk> chunks = new HashMap<>();
+        for (Direction direction : Direction.values()) {
+            if (direction != Direction.DOWN) {
+                chunks.put(direction.getVector(), createRandomChunk(direction.getVector(), palette, random));
+            }
+        }
+        Chunk chunk = createRandomChunk(new Vec3i(0, 0, 0), palette, random);
+        chunk.setChunkResolver(location -> Optional.ofNullable(chunks.get(location)));
+
+        byte[] visibleFaces = chunk.calculateVisibleFaces(null);
+        Vec3i location = new Vec3i();
+        for (int x = 0; x < 4; x++) {
+            for (int y = 0; y < 5; y++) {
+                for (int z = 0; z < 6; z++) {
+                    location.set(x, y, z);
+                    byte expected = 0;
+                    for (Direction direction : Direction.values()) {
+                        if (chunk.getBlock(location) != null && chunk.isFaceVisible(location, direction)) {
+                            expected |= 1 << direction.ordinal();
+                        }
+                    }
+                    assertEquals(expected, visibleFaces[z + y * 6 + x * 5 * 6], "visible faces at " + location);
+                }
+            }
+        }
+
+        // the given array is reused
+        assertTrue(visibleFaces == chunk.calculateVisibleFaces(visibleFaces));
+    }
+
+    @Test
+    public void testVersion() {
+        BlockRegistry blockRegistry = BlocksConfig.getInstance().getBlockRegistry();
+        BlocksConfig.getInstance().setChunkSize(new Vec3i(3, 3, 3));
+
+        Chunk chunk = Chunk.createAt(new Vec3i(0, 0, 0));
+        long version = chunk.getVersion();
+        chunk.addBlock(1, 1, 1, blockRegistry.get(BlockIds.DIRT));
+        assertEquals(version + 1, chunk.getVersion());
+        // adding the same block or removing a block that isn't there doesn't change the chunk
+        chunk.addBlock(1, 1, 1, blockRegistry.get(BlockIds.DIRT));
+        chunk.removeBlock(0, 0, 0);
+        assertEquals(version + 1, chunk.getVersion());
+        chunk.fill(null);
+        assertEquals(version + 2, chunk.getVersion());
+
+        // the border versions of the neighbours, -1 when there is no neighbour
+        Chunk neighbour = Chunk.createAt(new Vec3i(1, 0, 0));
+        neighbour.addBlock(0, 0, 0, blockRegistry.get(BlockIds.DIRT));
+        chunk.setChunkResolver(location -> location.equals(neighbour.getLocation()) ? Optional.of(neighbour) : Optional.empty());
+        long[] neighbourVersions = chunk.getNeighbourVersions();
+        for (Direction direction : Direction.values()) {
+            assertEquals(direction == Direction.EAST ? neighbour.getBorderVersion(Direction.WEST) : -1, neighbourVersions[direction.ordinal()]);
+        }
+
+        // the versions of the neighbours the mesh is constructed with
+        assertEquals(-1, chunk.getMeshNeighbourVersion(Direction.EAST));
+        chunk.setMeshNeighbourVersions(neighbourVersions);
+        assertEquals(neighbour.getBorderVersion(Direction.WEST), chunk.getMeshNeighbourVersion(Direction.EAST));
+    }
+
+    @Test
+    public void testBorderVersion() {
+        BlockRegistry blockRegistry = BlocksConfig.getInstance().getBlockRegistry();
+        BlocksConfig.getInstance().setChunkSize(new Vec3i(3, 3, 3));
+
+        // all borders change when the chunk is filled
+        Chunk chunk = Chunk.createAt(new Vec3i(0, 0, 0));
+        for (Direction direction : Direction.values()) {
+            assertEquals(chunk.getVersion(), chunk.getBorderVersion(direction));
+        }
+
+        // a block inside the chunk doesn't change the borders
+        long version = chunk.getVersion();
+        chunk.addBlock(1, 1, 1, blockRegistry.get(BlockIds.DIRT));
+        for (Direction direction : Direction.values()) {
+            assertEquals(version, chunk.getBorderVersion(direction));
+        }
+
+        // a block in a corner changes the 3 borders it is on
+        chunk.addBlock(2, 0, 2, blockRegistry.get(BlockIds.DIRT));
+        for (Direction direction : Direction.values()) {
+            boolean onBorder = direction == Direction.EAST || direction == Direction.DOWN || direction == Direction.SOUTH;
+            assertEquals(onBorder ? chunk.getVersion() : version, chunk.getBorderVersion(direction));
+        }
+
+        // the border versions are copied
+        Chunk copy = new Chunk(chunk);
+        for (Direction direction : Direction.values()) {
+            assertEquals(chunk.getBorderVersion(direction), copy.getBorderVersion(direction));
+        }
+
+        chunk.setBlocks(chunk.getBlocks());
+        for (Direction direction : Direction.values()) {
+            assertEquals(chunk.getVersion(), chunk.getBorderVersion(direction));
+        }
+    }
+
+    @Test
+    public void testSectionVersions() {
+        BlockRegistry blockRegistry = BlocksConfig.getInstance().getBlockRegistry();
+        BlocksConfig.getInstance().setChunkSize(new Vec3i(4, 4, 4));
+        BlocksConfig.getInstance().setSectionSize(new Vec3i(2, 2, 2));
+        try {
+            Vec3i sectionCount = Chunk.getSectionCount();
+            assertEquals(new Vec3i(2, 2, 2), sectionCount);
+            int section = Chunk.getSectionIndex(0, 0, 0, sectionCount);
+            int east = Chunk.getSectionIndex(1, 0, 0, sectionCount);
+            int up = Chunk.getSectionIndex(0, 1, 0, sectionCount);
+            int south = Chunk.getSectionIndex(0, 0, 1, sectionCount);
+            int far = Chunk.getSectionIndex(1, 1, 1, sectionCount);
+
+            Chunk chunk = Chunk.createAt(new Vec3i(0, 0, 0));
+            long version = chunk.getVersion();
+            for (long sectionVersion : chunk.getSectionVersions()) {
+                assertEquals(version, sectionVersion);
+            }
+
+            // a block inside a section only changes the section
+            chunk.addBlock(0, 0, 0, blockRegistry.get(BlockIds.DIRT));
+            long[] sectionVersions = chunk.getSectionVersions();
+            assertEquals(chunk.getVersion(), sectionVersions[section]);
+            assertEquals(version, sectionVersions[east]);
+            assertEquals(version, sectionVersions[up]);
+            assertEquals(version, sectionVersions[south]);
+            assertEquals(version, sectionVersions[far]);
+
+            // a block on the border of a section changes the neighbouring sections
+            chunk.addBlock(1, 1, 1, blockRegistry.get(BlockIds.DIRT));
+            sectionVersions = chunk.getSectionVersions();
+            assertEquals(chunk.getVersion(), sectionVersions[section]);
+            assertEquals(chunk.getVersion(), sectionVersions[east]);
+            assertEquals(chunk.getVersion(), sectionVersions[up]);
+            assertEquals(chunk.getVersion(), sectionVersions[south]);
+            assertEquals(version, sectionVersions[far]);
+
+            // a regular chunk doesn't know which sections of a mesh being constructed changed
+            assertNull(chunk.getChangedSections());
+
+            BlocksConfig.getInstance().setSectionSize(null);
+            chunk.addBlock(3, 3, 3, blockRegistry.get(BlockIds.DIRT));
+            assertNull(chunk.getSectionVersions());
+        } finally {
+            BlocksConfig.getInstance().setSectionSize(null);
+        }
+    }
+
+    private static Chunk createRandomChunk(Vec3i location, Block[] palette, Random random) {
+        Chunk chunk = Chunk.createAt(location);
+        for (int i = 0; i < 4 * 5 * 6; i++) {
+            chunk.addBlock(i / 30, (i / 6) % 5, i % 6, palette[random.nextInt(palette.length)]);
+        }
+        return chunk;
+    }
+
 }
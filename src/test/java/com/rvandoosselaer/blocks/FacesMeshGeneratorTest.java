@@ -3,6 +3,7 @@ package com.rvandoosselaer.blocks;
 import com.jme3.asset.DesktopAssetManager;
 import com.jme3.scene.Geometry;
 import com.jme3.scene.Mesh;
+import com.jme3.scene.Node;
 import com.simsilica.mathd.Vec3i;
 import lombok.NonNull;
 import org.junit.jupiter.api.BeforeAll;
@@ -14,6 +15,8 @@ import java.util.Map;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
@@ -39,6 +42,55 @@ public class FacesMeshGeneratorTest {
         assertEquals(6 * 2, mesh.getTriangleCount());
     }
 
+    @Test
+    public void testSections() {
+        BlockRegistry blockRegistry = BlocksConfig.getInstance().getBlockRegistry();
+        BlocksConfig.getInstance().setSectionSize(new Vec3i(16, 16, 16));
+        try {
+            ChunkMeshGenerator meshGenerator = BlocksConfig.getInstance().getChunkMeshGenerator();
+            Chunk chunk = Chunk.createAt(new Vec3i(0, 0, 0));
+            chunk.addBlock(0, 0, 0, blockRegistry.get("grass"));
+            chunk.addBlock(20, 20, 20, blockRegistry.get("grass"));
+
+            // the first mesh holds all sections, also the empty ones
+            ChunkSnapshot snapshot = ChunkSnapshot.create(chunk);
+            meshGenerator.createAndSetNodeAndCollisionMesh(snapshot);
+            assertNull(snapshot.getNode().getUserData(Chunk.PARTIAL_NODE));
+            chunk.applyMesh(snapshot);
+            Node node = chunk.getNode();
+            assertEquals(8, node.getQuantity());
+            Node section = (Node) node.getChild("Section - " + new Vec3i(0, 0, 0));
+            assertEquals(6 * 2, ((Geometry) section.getChild(0)).getMesh().getTriangleCount());
+            Node otherSection = (Node) node.getChild("Section - " + new Vec3i(1, 1, 1));
+            assertEquals(1, otherSection.getQuantity());
+            assertEquals(0, ((Node) node.getChild("Section - " + new Vec3i(1, 0, 0))).getQuantity());
+
+            // only the changed section is reconstructed and replaced in the node of the chunk
+            chunk.addBlock(1, 0, 0, blockRegistry.get("grass"));
+            snapshot = ChunkSnapshot.create(chunk);
+            meshGenerator.createAndSetNodeAndCollisionMesh(snapshot);
+            assertEquals(true, snapshot.getNode().getUserData(Chunk.PARTIAL_NODE));
+            assertEquals(1, snapshot.getNode().getQuantity());
+            chunk.applyMesh(snapshot);
+
+            assertSame(node, chunk.getNode());
+            assertEquals(8, node.getQuantity());
+            assertSame(otherSection, node.getChild("Section - " + new Vec3i(1, 1, 1)));
+            section = (Node) node.getChild("Section - " + new Vec3i(0, 0, 0));
+            assertEquals(10 * 2, ((Geometry) section.getChild(0)).getMesh().getTriangleCount());
+
+            // the collision mesh holds the whole chunk
+            assertEquals(16 * 2, chunk.getCollisionMesh().getTriangleCount());
+
+            // nothing changed
+            snapshot = ChunkSnapshot.create(chunk);
+            meshGenerator.createAndSetNodeAndCollisionMesh(snapshot);
+            assertEquals(0, snapshot.getNode().getQuantity());
+        } finally {
+            BlocksConfig.getInstance().setSectionSize(null);
+        }
+    }
+
     @Test
     public void testDoNotRenderUnwantedTriangles() {
         BlockRegistry blockRegistry = BlocksConfig.getInstance().getBlockRegistry();
@@ -101,6 +153,43 @@ public class FacesMeshGeneratorTest {
         assertEquals(5 * 2, mesh.getTriangleCount());
     }
 
+    @Test
+    public void testEmptyUniformChunk() {
+        Chunk chunk = Chunk.createAt(new Vec3i(0, 0, 0));
+        assertTrue(chunk.isUniform());
+
+        BlocksConfig.getInstance().getChunkMeshGenerator().createAndSetNodeAndCollisionMesh(chunk);
+
+        assertEquals(0, chunk.getNode().getQuantity());
+        assertEquals(0, chunk.getCollisionMesh().getTriangleCount());
+    }
+
+    @Test
+    public void testFullUniformChunkSurroundedByFullChunks() {
+        BlockRegistry blockRegistry = BlocksConfig.getInstance().getBlockRegistry();
+        ChunkMeshGenerator meshGenerator = BlocksConfig.getInstance().getChunkMeshGenerator();
+        Block grass = blockRegistry.get("grass");
+
+        ChunkCache chunkResolver = new ChunkCache();
+        Chunk chunk = Chunk.createAt(new Vec3i(0, 0, 0), grass);
+        chunk.setChunkResolver(chunkResolver);
+        chunkResolver.add(chunk);
+        for (Direction direction : Direction.values()) {
+            chunkResolver.add(Chunk.createAt(direction.getVector(), grass));
+        }
+
+        chunk.createNode(meshGenerator);
+        assertEquals(0, chunk.getNode().getQuantity());
+
+        // a hole in a neighbouring chunk shows the face of the block next to it
+        chunkResolver.get(Direction.UP.getVector()).get().removeBlock(0, 0, 0);
+        chunk.createNode(meshGenerator);
+
+        Mesh mesh = ((Geometry) chunk.getNode().getChild(0)).getMesh();
+        // 1 face, 2 triangles per face
+        assertEquals(2, mesh.getTriangleCount());
+    }
+
     private static class ChunkCache implements ChunkResolver {
 
         private final Map<Vec3i, Chunk> cache = new HashMap<>();
@@ -11,7 +11,9 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.stream.IntStream;
+import java.util.zip.Deflater;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -74,9 +76,10 @@ public class FileRepositoryTest {
         int blockArrayLength = config.getChunkSize().x * config.getChunkSize().y * config.getChunkSize().z;
 
         Chunk chunk = Chunk.createAt(new Vec3i(0, 0, 0));
-        chunk.setBlocks(new Block[blockArrayLength]);
+        Block[] blocks = new Block[blockArrayLength];
         int random = FastMath.nextRandomInt(0, blockArrayLength - 1);
-        chunk.getBlocks()[random] = config.getBlockRegistry().get("grass");
+        blocks[random] = config.getBlockRegistry().get("grass");
+        chunk.setBlocks(blocks);
         chunk.update();
 
         FileRepository repository = new FileRepository(Paths.get(System.getProperty("user.home"), ".blocks", "repository-c"));
@@ -91,6 +94,53 @@ public class FileRepositoryTest {
         cleanup(repository.getPath());
     }
 
+    @Test
+    public void testLoadLegacyChunk() throws IOException {
+        Chunk chunk = Chunk.createAt(new Vec3i(1, -2, 3));
+        chunk.addBlock(0, 1, 2, BlocksConfig.getInstance().getBlockRegistry().get("grass"));
+
+        FileRepository repository = new FileRepository(Paths.get(System.getProperty("user.home"), ".blocks", "repository-d"));
+        Files.createDirectories(repository.getPath());
+        Files.write(repository.getChunkPath(chunk), ChunkFormat.writeLegacy(chunk));
+
+        Chunk loadedChunk = repository.load(new Vec3i(1, -2, 3));
+        assertEquals(chunk.getLocation(), loadedChunk.getLocation());
+        assertArrayEquals(chunk.getBlocks(), loadedChunk.getBlocks());
+
+        // the chunk is saved in the palette format
+        long legacySize = Files.size(repository.getChunkPath(chunk));
+        assertTrue(repository.save(loadedChunk));
+        assertTrue(Files.size(repository.getChunkPath(chunk)) < legacySize);
+
+        cleanup(repository.getPath());
+    }
+
+    @Test
+    public void testSaveAndLoadCompressedChunk() throws IOException {
+        Chunk chunk = Chunk.createAt(new Vec3i(0, 0, 0));
+        Vec3i chunkSize = BlocksConfig.getInstance().getChunkSize();
+        for (int x = 0; x < chunkSize.x; x++) {
+            chunk.addBlock(x, x % chunkSize.y, 0, BlocksConfig.getInstance().getBlockRegistry().get("grass"));
+        }
+
+        FileRepository repository = FileRepository.builder()
+                .path(Paths.get(System.getProperty("user.home"), ".blocks", "repository-e"))
+                .compression(ChunkCompressions.deflate(Deflater.BEST_SPEED))
+                .build();
+        assertTrue(repository.save(chunk));
+        long compressedSize = Files.size(repository.getChunkPath(chunk));
+
+        assertArrayEquals(chunk.getBlocks(), repository.load(new Vec3i(0, 0, 0)).getBlocks());
+
+        // the chunk is loaded by a repository without compression
+        repository.setCompression(null);
+        assertArrayEquals(chunk.getBlocks(), repository.load(new Vec3i(0, 0, 0)).getBlocks());
+        assertTrue(repository.save(chunk));
+        assertTrue(compressedSize < Files.size(repository.getChunkPath(chunk)));
+
+        cleanup(repository.getPath());
+    }
+
     private void cleanup(Path path) {
         try {
             // remove all files
@@ -0,0 +1,149 @@
+package com.rvandoosselaer.blocks;
+
+import com.jme3.asset.DesktopAssetManager;
+import com.jme3.material.Material;
+import com.jme3.math.Vector3f;
+import com.jme3.scene.Geometry;
+import com.jme3.scene.Mesh;
+import com.jme3.scene.VertexBuffer;
+import com.jme3.scene.mesh.IndexBuffer;
+import com.jme3.texture.Texture;
+import com.jme3.util.BufferUtils;
+import com.simsilica.mathd.Vec3i;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.nio.FloatBuffer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/**
+ * @author rvandoosselaer
+ */
+public class GreedyMeshGeneratorTest {
+
+    @BeforeAll
+    public static void setUp() {
+        BlocksConfig.initialize(new DesktopAssetManager(true));
+    }
+
+    @Test
+    public void testMergeFlatLayer() {
+        BlockRegistry blockRegistry = BlocksConfig.getInstance().getBlockRegistry();
+        Vec3i chunkSize = BlocksConfig.getInstance().getChunkSize();
+        GreedyMeshGenerator meshGenerator = new GreedyMeshGenerator();
+
+        Chunk chunk = Chunk.createAt(new Vec3i(0, 0, 0));
+        for (int x = 0; x < chunkSize.x; x++) {
+            for (int z = 0; z < chunkSize.z; z++) {
+                chunk.addBlock(x, 0, z, blockRegistry.get(BlockIds.DIRT));
+            }
+        }
+        meshGenerator.createAndSetNodeAndCollisionMesh(chunk);
+
+        // one quad for each side of the layer
+        Geometry geometry = (Geometry) chunk.getNode().getChild(TypeIds.DIRT);
+        assertEquals(6 * 2, geometry.getMesh().getTriangleCount());
+        assertEquals(6 * 2, chunk.getCollisionMesh().getTriangleCount());
+
+        // the merged faces cover the same area as the separate faces
+        float blockScale = BlocksConfig.getInstance().getBlockScale();
+        float expectedArea = (2 * chunkSize.x * chunkSize.z + 2 * chunkSize.x + 2 * chunkSize.z) * blockScale * blockScale;
+        assertEquals(expectedArea, getArea(geometry.getMesh()), 0.001f);
+        assertEquals(expectedArea, getArea(chunk.getCollisionMesh()), 0.001f);
+
+        // the texture is repeated for each block, the material of the type isn't changed
+        Texture texture = geometry.getMaterial().getTextureParam("DiffuseMap").getTextureValue();
+        assertEquals(Texture.WrapMode.Repeat, texture.getWrap(Texture.WrapAxis.S));
+        assertEquals(Texture.WrapMode.Repeat, texture.getWrap(Texture.WrapAxis.T));
+        Material typeMaterial = BlocksConfig.getInstance().getTypeRegistry().get(TypeIds.DIRT).getMaterial();
+        assertNotSame(typeMaterial, geometry.getMaterial());
+        Texture typeTexture = typeMaterial.getTextureParam("DiffuseMap").getTextureValue();
+        assertNotEquals(Texture.WrapMode.Repeat, typeTexture.getWrap(Texture.WrapAxis.S));
+        assertSame(typeTexture.getImage(), texture.getImage());
+
+        // the material is reused for the next chunk
+        Chunk next = Chunk.createAt(new Vec3i(1, 0, 0));
+        next.addBlock(0, 0, 0, blockRegistry.get(BlockIds.DIRT));
+        next.createNode(meshGenerator);
+        assertSame(geometry.getMaterial(), ((Geometry) next.getNode().getChild(TypeIds.DIRT)).getMaterial());
+    }
+
+    @Test
+    public void testDoNotMergeDifferentBlocks() {
+        BlockRegistry blockRegistry = BlocksConfig.getInstance().getBlockRegistry();
+        GreedyMeshGenerator meshGenerator = new GreedyMeshGenerator();
+
+        Chunk chunk = Chunk.createAt(new Vec3i(0, 0, 0));
+        chunk.addBlock(0, 0, 0, blockRegistry.get(BlockIds.DIRT));
+        chunk.addBlock(1, 0, 0, blockRegistry.get(BlockIds.DIRT));
+        chunk.addBlock(2, 0, 0, blockRegistry.get(BlockIds.SAND));
+        chunk.createNode(meshGenerator);
+
+        // 2 dirt blocks: 1 quad for each side, the east face is hidden by the sand
+        Mesh dirt = ((Geometry) chunk.getNode().getChild(TypeIds.DIRT)).getMesh();
+        assertEquals(5 * 2, dirt.getTriangleCount());
+
+        // 1 sand block: the west face is hidden by the dirt
+        Mesh sand = ((Geometry) chunk.getNode().getChild(TypeIds.SAND)).getMesh();
+        assertEquals(5 * 2, sand.getTriangleCount());
+
+        // the collision mesh merges all solid cubes
+        Mesh collisionMesh = meshGenerator.createCollisionMesh(chunk);
+        assertEquals(6 * 2, collisionMesh.getTriangleCount());
+    }
+
+    @Test
+    public void testFallbackToShape() {
+        BlockRegistry blockRegistry = BlocksConfig.getInstance().getBlockRegistry();
+        Vec3i chunkSize = BlocksConfig.getInstance().getChunkSize();
+
+        // grass uses a different texture for the top and bottom face and can't be merged
+        Chunk chunk = Chunk.createAt(new Vec3i(0, 0, 0));
+        for (int x = 0; x < chunkSize.x; x++) {
+            for (int z = 0; z < chunkSize.z; z++) {
+                chunk.addBlock(x, 0, z, blockRegistry.get(BlockIds.GRASS));
+            }
+        }
+        chunk.addBlock(0, 1, 0, blockRegistry.get(BlockIds.getName(TypeIds.DIRT, ShapeIds.SLAB)));
+
+        chunk.createNode(new FacesMeshGenerator());
+        int grassTriangles = ((Geometry) chunk.getNode().getChild(TypeIds.GRASS)).getMesh().getTriangleCount();
+        int slabTriangles = ((Geometry) chunk.getNode().getChild(TypeIds.DIRT)).getMesh().getTriangleCount();
+
+        chunk.createNode(new GreedyMeshGenerator());
+        assertEquals(grassTriangles, ((Geometry) chunk.getNode().getChild(TypeIds.GRASS)).getMesh().getTriangleCount());
+        assertEquals(slabTriangles, ((Geometry) chunk.getNode().getChild(TypeIds.DIRT)).getMesh().getTriangleCount());
+    }
+
+    @Test
+    public void testEmptyChunk() {
+        Chunk chunk = Chunk.createAt(new Vec3i(0, 0, 0));
+        chunk.createNode(new GreedyMeshGenerator());
+
+        assertEquals(0, chunk.getNode().getQuantity());
+    }
+
+    /**
+     * Calculates the total surface of the triangles of the mesh.
+     */
+    private static float getArea(Mesh mesh) {
+        FloatBuffer positions = (FloatBuffer) mesh.getBuffer(VertexBuffer.Type.Position).getData();
+        IndexBuffer indices = mesh.getIndexBuffer();
+        float area = 0;
+        for (int i = 0; i < indices.size(); i += 3) {
+            Vector3f a = new Vector3f();
+            BufferUtils.populateFromBuffer(a, positions, indices.get(i));
+            Vector3f b = new Vector3f();
+            BufferUtils.populateFromBuffer(b, positions, indices.get(i + 1));
+            Vector3f c = new Vector3f();
+            BufferUtils.populateFromBuffer(c, positions, indices.get(i + 2));
+            area += b.subtract(a).crossLocal(c.subtract(a)).length() / 2f;
+        }
+        return area;
+    }
+
+}
@@ -0,0 +1,155 @@
+package com.rvandoosselaer.blocks;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author rvandoosselaer
+ */
+public class PaletteBlockStorageTest {
+
+    @Test
+    public void testEmptyStorage() {
+        PaletteBlockStorage storage = new PaletteBlockStorage(32 * 32 * 32);
+
+        assertEquals(32 * 32 * 32, storage.size());
+        assertEquals(0, storage.getBitsPerIndex());
+        assertEquals(1, storage.getPaletteSize());
+        assertNull(storage.get(0));
+        assertNull(storage.get(storage.size() - 1));
+    }
+
+    @Test
+    public void testSetAndGet() {
+        Block grass = Block.create("grass", "grass");
+        Block dirt = Block.create("dirt", "dirt");
+        PaletteBlockStorage storage = new PaletteBlockStorage(27);
+
+        assertNull(storage.set(5, grass));
+        assertEquals(1, storage.getBitsPerIndex());
+        assertSame(grass, storage.get(5));
+        assertNull(storage.get(4));
+
+        assertSame(grass, storage.set(5, dirt));
+        assertSame(dirt, storage.get(5));
+        assertSame(dirt, storage.set(5, null));
+        assertNull(storage.get(5));
+    }
+
+    @Test
+    public void testCopy() {
+        Block[] palette = new Block[20];
+        for (int i = 0; i < palette.length; i++) {
+            palette[i] = Block.create("block-" + i, "dirt");
+        }
+        PaletteBlockStorage storage = new PaletteBlockStorage(1000);
+        for (int i = 0; i < storage.size(); i += 3) {
+            storage.set(i, palette[i % palette.length]);
+        }
+
+        PaletteBlockStorage copy = storage.copy();
+        assertArrayEquals(storage.toArray(), copy.toArray());
+        assertEquals(storage.getBitsPerIndex(), copy.getBitsPerIndex());
+        assertEquals(storage.getPaletteSize(), copy.getPaletteSize());
+
+        // the storages are changed independently, also when the palette of the copy grows
+        Block[] expected = storage.toArray();
+        copy.set(0, null);
+        for (int i = 0; i < 300; i++) {
+            copy.set(i, Block.create("other-" + i, "dirt"));
+        }
+        assertArrayEquals(expected, storage.toArray());
+        storage.set(998, palette[0]);
+        assertSame(palette[0], storage.get(998));
+        assertNull(copy.get(998));
+
+        // the palette lookup of the copy finds the copied blocks
+        PaletteBlockStorage second = storage.copy();
+        second.set(1, palette[5]);
+        assertEquals(storage.getPaletteSize(), second.getPaletteSize());
+    }
+
+    @Test
+    public void testPaletteGrowsAndMatchesArrayStorage() {
+        Block[] palette = new Block[300];
+        for (int i = 0; i < palette.length; i++) {
+            palette[i] = Block.create("block-" + i, "grass");
+        }
+
+        int size = 16 * 16 * 16;
+        PaletteBlockStorage storage = new PaletteBlockStorage(size);
+        ArrayBlockStorage reference = new ArrayBlockStorage(size);
+        Random random = new Random(42);
+        for (int i = 0; i < 20000; i++) {
+            int index = random.nextInt(size);
+            Block block = random.nextInt(10) == 0 ? null : palette[random.nextInt(palette.length)];
+            assertSame(reference.set(index, block), storage.set(index, block));
+        }
+
+        assertEquals(16, storage.getBitsPerIndex());
+        assertArrayEquals(reference.toArray(), storage.toArray());
+    }
+
+    @Test
+    public void testUnusedPaletteEntriesAreRemoved() {
+        PaletteBlockStorage storage = new PaletteBlockStorage(8);
+        for (int i = 0; i < 100; i++) {
+            storage.set(0, Block.create("block-" + i, "grass"));
+        }
+
+        // only the empty block and the last block are in use, the palette never grows beyond 2 bits
+        assertTrue(storage.getPaletteSize() <= 4);
+        assertEquals(2, storage.getBitsPerIndex());
+        assertEquals("block-99", storage.get(0).getName());
+    }
+
+    @Test
+    public void testCreateFromArray() {
+        Block grass = Block.create("grass", "grass");
+        Block[] blocks = new Block[10];
+        blocks[3] = grass;
+        blocks[9] = grass;
+
+        PaletteBlockStorage storage = new PaletteBlockStorage(blocks);
+
+        assertArrayEquals(blocks, storage.toArray());
+        assertEquals(2, storage.getPaletteSize());
+    }
+
+    @Test
+    public void testFill() {
+        Block grass = Block.create("grass", "grass");
+        Block dirt = Block.create("dirt", "dirt");
+        PaletteBlockStorage storage = new PaletteBlockStorage(100);
+
+        storage.fill(grass);
+        for (int i = 0; i < storage.size(); i++) {
+            assertSame(grass, storage.get(i));
+        }
+
+        assertSame(grass, storage.set(13, dirt));
+        assertSame(dirt, storage.get(13));
+        assertSame(grass, storage.get(14));
+
+        storage.fill(null);
+        assertEquals(0, storage.getBitsPerIndex());
+        assertNull(storage.get(13));
+    }
+
+    @Test
+    public void testIndexOutOfBounds() {
+        PaletteBlockStorage storage = new PaletteBlockStorage(8);
+
+        assertThrows(IndexOutOfBoundsException.class, () -> storage.get(8));
+        assertThrows(IndexOutOfBoundsException.class, () -> storage.set(-1, null));
+    }
+
+}
@@ -0,0 +1,95 @@
+package com.rvandoosselaer.blocks;
+
+import com.jme3.asset.DesktopAssetManager;
+import com.simsilica.mathd.Vec3i;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author: rvandoosselaer
+ */
+public class PriorityChunkQueueTest {
+
+    @BeforeAll
+    public static void setUp() {
+        BlocksConfig.initialize(new DesktopAssetManager(true));
+    }
+
+    @Test
+    public void testInsertionOrderWithoutFocus() {
+        PriorityChunkQueue<Vec3i> queue = PriorityChunkQueue.ofLocations();
+        queue.offer(new Vec3i(5, 0, 0));
+        queue.offer(new Vec3i(0, 0, 0));
+        queue.offer(new Vec3i(3, 0, 0));
+
+        assertFalse(queue.offer(new Vec3i(0, 0, 0)));
+        assertEquals(3, queue.size());
+        assertEquals(new Vec3i(5, 0, 0), queue.poll());
+        assertEquals(new Vec3i(0, 0, 0), queue.poll());
+        assertEquals(new Vec3i(3, 0, 0), queue.poll());
+        assertNull(queue.poll());
+    }
+
+    @Test
+    public void testFocus() {
+        PriorityChunkQueue<Vec3i> queue = PriorityChunkQueue.ofLocations();
+        queue.setFocus(new Vec3i(0, 0, 0));
+        queue.offer(new Vec3i(5, 0, 0));
+        queue.offer(new Vec3i(0, 0, 2));
+        queue.offer(new Vec3i(-1, 0, 0));
+        queue.offer(new Vec3i(2, 0, 0));
+
+        assertEquals(new Vec3i(-1, 0, 0), queue.poll());
+        // same distance, the first added location is polled first
+        assertEquals(new Vec3i(0, 0, 2), queue.poll());
+
+        // moving the focus reorders the queue
+        queue.setFocus(new Vec3i(6, 0, 0));
+        assertEquals(new Vec3i(5, 0, 0), queue.poll());
+        assertEquals(new Vec3i(2, 0, 0), queue.poll());
+        assertTrue(queue.isEmpty());
+    }
+
+    @Test
+    public void testRemove() {
+        PriorityChunkQueue<Vec3i> queue = PriorityChunkQueue.ofLocations();
+        for (int i = 0; i < 10; i++) {
+            queue.offer(new Vec3i(i, 0, 0));
+        }
+        for (int i = 0; i < 8; i++) {
+            assertTrue(queue.remove(new Vec3i(i, 0, 0)));
+        }
+        assertFalse(queue.remove(new Vec3i(0, 0, 0)));
+        assertEquals(2, queue.size());
+
+        // a removed element can be added again
+        assertTrue(queue.offer(new Vec3i(0, 0, 0)));
+        assertTrue(queue.contains(new Vec3i(0, 0, 0)));
+        assertEquals(new Vec3i(8, 0, 0), queue.poll());
+        assertEquals(new Vec3i(9, 0, 0), queue.poll());
+        assertEquals(new Vec3i(0, 0, 0), queue.poll());
+        assertNull(queue.poll());
+        assertTrue(queue.isEmpty());
+    }
+
+    @Test
+    public void testChunks() {
+        PriorityChunkQueue<Chunk> queue = PriorityChunkQueue.ofChunks();
+        Chunk far = Chunk.createAt(new Vec3i(0, 10, 0));
+        Chunk near = Chunk.createAt(new Vec3i(0, 1, 0));
+        queue.offer(far);
+        queue.offer(near);
+        queue.setFocus(new Vec3i(0, 0, 0));
+
+        assertTrue(queue.contains(far));
+        assertTrue(queue.remove(far));
+        assertFalse(queue.contains(far));
+        assertEquals(near, queue.poll());
+    }
+
+}
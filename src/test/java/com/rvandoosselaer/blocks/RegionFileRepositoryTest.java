@@ -0,0 +1,268 @@
+package com.rvandoosselaer.blocks;
+
+import com.jme3.asset.DesktopAssetManager;
+import com.simsilica.mathd.Vec3i;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author rvandoosselaer
+ */
+public class RegionFileRepositoryTest {
+
+    @TempDir
+    Path directory;
+
+    @BeforeAll
+    public static void setUp() {
+        BlocksConfig.initialize(new DesktopAssetManager(true));
+    }
+
+    @Test
+    public void testSaveAndLoadChunk() {
+        Chunk chunk = createChunk(new Vec3i(1, 2, 3), 1);
+
+        try (RegionFileRepository repository = new RegionFileRepository(directory)) {
+            assertTrue(repository.save(chunk));
+
+            Chunk loadedChunk = repository.load(new Vec3i(1, 2, 3));
+            assertNotNull(loadedChunk);
+            assertEquals(chunk.getLocation(), loadedChunk.getLocation());
+            assertArrayEquals(chunk.getBlocks(), loadedChunk.getBlocks());
+        }
+    }
+
+    @Test
+    public void testLoadMissingChunk() {
+        try (RegionFileRepository repository = new RegionFileRepository(directory.resolve("regions"))) {
+            assertNull(repository.load(new Vec3i(0, 0, 0)));
+            // loading a chunk of a missing region doesn't create the region file
+            assertFalse(Files.exists(repository.getRegionPath(new Vec3i(0, 0, 0))));
+
+            repository.save(createChunk(new Vec3i(0, 0, 0), 1));
+            assertNull(repository.load(new Vec3i(0, 0, 1)));
+        }
+    }
+
+    @Test
+    public void testRegionLocation() {
+        RegionFileRepository repository = RegionFileRepository.builder()
+                .path(directory)
+                .regionSize(new Vec3i(4, 4, 4))
+                .build();
+
+        assertEquals(new Vec3i(0, 0, 0), repository.getRegionLocation(new Vec3i(3, 0, 0)));
+        assertEquals(new Vec3i(1, 0, 0), repository.getRegionLocation(new Vec3i(4, 0, 0)));
+        assertEquals(new Vec3i(-1, -1, -1), repository.getRegionLocation(new Vec3i(-1, -4, -2)));
+        assertEquals(new Vec3i(-2, 0, 0), repository.getRegionLocation(new Vec3i(-5, 0, 0)));
+    }
+
+    @Test
+    public void testSaveAndLoadChunksInOneRegion() {
+        try (RegionFileRepository repository = RegionFileRepository.builder().path(directory).regionSize(new Vec3i(4, 4, 4)).build()) {
+            for (int x = -4; x < 0; x++) {
+                for (int z = -4; z < 0; z++) {
+                    assertTrue(repository.save(createChunk(new Vec3i(x, -1, z), x * 31 + z)));
+                }
+            }
+
+            assertEquals(1, repository.getOpenRegionCount());
+            for (int x = -4; x < 0; x++) {
+                for (int z = -4; z < 0; z++) {
+                    Chunk chunk = repository.load(new Vec3i(x, -1, z));
+                    assertEquals(new Vec3i(x, -1, z), chunk.getLocation());
+                    assertArrayEquals(createChunk(new Vec3i(x, -1, z), x * 31 + z).getBlocks(), chunk.getBlocks());
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testRewriteChunk() throws IOException {
+        Vec3i a = new Vec3i(0, 0, 0);
+        Vec3i b = new Vec3i(0, 0, 1);
+        try (RegionFileRepository repository = new RegionFileRepository(directory)) {
+            repository.write(a, data(100, 1));
+            repository.write(b, data(100, 2));
+            Path regionPath = repository.getRegionPath(new Vec3i(0, 0, 0));
+            long size = Files.size(regionPath);
+
+            // the chunk fits in its sector and is rewritten in place
+            repository.write(a, data(200, 3));
+            assertArrayEquals(data(200, 3), repository.read(a));
+            assertEquals(size, Files.size(regionPath));
+
+            // the chunk grew and is moved to the end of the file
+            repository.write(a, data(3 * RegionFileRepository.SECTOR_SIZE, 4));
+            assertArrayEquals(data(3 * RegionFileRepository.SECTOR_SIZE, 4), repository.read(a));
+            assertArrayEquals(data(100, 2), repository.read(b));
+            long grownSize = Files.size(regionPath);
+            assertTrue(grownSize > size + 2 * RegionFileRepository.SECTOR_SIZE);
+
+            // the released sector of the grown chunk is reused
+            repository.write(new Vec3i(0, 0, 2), data(100, 5));
+            assertEquals(grownSize, Files.size(regionPath));
+
+            // the chunk shrunk, the released sectors are reused
+            repository.write(a, data(100, 6));
+            repository.write(new Vec3i(0, 0, 3), data(2 * RegionFileRepository.SECTOR_SIZE - 100, 7));
+            assertEquals(grownSize, Files.size(regionPath));
+
+            assertArrayEquals(data(100, 6), repository.read(a));
+            assertArrayEquals(data(100, 2), repository.read(b));
+            assertArrayEquals(data(100, 5), repository.read(new Vec3i(0, 0, 2)));
+            assertArrayEquals(data(2 * RegionFileRepository.SECTOR_SIZE - 100, 7), repository.read(new Vec3i(0, 0, 3)));
+        }
+    }
+
+    @Test
+    public void testReopenRepository() {
+        Chunk chunk = createChunk(new Vec3i(-17, 5, 40), 1);
+        try (RegionFileRepository repository = new RegionFileRepository(directory)) {
+            repository.save(chunk);
+            repository.write(new Vec3i(-17, 5, 41), data(RegionFileRepository.SECTOR_SIZE * 2, 1));
+        }
+
+        try (RegionFileRepository repository = new RegionFileRepository(directory)) {
+            assertArrayEquals(chunk.getBlocks(), repository.load(new Vec3i(-17, 5, 40)).getBlocks());
+            assertArrayEquals(data(RegionFileRepository.SECTOR_SIZE * 2, 1), repository.read(new Vec3i(-17, 5, 41)));
+            assertNull(repository.read(new Vec3i(-17, 5, 42)));
+        }
+    }
+
+    @Test
+    public void testMemoryMappedLoad() {
+        try (RegionFileRepository repository = RegionFileRepository.builder().path(directory).memoryMapped(true).build()) {
+            assertTrue(repository.isMemoryMapped());
+            assertNull(repository.load(new Vec3i(0, 0, 0)));
+
+            Chunk a = createChunk(new Vec3i(0, 0, 0), 1);
+            repository.save(a);
+            assertArrayEquals(a.getBlocks(), repository.load(new Vec3i(0, 0, 0)).getBlocks());
+            assertNull(repository.load(new Vec3i(0, 0, 1)));
+
+            // the file grows and a chunk is rewritten after the file was mapped
+            Chunk b = createChunk(new Vec3i(0, 0, 1), 2);
+            Chunk c = createChunk(new Vec3i(0, 0, 0), 3);
+            repository.save(b);
+            repository.save(c);
+            assertArrayEquals(b.getBlocks(), repository.load(new Vec3i(0, 0, 1)).getBlocks());
+            assertArrayEquals(c.getBlocks(), repository.load(new Vec3i(0, 0, 0)).getBlocks());
+        }
+
+        try (RegionFileRepository repository = RegionFileRepository.builder().path(directory).memoryMapped(true).build()) {
+            assertArrayEquals(createChunk(new Vec3i(0, 0, 1), 2).getBlocks(), repository.load(new Vec3i(0, 0, 1)).getBlocks());
+        }
+    }
+
+    @Test
+    public void testCompressedChunks() {
+        Chunk chunk = createChunk(new Vec3i(0, 0, 0), 1);
+        try (RegionFileRepository repository = RegionFileRepository.builder().path(directory).compression(ChunkCompressions.deflate()).build()) {
+            repository.save(chunk);
+            assertTrue(repository.read(new Vec3i(0, 0, 0)).length < ChunkFormat.write(chunk).length);
+            assertArrayEquals(chunk.getBlocks(), repository.load(new Vec3i(0, 0, 0)).getBlocks());
+        }
+
+        try (RegionFileRepository repository = RegionFileRepository.builder().path(directory).memoryMapped(true).build()) {
+            assertArrayEquals(chunk.getBlocks(), repository.load(new Vec3i(0, 0, 0)).getBlocks());
+        }
+    }
+
+    @Test
+    public void testRegionSizeMismatch() {
+        try (RegionFileRepository repository = new RegionFileRepository(directory)) {
+            repository.write(new Vec3i(0, 0, 0), data(10, 1));
+        }
+
+        try (RegionFileRepository repository = RegionFileRepository.builder().path(directory).regionSize(new Vec3i(8, 8, 8)).build()) {
+            assertNull(repository.read(new Vec3i(0, 0, 0)));
+            assertFalse(repository.write(new Vec3i(0, 0, 0), data(10, 1)));
+        }
+    }
+
+    @Test
+    public void testMaxOpenRegions() {
+        try (RegionFileRepository repository = RegionFileRepository.builder().path(directory).regionSize(new Vec3i(2, 2, 2)).maxOpenRegions(2).build()) {
+            for (int x = 0; x < 10; x++) {
+                assertTrue(repository.write(new Vec3i(x * 2, 0, 0), data(10, x)));
+                assertTrue(repository.getOpenRegionCount() <= 2);
+            }
+            for (int x = 0; x < 10; x++) {
+                assertArrayEquals(data(10, x), repository.read(new Vec3i(x * 2, 0, 0)));
+            }
+            assertEquals(2, repository.getOpenRegionCount());
+        }
+    }
+
+    @Test
+    public void testInvalidRegionSize() {
+        assertThrows(IllegalArgumentException.class, () -> RegionFileRepository.builder().path(directory).regionSize(new Vec3i(0, 1, 1)).build());
+    }
+
+    @Test
+    public void testMigration() throws IOException {
+        Path source = directory.resolve("chunks");
+        FileRepository fileRepository = new FileRepository(source);
+        Chunk a = createChunk(new Vec3i(0, 0, 0), 1);
+        Chunk b = createChunk(new Vec3i(-20, 3, 17), 2);
+        fileRepository.save(a);
+        fileRepository.save(b);
+        Files.write(source.resolve("notes.block"), new byte[]{1, 2, 3});
+
+        try (RegionFileRepository repository = new RegionFileRepository(directory.resolve("regions"))) {
+            assertEquals(2, RegionFileMigration.migrate(source, repository, true));
+
+            assertArrayEquals(a.getBlocks(), repository.load(a.getLocation()).getBlocks());
+            assertArrayEquals(b.getBlocks(), repository.load(b.getLocation()).getBlocks());
+        }
+        assertFalse(Files.exists(fileRepository.getChunkPath(a)));
+        assertFalse(Files.exists(fileRepository.getChunkPath(b)));
+        assertTrue(Files.exists(source.resolve("notes.block")));
+    }
+
+    @Test
+    public void testMigrationLocation() {
+        assertEquals(new Vec3i(-1, 20, 0), RegionFileMigration.getLocation(directory.resolve("chunk_-1_20_0.block")));
+        assertNull(RegionFileMigration.getLocation(directory.resolve("chunk_1_2.block")));
+        assertNull(RegionFileMigration.getLocation(directory.resolve("chunk_1_2_3.region")));
+    }
+
+    private static Chunk createChunk(Vec3i location, long seed) {
+        BlockRegistry registry = BlocksConfig.getInstance().getBlockRegistry();
+        Block[] blocks = {registry.get(BlockIds.GRASS), registry.get(BlockIds.DIRT), registry.get(BlockIds.ROCK), null};
+        Vec3i chunkSize = BlocksConfig.getInstance().getChunkSize();
+        Random random = new Random(seed);
+
+        Chunk chunk = Chunk.createAt(location);
+        for (int x = 0; x < chunkSize.x; x++) {
+            for (int y = 0; y < chunkSize.y / 2; y++) {
+                for (int z = 0; z < chunkSize.z; z++) {
+                    chunk.addBlock(x, y, z, blocks[random.nextInt(blocks.length)]);
+                }
+            }
+        }
+        return chunk;
+    }
+
+    private static byte[] data(int length, int seed) {
+        byte[] data = new byte[length];
+        new Random(seed).nextBytes(data);
+        return data;
+    }
+
+}
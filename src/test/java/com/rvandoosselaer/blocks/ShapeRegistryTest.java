@@ -9,6 +9,8 @@ import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
  * @author: rvandoosselaer
@@ -30,6 +32,25 @@ public class ShapeRegistryTest {
         assertEquals(shape, shapeRegistry.get("custom-shape"));
     }
 
+    @Test
+    public void testTemplate() {
+        ShapeRegistry shapeRegistry = BlocksConfig.getInstance().getShapeRegistry();
+
+        // a template is created for shapes that can be precomputed
+        Shape shape = shapeRegistry.register("custom-slab", new Slab(0.3f, 0.6f));
+        Shape template = shapeRegistry.getTemplate("custom-slab");
+        assertTrue(template instanceof ShapeTemplate);
+        assertSame(shape, ((ShapeTemplate) template).getShape());
+
+        // other shapes are used as is
+        Shape customShape = (location, chunk, chunkMesh) -> chunkMesh.addPosition(0, 0, 0);
+        shapeRegistry.register("custom-lambda", customShape);
+        assertSame(customShape, shapeRegistry.getTemplate("custom-lambda"));
+
+        shapeRegistry.remove("custom-slab");
+        assertNull(shapeRegistry.getTemplate("custom-slab"));
+    }
+
     @Test
     public void testRemoveShape() {
         ShapeRegistry shapeRegistry = BlocksConfig.getInstance().getShapeRegistry();
@@ -0,0 +1,138 @@
+package com.rvandoosselaer.blocks;
+
+import com.jme3.asset.DesktopAssetManager;
+import com.rvandoosselaer.blocks.shapes.Cylinder;
+import com.simsilica.mathd.Vec3i;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author rvandoosselaer
+ */
+public class ShapeTemplateTest {
+
+    @BeforeEach
+    public void setUp() {
+        BlocksConfig.initialize(new DesktopAssetManager(true));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        BlocksConfig.getInstance().setBlockScale(1f);
+    }
+
+    @Test
+    public void testSameVerticesAsShape() {
+        ShapeRegistry shapeRegistry = BlocksConfig.getInstance().getShapeRegistry();
+        for (String shapeName : shapeRegistry.getAll()) {
+            Shape shape = shapeRegistry.get(shapeName);
+            Shape template = shapeRegistry.getTemplate(shapeName);
+            if (!shape.isPrecomputable()) {
+                // the normals of a cylinder depend on the location of the block
+                assertTrue(shape instanceof Cylinder, shapeName + " should have a template");
+                continue;
+            }
+
+            for (boolean multipleImages : new boolean[]{false, true}) {
+                Block block = createBlock(shapeName, multipleImages);
+                assertSameVertices(shape, template, createChunk(block), shapeName);
+            }
+        }
+    }
+
+    @Test
+    public void testBlockScale() {
+        ShapeRegistry shapeRegistry = BlocksConfig.getInstance().getShapeRegistry();
+        Block block = createBlock(ShapeIds.STAIRS_NORTH, true);
+        Chunk chunk = createChunk(block);
+        Shape template = shapeRegistry.getTemplate(ShapeIds.STAIRS_NORTH);
+        template.add(new Vec3i(1, 1, 1), chunk, new ChunkMesh());
+
+        // the recorded vertices are scaled again when the block scale changes
+        BlocksConfig.getInstance().setBlockScale(0.5f);
+        assertSameVertices(shapeRegistry.get(ShapeIds.STAIRS_NORTH), template, chunk, ShapeIds.STAIRS_NORTH);
+    }
+
+    @Test
+    public void testTypeChange() {
+        ShapeRegistry shapeRegistry = BlocksConfig.getInstance().getShapeRegistry();
+        TypeRegistry typeRegistry = BlocksConfig.getInstance().getTypeRegistry();
+        Block block = createBlock(ShapeIds.CUBE, false);
+        Chunk chunk = createChunk(block);
+        Shape template = shapeRegistry.getTemplate(ShapeIds.CUBE);
+        template.add(new Vec3i(1, 1, 1), chunk, new ChunkMesh());
+
+        // the vertices are recorded again with the texture coordinates of the new type
+        Type grass = typeRegistry.get(TypeIds.GRASS);
+        typeRegistry.register(TypeIds.GRASS, new Type(TypeIds.GRASS, grass.getMaterial(), direction -> new TextureCoordinates(0, 0.5f, 0.5f, 1)));
+        assertSameVertices(shapeRegistry.get(ShapeIds.CUBE), template, chunk, ShapeIds.CUBE);
+
+        // a block that is registered again with another type
+        Block dirtBlock = Block.builder().name(block.getName()).shape(ShapeIds.CUBE).type(TypeIds.DIRT).solid(true).build();
+        typeRegistry.register(TypeIds.DIRT, new Type(TypeIds.DIRT, grass.getMaterial(), direction -> new TextureCoordinates(0.5f, 1, 0, 0.5f)));
+        assertSameVertices(shapeRegistry.get(ShapeIds.CUBE), template, createChunk(dirtBlock), ShapeIds.CUBE);
+
+        // the theme is reloaded
+        typeRegistry.setTheme(null);
+        assertSameVertices(shapeRegistry.get(ShapeIds.CUBE), template, chunk, ShapeIds.CUBE);
+    }
+
+    private static Block createBlock(String shape, boolean multipleImages) {
+        return Block.builder()
+                .name(shape + "-" + multipleImages)
+                .shape(shape)
+                .type(TypeIds.GRASS)
+                .usingMultipleImages(multipleImages)
+                .solid(true)
+                .build();
+    }
+
+    /**
+     * Creates a chunk with the block on locations (1, 1, 1) and (2, 2, 2) and a few neighbours, so that both blocks
+     * have a different combination of visible faces.
+     */
+    private static Chunk createChunk(Block block) {
+        Block dirt = BlocksConfig.getInstance().getBlockRegistry().get(BlockIds.DIRT);
+        Chunk chunk = Chunk.createAt(new Vec3i(0, 0, 0));
+        chunk.addBlock(1, 1, 1, block);
+        chunk.addBlock(1, 2, 1, dirt);
+        chunk.addBlock(0, 1, 1, dirt);
+        chunk.addBlock(2, 2, 2, block);
+        chunk.addBlock(2, 1, 2, dirt);
+        chunk.addBlock(2, 2, 3, dirt);
+        chunk.addBlock(3, 2, 2, dirt);
+        return chunk;
+    }
+
+    @SuppressWarnings("deprecation")
+    private static void assertSameVertices(Shape shape, Shape template, Chunk chunk, String message) {
+        ChunkMesh expected = new ChunkMesh();
+        ChunkMesh actual = new ChunkMesh();
+        for (Vec3i location : new Vec3i[]{new Vec3i(1, 1, 1), new Vec3i(2, 2, 2)}) {
+            shape.add(location, chunk, expected);
+            template.add(location, chunk, actual);
+        }
+
+        assertEquals(expected.getVertexCount(), actual.getVertexCount(), message);
+        for (int i = 0; i < expected.getVertexCount(); i++) {
+            assertTrue(expected.getPositions().get(i).distance(actual.getPositions().get(i)) < 0.0001f, message);
+        }
+        assertEquals(expected.getNormals(), actual.getNormals(), message);
+        assertEquals(expected.getTangents(), actual.getTangents(), message);
+        assertEquals(expected.getUvs(), actual.getUvs(), message);
+        assertEquals(expected.getIndices(), actual.getIndices(), message);
+
+        ChunkMesh expectedCollision = new ChunkMesh(true);
+        ChunkMesh actualCollision = new ChunkMesh(true);
+        shape.add(new Vec3i(1, 1, 1), chunk, expectedCollision);
+        template.add(new Vec3i(1, 1, 1), chunk, actualCollision);
+        assertEquals(expectedCollision.getPositions(), actualCollision.getPositions(), message);
+        assertEquals(0, actualCollision.getUvs().size(), message);
+        assertEquals(expectedCollision.getIndices(), actualCollision.getIndices(), message);
+    }
+
+}